@@ -1,17 +1,14 @@
 package com.ssg9th2team.geharbang.controller;
 
-import com.ssg9th2team.geharbang.domain.auth.entity.User;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessagePageDto;
 import com.ssg9th2team.geharbang.domain.chat.dto.ChatRoomDto;
 import com.ssg9th2team.geharbang.domain.chat.service.RealtimeChatService;
+import com.ssg9th2team.geharbang.global.common.annotation.CurrentUserId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -25,37 +22,37 @@ import java.util.Map;
 public class RealtimeChatController {
 
     private final RealtimeChatService chatService;
-    private final UserRepository userRepository;
     private final StringRedisTemplate stringRedisTemplate;
 
     // 내 채팅방 목록 조회
     @GetMapping("/rooms")
-    public ResponseEntity<List<ChatRoomDto>> getMyChatRooms(@AuthenticationPrincipal UserDetails userDetails) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        Long userId = user.getId();
+    public ResponseEntity<List<ChatRoomDto>> getMyChatRooms(@CurrentUserId Long userId) {
         return ResponseEntity.ok(chatService.getUserChatRooms(userId));
     }
 
-    // 특정 채팅방 메시지 조회
+    // 특정 채팅방 최신 메시지 조회 (이전 API 호환, 과거 메시지는 /history 의 cursor 로 조회)
     @GetMapping("/rooms/{roomId}/messages")
     public ResponseEntity<List<ChatMessageDto>> getRoomMessages(
             @PathVariable Long roomId,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        Long userId = user.getId();
+            @CurrentUserId Long userId) {
         return ResponseEntity.ok(chatService.getRoomMessages(roomId, userId));
     }
 
+    // 특정 채팅방 메시지 페이지 조회 (커서 기반, 최신 → 과거)
+    @GetMapping("/rooms/{roomId}/messages/history")
+    public ResponseEntity<ChatMessagePageDto> getRoomMessageHistory(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @CurrentUserId Long userId) {
+        return ResponseEntity.ok(chatService.getRoomMessagePage(roomId, userId, cursor, size));
+    }
+
     // 메시지 읽음 처리
     @PostMapping("/rooms/{roomId}/read")
     public ResponseEntity<Void> markAsRead(
             @PathVariable Long roomId,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        Long userId = user.getId();
+            @CurrentUserId Long userId) {
         chatService.markMessagesAsRead(roomId, userId);
         return ResponseEntity.ok().build();
     }
@@ -1,23 +1,23 @@
 package com.ssg9th2team.geharbang.controller;
 
-import com.ssg9th2team.geharbang.domain.auth.entity.User;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatHistoryRequest;
 import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessagePageDto;
 import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageRequest;
 import com.ssg9th2team.geharbang.domain.chat.service.RealtimeChatService;
 import com.ssg9th2team.geharbang.domain.chat.service.RedisPublisher;
+import com.ssg9th2team.geharbang.global.common.resolver.UserIdentityResolver;
 import org.owasp.html.PolicyFactory;
 import org.owasp.html.Sanitizers;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -26,9 +26,8 @@ public class RealtimeChatWebSocketController {
 
     private static final Logger log = LoggerFactory.getLogger(RealtimeChatWebSocketController.class);
     private final RealtimeChatService chatService;
-    private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     private final RedisPublisher redisPublisher;
-    private final ChannelTopic channelTopic;
 
     // XSS 방지를 위한 HTML Sanitizer 정책 설정 (기본 포맷팅 및 링크 허용, 스크립트 제거)
     private final PolicyFactory policy = Sanitizers.FORMATTING.and(Sanitizers.LINKS);
@@ -51,23 +50,41 @@ public class RealtimeChatWebSocketController {
         }
 
         try {
-            String userEmail = authentication.getName();
-            User user = userRepository.findByEmail(userEmail)
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + userEmail));
-            Long senderUserId = user.getId();
+            Long senderUserId = userIdentityResolver.resolveUserId(authentication);
 
             // XSS 방지를 위해 메시지 내용 정제 (Sanitize)
             String sanitizedContent = policy.sanitize(request.getContent());
 
-            log.info("Saving message from user {} (ID: {}) to room {}", user.getEmail(), senderUserId, roomId);
+            log.info("Saving message from user {} (ID: {}) to room {}", authentication.getName(), senderUserId, roomId);
             ChatMessageDto message = chatService.saveMessage(roomId, senderUserId, sanitizedContent);
 
-            log.info("Publishing message to Redis topic {} for room {}", channelTopic.getTopic(), roomId);
-            redisPublisher.publish(channelTopic, message);
+            log.info("Publishing message to Redis channel for room {}", roomId);
+            redisPublisher.publishToRoom(roomId, message);
 
             log.info("Message successfully published to Redis for room {}", roomId);
         } catch (Exception e) {
             log.error("Error sending message in room {}: {}", roomId, e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 채팅 이력 페이지 요청 (STOMP)
+     * 클라이언트는 /user/queue/chat/history 를 구독하고 /app/chat/{roomId}/history 로 요청한다.
+     * 응답 형식은 REST GET /api/realtime-chat/rooms/{roomId}/messages/history 와 같다.
+     */
+    @MessageMapping("/chat/{roomId}/history")
+    @SendToUser("/queue/chat/history")
+    public ChatMessagePageDto loadHistory(
+            @DestinationVariable Long roomId,
+            @Payload ChatHistoryRequest request,
+            SimpMessageHeaderAccessor headerAccessor) {
+
+        Authentication authentication = (Authentication) headerAccessor.getUser();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new SecurityException("Authentication required");
+        }
+
+        Long userId = userIdentityResolver.resolveUserId(authentication);
+        return chatService.getRoomMessagePage(roomId, userId, request.getCursor(), request.getSize());
+    }
+}
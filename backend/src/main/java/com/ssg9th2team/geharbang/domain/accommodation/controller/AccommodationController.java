@@ -4,13 +4,12 @@ import com.ssg9th2team.geharbang.domain.accommodation.dto.AccommodationCreateReq
 import com.ssg9th2team.geharbang.domain.accommodation.dto.AccommodationResponseDto;
 import com.ssg9th2team.geharbang.domain.accommodation.dto.AccommodationUpdateRequestDto;
 import com.ssg9th2team.geharbang.domain.accommodation.service.AccommodationService;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.common.annotation.CurrentUserId;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -19,16 +18,11 @@ import org.springframework.web.bind.annotation.*;
 public class AccommodationController {
 
     private final AccommodationService accommodationService;
-    private final UserRepository userRepository;
 
     // 숙소 등록
     @PostMapping
-    public ResponseEntity<?> createAccommodation(@Valid @RequestBody AccommodationCreateRequestDto requestDto, Authentication authentication) {
+    public ResponseEntity<?> createAccommodation(@Valid @RequestBody AccommodationCreateRequestDto requestDto, @CurrentUserId Long userId) {
         try {
-            String email = authentication.getName();
-            Long userId = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                    .getId();
             Long accommodationsId = accommodationService.createAccommodation(userId, requestDto);
             return ResponseEntity.status(HttpStatus.CREATED).body(accommodationsId);
         } catch (Exception e) {
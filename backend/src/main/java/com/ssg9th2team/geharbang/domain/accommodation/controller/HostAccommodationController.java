@@ -3,10 +3,9 @@ package com.ssg9th2team.geharbang.domain.accommodation.controller;
 import com.ssg9th2team.geharbang.domain.accommodation.dto.HostAccommodationSummaryResponse;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.mybatis.AccommodationMapper;
 import com.ssg9th2team.geharbang.domain.accommodation.service.AccommodationService;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.common.annotation.CurrentUserId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,26 +21,17 @@ public class HostAccommodationController {
 
     private final AccommodationMapper accommodationMapper;
     private final AccommodationService accommodationService;
-    private final UserRepository userRepository;
 
     @GetMapping
-    public List<HostAccommodationSummaryResponse> listHostAccommodations(Authentication authentication) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
+    public List<HostAccommodationSummaryResponse> listHostAccommodations(@CurrentUserId Long hostId) {
         return accommodationMapper.selectHostAccommodations(hostId);
     }
 
     @GetMapping("/{accommodationsId}")
     public ResponseEntity<HostAccommodationSummaryResponse> getHostAccommodation(
             @PathVariable Long accommodationsId,
-            Authentication authentication
+            @CurrentUserId Long hostId
     ) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
         HostAccommodationSummaryResponse response = accommodationMapper
                 .selectHostAccommodationById(hostId, accommodationsId);
         if (response == null) {
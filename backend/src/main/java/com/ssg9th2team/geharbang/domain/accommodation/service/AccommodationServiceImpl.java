@@ -5,6 +5,9 @@ import com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation;
 import com.ssg9th2team.geharbang.domain.accommodation.entity.AccommodationsCategory;
 import com.ssg9th2team.geharbang.domain.accommodation.entity.ApprovalStatus;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.mybatis.AccommodationMapper;
+import com.ssg9th2team.geharbang.domain.admin.service.PlatformStatsCounter;
+import com.ssg9th2team.geharbang.domain.main.service.ThemePostingIndex;
+import com.ssg9th2team.geharbang.domain.main.service.ThemeShelfSnapshotService;
 import com.ssg9th2team.geharbang.domain.payment.entity.Payment;
 import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentJpaRepository;
 import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentRefundJpaRepository;
@@ -44,6 +47,9 @@ public class AccommodationServiceImpl implements AccommodationService {
     private final PaymentRefundJpaRepository paymentRefundJpaRepository;
     private final WishlistMapper wishlistMapper;
     private final ThemeRepository themeRepository;
+    private final ThemeShelfSnapshotService themeShelfSnapshotService;
+    private final ThemePostingIndex themePostingIndex;
+    private final PlatformStatsCounter platformStatsCounter;
 
 
     // 숙소 등록
@@ -138,6 +144,7 @@ public class AccommodationServiceImpl implements AccommodationService {
 
         // 3. 숙소 저장
         accommodationMapper.insertAccommodation(accommodation);
+        platformStatsCounter.accommodationCreated(accommodation.getCreatedAt());
 
         // 숙소 저장 -> 숙소 아이디 생성 -> 숙소 아이디로 연관 테이블 저장
         Long accommodationsId = accommodation.getAccommodationsId();
@@ -226,6 +233,8 @@ public class AccommodationServiceImpl implements AccommodationService {
                 validateThemeIds(updateRequestDto.getThemeIds());
                 accommodationMapper.insertAccommodationThemes(accommodationsId, updateRequestDto.getThemeIds());
             }
+            themeShelfSnapshotService.requestRebuild(); // 메인 테마 선반/추천 색인 갱신
+            themePostingIndex.invalidate();
         }
 
         // 이미지
@@ -411,7 +420,8 @@ public class AccommodationServiceImpl implements AccommodationService {
         wishlistMapper.deleteWishlistByAccommodationId(accommodationsId);
 
         accommodationMapper.deleteAccommodation(accommodationsId);
-
+        themeShelfSnapshotService.requestRebuild();
+        themePostingIndex.invalidate();
     }
 
     // 숙소 일괄 삭제
@@ -459,6 +469,8 @@ public class AccommodationServiceImpl implements AccommodationService {
 
         // 숙소 삭제
         accommodationMapper.deleteAccommodations(accommodationIds);
+        themeShelfSnapshotService.requestRebuild();
+        themePostingIndex.invalidate();
     }
 
     private void validateThemeIds(List<Long> themeIds) {
@@ -4,10 +4,14 @@ import com.ssg9th2team.geharbang.domain.admin.dto.AdminBookingDetail;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminBookingSummary;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminPageResponse;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminRefundRequest;
+import com.ssg9th2team.geharbang.domain.admin.log.AdminLogConstants;
 import com.ssg9th2team.geharbang.domain.admin.service.AdminBookingService;
+import com.ssg9th2team.geharbang.domain.admin.service.AdminExportService;
+import com.ssg9th2team.geharbang.domain.admin.service.AdminLogService;
 import com.ssg9th2team.geharbang.domain.admin.support.AdminId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,15 +19,34 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin/bookings")
 @RequiredArgsConstructor
 public class AdminBookingController {
 
+    private static final List<AdminExportService.Column<AdminBookingSummary>> EXPORT_COLUMNS = List.of(
+            new AdminExportService.Column<>("reservationId", AdminBookingSummary::reservationId),
+            new AdminExportService.Column<>("accommodationsId", AdminBookingSummary::accommodationsId),
+            new AdminExportService.Column<>("userId", AdminBookingSummary::userId),
+            new AdminExportService.Column<>("checkin", AdminBookingSummary::checkin),
+            new AdminExportService.Column<>("checkout", AdminBookingSummary::checkout),
+            new AdminExportService.Column<>("guestCount", AdminBookingSummary::guestCount),
+            new AdminExportService.Column<>("reservationStatus", AdminBookingSummary::reservationStatus),
+            new AdminExportService.Column<>("paymentStatus", AdminBookingSummary::paymentStatus),
+            new AdminExportService.Column<>("finalPaymentAmount", AdminBookingSummary::finalPaymentAmount),
+            new AdminExportService.Column<>("createdAt", AdminBookingSummary::createdAt)
+    );
+
     private final AdminBookingService bookingService;
+    private final AdminExportService exportService;
+    private final AdminLogService adminLogService;
 
     @GetMapping
     public AdminPageResponse<AdminBookingSummary> getBookings(
@@ -37,6 +60,25 @@ public class AdminBookingController {
         return bookingService.getBookings(status, from, to, sort, page, size);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @AdminId Long adminId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "latest") String sort) {
+        ResponseEntity<StreamingResponseBody> response = exportService.export("bookings", format, EXPORT_COLUMNS,
+                (limit, sink) -> bookingService.streamBookings(status, from, to, sort, limit, sink));
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("status", status);
+        filters.put("from", from);
+        filters.put("to", to);
+        filters.put("sort", sort);
+        adminLogService.writeExportLog(adminId, AdminLogConstants.TARGET_RESERVATION, format, filters);
+        return response;
+    }
+
     @GetMapping("/{reservationId}")
     public AdminBookingDetail getBookingDetail(
             @AdminId Long adminId,
@@ -1,6 +1,7 @@
 package com.ssg9th2team.geharbang.domain.admin.controller;
 
 import com.ssg9th2team.geharbang.domain.admin.support.AdminId;
+import com.ssg9th2team.geharbang.domain.coupon.service.CouponIssueMetrics;
 import com.ssg9th2team.geharbang.domain.coupon.service.CouponIssueQueueService;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminCouponAsyncController {
 
     private final CouponIssueQueueService couponIssueQueueService;
+    private final CouponIssueMetrics couponIssueMetrics;
 
     @Value("${coupon.issue.async-enabled:true}")
     private boolean asyncEnabled;
@@ -40,6 +42,11 @@ public class AdminCouponAsyncController {
         );
     }
 
+    @GetMapping("/metrics")
+    public CouponIssueMetrics.Summary getMetrics(@AdminId Long adminId) {
+        return couponIssueMetrics.summarize();
+    }
+
     @PostMapping("/retry/requeue")
     public RequeueResponse requeueRetry(
             @AdminId Long adminId,
@@ -0,0 +1,41 @@
+package com.ssg9th2team.geharbang.domain.admin.controller;
+
+import com.ssg9th2team.geharbang.domain.admin.log.AdminLogConstants;
+import com.ssg9th2team.geharbang.domain.admin.service.AdminLogService;
+import com.ssg9th2team.geharbang.domain.admin.support.AdminId;
+import com.ssg9th2team.geharbang.domain.coupon.service.CouponPricingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/coupons")
+@RequiredArgsConstructor
+public class AdminCouponController {
+
+    private final CouponPricingService couponPricingService;
+    private final AdminLogService adminLogService;
+
+    /**
+     * coupon 테이블을 직접 수정/비활성화한 뒤 모든 노드의 쿠폰 할인 계산 캐시를 즉시 비운다.
+     * (쿠폰 마스터는 애플리케이션 밖에서 관리되므로 TTL 만료를 기다리지 않기 위한 경로)
+     */
+    @PostMapping("/{couponId}/pricing-cache/evict")
+    public ResponseEntity<Void> evictPricingCache(
+            @AdminId Long adminId,
+            @PathVariable Long couponId
+    ) {
+        couponPricingService.invalidate(couponId);
+        adminLogService.writeLog(
+                adminId,
+                AdminLogConstants.TARGET_COUPON,
+                couponId,
+                AdminLogConstants.ACTION_EVICT_CACHE,
+                null
+        );
+        return ResponseEntity.noContent().build();
+    }
+}
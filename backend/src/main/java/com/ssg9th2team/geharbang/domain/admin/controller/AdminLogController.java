@@ -2,16 +2,23 @@ package com.ssg9th2team.geharbang.domain.admin.controller;
 
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminLogRow;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminPageResponse;
+import com.ssg9th2team.geharbang.domain.admin.log.AdminLogConstants;
+import com.ssg9th2team.geharbang.domain.admin.service.AdminExportService;
 import com.ssg9th2team.geharbang.domain.admin.service.AdminLogService;
 import com.ssg9th2team.geharbang.domain.admin.support.AdminId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin/logs")
@@ -20,7 +27,21 @@ public class AdminLogController {
 
     private static final int MAX_SIZE = 50;
 
+    private static final List<AdminExportService.Column<AdminLogRow>> EXPORT_COLUMNS = List.of(
+            new AdminExportService.Column<>("logId", AdminLogRow::getLogId),
+            new AdminExportService.Column<>("adminId", AdminLogRow::getAdminId),
+            new AdminExportService.Column<>("adminUsername", AdminLogRow::getAdminUsername),
+            new AdminExportService.Column<>("targetType", AdminLogRow::getTargetType),
+            new AdminExportService.Column<>("targetId", AdminLogRow::getTargetId),
+            new AdminExportService.Column<>("actionType", AdminLogRow::getActionType),
+            new AdminExportService.Column<>("reason", AdminLogRow::getReason),
+            new AdminExportService.Column<>("metadataJson", AdminLogRow::getMetadataJson),
+            new AdminExportService.Column<>("requestIp", AdminLogRow::getRequestIp),
+            new AdminExportService.Column<>("createdAt", AdminLogRow::getCreatedAt)
+    );
+
     private final AdminLogService adminLogService;
+    private final AdminExportService exportService;
 
     @GetMapping
     public AdminPageResponse<AdminLogRow> getAdminLogs(
@@ -36,4 +57,28 @@ public class AdminLogController {
     ) {
         return adminLogService.getLogs(startDate, endDate, actionType, targetType, targetIdExact, keyword, page, size, MAX_SIZE);
     }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAdminLogs(
+            @AdminId Long adminId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String actionType,
+            @RequestParam(required = false) String targetType,
+            @RequestParam(required = false) Long targetIdExact,
+            @RequestParam(required = false) String keyword
+    ) {
+        ResponseEntity<StreamingResponseBody> response = exportService.export("admin-logs", format, EXPORT_COLUMNS,
+                (limit, sink) -> adminLogService.streamLogs(startDate, endDate, actionType, targetType, targetIdExact, keyword, limit, sink));
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("startDate", startDate);
+        filters.put("endDate", endDate);
+        filters.put("actionType", actionType);
+        filters.put("targetType", targetType);
+        filters.put("targetIdExact", targetIdExact);
+        filters.put("keyword", keyword);
+        adminLogService.writeExportLog(adminId, AdminLogConstants.TARGET_ADMIN_LOG, format, filters);
+        return response;
+    }
 }
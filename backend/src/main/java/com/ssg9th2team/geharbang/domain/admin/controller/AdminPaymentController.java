@@ -6,10 +6,14 @@ import com.ssg9th2team.geharbang.domain.admin.dto.AdminPaymentSummary;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminPaymentSummaryResponse;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminRefundRequest;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminPaymentMetricsPoint;
+import com.ssg9th2team.geharbang.domain.admin.log.AdminLogConstants;
+import com.ssg9th2team.geharbang.domain.admin.service.AdminExportService;
+import com.ssg9th2team.geharbang.domain.admin.service.AdminLogService;
 import com.ssg9th2team.geharbang.domain.admin.service.AdminPaymentService;
 import com.ssg9th2team.geharbang.domain.admin.support.AdminId;
 import com.ssg9th2team.geharbang.domain.payment.dto.PaymentResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,15 +22,32 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin/payments")
 @RequiredArgsConstructor
 public class AdminPaymentController {
 
+    private static final List<AdminExportService.Column<AdminPaymentSummary>> EXPORT_COLUMNS = List.of(
+            new AdminExportService.Column<>("paymentId", AdminPaymentSummary::paymentId),
+            new AdminExportService.Column<>("reservationId", AdminPaymentSummary::reservationId),
+            new AdminExportService.Column<>("orderId", AdminPaymentSummary::orderId),
+            new AdminExportService.Column<>("paymentKey", AdminPaymentSummary::paymentKey),
+            new AdminExportService.Column<>("approvedAmount", AdminPaymentSummary::approvedAmount),
+            new AdminExportService.Column<>("paymentStatus", AdminPaymentSummary::paymentStatus),
+            new AdminExportService.Column<>("reservationStatus", AdminPaymentSummary::reservationStatus),
+            new AdminExportService.Column<>("checkin", AdminPaymentSummary::checkin),
+            new AdminExportService.Column<>("createdAt", AdminPaymentSummary::createdAt)
+    );
+
     private final AdminPaymentService paymentService;
+    private final AdminExportService exportService;
+    private final AdminLogService adminLogService;
 
     @GetMapping
     public AdminPageResponse<AdminPaymentSummary> getPayments(
@@ -48,6 +69,29 @@ public class AdminPaymentController {
         );
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @AdminId Long adminId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "latest") String sort
+    ) {
+        String normalizedStatus = normalizeFilter(status);
+        String normalizedType = normalizeFilter(type);
+        String normalizedKeyword = normalizeFilter(keyword);
+        ResponseEntity<StreamingResponseBody> response = exportService.export("payments", format, EXPORT_COLUMNS,
+                (limit, sink) -> paymentService.streamPayments(normalizedStatus, normalizedType, normalizedKeyword, sort, limit, sink));
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("status", normalizedStatus);
+        filters.put("type", normalizedType);
+        filters.put("keyword", normalizedKeyword);
+        filters.put("sort", sort);
+        adminLogService.writeExportLog(adminId, AdminLogConstants.TARGET_PAYMENT, format, filters);
+        return response;
+    }
+
     @GetMapping("/summary")
     public AdminPaymentSummaryResponse getPaymentSummary(
             @AdminId Long adminId,
@@ -0,0 +1,19 @@
+package com.ssg9th2team.geharbang.domain.admin.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 적재 대기 중인 관리자 감사 로그 한 건 (admin_log 행, 비동기 적재/스풀 파일 공용)
+ */
+public record AdminLogEntry(
+        Long adminId,
+        String targetType,
+        Long targetId,
+        String actionType,
+        String reason,
+        String metadataJson,
+        String requestIp,
+        String userAgent,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,8 @@
+package com.ssg9th2team.geharbang.domain.admin.dto;
+
+public record AdminPaymentSummaryRow(
+        Long grossAmount,
+        Long successCount,
+        Long failureCount
+) {
+}
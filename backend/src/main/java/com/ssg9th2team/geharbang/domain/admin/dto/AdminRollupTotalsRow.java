@@ -0,0 +1,15 @@
+package com.ssg9th2team.geharbang.domain.admin.dto;
+
+public record AdminRollupTotalsRow(
+        Long paymentSuccessCount,
+        Long paymentGrossAmount,
+        Long paymentFailureCount,
+        Long refundRequestCount,
+        Long refundCompletedCount,
+        Long refundCompletedAmount,
+        Long reservationCount,
+        Long reservationPaidCount,
+        Long reservationCanceledCount,
+        Long signupCount
+) {
+}
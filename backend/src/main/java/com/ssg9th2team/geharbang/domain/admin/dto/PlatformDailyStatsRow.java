@@ -0,0 +1,20 @@
+package com.ssg9th2team.geharbang.domain.admin.dto;
+
+public record PlatformDailyStatsRow(
+        Long totalHosts,
+        Long newHosts,
+        Long totalAccommodations,
+        Long newAccommodations,
+        Long totalReservations,
+        Long reservationsSuccess,
+        Long reservationsFailed,
+        Long cancelCount,
+        Long totalRevenue,
+        Long refundCount,
+        Long refundAmount,
+        Long pendingAccommodations,
+        Long openReports,
+        Long activeGuests,
+        Long activeHosts
+) {
+}
@@ -0,0 +1,11 @@
+package com.ssg9th2team.geharbang.domain.admin.dto;
+
+public record PlatformStatsSnapshotRow(
+        Long totalHosts,
+        Long totalAccommodations,
+        Long pendingAccommodations,
+        Long openReports,
+        Long activeGuests,
+        Long activeHosts
+) {
+}
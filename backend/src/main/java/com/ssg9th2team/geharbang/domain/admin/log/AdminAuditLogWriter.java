@@ -0,0 +1,276 @@
+package com.ssg9th2team.geharbang.domain.admin.log;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminLogEntry;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminLogMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 감사 로그(admin_log) 비동기 일괄 적재
+ *
+ * <p>요청 스레드는 커밋 후 큐에 넣기만 하고, 백그라운드 스레드가 flush-interval-ms 마다 batch-size 건씩 다중 행 INSERT 한다.
+ * <ul>
+ *   <li>큐가 가득 찼거나 INSERT 가 실패하면 로컬 스풀 파일(NDJSON, 추가 전용)에 적어 둔다</li>
+ *   <li>INSERT 가 slow-insert-ms 보다 오래 걸리거나 실패하면 retry-interval-ms 동안은 DB 대신 스풀 파일에 쓴다</li>
+ *   <li>DB 가 정상이고 큐가 비면 스풀 파일을 다시 읽어 적재한다 (적재 완료 전 중단되면 한 배치가 중복될 수 있다)</li>
+ *   <li>정상 종료 시 큐에 남은 로그를 모두 적재하거나 스풀 파일에 남긴다</li>
+ * </ul>
+ * 트랜잭션이 롤백되면 로그도 남기지 않는다 (기존 같은 트랜잭션 INSERT 와 동일).
+ */
+@Slf4j
+@Component
+public class AdminAuditLogWriter {
+
+    private final AdminLogMapper adminLogMapper;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<AdminLogEntry> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long slowInsertMs;
+    private final long retryIntervalMs;
+    private final Path spoolPath;
+    private final Path replayPath;
+    private final Object spoolLock = new Object();
+
+    private ThreadPoolTaskScheduler scheduler;
+    private volatile boolean running;
+    // 이 시각(System.nanoTime)까지는 DB 대신 스풀 파일에 쓴다. 0 이면 정상
+    private volatile long degradedUntilNanos;
+
+    public AdminAuditLogWriter(AdminLogMapper adminLogMapper,
+                               ObjectMapper objectMapper,
+                               @Value("${admin.audit-log.queue-capacity:10000}") int queueCapacity,
+                               @Value("${admin.audit-log.batch-size:200}") int batchSize,
+                               @Value("${admin.audit-log.flush-interval-ms:200}") long flushIntervalMs,
+                               @Value("${admin.audit-log.slow-insert-ms:1000}") long slowInsertMs,
+                               @Value("${admin.audit-log.retry-interval-ms:30000}") long retryIntervalMs,
+                               @Value("${admin.audit-log.spool-path:logs/admin-audit-spool.ndjson}") String spoolPath) {
+        this.adminLogMapper = adminLogMapper;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.slowInsertMs = slowInsertMs;
+        this.retryIntervalMs = retryIntervalMs;
+        this.spoolPath = Path.of(spoolPath);
+        this.replayPath = Path.of(spoolPath + ".replay");
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("admin-audit-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        running = true;
+        scheduler.scheduleWithFixedDelay(this::drain,
+                Instant.now().plusMillis(flushIntervalMs), Duration.ofMillis(flushIntervalMs));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        // 진행 중인 drain 이 끝날 때까지 기다린 뒤 남은 큐를 이 스레드에서 비운다
+        scheduler.shutdown();
+        // 남은 로그는 DB 상태와 관계없이 한 번 적재를 시도하고, 실패하면 나머지는 스풀 파일에 남긴다
+        degradedUntilNanos = 0;
+        flushQueue();
+        log.info("Admin audit log writer stopped");
+    }
+
+    /**
+     * 감사 로그 등록. 트랜잭션 안이면 커밋 후에 큐에 넣는다.
+     */
+    public void submit(AdminLogEntry entry) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entry);
+                }
+            });
+        } else {
+            enqueue(entry);
+        }
+    }
+
+    private void enqueue(AdminLogEntry entry) {
+        if (!running || !queue.offer(entry)) {
+            // 큐가 가득 찼거나 종료 중: 버리지 않고 호출 스레드에서 스풀 파일에 쓴다
+            spool(List.of(entry));
+        }
+    }
+
+    /**
+     * 큐를 비우고, DB 가 정상이면 스풀 파일도 적재한다 (백그라운드 스레드)
+     */
+    void drain() {
+        try {
+            flushQueue();
+            if (!isDegraded()) {
+                replaySpool();
+            }
+        } catch (Exception e) {
+            // 예외가 나가면 주기 작업이 멈추므로 여기서 끊는다
+            log.error("Admin audit log drain failed", e);
+        }
+    }
+
+    private void flushQueue() {
+        List<AdminLogEntry> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            if (isDegraded() || !insert(batch)) {
+                spool(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    private boolean isDegraded() {
+        long until = degradedUntilNanos;
+        return until != 0 && System.nanoTime() - until < 0;
+    }
+
+    private boolean insert(List<AdminLogEntry> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            adminLogMapper.insertAdminLogs(batch);
+        } catch (Exception e) {
+            log.warn("Failed to insert {} admin_log rows, spooling to {}: {}", batch.size(), spoolPath, e.getMessage());
+            degradedUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryIntervalMs);
+            return false;
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        if (elapsedMs > slowInsertMs) {
+            log.warn("Slow admin_log insert ({} rows, {} ms), spooling for {} ms", batch.size(), elapsedMs, retryIntervalMs);
+            degradedUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryIntervalMs);
+        } else {
+            degradedUntilNanos = 0;
+        }
+        log.debug("Inserted {} admin_log rows", batch.size());
+        return true;
+    }
+
+    private void spool(List<AdminLogEntry> entries) {
+        synchronized (spoolLock) {
+            try {
+                Path parent = spoolPath.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                try (BufferedWriter writer = Files.newBufferedWriter(spoolPath, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+                    for (AdminLogEntry entry : entries) {
+                        writer.write(objectMapper.writeValueAsString(entry));
+                        writer.newLine();
+                    }
+                }
+            } catch (IOException e) {
+                // 마지막 수단: 애플리케이션 로그에라도 내용을 남긴다
+                log.error("Failed to spool {} admin_log rows: {}", entries.size(), entries, e);
+            }
+        }
+    }
+
+    /**
+     * 스풀 파일을 .replay 로 옮겨 batch-size 건씩 적재한다. 옮긴 뒤 새로 들어오는 스풀은 원래 파일에 쌓인다.
+     * 적재가 실패하면 이미 적재한 줄을 뺀 나머지를 .replay 에 남겨 다음 주기에 이어서 적재한다.
+     */
+    private void replaySpool() throws IOException {
+        synchronized (spoolLock) {
+            if (!Files.exists(replayPath)) {
+                if (!Files.exists(spoolPath)) {
+                    return;
+                }
+                Files.move(spoolPath, replayPath, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+
+        long committedLines = 0;
+        long lineNumber = 0;
+        int replayed = 0;
+        boolean stopped = false;
+        List<AdminLogEntry> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(replayPath, StandardCharsets.UTF_8)) {
+            String line;
+            while (!stopped && (line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    try {
+                        batch.add(objectMapper.readValue(line, AdminLogEntry.class));
+                    } catch (IOException e) {
+                        // 비정상 종료로 잘린 마지막 줄 등
+                        log.warn("Skipping unreadable admin_log spool line {}: {}", lineNumber, e.getMessage());
+                    }
+                }
+                if (batch.size() >= batchSize) {
+                    if (insert(batch)) {
+                        replayed += batch.size();
+                        batch.clear();
+                        committedLines = lineNumber;
+                    }
+                    // 실패했거나 느려졌으면 다음 주기로 미룬다
+                    stopped = isDegraded() || !batch.isEmpty();
+                }
+            }
+        }
+        if (!stopped && !batch.isEmpty()) {
+            if (insert(batch)) {
+                replayed += batch.size();
+            } else {
+                stopped = true;
+            }
+        }
+
+        if (stopped) {
+            keepRemaining(committedLines);
+        } else {
+            Files.delete(replayPath);
+        }
+        if (replayed > 0) {
+            log.info("Replayed {} spooled admin_log rows", replayed);
+        }
+    }
+
+    private void keepRemaining(long committedLines) throws IOException {
+        Path tmp = Path.of(replayPath + ".tmp");
+        try (BufferedReader reader = Files.newBufferedReader(replayPath, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DSYNC)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                if (++lineNumber > committedLines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+        }
+        Files.move(tmp, replayPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
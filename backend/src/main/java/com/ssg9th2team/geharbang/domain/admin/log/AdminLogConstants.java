@@ -6,6 +6,11 @@ public final class AdminLogConstants {
     public static final String TARGET_USER = "USER";
     public static final String TARGET_REVIEW = "REVIEW";
     public static final String TARGET_RESERVATION = "RESERVATION";
+    public static final String TARGET_COUPON = "COUPON";
+    public static final String TARGET_ADMIN_LOG = "ADMIN_LOG";
+
+    // 목록 내보내기처럼 특정 대상 행이 없는 작업의 targetId
+    public static final long NO_TARGET_ID = 0L;
 
     public static final String ACTION_APPROVE = "APPROVE";
     public static final String ACTION_REJECT = "REJECT";
@@ -13,6 +18,8 @@ public final class AdminLogConstants {
     public static final String ACTION_BAN = "BAN";
     public static final String ACTION_UNBAN = "UNBAN";
     public static final String ACTION_RESOLVE = "RESOLVE";
+    public static final String ACTION_EVICT_CACHE = "EVICT_CACHE";
+    public static final String ACTION_EXPORT = "EXPORT";
 
     private AdminLogConstants() {
     }
@@ -0,0 +1,43 @@
+package com.ssg9th2team.geharbang.domain.admin.repository.mybatis;
+
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminBookingSummary;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminLogRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminPaymentSummary;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 내보내기용 스트리밍 조회. 결과는 한 행씩 읽히므로 트랜잭션(세션)이 열린 동안만 순회할 수 있다.
+ */
+@Mapper
+public interface AdminExportMapper {
+
+    Cursor<AdminPaymentSummary> streamPayments(
+            @Param("status") Integer status,
+            @Param("typeCode") String typeCode,
+            @Param("keyword") String keyword,
+            @Param("oldest") boolean oldest,
+            @Param("limit") int limit
+    );
+
+    Cursor<AdminBookingSummary> streamBookings(
+            @Param("status") Integer status,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("sortByCheckin") boolean sortByCheckin,
+            @Param("limit") int limit
+    );
+
+    Cursor<AdminLogRow> streamLogs(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("actionType") String actionType,
+            @Param("targetType") String targetType,
+            @Param("targetIdExact") Long targetIdExact,
+            @Param("keyword") String keyword,
+            @Param("limit") int limit
+    );
+}
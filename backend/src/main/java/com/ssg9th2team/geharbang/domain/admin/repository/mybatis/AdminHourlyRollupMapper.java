@@ -0,0 +1,31 @@
+package com.ssg9th2team.geharbang.domain.admin.repository.mybatis;
+
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminRollupDailyRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminRollupTotalsRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface AdminHourlyRollupMapper {
+
+    // since 이후 추가/변경된 결제, 환불, 예약, 가입 행이 속한 시간 (정시)
+    List<LocalDateTime> selectChangedBuckets(@Param("since") LocalDateTime since);
+
+    // [start, end) 구간 롤업 행 삭제 (다시 합산 전)
+    int deleteBuckets(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // [start, end) 구간 원본 행을 시간 단위로 합산해 저장
+    int insertBuckets(@Param("start") LocalDateTime start,
+                      @Param("end") LocalDateTime end,
+                      @Param("now") LocalDateTime now);
+
+    // [start, end) 구간 롤업 합계
+    AdminRollupTotalsRow selectTotals(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // [start, end) 구간 일자별 결제/환불 금액
+    List<AdminRollupDailyRow> selectDailyAmounts(@Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end);
+}
@@ -1,5 +1,6 @@
 package com.ssg9th2team.geharbang.domain.admin.repository.mybatis;
 
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminLogEntry;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -7,16 +8,7 @@ import java.util.List;
 
 @Mapper
 public interface AdminLogMapper {
-    int insertAdminLog(
-            @Param("adminId") Long adminId,
-            @Param("targetType") String targetType,
-            @Param("targetId") Long targetId,
-            @Param("actionType") String actionType,
-            @Param("reason") String reason,
-            @Param("metadataJson") String metadataJson,
-            @Param("requestIp") String requestIp,
-            @Param("userAgent") String userAgent
-    );
+    int insertAdminLogs(@Param("entries") List<AdminLogEntry> entries);
 
     List<com.ssg9th2team.geharbang.domain.admin.dto.AdminLogRow> selectAdminLogs(
             @Param("start") java.time.LocalDateTime start,
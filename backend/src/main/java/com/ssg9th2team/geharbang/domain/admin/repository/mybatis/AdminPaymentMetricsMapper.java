@@ -1,6 +1,8 @@
 package com.ssg9th2team.geharbang.domain.admin.repository.mybatis;
 
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminPaymentMetricsRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminPaymentSummaryRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminRefundSummaryRow;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -24,4 +26,21 @@ public interface AdminPaymentMetricsMapper {
             @Param("typeCode") String typeCode,
             @Param("keyword") String keyword
     );
+
+    // 결제 요약 (성공 금액/건수, 실패 건수)을 조건부 집계로 한 번에
+    AdminPaymentSummaryRow selectPaymentSummary(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("status") Integer status,
+            @Param("typeCode") String typeCode,
+            @Param("keyword") String keyword
+    );
+
+    // 환불 요약 (요청 건수, 완료 건수/금액)을 조건부 집계로 한 번에
+    AdminRefundSummaryRow selectRefundSummary(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("completedOnly") boolean completedOnly,
+            @Param("keyword") String keyword
+    );
 }
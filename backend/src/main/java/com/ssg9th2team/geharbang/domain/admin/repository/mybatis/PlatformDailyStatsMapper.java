@@ -0,0 +1,24 @@
+package com.ssg9th2team.geharbang.domain.admin.repository.mybatis;
+
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyStatsRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformStatsSnapshotRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+
+@Mapper
+public interface PlatformDailyStatsMapper {
+
+    // [start, end) 구간 일일 통계 전체 (검증/재계산용 집계 한 번)
+    PlatformDailyStatsRow selectDailyStats(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    // 누적 지표와 중복 제거 지표만 (실시간 카운터로 만들 수 없는 값)
+    PlatformStatsSnapshotRow selectSnapshot(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+}
@@ -12,10 +12,14 @@ import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminAccommodationMapper;
 import com.ssg9th2team.geharbang.domain.admin.log.AdminLogConstants;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.mybatis.AccommodationMapper;
+import com.ssg9th2team.geharbang.domain.main.service.MainFeedCache;
+import com.ssg9th2team.geharbang.domain.main.service.ThemePostingIndex;
+import com.ssg9th2team.geharbang.domain.main.service.ThemeShelfSnapshotService;
 import com.ssg9th2team.geharbang.domain.room.dto.RoomResponseListDto;
 import com.ssg9th2team.geharbang.domain.room.entity.Room;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomJpaRepository;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomStats;
+import com.ssg9th2team.geharbang.global.security.UserAccessCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -39,6 +43,11 @@ public class AdminAccommodationService {
     private final AccommodationMapper accommodationMapper;
     private final RoomJpaRepository roomRepository;
     private final AdminLogService adminLogService;
+    private final MainFeedCache mainFeedCache;
+    private final ThemeShelfSnapshotService themeShelfSnapshotService;
+    private final ThemePostingIndex themePostingIndex;
+    private final PlatformStatsCounter platformStatsCounter;
+    private final UserAccessCache userAccessCache;
 
     public AdminPageResponse<AdminAccommodationSummary> getAccommodations(
             String status,
@@ -111,6 +120,9 @@ public class AdminAccommodationService {
         accommodation.updateApprovalStatus(ApprovalStatus.APPROVED, null);
         promoteUserToHost(accommodation.getUserId());
         Accommodation saved = accommodationRepository.save(accommodation);
+        mainFeedCache.invalidateAll(); // 커밋 후 모든 노드의 메인 피드에 노출
+        themeShelfSnapshotService.requestRebuild();
+        themePostingIndex.invalidate();
         java.util.Map<String, Object> metadata = new java.util.LinkedHashMap<>();
         metadata.put("before", java.util.Map.of("approvalStatus", beforeStatus));
         metadata.put("after", java.util.Map.of("approvalStatus", ApprovalStatus.APPROVED.name()));
@@ -132,6 +144,9 @@ public class AdminAccommodationService {
         String beforeStatus = accommodation.getApprovalStatus() != null ? accommodation.getApprovalStatus().name() : null;
         accommodation.reject(reason);
         Accommodation saved = accommodationRepository.save(accommodation);
+        mainFeedCache.invalidateAll(); // 커밋 후 모든 노드의 메인 피드에서 제외
+        themeShelfSnapshotService.requestRebuild();
+        themePostingIndex.invalidate();
         java.util.Map<String, Object> metadata = new java.util.LinkedHashMap<>();
         metadata.put("before", java.util.Map.of("approvalStatus", beforeStatus));
         metadata.put("after", java.util.Map.of("approvalStatus", ApprovalStatus.REJECTED.name()));
@@ -244,8 +259,10 @@ public class AdminAccommodationService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
         if (user.getRole() != UserRole.HOST) {
             user.updateRole(UserRole.HOST);
+            platformStatsCounter.hostRegistered(user);
         }
         user.updateHostApproved(true);
         userRepository.save(user);
+        userAccessCache.evict(userId);
     }
 }
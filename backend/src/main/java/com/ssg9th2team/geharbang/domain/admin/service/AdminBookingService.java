@@ -4,6 +4,7 @@ import com.ssg9th2team.geharbang.domain.admin.dto.AdminBookingDetail;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminBookingSummary;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminPageResponse;
 import com.ssg9th2team.geharbang.domain.admin.log.AdminLogConstants;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminExportMapper;
 import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.AccommodationJpaRepository;
 import com.ssg9th2team.geharbang.domain.auth.entity.User;
@@ -15,6 +16,7 @@ import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentRefundJpaR
 import com.ssg9th2team.geharbang.domain.payment.service.PaymentService;
 import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,10 +24,13 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -38,6 +43,7 @@ public class AdminBookingService {
     private final PaymentRefundJpaRepository refundRepository;
     private final AdminLogService adminLogService;
     private final PaymentService paymentService;
+    private final AdminExportMapper exportMapper;
 
     public AdminPageResponse<AdminBookingSummary> getBookings(
             String status,
@@ -63,6 +69,23 @@ public class AdminBookingService {
         return AdminPageResponse.of(items, page, size, totalElements, totalPages);
     }
 
+    /**
+     * 목록과 같은 필터로 예약을 최대 limit 건까지 한 행씩 sink 에 넘긴다 (내보내기용).
+     */
+    @Transactional(readOnly = true)
+    public void streamBookings(String status, LocalDate from, LocalDate to, String sort,
+                               int limit, Consumer<AdminBookingSummary> sink) {
+        LocalDateTime start = from != null ? from.atStartOfDay() : null;
+        LocalDateTime end = to != null ? to.plusDays(1).atStartOfDay() : null;
+        boolean sortByCheckin = StringUtils.hasText(sort) && sort.equalsIgnoreCase("checkin");
+        try (Cursor<AdminBookingSummary> cursor = exportMapper.streamBookings(
+                parseStatus(status), start, end, sortByCheckin, limit)) {
+            cursor.forEach(sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public AdminBookingDetail getBookingDetail(Long reservationId) {
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Reservation not found"));
@@ -7,21 +7,16 @@ import com.ssg9th2team.geharbang.domain.admin.dto.AdminAccommodationSummary;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminDashboardSummaryResponse;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminIssueCenterResponse;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminReportSummary;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminRollupDailyRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminRollupTotalsRow;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminTimeseriesPoint;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminTimeseriesResponse;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminWeeklyReportResponse;
 import com.ssg9th2team.geharbang.domain.admin.entity.PlatformDailyStats;
 import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminDashboardMapper;
 import com.ssg9th2team.geharbang.domain.admin.repository.PlatformDailyStatsRepository;
-import com.ssg9th2team.geharbang.domain.auth.entity.User;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
-import com.ssg9th2team.geharbang.domain.payment.entity.Payment;
-import com.ssg9th2team.geharbang.domain.payment.entity.PaymentRefund;
-import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentJpaRepository;
-import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentRefundJpaRepository;
 import com.ssg9th2team.geharbang.domain.report.entity.ReviewReport;
 import com.ssg9th2team.geharbang.domain.report.repository.jpa.ReviewReportJpaRepository;
-import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
@@ -37,7 +32,6 @@ import java.time.temporal.TemporalAdjusters;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -50,10 +44,7 @@ public class AdminDashboardService {
     private final ReviewReportJpaRepository reportRepository;
     private final PlatformDailyStatsRepository statsRepository;
     private final AdminDashboardMapper dashboardMapper;
-    private final UserRepository userRepository;
-    private final ReservationJpaRepository reservationRepository;
-    private final PaymentJpaRepository paymentRepository;
-    private final PaymentRefundJpaRepository refundRepository;
+    private final AdminHourlyRollupService rollupService;
     private final Clock clock;
 
     public AdminDashboardSummaryResponse getDashboardSummary(LocalDate from, LocalDate to) {
@@ -78,12 +69,11 @@ public class AdminDashboardService {
         );
 
         LocalDate weekStart = endDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-        LocalDateTime weekStartAt = weekStart.atStartOfDay();
-        LocalDateTime weekEndAt = endDate.plusDays(1).atStartOfDay();
-        long weeklyRefundRequestCount = refundRepository.countByStatusAndRequestedAtBetween(0, weekStartAt, weekEndAt);
-        long weeklyRefundCompletedCount = refundRepository.countByStatusAndRequestedAtBetween(1, weekStartAt, weekEndAt);
-        long weeklyPaymentFailureCount = paymentRepository.countByStatusAndCreatedAtBetween(2, weekStartAt, weekEndAt);
-        long weeklyPaymentSuccessCount = paymentRepository.countByStatusAndCreatedAtBetween(1, weekStartAt, weekEndAt);
+        AdminRollupTotalsRow weekly = rollupService.getTotals(weekStart, endDate);
+        long weeklyRefundRequestCount = orZero(weekly.refundRequestCount());
+        long weeklyRefundCompletedCount = orZero(weekly.refundCompletedCount());
+        long weeklyPaymentFailureCount = orZero(weekly.paymentFailureCount());
+        long weeklyPaymentSuccessCount = orZero(weekly.paymentSuccessCount());
         long weeklyPaymentAttempts = weeklyPaymentFailureCount + weeklyPaymentSuccessCount;
         double weeklyPaymentFailureRate = weeklyPaymentAttempts > 0
                 ? (double) weeklyPaymentFailureCount / weeklyPaymentAttempts * 100
@@ -214,9 +204,7 @@ public class AdminDashboardService {
 
         long pendingAccommodations = accommodationRepository.count(approvalEquals(ApprovalStatus.PENDING));
 
-        LocalDateTime startAt = startDate.atStartOfDay();
-        LocalDateTime endAt = endDate.plusDays(1).atStartOfDay().minusNanos(1);
-        long newUsers = userRepository.count(createdBetween(startAt, endAt));
+        long newUsers = orZero(rollupService.getTotals(startDate, endDate).signupCount());
 
         Map<LocalDate, PlatformDailyStats> statMap = new HashMap<>();
         for (PlatformDailyStats stat : stats) {
@@ -274,94 +262,48 @@ public class AdminDashboardService {
      * - Platform fee: floor(Net * platformFeeRate)
      * - Payment failure: Payment.paymentStatus=2 COUNT
      * - Refund request: PaymentRefund.refundStatus=0 COUNT
+     * All values are read from admin_hourly_rollup (see AdminHourlyRollupService), so cost is O(hours) not O(rows).
      */
     private SummaryMetrics buildSummaryMetrics(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
-
-        // Perf: ensure indexes on payment.createdAt and payment_refund.requestedAt for range scans.
-        long reservationCount = reservationRepository.countByCreatedAtBetween(start, end);
-
-        long paymentSuccessAmount = paymentRepository
-                .sumApprovedAmountByStatusAndCreatedAtBetween(1, start, end);
-        long paymentFailureCount = paymentRepository
-                .countByStatusAndCreatedAtBetween(2, start, end);
-
-        long refundRequestCount = refundRepository
-                .countByStatusAndRequestedAtBetween(0, start, end);
-        long refundCompletedCount = refundRepository
-                .countByStatusAndRequestedAtBetween(1, start, end);
-        long refundCompletedAmount = refundRepository
-                .sumRefundAmountByStatusAndRequestedAtBetween(1, start, end);
-        long netRevenue = paymentSuccessAmount - refundCompletedAmount;
-
-        // Validation check: compare with raw SQL SUM/COUNT for the same date window if needed.
+        AdminRollupTotalsRow totals = rollupService.getTotals(startDate, endDate);
+        long paymentSuccessAmount = orZero(totals.paymentGrossAmount());
+        long refundCompletedAmount = orZero(totals.refundCompletedAmount());
         return new SummaryMetrics(
-                reservationCount,
+                orZero(totals.reservationCount()),
                 paymentSuccessAmount,
-                paymentFailureCount,
-                refundRequestCount,
-                refundCompletedCount,
+                orZero(totals.paymentFailureCount()),
+                orZero(totals.refundRequestCount()),
+                orZero(totals.refundCompletedCount()),
                 refundCompletedAmount,
-                netRevenue
+                paymentSuccessAmount - refundCompletedAmount
         );
     }
 
     private List<AdminTimeseriesPoint> buildNetRevenueSeries(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
-
-        Map<LocalDate, Long> grossByDate = paymentRepository.findByCreatedAtBetween(start, end).stream()
-                .filter(payment -> payment.getPaymentStatus() != null && payment.getPaymentStatus() == 1)
-                .collect(Collectors.groupingBy(
-                        payment -> payment.getCreatedAt().toLocalDate(),
-                        Collectors.summingLong(payment -> payment.getApprovedAmount() != null ? payment.getApprovedAmount() : 0L)
-                ));
-
-        Map<LocalDate, Long> refundByDate = refundRepository.findByRequestedAtBetween(start, end).stream()
-                .filter(refund -> refund.getRefundStatus() != null && refund.getRefundStatus() == 1)
-                .collect(Collectors.groupingBy(
-                        refund -> refund.getRequestedAt().toLocalDate(),
-                        Collectors.summingLong(refund -> refund.getRefundAmount() != null ? refund.getRefundAmount() : 0L)
-                ));
-
+        Map<LocalDate, AdminRollupDailyRow> daily = rollupService.getDailyAmounts(startDate, endDate);
         return startDate.datesUntil(endDate.plusDays(1))
-                .map(date -> {
-                    long gross = grossByDate.getOrDefault(date, 0L);
-                    long refund = refundByDate.getOrDefault(date, 0L);
-                    return new AdminTimeseriesPoint(date, gross - refund);
-                })
+                .map(date -> new AdminTimeseriesPoint(date, netRevenue(daily.get(date))))
                 .toList();
     }
 
     private List<AdminTimeseriesPoint> buildPlatformFeeSeries(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
-
-        Map<LocalDate, Long> grossByDate = paymentRepository.findByCreatedAtBetween(start, end).stream()
-                .filter(payment -> payment.getPaymentStatus() != null && payment.getPaymentStatus() == 1)
-                .collect(Collectors.groupingBy(
-                        payment -> payment.getCreatedAt().toLocalDate(),
-                        Collectors.summingLong(payment -> payment.getApprovedAmount() != null ? payment.getApprovedAmount() : 0L)
-                ));
-
-        Map<LocalDate, Long> refundByDate = refundRepository.findByRequestedAtBetween(start, end).stream()
-                .filter(refund -> refund.getRefundStatus() != null && refund.getRefundStatus() == 1)
-                .collect(Collectors.groupingBy(
-                        refund -> refund.getRequestedAt().toLocalDate(),
-                        Collectors.summingLong(refund -> refund.getRefundAmount() != null ? refund.getRefundAmount() : 0L)
-                ));
-
+        Map<LocalDate, AdminRollupDailyRow> daily = rollupService.getDailyAmounts(startDate, endDate);
         return startDate.datesUntil(endDate.plusDays(1))
-                .map(date -> {
-                    long gross = grossByDate.getOrDefault(date, 0L);
-                    long refund = refundByDate.getOrDefault(date, 0L);
-                    long net = gross - refund;
-                    return new AdminTimeseriesPoint(date, calcPlatformFee(net));
-                })
+                .map(date -> new AdminTimeseriesPoint(date, calcPlatformFee(netRevenue(daily.get(date)))))
                 .toList();
     }
 
+    private long netRevenue(AdminRollupDailyRow row) {
+        if (row == null) {
+            return 0L;
+        }
+        return orZero(row.paymentGrossAmount()) - orZero(row.refundCompletedAmount());
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
     private long calcPlatformFee(long netRevenue) {
         long fee = (long) Math.floor(netRevenue * platformFeeRate);
         return Math.max(0, fee);
@@ -383,10 +325,6 @@ public class AdminDashboardService {
         };
     }
 
-    private Specification<User> createdBetween(LocalDateTime from, LocalDateTime to) {
-        return (root, query, cb) -> cb.between(root.get("createdAt"), from, to);
-    }
-
     private record SummaryMetrics(long reservationCount,
                                   long paymentSuccessAmount,
                                   long paymentFailureCount,
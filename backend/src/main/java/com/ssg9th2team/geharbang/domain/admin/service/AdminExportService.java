@@ -0,0 +1,205 @@
+package com.ssg9th2team.geharbang.domain.admin.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 관리자 데이터 내보내기 (CSV / NDJSON 스트리밍)
+ *
+ * <p>DB 커서에서 한 행씩 읽어 바로 응답에 쓴다. 페이지/전체 목록을 메모리에 모으지 않으므로 행 수와 무관하게 메모리가 일정하다.
+ * <ul>
+ *   <li>역압: 응답 스트림 쓰기는 클라이언트가 읽는 만큼만 진행되고, 그동안 커서도 다음 행을 읽지 않는다</li>
+ *   <li>행 수 상한: max-rows 까지만 내보낸다 (응답 헤더 X-Export-Max-Rows)</li>
+ *   <li>동시 내보내기 수 제한: max-concurrent 를 넘으면 429</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class AdminExportService {
+
+    public static final String MAX_ROWS_HEADER = "X-Export-Max-Rows";
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType APPLICATION_NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final Semaphore exportPermits;
+    private final int maxRows;
+    private final int flushRows;
+
+    public AdminExportService(ObjectMapper objectMapper,
+                              @Value("${admin.export.max-concurrent:2}") int maxConcurrent,
+                              @Value("${admin.export.max-rows:1000000}") int maxRows,
+                              @Value("${admin.export.flush-rows:1000}") int flushRows) {
+        this.objectMapper = objectMapper;
+        this.exportPermits = new Semaphore(maxConcurrent);
+        this.maxRows = maxRows;
+        this.flushRows = flushRows;
+    }
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank() || "csv".equalsIgnoreCase(value.trim())) {
+                return CSV;
+            }
+            if ("ndjson".equalsIgnoreCase(value.trim()) || "jsonl".equalsIgnoreCase(value.trim())) {
+                return NDJSON;
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+
+    /**
+     * 내보낼 열 이름과 값 추출 함수
+     */
+    public record Column<T>(String name, Function<T, Object> value) {
+    }
+
+    /**
+     * 행 공급원. limit 행까지 sink 에 순서대로 넘기고, 넘기는 동안 DB 커서를 열어 둔다.
+     */
+    @FunctionalInterface
+    public interface RowSource<T> {
+        void stream(int limit, Consumer<T> sink);
+    }
+
+    /**
+     * 스트리밍 응답을 만든다. 동시 내보내기 수를 넘으면 바로 429 로 거절한다.
+     * 자리는 응답 본문을 쓰는 동안에만 잡는다. 본문이 실행되지 않고 끝난 요청(타임아웃, 연결 종료 등)이 자리를 남기지 않도록
+     * 여기서는 남은 자리만 확인하고, 실제 획득과 반환은 본문 안에서 한다.
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(String name, String format,
+                                                            List<Column<T>> columns, RowSource<T> source) {
+        Format resolved = Format.from(format);
+        if (exportPermits.availablePermits() == 0) {
+            throw tooManyExports();
+        }
+        StreamingResponseBody body = outputStream -> {
+            // 확인 뒤 다른 요청이 먼저 자리를 가져간 경우. 아직 아무것도 쓰지 않았으므로 429 로 응답된다
+            if (!exportPermits.tryAcquire()) {
+                throw tooManyExports();
+            }
+            try {
+                long written = write(resolved, columns, source, outputStream);
+                log.info("Admin export finished: name={}, format={}, rows={}", name, resolved, written);
+            } finally {
+                exportPermits.release();
+            }
+        };
+        String filename = name + "-" + LocalDate.now() + (resolved == Format.CSV ? ".csv" : ".ndjson");
+        return ResponseEntity.ok()
+                .contentType(resolved == Format.CSV ? TEXT_CSV : APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .header(MAX_ROWS_HEADER, String.valueOf(maxRows))
+                .body(body);
+    }
+
+    private static ResponseStatusException tooManyExports() {
+        return new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    <T> long write(Format format, List<Column<T>> columns, RowSource<T> source, OutputStream outputStream)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 16 * 1024);
+        long[] count = {0};
+        if (format == Format.CSV) {
+            writeCsvRow(writer, columns.stream().map(Column::name).toList());
+        }
+        try {
+            source.stream(maxRows, row -> {
+                try {
+                    if (format == Format.CSV) {
+                        writeCsvRow(writer, columns.stream().map(column -> column.value().apply(row)).toList());
+                    } else {
+                        Map<String, Object> values = new LinkedHashMap<>();
+                        for (Column<T> column : columns) {
+                            values.put(column.name(), column.value().apply(row));
+                        }
+                        writer.write(objectMapper.writeValueAsString(values));
+                        writer.write('\n');
+                    }
+                    if (++count[0] % flushRows == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등. 커서 순회를 멈추고 세션을 닫게 한다
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (count[0] >= maxRows) {
+            log.warn("Admin export reached the row cap ({} rows)", maxRows);
+        }
+        writer.flush();
+        return count[0];
+    }
+
+    private void writeCsvRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(escapeCsv(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    static String escapeCsv(String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                quote = true;
+                break;
+            }
+        }
+        // 스프레드시트가 수식으로 해석하지 않도록 (=, +, -, @ 로 시작하는 문자열)
+        boolean formula = !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0 && !isNegativeNumber(value);
+        String escaped = formula ? "'" + value : value;
+        if (!quote) {
+            return escaped;
+        }
+        return '"' + escaped.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean isNegativeNumber(String value) {
+        for (int i = 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && c != '.') {
+                return false;
+            }
+        }
+        return value.length() > 1 && value.charAt(0) == '-';
+    }
+}
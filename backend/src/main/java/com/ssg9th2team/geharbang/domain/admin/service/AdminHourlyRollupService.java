@@ -0,0 +1,114 @@
+package com.ssg9th2team.geharbang.domain.admin.service;
+
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminRollupDailyRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminRollupTotalsRow;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminHourlyRollupMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 대시보드 시간 단위 롤업 (admin_hourly_rollup)
+ *
+ * <p>결제/환불/예약/가입 원본 행을 정시 단위로 합산해 두고, 대시보드는 구간의 롤업 행만 더한다.
+ * <ul>
+ *   <li>주기 갱신: 마지막 처리 이후 updated_at 이 바뀐 원본 행이 속한 시간만 골라 다시 합산한다 (변경분 스트림)</li>
+ *   <li>한 시간은 삭제 후 다시 합산하므로 같은 시간을 여러 번(여러 노드에서) 처리해도 결과가 같다</li>
+ *   <li>updated_at 을 건드리지 않는 일괄 수정/삭제는 야간 {@link #rebuildDays(LocalDate, LocalDate)} 가 바로잡는다</li>
+ * </ul>
+ * 조회 값은 갱신 주기(refresh-delay-ms)만큼 늦을 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminHourlyRollupService {
+
+    private final AdminHourlyRollupMapper rollupMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    // 이 노드가 마지막으로 변경분을 처리한 시각
+    private volatile LocalDateTime watermark;
+
+    @Value("${admin.rollup.startup-lookback-hours:24}")
+    private long startupLookbackHours;
+
+    // 커밋이 늦은 트랜잭션(updated_at 은 커밋 전에 찍힌다)을 놓치지 않도록 겹쳐 읽는 구간
+    @Value("${admin.rollup.overlap-seconds:300}")
+    private long overlapSeconds;
+
+    /**
+     * 마지막 처리 이후 바뀐 시간만 다시 합산한다. 기동 직후에는 startup-lookback-hours 동안의 변경분을 처리한다.
+     *
+     * @return 다시 합산한 시간 수
+     */
+    public int refreshChanged() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime since = watermark != null
+                ? watermark.minusSeconds(overlapSeconds)
+                : now.minusHours(startupLookbackHours);
+
+        List<LocalDateTime> buckets = rollupMapper.selectChangedBuckets(since);
+        int rebuilt = 0;
+        for (LocalDateTime bucket : buckets) {
+            if (rebuild(bucket, bucket.plusHours(1), now)) {
+                rebuilt++;
+            }
+        }
+        watermark = now;
+        if (!buckets.isEmpty()) {
+            log.debug("Refreshed {} admin rollup buckets changed since {}", rebuilt, since);
+        }
+        return rebuilt;
+    }
+
+    /**
+     * [from, to] 일자의 롤업을 하루씩 원본에서 다시 만든다 (야간 보정, 최초 적재).
+     */
+    public void rebuildDays(LocalDate from, LocalDate to) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        from.datesUntil(to.plusDays(1))
+                .forEach(date -> rebuild(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), now));
+        log.info("Rebuilt admin hourly rollup for {} ~ {}", from, to);
+    }
+
+    public AdminRollupTotalsRow getTotals(LocalDate from, LocalDate to) {
+        return rollupMapper.selectTotals(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * 일자별 결제 성공 금액/환불 완료 금액. 롤업 행이 없는 날짜는 포함되지 않는다.
+     */
+    public Map<LocalDate, AdminRollupDailyRow> getDailyAmounts(LocalDate from, LocalDate to) {
+        List<AdminRollupDailyRow> rows = rollupMapper.selectDailyAmounts(
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        Map<LocalDate, AdminRollupDailyRow> byDate = new HashMap<>(rows.size() * 2);
+        for (AdminRollupDailyRow row : rows) {
+            byDate.put(row.statDate(), row);
+        }
+        return byDate;
+    }
+
+    private boolean rebuild(LocalDateTime start, LocalDateTime end, LocalDateTime now) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                rollupMapper.deleteBuckets(start, end);
+                rollupMapper.insertBuckets(start, end, now);
+            });
+            return true;
+        } catch (Exception e) {
+            // 다른 노드가 같은 시간을 동시에 다시 만든 경우 등. 결과는 같으므로 다음 변경 때 다시 합산된다
+            log.warn("Failed to rebuild admin rollup for [{}, {}): {}", start, end, e.getMessage());
+            return false;
+        }
+    }
+}
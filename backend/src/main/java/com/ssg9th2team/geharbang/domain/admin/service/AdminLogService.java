@@ -1,24 +1,33 @@
 package com.ssg9th2team.geharbang.domain.admin.service;
 
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminLogEntry;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminLogRow;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminPageResponse;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssg9th2team.geharbang.domain.admin.log.AdminAuditLogWriter;
+import com.ssg9th2team.geharbang.domain.admin.log.AdminLogConstants;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminExportMapper;
 import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminLogMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +36,22 @@ public class AdminLogService {
 
     private final AdminLogMapper adminLogMapper;
     private final ObjectMapper objectMapper;
+    private final AdminExportMapper exportMapper;
+    private final AdminAuditLogWriter auditLogWriter;
+
+    /**
+     * 데이터 내보내기 기록. 내보낸 형식과 조회 조건(값이 있는 것만)을 metadata 로 남긴다.
+     */
+    public void writeExportLog(Long adminUserId, String targetType, String format, Map<String, Object> filters) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("format", format);
+        filters.forEach((name, value) -> {
+            if (value != null) {
+                metadata.put(name, value);
+            }
+        });
+        writeLog(adminUserId, targetType, AdminLogConstants.NO_TARGET_ID, AdminLogConstants.ACTION_EXPORT, null, metadata);
+    }
 
     public void writeLog(Long adminUserId, String targetType, Long targetId, String actionType, String reason) {
         writeLog(adminUserId, targetType, targetId, actionType, reason, (Map<String, Object>) null);
@@ -45,7 +70,8 @@ public class AdminLogService {
             String normalizedReason = StringUtils.hasText(reason) ? reason.trim() : null;
             RequestInfo requestInfo = resolveRequestInfo();
             String normalizedMetadata = mergeRequestMetadata(metadataJson, requestInfo);
-            int inserted = adminLogMapper.insertAdminLog(
+            // 요청 정보는 요청 스레드에서 읽고, INSERT 는 커밋 후 AdminAuditLogWriter 가 모아서 한다
+            auditLogWriter.submit(new AdminLogEntry(
                 adminUserId,
                 targetType,
                 targetId,
@@ -53,13 +79,12 @@ public class AdminLogService {
                 normalizedReason,
                 normalizedMetadata,
                 requestInfo.ip(),
-                requestInfo.userAgent()
-            );
-            if (inserted > 0) {
-                log.info("AdminLog inserted: adminId={}, target={}#{}, action={}", adminUserId, targetType, targetId, actionType);
-            }
+                requestInfo.userAgent(),
+                LocalDateTime.now()
+            ));
+            log.info("AdminLog queued: adminId={}, target={}#{}, action={}", adminUserId, targetType, targetId, actionType);
         } catch (Exception e) {
-            log.warn("Failed to insert admin_log: targetType={}, targetId={}, actionType={}",
+            log.warn("Failed to queue admin_log: targetType={}, targetId={}, actionType={}",
                     targetType, targetId, actionType, e);
         }
     }
@@ -92,6 +117,31 @@ public class AdminLogService {
         return AdminPageResponse.of(items, safePage, safeSize, total, totalPages);
     }
 
+    /**
+     * 목록과 같은 필터로 로그를 최대 limit 건까지 한 행씩 sink 에 넘긴다 (내보내기용).
+     */
+    @Transactional(readOnly = true)
+    public void streamLogs(
+            LocalDate startDate,
+            LocalDate endDate,
+            String actionType,
+            String targetType,
+            Long targetIdExact,
+            String keyword,
+            int limit,
+            Consumer<AdminLogRow> sink
+    ) {
+        LocalDateTime start = startDate != null ? startDate.atStartOfDay() : null;
+        LocalDateTime end = endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+        String normalizedKeyword = targetIdExact == null && StringUtils.hasText(keyword) ? keyword.trim() : null;
+        try (Cursor<AdminLogRow> cursor = exportMapper.streamLogs(
+                start, end, actionType, targetType, targetIdExact, normalizedKeyword, limit)) {
+            cursor.forEach(sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private String serializeMetadata(Map<String, Object> metadata) {
         if (metadata == null || metadata.isEmpty()) {
             return null;
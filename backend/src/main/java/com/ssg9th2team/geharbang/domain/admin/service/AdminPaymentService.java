@@ -7,6 +7,7 @@ import com.ssg9th2team.geharbang.domain.admin.dto.AdminPaymentSummaryResponse;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminPaymentMetricsPoint;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminPaymentMetricsRow;
 import com.ssg9th2team.geharbang.domain.admin.log.AdminLogConstants;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminExportMapper;
 import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminPaymentMetricsMapper;
 import com.ssg9th2team.geharbang.domain.payment.dto.PaymentResponseDto;
 import com.ssg9th2team.geharbang.domain.payment.dto.RefundPolicyResult;
@@ -21,6 +22,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -31,6 +33,8 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
@@ -39,10 +43,8 @@ import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Root;
 
 @Service
 @RequiredArgsConstructor
@@ -67,6 +69,9 @@ public class AdminPaymentService {
     private final ReservationJpaRepository reservationRepository;
     private final AdminLogService adminLogService;
     private final RefundPolicyService refundPolicyService;
+    private final AdminPaymentSummaryEngine paymentSummaryEngine;
+    private final PlatformStatsCounter platformStatsCounter;
+    private final AdminExportMapper exportMapper;
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -107,6 +112,21 @@ public class AdminPaymentService {
         );
     }
 
+    /**
+     * 목록과 같은 필터로 결제를 최대 limit 건까지 한 행씩 sink 에 넘긴다 (내보내기용).
+     */
+    @Transactional(readOnly = true)
+    public void streamPayments(String status, String type, String keyword, String sort,
+                               int limit, Consumer<AdminPaymentSummary> sink) {
+        String normalizedKeyword = StringUtils.hasText(keyword) ? keyword.trim() : null;
+        try (Cursor<AdminPaymentSummary> cursor = exportMapper.streamPayments(
+                parseStatus(status), parseType(type), normalizedKeyword, "oldest".equalsIgnoreCase(sort), limit)) {
+            cursor.forEach(sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /*
      * KPI definitions (Admin payments)
      * - Gross: Payment.paymentStatus=1 AND createdAt in [from, to) SUM(approvedAmount)
@@ -128,18 +148,10 @@ public class AdminPaymentService {
         LocalDateTime start = startDate.atStartOfDay();
         LocalDateTime end = endDate.plusDays(1).atStartOfDay();
 
-        Integer statusCode = parseStatus(status);
-        String typeMode = parseType(type);
-        Specification<Payment> basePaymentSpec = buildPaymentSpec(status, type, keyword, start, end);
-
-        long grossAmount = sumPayments(basePaymentSpec.and(statusEquals(1)));
-        long successCount = countPayments(basePaymentSpec.and(statusEquals(1)));
-        long failureCount = countPayments(basePaymentSpec.and(statusEquals(2)));
-
-        Specification<PaymentRefund> baseRefundSpec = buildRefundSpec(statusCode, typeMode, keyword, start, end);
-        long refundRequestCount = countRefunds(baseRefundSpec.and(refundStatusEquals(0)));
-        long refundCompletedCount = countRefunds(baseRefundSpec.and(refundStatusEquals(1)));
-        long refundCompletedAmount = sumRefunds(baseRefundSpec.and(refundStatusEquals(1)));
+        AdminPaymentSummaryEngine.Summary summary = paymentSummaryEngine.summarize(
+                start, end, parseStatus(status), parseType(type), keyword);
+        long grossAmount = summary.grossAmount();
+        long refundCompletedAmount = summary.refundCompletedAmount();
         long netAmount = grossAmount - refundCompletedAmount;
         long platformFeeAmount = Math.round(netAmount * platformFeeRate);
 
@@ -149,10 +161,10 @@ public class AdminPaymentService {
                 grossAmount,
                 refundCompletedAmount,
                 netAmount,
-                successCount,
-                failureCount,
-                refundRequestCount,
-                refundCompletedCount,
+                summary.successCount(),
+                summary.failureCount(),
+                summary.refundRequestCount(),
+                summary.refundCompletedCount(),
                 platformFeeRate,
                 platformFeeAmount
         );
@@ -183,27 +195,6 @@ public class AdminPaymentService {
         return spec;
     }
 
-    private Specification<PaymentRefund> buildRefundSpec(Integer statusCode, String typeMode, String keyword,
-                                                         LocalDateTime start, LocalDateTime end) {
-        if ("RESERVATION".equals(typeMode)) {
-            return alwaysFalseRefund();
-        }
-        if (statusCode != null && statusCode != 3) {
-            return alwaysFalseRefund();
-        }
-        Specification<PaymentRefund> spec = Specification.where(refundKeywordContains(keyword));
-        if (start != null && end != null) {
-            spec = spec.and(requestedBetween(start, end));
-        }
-        if ("REFUND".equals(typeMode)) {
-            spec = spec.and(noOpRefundSpec());
-        }
-        if (statusCode != null && statusCode == 3) {
-            spec = spec.and(refundStatusEquals(1));
-        }
-        return spec;
-    }
-
     private Specification<Payment> statusEquals(Integer status) {
         return com.ssg9th2team.geharbang.domain.payment.spec.PaymentSpecifications.statusEquals(status);
     }
@@ -225,70 +216,6 @@ public class AdminPaymentService {
         return com.ssg9th2team.geharbang.domain.payment.spec.PaymentSpecifications.createdBetween(start, end);
     }
 
-    private Specification<PaymentRefund> refundStatusEquals(Integer status) {
-        return com.ssg9th2team.geharbang.domain.payment.spec.PaymentRefundSpecifications.statusEquals(status);
-    }
-
-    private Specification<PaymentRefund> requestedBetween(LocalDateTime start, LocalDateTime end) {
-        return com.ssg9th2team.geharbang.domain.payment.spec.PaymentRefundSpecifications.requestedBetween(start, end);
-    }
-
-    private Specification<PaymentRefund> refundKeywordContains(String keyword) {
-        return com.ssg9th2team.geharbang.domain.payment.spec.PaymentRefundSpecifications.keywordContains(keyword);
-    }
-
-    private Specification<PaymentRefund> alwaysFalseRefund() {
-        return com.ssg9th2team.geharbang.domain.payment.spec.PaymentRefundSpecifications.alwaysFalse();
-    }
-
-    private Specification<PaymentRefund> noOpRefundSpec() {
-        return Specification.where(null);
-    }
-
-    private long sumPayments(Specification<Payment> spec) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Long> query = cb.createQuery(Long.class);
-        Root<Payment> root = query.from(Payment.class);
-        query.select(cb.coalesce(cb.sum(root.get("approvedAmount")).as(Long.class), 0L));
-        if (spec != null) {
-            query.where(spec.toPredicate(root, query, cb));
-        }
-        return Optional.ofNullable(entityManager.createQuery(query).getSingleResult()).orElse(0L);
-    }
-
-    private long countPayments(Specification<Payment> spec) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Long> query = cb.createQuery(Long.class);
-        Root<Payment> root = query.from(Payment.class);
-        query.select(cb.count(root));
-        if (spec != null) {
-            query.where(spec.toPredicate(root, query, cb));
-        }
-        return Optional.ofNullable(entityManager.createQuery(query).getSingleResult()).orElse(0L);
-    }
-
-    private long sumRefunds(Specification<PaymentRefund> spec) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Long> query = cb.createQuery(Long.class);
-        Root<PaymentRefund> root = query.from(PaymentRefund.class);
-        query.select(cb.coalesce(cb.sum(root.get("refundAmount")).as(Long.class), 0L));
-        if (spec != null) {
-            query.where(spec.toPredicate(root, query, cb));
-        }
-        return Optional.ofNullable(entityManager.createQuery(query).getSingleResult()).orElse(0L);
-    }
-
-    private long countRefunds(Specification<PaymentRefund> spec) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Long> query = cb.createQuery(Long.class);
-        Root<PaymentRefund> root = query.from(PaymentRefund.class);
-        query.select(cb.count(root));
-        if (spec != null) {
-            query.where(spec.toPredicate(root, query, cb));
-        }
-        return Optional.ofNullable(entityManager.createQuery(query).getSingleResult()).orElse(0L);
-    }
-
     public AdminPaymentDetail getPaymentDetail(Long paymentId) {
         Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ERR_PAYMENT_NOT_FOUND));
@@ -359,6 +286,7 @@ public class AdminPaymentService {
                 .approvedAt(LocalDateTime.now())
                 .build();
         paymentRefundRepository.save(refund);
+        platformStatsCounter.refundRecorded(refund);
 
         entityManager.createQuery(
                         "UPDATE Payment p SET p.paymentStatus = :status, p.updatedAt = :updatedAt WHERE p.id = :id")
@@ -375,9 +303,12 @@ public class AdminPaymentService {
                     .setParameter("updatedAt", LocalDateTime.now())
                     .setParameter("id", reservation.getId())
                     .executeUpdate();
+            platformStatsCounter.reservationStatusChanged(reservation,
+                    beforeReservationPaymentStatus, beforeReservationStatus, 3, 9);
         }
 
         entityManager.clear();
+        paymentSummaryEngine.invalidateAll();
         Payment updated = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ERR_PAYMENT_NOT_FOUND));
         java.util.Map<String, Object> metadata = new java.util.LinkedHashMap<>();
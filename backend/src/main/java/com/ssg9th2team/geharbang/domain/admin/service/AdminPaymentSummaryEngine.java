@@ -0,0 +1,92 @@
+package com.ssg9th2team.geharbang.domain.admin.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminPaymentSummaryRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminRefundSummaryRow;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminPaymentMetricsMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 관리 요약 집계
+ *
+ * <p>결제/환불 테이블을 각각 한 번씩만 읽어 조건부 집계(SUM(CASE ...))로 모든 지표를 구한다.
+ * 같은 필터(기간, 상태, 유형, 검색어) 요청은 ttl-seconds 동안 Caffeine 로컬 캐시 결과를 그대로 쓰고,
+ * 관리자 환불 처리 시 {@link #invalidateAll()} 로 비운다.
+ */
+@Component
+public class AdminPaymentSummaryEngine {
+
+    private final AdminPaymentMetricsMapper paymentMetricsMapper;
+    private final Cache<SummaryKey, Summary> summaryCache;
+
+    public AdminPaymentSummaryEngine(AdminPaymentMetricsMapper paymentMetricsMapper,
+                                     @Value("${admin.payment.summary.cache.ttl-seconds:30}") long ttlSeconds,
+                                     @Value("${admin.payment.summary.cache.max-size:500}") long maxSize) {
+        this.paymentMetricsMapper = paymentMetricsMapper;
+        this.summaryCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * @param statusCode 1: 성공, 2: 실패, 3: 환불 (null 이면 전체)
+     * @param typeMode   REFUND / RESERVATION (null 이면 전체)
+     */
+    public Summary summarize(LocalDateTime start, LocalDateTime end, Integer statusCode, String typeMode, String keyword) {
+        String normalizedKeyword = StringUtils.hasText(keyword) ? keyword.trim() : null;
+        SummaryKey key = new SummaryKey(start, end, statusCode, typeMode, normalizedKeyword);
+        return summaryCache.get(key, this::load);
+    }
+
+    public void invalidateAll() {
+        summaryCache.invalidateAll();
+    }
+
+    private Summary load(SummaryKey key) {
+        AdminPaymentSummaryRow payments = paymentMetricsMapper.selectPaymentSummary(
+                key.start(), key.end(), key.statusCode(), key.typeMode(), key.keyword());
+
+        // 예약 유형이나 성공/실패 상태로 거르면 환불은 항상 0건이므로 조회하지 않는다
+        boolean refundsExcluded = "RESERVATION".equals(key.typeMode())
+                || (key.statusCode() != null && key.statusCode() != 3);
+        AdminRefundSummaryRow refunds = refundsExcluded
+                ? new AdminRefundSummaryRow(0L, 0L, 0L)
+                : paymentMetricsMapper.selectRefundSummary(
+                        key.start(), key.end(), key.statusCode() != null, key.keyword());
+
+        return new Summary(
+                orZero(payments.grossAmount()),
+                orZero(payments.successCount()),
+                orZero(payments.failureCount()),
+                orZero(refunds.requestCount()),
+                orZero(refunds.completedCount()),
+                orZero(refunds.completedAmount())
+        );
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    public record Summary(long grossAmount,
+                          long successCount,
+                          long failureCount,
+                          long refundRequestCount,
+                          long refundCompletedCount,
+                          long refundCompletedAmount) {
+    }
+
+    private record SummaryKey(LocalDateTime start,
+                              LocalDateTime end,
+                              Integer statusCode,
+                              String typeMode,
+                              String keyword) {
+    }
+}
@@ -9,6 +9,7 @@ import com.ssg9th2team.geharbang.domain.auth.entity.User;
 import com.ssg9th2team.geharbang.domain.auth.entity.UserRole;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.auth.spec.UserSpecifications;
+import com.ssg9th2team.geharbang.global.security.UserAccessCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.data.domain.Page;
@@ -24,6 +25,8 @@ public class AdminUserService {
 
     private final UserRepository userRepository;
     private final AdminLogService adminLogService;
+    private final PlatformStatsCounter platformStatsCounter;
+    private final UserAccessCache userAccessCache;
     private static final int MIN_REASON_LENGTH = 5;
     private static final int MAX_REASON_LENGTH = 200;
 
@@ -96,9 +99,11 @@ public class AdminUserService {
         Boolean beforeApproved = user.getHostApproved();
         if (user.getRole() != UserRole.HOST) {
             user.updateRole(UserRole.HOST);
+            platformStatsCounter.hostRegistered(user);
         }
         user.updateHostApproved(true);
         User saved = userRepository.save(user);
+        userAccessCache.evict(userId);
         String normalizedReason = normalizeOptionalReason(reason, "메모");
         java.util.Map<String, Object> metadata = new java.util.LinkedHashMap<>();
         metadata.put("before", java.util.Map.of("role", beforeRole != null ? beforeRole.name() : null, "hostApproved", beforeApproved));
@@ -123,9 +128,11 @@ public class AdminUserService {
         Boolean beforeApproved = user.getHostApproved();
         if (user.getRole() != UserRole.HOST) {
             user.updateRole(UserRole.HOST);
+            platformStatsCounter.hostRegistered(user);
         }
         user.updateHostApproved(false);
         User saved = userRepository.save(user);
+        userAccessCache.evict(userId);
         java.util.Map<String, Object> metadata = new java.util.LinkedHashMap<>();
         metadata.put("before", java.util.Map.of("role", beforeRole != null ? beforeRole.name() : null, "hostApproved", beforeApproved));
         metadata.put("after", java.util.Map.of("role", saved.getRole().name(), "hostApproved", false));
@@ -147,6 +154,7 @@ public class AdminUserService {
         Boolean beforeSuspended = user.getSuspended();
         user.updateSuspended(true);
         User saved = userRepository.save(user);
+        userAccessCache.evict(userId);
         java.util.Map<String, Object> metadata = new java.util.LinkedHashMap<>();
         metadata.put("before", java.util.Map.of("suspended", beforeSuspended));
         metadata.put("after", java.util.Map.of("suspended", true));
@@ -168,6 +176,7 @@ public class AdminUserService {
         Boolean beforeSuspended = user.getSuspended();
         user.updateSuspended(false);
         User saved = userRepository.save(user);
+        userAccessCache.evict(userId);
         String normalizedReason = normalizeOptionalReason(reason, "메모");
         java.util.Map<String, Object> metadata = new java.util.LinkedHashMap<>();
         metadata.put("before", java.util.Map.of("suspended", beforeSuspended));
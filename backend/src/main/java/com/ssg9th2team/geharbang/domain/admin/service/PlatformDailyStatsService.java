@@ -1,100 +1,116 @@
 package com.ssg9th2team.geharbang.domain.admin.service;
 
-import com.ssg9th2team.geharbang.domain.accommodation.entity.ApprovalStatus;
-import com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.AccommodationJpaRepository;
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyStatsRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformStatsSnapshotRow;
 import com.ssg9th2team.geharbang.domain.admin.entity.PlatformDailyStats;
 import com.ssg9th2team.geharbang.domain.admin.repository.PlatformDailyStatsRepository;
-import com.ssg9th2team.geharbang.domain.auth.entity.UserRole;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
-import com.ssg9th2team.geharbang.domain.payment.entity.Payment;
-import com.ssg9th2team.geharbang.domain.payment.entity.PaymentRefund;
-import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentJpaRepository;
-import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentRefundJpaRepository;
-import com.ssg9th2team.geharbang.domain.report.repository.jpa.ReviewReportJpaRepository;
-import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.PlatformDailyStatsMapper;
+import com.ssg9th2team.geharbang.domain.admin.service.PlatformStatsCounter.Metric;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.jpa.domain.Specification;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PlatformDailyStatsService {
 
     private final PlatformDailyStatsRepository statsRepository;
-    private final UserRepository userRepository;
-    private final AccommodationJpaRepository accommodationRepository;
-    private final ReservationJpaRepository reservationRepository;
-    private final PaymentJpaRepository paymentRepository;
-    private final PaymentRefundJpaRepository refundRepository;
-    private final ReviewReportJpaRepository reportRepository;
+    private final PlatformDailyStatsMapper statsMapper;
+    private final PlatformStatsCounter statsCounter;
 
+    /**
+     * 하루치 통계를 집계 쿼리 한 번으로 다시 계산해 저장한다 (야간 검증).
+     * 실시간 카운터와 어긋난 지표가 있으면 기록하고, 저장 후 해당 날짜 카운터는 지운다.
+     */
     public PlatformDailyStats refreshDailyStats(LocalDate statDate) {
-        LocalDateTime start = statDate.atStartOfDay();
-        LocalDateTime end = statDate.plusDays(1).atStartOfDay();
-
-        long totalHosts = userRepository.count(roleEquals(UserRole.HOST));
-        long newHosts = userRepository.count(roleCreatedBetween(UserRole.HOST, start, end));
-
-        long totalAccommodations = accommodationRepository.count();
-        long newAccommodations = accommodationRepository.count(createdBetween(start, end));
-
-        long totalReservations = reservationRepository.count(createdBetweenReservation(start, end));
-        long reservationsSuccess = reservationRepository.count(paymentStatusBetween(1, start, end));
-        long reservationsFailed = reservationRepository.count(paymentStatusInBetween(List.of(2, 3), start, end));
-        long cancelCount = reservationRepository.count(reservationStatusBetween(9, start, end));
+        PlatformDailyStatsRow row = statsMapper.selectDailyStats(
+                statDate.atStartOfDay(), statDate.plusDays(1).atStartOfDay());
+
+        try {
+            Map<Metric, Long> counters = statsCounter.read(statDate);
+            if (counters != null) {
+                logDrift(statDate, row, counters);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read platform stats counters for {}: {}", statDate, e.getMessage());
+        }
 
-        List<Payment> payments = paymentRepository.findAll();
-        long paymentSuccessAmount = payments.stream()
-                .filter(payment -> isBetween(payment.getCreatedAt(), start, end))
-                .filter(payment -> payment.getPaymentStatus() != null && payment.getPaymentStatus() == 1)
-                .mapToLong(payment -> payment.getApprovedAmount() != null ? payment.getApprovedAmount() : 0L)
-                .sum();
+        PlatformDailyStats saved = statsRepository.save(PlatformDailyStats.builder()
+                .statDate(statDate)
+                .totalHosts(orZero(row.totalHosts()))
+                .newHosts(orZero(row.newHosts()))
+                .totalAccommodations(orZero(row.totalAccommodations()))
+                .newAccommodations(orZero(row.newAccommodations()))
+                .totalReservations(orZero(row.totalReservations()))
+                .reservationsSuccess(orZero(row.reservationsSuccess()))
+                .reservationsFailed(orZero(row.reservationsFailed()))
+                .totalRevenue(orZero(row.totalRevenue()))
+                .cancelCount(orZero(row.cancelCount()))
+                .refundCount(orZero(row.refundCount()))
+                .refundAmount(orZero(row.refundAmount()))
+                .pendingAccommodations(orZero(row.pendingAccommodations()))
+                .openReports(orZero(row.openReports()))
+                .activeGuests(orZero(row.activeGuests()))
+                .activeHosts(orZero(row.activeHosts()))
+                .occupancyRate(BigDecimal.ZERO)
+                .createdAt(LocalDateTime.now())
+                .build());
 
-        List<PaymentRefund> refunds = refundRepository.findAll();
-        long refundCount = refunds.stream()
-                .filter(refund -> isBetween(refund.getCreatedAt(), start, end))
-                .filter(refund -> refund.getRefundStatus() != null
-                        && (refund.getRefundStatus() == 0 || refund.getRefundStatus() == 1))
-                .count();
-        long refundAmount = refunds.stream()
-                .filter(refund -> isBetween(refund.getCreatedAt(), start, end))
-                .filter(refund -> refund.getRefundStatus() != null && refund.getRefundStatus() == 1)
-                .mapToLong(refund -> refund.getRefundAmount() != null ? refund.getRefundAmount() : 0L)
-                .sum();
+        try {
+            statsCounter.clear(statDate);
+        } catch (Exception e) {
+            log.warn("Failed to clear platform stats counters for {}: {}", statDate, e.getMessage());
+        }
+        return saved;
+    }
 
-        long pendingAccommodations = accommodationRepository.count(approvalEquals(ApprovalStatus.PENDING));
-        long openReports = reportRepository.count(reportStateEquals("WAIT"));
+    /**
+     * 오늘 통계를 실시간 카운터 값으로 저장한다.
+     * 합산 지표는 카운터에서, 누적/중복 제거 지표(전체 호스트, 활성 게스트 등)는 가벼운 스냅샷 쿼리에서 가져온다.
+     * 카운터가 비어 있으면(기동 직후, Redis 초기화) 그날 지금까지의 집계로 먼저 채운다.
+     */
+    public PlatformDailyStats flushLiveStats(LocalDate statDate) {
+        LocalDateTime start = statDate.atStartOfDay();
+        LocalDateTime end = statDate.plusDays(1).atStartOfDay();
 
-        long activeGuests = reservationRepository.countDistinctGuest(start, end);
-        long activeHosts = reservationRepository.countDistinctHost(start, end);
+        Map<Metric, Long> counters = statsCounter.read(statDate);
+        if (counters == null) {
+            statsCounter.seed(statDate, statsMapper.selectDailyStats(start, end));
+            counters = statsCounter.read(statDate);
+            if (counters == null) {
+                throw new IllegalStateException("Platform stats counters are unavailable for " + statDate);
+            }
+        }
+        PlatformStatsSnapshotRow snapshot = statsMapper.selectSnapshot(start, end);
 
-        PlatformDailyStats stats = PlatformDailyStats.builder()
+        return statsRepository.save(PlatformDailyStats.builder()
                 .statDate(statDate)
-                .totalHosts(totalHosts)
-                .newHosts(newHosts)
-                .totalAccommodations(totalAccommodations)
-                .newAccommodations(newAccommodations)
-                .totalReservations(totalReservations)
-                .reservationsSuccess(reservationsSuccess)
-                .reservationsFailed(reservationsFailed)
-                .totalRevenue(paymentSuccessAmount)
-                .cancelCount(cancelCount)
-                .refundCount(refundCount)
-                .refundAmount(refundAmount)
-                .pendingAccommodations(pendingAccommodations)
-                .openReports(openReports)
-                .activeGuests(activeGuests)
-                .activeHosts(activeHosts)
+                .totalHosts(orZero(snapshot.totalHosts()))
+                .newHosts(counters.get(Metric.NEW_HOSTS))
+                .totalAccommodations(orZero(snapshot.totalAccommodations()))
+                .newAccommodations(counters.get(Metric.NEW_ACCOMMODATIONS))
+                .totalReservations(counters.get(Metric.TOTAL_RESERVATIONS))
+                .reservationsSuccess(counters.get(Metric.RESERVATIONS_SUCCESS))
+                .reservationsFailed(counters.get(Metric.RESERVATIONS_FAILED))
+                .totalRevenue(counters.get(Metric.TOTAL_REVENUE))
+                .cancelCount(counters.get(Metric.CANCEL_COUNT))
+                .refundCount(counters.get(Metric.REFUND_COUNT))
+                .refundAmount(counters.get(Metric.REFUND_AMOUNT))
+                .pendingAccommodations(orZero(snapshot.pendingAccommodations()))
+                .openReports(orZero(snapshot.openReports()))
+                .activeGuests(orZero(snapshot.activeGuests()))
+                .activeHosts(orZero(snapshot.activeHosts()))
                 .occupancyRate(BigDecimal.ZERO)
                 .createdAt(LocalDateTime.now())
-                .build();
-
-        return statsRepository.save(stats);
+                .build());
     }
 
     public List<PlatformDailyStats> getStats(LocalDate from, LocalDate to) {
@@ -103,80 +119,27 @@ public class PlatformDailyStatsService {
         return statsRepository.findByStatDateBetweenOrderByStatDateAsc(start, end);
     }
 
-    private Specification<com.ssg9th2team.geharbang.domain.auth.entity.User> roleEquals(UserRole role) {
-        return (root, query, cb) -> cb.equal(root.get("role"), role);
-    }
-
-    private Specification<com.ssg9th2team.geharbang.domain.auth.entity.User> roleCreatedBetween(
-            UserRole role, LocalDateTime start, LocalDateTime end
-    ) {
-        return (root, query, cb) -> cb.and(
-                cb.equal(root.get("role"), role),
-                cb.greaterThanOrEqualTo(root.get("createdAt"), start),
-                cb.lessThan(root.get("createdAt"), end)
-        );
-    }
-
-    private Specification<com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation> approvalEquals(ApprovalStatus status) {
-        return (root, query, cb) -> cb.equal(root.get("approvalStatus"), status);
-    }
-
-    private Specification<com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation> createdBetween(
-            LocalDateTime start, LocalDateTime end
-    ) {
-        return (root, query, cb) -> cb.and(
-                cb.greaterThanOrEqualTo(root.get("createdAt"), start),
-                cb.lessThan(root.get("createdAt"), end)
-        );
-    }
-
-    private Specification<com.ssg9th2team.geharbang.domain.reservation.entity.Reservation> createdBetweenReservation(
-            LocalDateTime start, LocalDateTime end
-    ) {
-        return (root, query, cb) -> cb.and(
-                cb.greaterThanOrEqualTo(root.get("createdAt"), start),
-                cb.lessThan(root.get("createdAt"), end)
-        );
-    }
-
-    private Specification<com.ssg9th2team.geharbang.domain.reservation.entity.Reservation> paymentStatusBetween(
-            Integer status, LocalDateTime start, LocalDateTime end
-    ) {
-        return (root, query, cb) -> cb.and(
-                cb.equal(root.get("paymentStatus"), status),
-                cb.greaterThanOrEqualTo(root.get("createdAt"), start),
-                cb.lessThan(root.get("createdAt"), end)
-        );
-    }
-
-    private Specification<com.ssg9th2team.geharbang.domain.reservation.entity.Reservation> paymentStatusInBetween(
-            List<Integer> statuses, LocalDateTime start, LocalDateTime end
-    ) {
-        return (root, query, cb) -> cb.and(
-                root.get("paymentStatus").in(statuses),
-                cb.greaterThanOrEqualTo(root.get("createdAt"), start),
-                cb.lessThan(root.get("createdAt"), end)
-        );
-    }
-
-    private Specification<com.ssg9th2team.geharbang.domain.reservation.entity.Reservation> reservationStatusBetween(
-            Integer status, LocalDateTime start, LocalDateTime end
-    ) {
-        return (root, query, cb) -> cb.and(
-                cb.equal(root.get("reservationStatus"), status),
-                cb.greaterThanOrEqualTo(root.get("createdAt"), start),
-                cb.lessThan(root.get("createdAt"), end)
-        );
-    }
-
-    private Specification<com.ssg9th2team.geharbang.domain.report.entity.ReviewReport> reportStateEquals(String state) {
-        return (root, query, cb) -> cb.equal(root.get("state"), state);
+    private void logDrift(LocalDate statDate, PlatformDailyStatsRow row, Map<Metric, Long> counters) {
+        Map<Metric, Long> expected = Map.of(
+                Metric.NEW_HOSTS, orZero(row.newHosts()),
+                Metric.NEW_ACCOMMODATIONS, orZero(row.newAccommodations()),
+                Metric.TOTAL_RESERVATIONS, orZero(row.totalReservations()),
+                Metric.RESERVATIONS_SUCCESS, orZero(row.reservationsSuccess()),
+                Metric.RESERVATIONS_FAILED, orZero(row.reservationsFailed()),
+                Metric.CANCEL_COUNT, orZero(row.cancelCount()),
+                Metric.TOTAL_REVENUE, orZero(row.totalRevenue()),
+                Metric.REFUND_COUNT, orZero(row.refundCount()),
+                Metric.REFUND_AMOUNT, orZero(row.refundAmount()));
+        expected.forEach((metric, value) -> {
+            Long counted = counters.get(metric);
+            if (!Objects.equals(counted, value)) {
+                log.warn("Platform stats counter drift on {} for {}: counter={}, recomputed={}",
+                        statDate, metric.field(), counted, value);
+            }
+        });
     }
 
-    private boolean isBetween(LocalDateTime value, LocalDateTime start, LocalDateTime end) {
-        if (value == null) {
-            return false;
-        }
-        return !value.isBefore(start) && value.isBefore(end);
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
     }
 }
@@ -0,0 +1,274 @@
+package com.ssg9th2team.geharbang.domain.admin.service;
+
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyStatsRow;
+import com.ssg9th2team.geharbang.domain.auth.entity.User;
+import com.ssg9th2team.geharbang.domain.payment.entity.Payment;
+import com.ssg9th2team.geharbang.domain.payment.entity.PaymentRefund;
+import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 플랫폼 일일 통계 실시간 카운터
+ *
+ * <p>예약/결제/환불/호스트/숙소 쓰기 시점에 날짜별 지표를 Redis Hash 에 증감한다.
+ * <ul>
+ *   <li>Key: admin:stats:daily:{yyyy-MM-dd}, Field: 지표 이름, Value: 누적 값</li>
+ *   <li>날짜는 통계 정의와 같이 해당 행(예약, 결제, 환불, 사용자, 숙소)의 생성일 기준</li>
+ *   <li>트랜잭션 안에서 호출되면 커밋 후에만 반영한다 (롤백된 쓰기는 세지 않는다)</li>
+ *   <li>집계 값으로 채워지기(seeded) 전의 증감은 버린다. 그 쓰기는 채울 때 읽는 집계 쿼리 값에 이미 들어 있다</li>
+ * </ul>
+ * 카운터는 근사값이다. Redis 장애나 카운터를 거치지 않는 쓰기(배치 삭제 등)로 어긋난 값은
+ * 야간 검증({@link PlatformDailyStatsService#refreshDailyStats(LocalDate)})이 집계 쿼리 값으로 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlatformStatsCounter {
+
+    private static final String COUNTER_KEY = "admin:stats:daily:%s";
+    private static final String SEEDED_FIELD = "seeded";
+    private static final Duration RETENTION = Duration.ofDays(3);
+
+    // 채워진 날짜에만 증감한다. ARGV: TTL(초), 필드, 증감, 필드, 증감, ...
+    static final DefaultRedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], 'seeded') == 0 then return 0 end " +
+                    "for i = 2, #ARGV, 2 do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+                    "return 1",
+            Long.class);
+
+    // 처음 채우는 노드만 집계 값을 절대값으로 쓴다. ARGV: TTL(초), 필드, 값, 필드, 값, ...
+    static final DefaultRedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HSETNX', KEYS[1], 'seeded', '1') == 0 then return 0 end " +
+                    "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public enum Metric {
+        NEW_HOSTS("new_hosts"),
+        NEW_ACCOMMODATIONS("new_accommodations"),
+        TOTAL_RESERVATIONS("total_reservations"),
+        RESERVATIONS_SUCCESS("reservations_success"),
+        RESERVATIONS_FAILED("reservations_failed"),
+        CANCEL_COUNT("cancel_count"),
+        TOTAL_REVENUE("total_revenue"),
+        REFUND_COUNT("refund_count"),
+        REFUND_AMOUNT("refund_amount");
+
+        private final String field;
+
+        Metric(String field) {
+            this.field = field;
+        }
+
+        public String field() {
+            return field;
+        }
+    }
+
+    /**
+     * 예약 생성 (결제 대기 상태로 생성되므로 보통 전체 예약 수만 늘어난다)
+     */
+    public void reservationCreated(Reservation reservation) {
+        Map<Metric, Long> deltas = reservationDeltas(null, null,
+                reservation.getPaymentStatus(), reservation.getReservationStatus());
+        deltas.merge(Metric.TOTAL_RESERVATIONS, 1L, Long::sum);
+        record(reservation.getCreatedAt(), deltas);
+    }
+
+    /**
+     * 예약 결제/예약 상태 변경. 변경 전 상태를 받아 성공/실패/취소 지표를 옮긴다.
+     */
+    public void reservationStatusChanged(Reservation reservation,
+                                         Integer previousPaymentStatus,
+                                         Integer previousReservationStatus) {
+        reservationStatusChanged(reservation, previousPaymentStatus, previousReservationStatus,
+                reservation.getPaymentStatus(), reservation.getReservationStatus());
+    }
+
+    /**
+     * 엔티티를 거치지 않고(JPQL 일괄 수정 등) 상태를 바꾼 경우. 변경 전/후 상태를 모두 받는다.
+     */
+    public void reservationStatusChanged(Reservation reservation,
+                                         Integer previousPaymentStatus,
+                                         Integer previousReservationStatus,
+                                         Integer paymentStatus,
+                                         Integer reservationStatus) {
+        record(reservation.getCreatedAt(), reservationDeltas(previousPaymentStatus, previousReservationStatus,
+                paymentStatus, reservationStatus));
+    }
+
+    /**
+     * 결제 승인 (payment_status = 1 로 저장된 결제)
+     */
+    public void paymentApproved(Payment payment) {
+        long amount = payment.getApprovedAmount() != null ? payment.getApprovedAmount() : 0L;
+        record(payment.getCreatedAt(), Map.of(Metric.TOTAL_REVENUE, amount));
+    }
+
+    /**
+     * 환불 기록 저장 (요청 또는 완료 상태)
+     */
+    public void refundRecorded(PaymentRefund refund) {
+        Integer status = refund.getRefundStatus();
+        Map<Metric, Long> deltas = new EnumMap<>(Metric.class);
+        if (status != null && (status == 0 || status == 1)) {
+            deltas.put(Metric.REFUND_COUNT, 1L);
+        }
+        if (status != null && status == 1) {
+            deltas.put(Metric.REFUND_AMOUNT, refund.getRefundAmount() != null ? (long) refund.getRefundAmount() : 0L);
+        }
+        record(refund.getCreatedAt(), deltas);
+    }
+
+    /**
+     * 일반 회원이 호스트가 됨 (신규 호스트는 호스트 역할 회원의 가입일 기준)
+     */
+    public void hostRegistered(User user) {
+        record(user.getCreatedAt(), Map.of(Metric.NEW_HOSTS, 1L));
+    }
+
+    public void accommodationCreated(LocalDateTime createdAt) {
+        record(createdAt, Map.of(Metric.NEW_ACCOMMODATIONS, 1L));
+    }
+
+    /**
+     * 날짜별 카운터 값. 한 번도 집계 값으로 채워지지 않은 날짜면 null.
+     */
+    public Map<Metric, Long> read(LocalDate date) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key(date));
+        if (!entries.containsKey(SEEDED_FIELD)) {
+            return null;
+        }
+        Map<Metric, Long> values = new EnumMap<>(Metric.class);
+        for (Metric metric : Metric.values()) {
+            Object value = entries.get(metric.field());
+            values.put(metric, value != null ? Long.parseLong(value.toString()) : 0L);
+        }
+        return values;
+    }
+
+    /**
+     * 카운터를 집계 쿼리 값으로 채운다. 이미 채워진 날짜면 아무것도 하지 않는다 (다른 노드와 경쟁 시 먼저 잡은 쪽만).
+     * 채우기 전 증감은 버려지므로 집계 값을 그대로(절대값) 쓴다. 집계 쿼리와 채우기 사이에 커밋된 쓰기는
+     * 빠질 수 있으며 야간 검증이 바로잡는다.
+     */
+    public boolean seed(LocalDate date, PlatformDailyStatsRow row) {
+        Map<Metric, Long> values = new EnumMap<>(Metric.class);
+        values.put(Metric.NEW_HOSTS, orZero(row.newHosts()));
+        values.put(Metric.NEW_ACCOMMODATIONS, orZero(row.newAccommodations()));
+        values.put(Metric.TOTAL_RESERVATIONS, orZero(row.totalReservations()));
+        values.put(Metric.RESERVATIONS_SUCCESS, orZero(row.reservationsSuccess()));
+        values.put(Metric.RESERVATIONS_FAILED, orZero(row.reservationsFailed()));
+        values.put(Metric.CANCEL_COUNT, orZero(row.cancelCount()));
+        values.put(Metric.TOTAL_REVENUE, orZero(row.totalRevenue()));
+        values.put(Metric.REFUND_COUNT, orZero(row.refundCount()));
+        values.put(Metric.REFUND_AMOUNT, orZero(row.refundAmount()));
+        Long seeded = stringRedisTemplate.execute(SEED_SCRIPT, List.of(key(date)), scriptArgs(values));
+        return seeded != null && seeded == 1L;
+    }
+
+    public void clear(LocalDate date) {
+        stringRedisTemplate.delete(key(date));
+    }
+
+    static Map<Metric, Long> reservationDeltas(Integer fromPayment, Integer fromReservation,
+                                               Integer toPayment, Integer toReservation) {
+        Map<Metric, Long> deltas = new EnumMap<>(Metric.class);
+        addTransition(deltas, Metric.RESERVATIONS_SUCCESS, isPaid(fromPayment), isPaid(toPayment));
+        addTransition(deltas, Metric.RESERVATIONS_FAILED, isFailed(fromPayment), isFailed(toPayment));
+        addTransition(deltas, Metric.CANCEL_COUNT, isCanceled(fromReservation), isCanceled(toReservation));
+        return deltas;
+    }
+
+    private static void addTransition(Map<Metric, Long> deltas, Metric metric, boolean before, boolean after) {
+        if (before != after) {
+            deltas.put(metric, after ? 1L : -1L);
+        }
+    }
+
+    private static boolean isPaid(Integer paymentStatus) {
+        return paymentStatus != null && paymentStatus == 1;
+    }
+
+    private static boolean isFailed(Integer paymentStatus) {
+        return paymentStatus != null && (paymentStatus == 2 || paymentStatus == 3);
+    }
+
+    private static boolean isCanceled(Integer reservationStatus) {
+        return reservationStatus != null && reservationStatus == 9;
+    }
+
+    private void record(LocalDateTime createdAt, Map<Metric, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        LocalDate date = createdAt != null ? createdAt.toLocalDate() : LocalDate.now();
+        Map<Metric, Long> snapshot = new LinkedHashMap<>(deltas);
+        Runnable apply = () -> {
+            try {
+                increment(key(date), snapshot);
+            } catch (Exception e) {
+                log.warn("Failed to update platform stats counter for {}: {}", date, e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private void increment(String key, Map<Metric, Long> deltas) {
+        Map<Metric, Long> nonZero = new EnumMap<>(Metric.class);
+        deltas.forEach((metric, delta) -> {
+            if (delta != 0) {
+                nonZero.put(metric, delta);
+            }
+        });
+        if (!nonZero.isEmpty()) {
+            stringRedisTemplate.execute(RECORD_SCRIPT, List.of(key), scriptArgs(nonZero));
+        }
+    }
+
+    private static Object[] scriptArgs(Map<Metric, Long> values) {
+        List<String> args = new ArrayList<>(1 + values.size() * 2);
+        args.add(String.valueOf(RETENTION.toSeconds()));
+        values.forEach((metric, value) -> {
+            args.add(metric.field());
+            args.add(String.valueOf(value));
+        });
+        return args.toArray();
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static String key(LocalDate date) {
+        return String.format(COUNTER_KEY, date);
+    }
+}
@@ -18,6 +18,7 @@ import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserSocialRepository;
 import com.ssg9th2team.geharbang.domain.theme.entity.Theme;
 import com.ssg9th2team.geharbang.domain.theme.repository.ThemeRepository;
+import com.ssg9th2team.geharbang.global.security.CustomUserDetails;
 import com.ssg9th2team.geharbang.global.security.JwtTokenProvider;
 import com.ssg9th2team.geharbang.global.service.EmailService;
 import com.ssg9th2team.geharbang.global.util.VerificationCodeService;
@@ -210,8 +211,9 @@ public class AuthServiceImpl implements AuthService {
 
     // 사용자 토큰 생성
     private TokenResponse createUserToken(User user) {
+        // 토큰에 사용자 ID 클레임이 담기도록 CustomUserDetails 를 principal 로 사용 (getName() 은 이메일 그대로)
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user.getEmail(),
+                new CustomUserDetails(user),
                 null,
                 Collections.singleton(new SimpleGrantedAuthority(user.getRole().getKey())));
 
@@ -282,8 +284,8 @@ public class AuthServiceImpl implements AuthService {
             throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
         }
 
-        // 2. Refresh Token에서 사용자 정보 추출
-        Authentication authentication = jwtTokenProvider.getAuthentication(refreshToken);
+        // 2. Refresh Token에서 사용자 정보 추출 (권한 변경이 반영되도록 DB 에서 다시 조회)
+        Authentication authentication = jwtTokenProvider.getAuthenticationWithUser(refreshToken);
 
         // 3. 새로운 Access Token 생성
         String newAccessToken = jwtTokenProvider.generateAccessToken(authentication);
@@ -1,8 +1,8 @@
 package com.ssg9th2team.geharbang.domain.booking.host.support;
 
-import com.ssg9th2team.geharbang.domain.auth.entity.User;
 import com.ssg9th2team.geharbang.domain.auth.entity.UserRole;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.common.resolver.UserIdentityResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
@@ -14,28 +14,33 @@ import org.springframework.stereotype.Component;
 public class HostIdentityResolver {
 
     private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
 
     public Long resolveHostUserId(Authentication authentication) {
         if (authentication == null) {
             throw new AccessDeniedException("HOST role required");
         }
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        if (!hasHostRole(authentication, user)) {
+        Long userId = userIdentityResolver.findUserId(authentication);
+        if (userId == null) {
+            throw new IllegalArgumentException("User not found");
+        }
+        if (!hasHostRole(authentication, userId)) {
             throw new AccessDeniedException("HOST role required");
         }
         // 현재 구조에서 hostUserId는 userId와 동일하다.
-        return user.getId();
+        return userId;
     }
 
-    private boolean hasHostRole(Authentication authentication, User user) {
+    private boolean hasHostRole(Authentication authentication, Long userId) {
         if (authentication.getAuthorities() != null) {
             boolean allowed = authentication.getAuthorities().stream()
                     .map(GrantedAuthority::getAuthority)
                     .anyMatch(role -> "ROLE_HOST".equals(role) || "HOST".equals(role));
             if (allowed) return true;
         }
-        return user.getRole() == UserRole.HOST;
+        // 토큰 발급 후 호스트로 승인된 경우 권한 정보가 오래됐을 수 있어 DB 로 확인한다
+        return userRepository.findById(userId)
+                .map(user -> user.getRole() == UserRole.HOST)
+                .orElse(false);
     }
 }
@@ -0,0 +1,11 @@
+package com.ssg9th2team.geharbang.domain.chat.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ChatHistoryRequest {
+    private String cursor; // 이전 페이지의 nextCursor (없으면 최신 페이지)
+    private Integer size;
+}
@@ -21,6 +21,19 @@ public class ChatMessageDto {
     private LocalDateTime createdAt;
     private Boolean isRead;
 
+    // 읽음 워터마크로 계산한 읽음 여부를 반영한 복사본
+    public ChatMessageDto withRead(boolean read) {
+        return ChatMessageDto.builder()
+                .id(id)
+                .chatRoomId(chatRoomId)
+                .senderUserId(senderUserId)
+                .senderName(senderName)
+                .messageContent(messageContent)
+                .createdAt(createdAt)
+                .isRead(read)
+                .build();
+    }
+
     public static ChatMessageDto fromEntity(RealtimeChatMessage message) {
         return ChatMessageDto.builder()
                 .id(message.getId())
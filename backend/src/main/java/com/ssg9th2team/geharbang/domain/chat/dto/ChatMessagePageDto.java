@@ -0,0 +1,20 @@
+package com.ssg9th2team.geharbang.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 페이지 (REST / STOMP 공통 응답)
+ * messages 는 시간순(오래된 → 최신), nextCursor 로 더 과거 페이지를 요청한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessagePageDto {
+    private List<ChatMessageDto> messages;
+    private String nextCursor;
+    private boolean hasMore;
+}
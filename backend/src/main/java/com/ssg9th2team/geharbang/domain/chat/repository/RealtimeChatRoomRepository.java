@@ -2,6 +2,8 @@ package com.ssg9th2team.geharbang.domain.chat.repository;
 
 import com.ssg9th2team.geharbang.domain.chat.RealtimeChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +12,7 @@ public interface RealtimeChatRoomRepository extends JpaRepository<RealtimeChatRo
     Optional<RealtimeChatRoom> findByReservationId(Long reservationId);
 
     List<RealtimeChatRoom> findByGuestUserIdOrHostUserId(Long guestUserId, Long hostUserId);
+
+    @Query("select r.id from RealtimeChatRoom r where r.guestUserId = :userId or r.hostUserId = :userId")
+    List<Long> findRoomIdsByParticipant(@Param("userId") Long userId);
 }
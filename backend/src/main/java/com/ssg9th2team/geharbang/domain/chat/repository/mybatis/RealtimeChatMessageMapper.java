@@ -0,0 +1,19 @@
+package com.ssg9th2team.geharbang.domain.chat.repository.mybatis;
+
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface RealtimeChatMessageMapper {
+
+    // 채팅 메시지 멀티 로우 적재 (Redis 메시지 ID 그대로 사용, 재적재 시 무시)
+    int insertIgnoreBatch(@Param("messages") List<ChatMessageDto> messages);
+
+    // 아카이브 메시지 과거 방향 조회 (id 내림차순)
+    List<ChatMessageDto> selectArchivedBefore(@Param("roomId") Long roomId,
+                                              @Param("beforeId") long beforeId,
+                                              @Param("limit") int limit);
+}
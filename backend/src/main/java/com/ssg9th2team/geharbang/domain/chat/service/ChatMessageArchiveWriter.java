@@ -0,0 +1,163 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
+import com.ssg9th2team.geharbang.domain.chat.repository.mybatis.RealtimeChatMessageMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 MySQL write-behind 적재
+ *
+ * <p>메시지 저장 시 Redis ZSET 과 함께 chat:archive:queue 에 적재하고,
+ * 이 writer 가 flush-delay-ms 마다 최대 batch-size 건을 처리 중 목록(chat:archive:processing)으로 옮긴 뒤
+ * multi-row INSERT 로 저장하고, INSERT 가 끝난 후에야 처리 중 목록을 지운다(ack).
+ * <ul>
+ *   <li>메시지 ID 를 PK 로 그대로 사용하고 INSERT IGNORE 하므로 재시도 시 중복 적재되지 않음</li>
+ *   <li>처리 중 배치는 리스(lease-ms)로 소유자를 표시하며, 한 번에 한 배치만 처리 중일 수 있음</li>
+ *   <li>적재 실패 시 리스만 풀어 다음 flush 가 같은 배치를 먼저 재시도하고,
+ *       노드가 적재 도중 죽으면 리스 만료 후 다른 노드가 처리 중 목록을 넘겨받아 재처리 → 배치 유실 없음</li>
+ *   <li>적재가 끝난 방은 Redis 에 최근 keep-per-room 건만 남기고 정리 → Redis 메모리 상한 유지.
+ *       대기열이 FIFO 이고 처리 중 배치가 하나뿐이므로, 정리 시점에는 그보다 앞선 메시지가 모두 적재되어 있음</li>
+ * </ul>
+ * 과거 메시지는 RedisChatMessageService.getMessagePage 가 Redis 다음으로 MySQL 에서 이어서 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageArchiveWriter {
+
+    public static final String ARCHIVE_QUEUE_KEY = "chat:archive:queue";
+    static final String PROCESSING_KEY = "chat:archive:processing";
+    static final String LEASE_KEY = "chat:archive:processing:lease";
+
+    // 주인 없는(리스 만료) 처리 중 배치가 있으면 넘겨받고, 비어 있으면 대기열에서 최대 ARGV[1] 건을 옮긴다
+    private static final byte[] CLAIM_SCRIPT = (
+            "if redis.call('LLEN', KEYS[2]) > 0 then "
+                    + "if redis.call('EXISTS', KEYS[3]) == 1 then return {} end "
+                    + "redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[3]) "
+                    + "return redis.call('LRANGE', KEYS[2], 0, -1) "
+                    + "end "
+                    + "local items = redis.call('LPOP', KEYS[1], ARGV[1]) "
+                    + "if not items then return {} end "
+                    + "redis.call('RPUSH', KEYS[2], unpack(items)) "
+                    + "redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[3]) "
+                    + "return items").getBytes(StandardCharsets.UTF_8);
+
+    // 리스를 가진 노드만 처리 중 배치를 지운다 (적재 완료)
+    static final DefaultRedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end "
+                    + "redis.call('DEL', KEYS[1], KEYS[2]) "
+                    + "return 1",
+            Long.class);
+
+    // 리스만 풀어 다음 flush 가 처리 중 배치를 다시 가져가게 한다 (적재 실패)
+    static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+                    + "return redis.call('DEL', KEYS[1])",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RealtimeChatMessageMapper realtimeChatMessageMapper;
+    private final RedisChatMessageService redisChatMessageService;
+    private final ChatMessageCodec chatMessageCodec;
+
+    @Value("${chat.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.archive.keep-per-room:200}")
+    private int keepPerRoom;
+
+    // 한 배치 INSERT 에 걸리는 시간보다 충분히 길어야 한다
+    @Value("${chat.archive.lease-ms:60000}")
+    private long leaseMs;
+
+    @Scheduled(fixedDelayString = "${chat.archive.flush-delay-ms:300}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+        List<byte[]> payloads = claimBatch(token);
+        if (payloads == null || payloads.isEmpty()) {
+            return;
+        }
+
+        List<ChatMessageDto> messages = new ArrayList<>(payloads.size());
+        for (byte[] payload : payloads) {
+            try {
+                messages.add(chatMessageCodec.decode(payload, null));
+            } catch (IllegalArgumentException e) {
+                log.error("Dropping malformed chat archive payload ({} bytes)", payload.length, e);
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            try {
+                int inserted = realtimeChatMessageMapper.insertIgnoreBatch(messages);
+                log.debug("Archived {} chat messages to MySQL ({} new)", messages.size(), inserted);
+            } catch (Exception e) {
+                log.error("Chat archive flush failed. Keeping {} messages for retry", payloads.size(), e);
+                stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), token);
+                return;
+            }
+        }
+
+        Long acked = stringRedisTemplate.execute(ACK_SCRIPT, List.of(PROCESSING_KEY, LEASE_KEY), token);
+        if (acked == null || acked == 0) {
+            // 리스가 만료되어 다른 노드가 같은 배치를 넘겨받음 (INSERT IGNORE 라 중복 적재는 없음)
+            log.warn("Chat archive lease expired before ack ({} messages)", payloads.size());
+        }
+
+        trimArchivedRooms(messages);
+    }
+
+    private List<byte[]> claimBatch(String token) {
+        byte[][] keysAndArgs = {
+                bytes(ARCHIVE_QUEUE_KEY), bytes(PROCESSING_KEY), bytes(LEASE_KEY),
+                bytes(String.valueOf(batchSize)), bytes(token), bytes(String.valueOf(leaseMs))
+        };
+        return stringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.scriptingCommands().eval(CLAIM_SCRIPT, ReturnType.MULTI, 3, keysAndArgs));
+    }
+
+    private void trimArchivedRooms(List<ChatMessageDto> messages) {
+        Map<Long, Double> archivedScoreByRoom = new HashMap<>();
+        for (ChatMessageDto message : messages) {
+            if (message.getId() == null && message.getCreatedAt() == null) {
+                continue;
+            }
+            archivedScoreByRoom.merge(message.getChatRoomId(),
+                    RedisChatMessageService.scoreOf(message), Math::max);
+        }
+
+        archivedScoreByRoom.forEach((roomId, archivedScore) -> {
+            try {
+                redisChatMessageService.trimArchivedMessages(roomId, archivedScore, keepPerRoom);
+            } catch (Exception e) {
+                log.warn("Failed to trim archived messages for room {}: {}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
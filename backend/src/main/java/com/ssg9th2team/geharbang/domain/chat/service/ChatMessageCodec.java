@@ -0,0 +1,206 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 채팅 메시지 Redis 저장/노드 간 pub/sub 용 압축 바이너리 인코딩
+ *
+ * <p>JSON 대신 버전 바이트 + 필드 존재 비트 + 가변 길이 정수(varint) 로 기록한다.
+ * 채팅방 ID 는 ZSET 키/채널명에 이미 있으므로 필요할 때만 넣고, 읽음 여부는 워터마크로 계산하므로 넣지 않는다.
+ * JSON 변환은 STOMP 로 내보내는 시점(RedisSubscriber)에서만 한다.
+ * <pre>
+ *   [0xC1][flags][id][chatRoomId?][senderUserId][createdAt epoch ms][senderName][messageContent]
+ * </pre>
+ * 첫 바이트 0xC1 은 UTF-8 에서 나올 수 없는 값이라 기존 JSON 형식 데이터와 구분되며, 기존 데이터도 읽을 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessageCodec {
+
+    static final byte VERSION_1 = (byte) 0xC1;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_ROOM_ID = 1 << 1;
+    private static final int HAS_SENDER_ID = 1 << 2;
+    private static final int HAS_CREATED_AT = 1 << 3;
+    private static final int HAS_SENDER_NAME = 1 << 4;
+    private static final int HAS_CONTENT = 1 << 5;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param includeRoomId 채팅방 ID 포함 여부 (키/채널로 알 수 없는 아카이브 대기열에서만 포함)
+     */
+    public byte[] encode(ChatMessageDto message, boolean includeRoomId) {
+        int flags = (message.getId() != null ? HAS_ID : 0)
+                | (includeRoomId && message.getChatRoomId() != null ? HAS_ROOM_ID : 0)
+                | (message.getSenderUserId() != null ? HAS_SENDER_ID : 0)
+                | (message.getCreatedAt() != null ? HAS_CREATED_AT : 0)
+                | (message.getSenderName() != null ? HAS_SENDER_NAME : 0)
+                | (message.getMessageContent() != null ? HAS_CONTENT : 0);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 + lengthHint(message));
+        out.write(VERSION_1);
+        out.write(flags);
+        if ((flags & HAS_ID) != 0) {
+            writeVarLong(out, message.getId());
+        }
+        if ((flags & HAS_ROOM_ID) != 0) {
+            writeVarLong(out, message.getChatRoomId());
+        }
+        if ((flags & HAS_SENDER_ID) != 0) {
+            writeVarLong(out, message.getSenderUserId());
+        }
+        if ((flags & HAS_CREATED_AT) != 0) {
+            writeVarLong(out, message.getCreatedAt().atZone(KST).toInstant().toEpochMilli());
+        }
+        if ((flags & HAS_SENDER_NAME) != 0) {
+            writeString(out, message.getSenderName());
+        }
+        if ((flags & HAS_CONTENT) != 0) {
+            writeString(out, message.getMessageContent());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 압축 인코딩 또는 기존 JSON 형식(문자열로 한 번 감싼 JSON 포함)을 읽는다.
+     *
+     * @param roomId 키/채널에서 얻은 채팅방 ID (인코딩에 포함돼 있으면 그 값을 사용)
+     */
+    public ChatMessageDto decode(byte[] bytes, Long roomId) {
+        if (bytes == null || bytes.length == 0) {
+            throw new IllegalArgumentException("Empty chat message payload");
+        }
+        if (bytes[0] != VERSION_1) {
+            return decodeLegacyJson(bytes, roomId);
+        }
+
+        Reader reader = new Reader(bytes);
+        int flags = reader.readByte();
+        Long id = (flags & HAS_ID) != 0 ? reader.readVarLong() : null;
+        Long chatRoomId = (flags & HAS_ROOM_ID) != 0 ? reader.readVarLong() : roomId;
+        Long senderUserId = (flags & HAS_SENDER_ID) != 0 ? reader.readVarLong() : null;
+        LocalDateTime createdAt = (flags & HAS_CREATED_AT) != 0
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.readVarLong()), KST)
+                : null;
+        String senderName = (flags & HAS_SENDER_NAME) != 0 ? reader.readString() : null;
+        String content = (flags & HAS_CONTENT) != 0 ? reader.readString() : null;
+
+        return ChatMessageDto.builder()
+                .id(id)
+                .chatRoomId(chatRoomId)
+                .senderUserId(senderUserId)
+                .senderName(senderName)
+                .messageContent(content)
+                .createdAt(createdAt)
+                .isRead(false)
+                .build();
+    }
+
+    /**
+     * 압축 인코딩된 메시지인지 여부
+     */
+    public static boolean isEncoded(byte[] bytes) {
+        return bytes != null && bytes.length > 0 && bytes[0] == VERSION_1;
+    }
+
+    // 기존 형식: ZSET 멤버는 GenericJackson2JsonRedisSerializer 가 JSON 을 문자열로 한 번 더 감싼 값, 대기열은 JSON 그대로
+    private ChatMessageDto decodeLegacyJson(byte[] bytes, Long roomId) {
+        try {
+            String json = bytes[0] == '"'
+                    ? objectMapper.readValue(bytes, String.class)
+                    : new String(bytes, StandardCharsets.UTF_8);
+            ChatMessageDto message = objectMapper.readValue(json, ChatMessageDto.class);
+            if (message.getChatRoomId() == null && roomId != null) {
+                return ChatMessageDto.builder()
+                        .id(message.getId())
+                        .chatRoomId(roomId)
+                        .senderUserId(message.getSenderUserId())
+                        .senderName(message.getSenderName())
+                        .messageContent(message.getMessageContent())
+                        .createdAt(message.getCreatedAt())
+                        .isRead(message.getIsRead())
+                        .build();
+            }
+            return message;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed chat message payload", e);
+        }
+    }
+
+    private static int lengthHint(ChatMessageDto message) {
+        int length = 0;
+        if (message.getSenderName() != null) {
+            length += message.getSenderName().length() * 3;
+        }
+        if (message.getMessageContent() != null) {
+            length += message.getMessageContent().length() * 3;
+        }
+        return length;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, utf8.length);
+        out.write(utf8, 0, utf8.length);
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position = 1; // 버전 바이트 다음부터
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Truncated chat message payload");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in chat message payload");
+        }
+
+        private String readString() {
+            long length = readVarLong();
+            if (length < 0 || length > bytes.length - position) {
+                throw new IllegalArgumentException("Truncated chat message payload");
+            }
+            String value = new String(bytes, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+    }
+}
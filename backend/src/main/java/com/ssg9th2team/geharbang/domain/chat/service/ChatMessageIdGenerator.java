@@ -0,0 +1,188 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 ID 생성기 (Snowflake 방식)
+ *
+ * <p>ID 는 Redis ZSET score 로도 그대로 쓰기 때문에 double 로 정확히 표현되는 53비트 안에 배치한다.
+ * <pre>
+ *   [ epoch millis (42) ][ node (4) ][ sequence (7) ]
+ * </pre>
+ * <ul>
+ *   <li>Unix epoch 기준이라 기존 ID(millis * 1000 + random)보다 항상 크다 → 기존 메시지 뒤에 정렬</li>
+ *   <li>노드당 ms 당 128개, 최대 16개 노드. 시계가 뒤로 가거나 시퀀스가 넘치면 논리 시계로 진행 (단조 증가)</li>
+ *   <li>노드 번호는 chat.message-id.node-id 로 지정하거나, 미지정 시 Redis INCR + 임대(SET NX EX) 로 할당</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ChatMessageIdGenerator {
+
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 7;
+    static final int MAX_NODES = 1 << NODE_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    // 이 값 이상이면 이 생성기가 만든 ID (2025-01-01T00:00Z 기준). 그 미만은 기존 millis * 1000 + random 형식
+    public static final long GENERATED_ID_FLOOR = 1735689600000L << TIMESTAMP_SHIFT;
+
+    private static final String NODE_SEQ_KEY = "chat:message-id:node-seq";
+    private static final String NODE_LEASE_KEY_PREFIX = "chat:message-id:node:";
+
+    // 임대 연장: 내 토큰일 때만 TTL 갱신
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+                    + "return 0",
+            Long.class);
+
+    // 임대 반납: 내 토큰일 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('DEL', KEYS[1]) end "
+                    + "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int configuredNodeId;
+    private final Duration leaseTtl;
+    private final String leaseToken = UUID.randomUUID().toString();
+
+    private volatile long nodeId = -1;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public ChatMessageIdGenerator(StringRedisTemplate stringRedisTemplate,
+                                  @Value("${chat.message-id.node-id:-1}") int configuredNodeId,
+                                  @Value("${chat.message-id.lease-seconds:60}") long leaseSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.configuredNodeId = configuredNodeId;
+        this.leaseTtl = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (configuredNodeId >= 0) {
+            if (configuredNodeId >= MAX_NODES) {
+                throw new IllegalStateException("chat.message-id.node-id must be < " + MAX_NODES);
+            }
+            nodeId = configuredNodeId;
+            log.info("Chat message id node: {} (configured)", nodeId);
+            return;
+        }
+        try {
+            acquireLease();
+        } catch (Exception e) {
+            // Redis 가 아직 준비되지 않았다면 첫 발급 시점에 다시 임대한다
+            log.warn("Chat message id node lease deferred: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새 메시지 ID
+     */
+    public long nextId() {
+        return nextIdAfter(0L);
+    }
+
+    /**
+     * floor 보다 큰 새 메시지 ID
+     * 다른 노드의 시계가 앞서 있어 채팅방 최신 ID 보다 작은 ID 가 나왔을 때 방 내 순서를 보장하기 위해 사용한다.
+     */
+    public synchronized long nextIdAfter(long floor) {
+        if (nodeId < 0) {
+            acquireLease();
+        }
+        long node = nodeId;
+
+        long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+        if (floor > 0) {
+            timestamp = Math.max(timestamp, floor >>> TIMESTAMP_SHIFT);
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 이번 ms 시퀀스 소진 → 다음 ms 로 논리 진행
+                timestamp++;
+            }
+        } else {
+            sequence = 0L;
+        }
+        lastTimestamp = timestamp;
+
+        long id = (timestamp << TIMESTAMP_SHIFT) | (node << SEQUENCE_BITS) | sequence;
+        if (id <= floor) {
+            // floor 와 같은 ms 에서 더 작은 조합이 나온 경우 다음 ms 로 넘긴다
+            lastTimestamp = timestamp + 1;
+            sequence = 0L;
+            id = (lastTimestamp << TIMESTAMP_SHIFT) | (node << SEQUENCE_BITS);
+        }
+        return id;
+    }
+
+    /**
+     * 이 생성기가 만든 ID 인지 여부 (기존 millis * 1000 + random 형식과 구분)
+     */
+    public static boolean isGeneratedId(long id) {
+        return id >= GENERATED_ID_FLOOR;
+    }
+
+    /**
+     * 해당 시각(epoch millis)에 발급될 수 있는 가장 작은 ID (score 범위 조회용)
+     */
+    public static long minIdAt(long epochMillis) {
+        return epochMillis << TIMESTAMP_SHIFT;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.message-id.lease-renew-ms:20000}")
+    public void renewLease() {
+        if (configuredNodeId >= 0 || nodeId < 0) {
+            return;
+        }
+        Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT,
+                List.of(NODE_LEASE_KEY_PREFIX + nodeId), leaseToken, String.valueOf(leaseTtl.toMillis()));
+        if (renewed == null || renewed == 0) {
+            // 임대를 잃었다면 다른 노드가 같은 번호를 쓸 수 있으므로 새 번호를 받는다
+            log.warn("Chat message id node lease {} lost. Re-acquiring", nodeId);
+            acquireLease();
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (configuredNodeId >= 0 || nodeId < 0) {
+            return;
+        }
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(NODE_LEASE_KEY_PREFIX + nodeId), leaseToken);
+    }
+
+    private synchronized void acquireLease() {
+        Long start = stringRedisTemplate.opsForValue().increment(NODE_SEQ_KEY);
+        long base = start == null ? 0 : start;
+        for (int i = 0; i < MAX_NODES; i++) {
+            long candidate = Math.floorMod(base + i, MAX_NODES);
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(NODE_LEASE_KEY_PREFIX + candidate, leaseToken, leaseTtl);
+            if (Boolean.TRUE.equals(acquired)) {
+                nodeId = candidate;
+                log.info("Chat message id node: {} (leased)", nodeId);
+                return;
+            }
+        }
+        throw new IllegalStateException("No chat message id node available (max " + MAX_NODES + ")");
+    }
+}
@@ -0,0 +1,132 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 새 메시지 알림(/topic/user/{id}/notifications) 묶음 전송
+ *
+ * <p>메시지마다 바로 보내지 않고 사용자별로 coalesce-window-ms 동안 모아, 방별 최신 상태 하나씩만 담아 한 번에 보낸다.
+ * 창 동안 한 방에서만 알림이 쌓였으면 기존과 같은 NEW_MESSAGE 한 건, 여러 방이면 NEW_MESSAGE_BATCH 한 건으로 보낸다.
+ * coalesce-window-ms 가 0 이하면 묶지 않고 즉시 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatNotificationCoalescer {
+
+    static final String TYPE_NEW_MESSAGE = "NEW_MESSAGE";
+    static final String TYPE_NEW_MESSAGE_BATCH = "NEW_MESSAGE_BATCH";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 사용자 ID -> (방 ID -> 대기 중인 최신 알림), 방 순서는 마지막 갱신 순
+    private final Map<Long, LinkedHashMap<Long, PendingNotification>> pending = new ConcurrentHashMap<>();
+
+    @Value("${chat.notification.coalesce-window-ms:150}")
+    private long coalesceWindowMs;
+
+    @Value("${chat.notification.scheduler-pool-size:1}")
+    private int schedulerPoolSize;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    @PostConstruct
+    void init() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(schedulerPoolSize);
+        scheduler.setThreadNamePrefix("chat-notify-");
+        scheduler.initialize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 종료 전에 대기 중인 알림은 모두 보낸다
+        new ArrayList<>(pending.keySet()).forEach(this::flush);
+        scheduler.shutdown();
+    }
+
+    /**
+     * 새 메시지 알림 등록. 같은 방의 알림이 대기 중이면 더 최신 메시지의 상태로 덮어쓴다.
+     */
+    public void notifyNewMessage(Long userId, Long roomId, Long messageId, long unreadCount,
+                                 String lastMessage, LocalDateTime lastMessageTime, String senderName) {
+        Map<String, Object> notification = new HashMap<>();
+        notification.put("type", TYPE_NEW_MESSAGE);
+        notification.put("roomId", roomId);
+        notification.put("unreadCount", unreadCount);
+        notification.put("lastMessage", lastMessage);
+        notification.put("lastMessageTime", lastMessageTime.toString());
+        notification.put("senderName", senderName);
+
+        if (coalesceWindowMs <= 0) {
+            send(userId, notification);
+            return;
+        }
+
+        long orderKey = messageId != null ? messageId : Long.MIN_VALUE;
+        boolean[] firstInWindow = {false};
+        pending.compute(userId, (id, rooms) -> {
+            if (rooms == null) {
+                rooms = new LinkedHashMap<>();
+                firstInWindow[0] = true;
+            }
+            PendingNotification previous = rooms.get(roomId);
+            // 동시 저장으로 늦게 도착한 이전 메시지가 최신 상태를 덮어쓰지 않도록 메시지 ID 로 비교
+            if (previous == null || previous.messageId() <= orderKey) {
+                rooms.remove(roomId);
+                rooms.put(roomId, new PendingNotification(orderKey, notification));
+            }
+            return rooms;
+        });
+
+        if (firstInWindow[0]) {
+            scheduler.schedule(() -> flush(userId), Instant.now().plusMillis(coalesceWindowMs));
+        }
+    }
+
+    /**
+     * 사용자의 대기 알림을 꺼내 한 번에 전송
+     */
+    void flush(Long userId) {
+        LinkedHashMap<Long, PendingNotification> rooms = pending.remove(userId);
+        if (rooms == null || rooms.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (rooms.size() == 1) {
+                send(userId, rooms.values().iterator().next().payload());
+                return;
+            }
+            List<Map<String, Object>> notifications = new ArrayList<>(rooms.size());
+            rooms.values().forEach(notification -> notifications.add(notification.payload()));
+            send(userId, Map.of("type", TYPE_NEW_MESSAGE_BATCH, "notifications", notifications));
+        } catch (Exception e) {
+            log.warn("Failed to send coalesced notification to user {}", userId, e);
+        }
+    }
+
+    private void send(Long userId, Map<String, Object> payload) {
+        log.debug("Sending notification to user {}: {}", userId, payload);
+        messagingTemplate.convertAndSend("/topic/user/" + userId + "/notifications", payload);
+    }
+
+    private record PendingNotification(long messageId, Map<String, Object> payload) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.ssg9th2team.geharbang.global.config.WebSocketConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 STOMP 구독 현황에 맞춰 채팅방별 Redis 채널을 동적으로 구독/해제한다.
+ *
+ * <p>/topic/chatroom/{roomId} 첫 구독자가 생기면 chatroom:{roomId} 채널을 구독하고,
+ * 마지막 구독자가 나가면(UNSUBSCRIBE / 연결 종료) 구독을 해제한다.
+ * 노드의 fan-out 비용이 전체 채팅 트래픽이 아닌 로컬 구독자 수에 비례하게 된다.
+ * 외부 STOMP 브로커 relay 모드에서는 브로커가 직접 fan-out 하므로 Redis 채널을 구독하지 않는다.
+ *
+ * <p>구독 수 증감과 0→1 / 1→0 전환 판단은 ConcurrentHashMap 원자 연산으로 하고,
+ * Redis SUBSCRIBE/UNSUBSCRIBE(네트워크 I/O)는 그 밖에서 방 단위 스트라이프 락으로 직렬화해 수행한다.
+ * 락 안에서는 그 시점의 구독 수를 다시 읽어 실제 채널 구독 상태를 맞추므로, 전환이 엇갈려도 최종 상태는 구독 수를 따른다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSubscriptionRegistry {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/chatroom/";
+    private static final int LOCK_STRIPES = 64;
+
+    private final RedisMessageListenerContainer redisMessageListener;
+    private final MessageListenerAdapter listenerAdapter;
+
+    @Value("${" + WebSocketConfig.BROKER_MODE_PROPERTY + ":simple}")
+    private String brokerMode;
+
+    // sessionId -> (subscriptionId -> roomId)
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    // roomId -> 이 노드의 구독 수
+    private final Map<Long, Integer> roomSubscriberCounts = new ConcurrentHashMap<>();
+
+    // 실제로 Redis 채널을 구독 중인 채팅방 (subscriptionLocks 안에서만 변경)
+    private final Set<Long> subscribedRooms = ConcurrentHashMap.newKeySet();
+
+    private final Object[] subscriptionLocks = createLocks();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        if (WebSocketConfig.isRelayMode(brokerMode)) {
+            return;
+        }
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = parseRoomId(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long previous = sessionSubscriptions
+                .computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), roomId);
+        if (previous != null) {
+            release(previous);
+        }
+        retain(roomId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long roomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (roomId != null) {
+            release(roomId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    /**
+     * 이 노드가 Redis 채널을 구독 중인 채팅방 수 (모니터링용)
+     */
+    public int getSubscribedRoomCount() {
+        return subscribedRooms.size();
+    }
+
+    private void retain(Long roomId) {
+        if (roomSubscriberCounts.merge(roomId, 1, Integer::sum) == 1) {
+            syncChannel(roomId);
+        }
+    }
+
+    private void release(Long roomId) {
+        Integer remaining = roomSubscriberCounts.computeIfPresent(roomId, (id, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            syncChannel(roomId);
+        }
+    }
+
+    /**
+     * 현재 구독 수에 맞춰 채팅방 Redis 채널을 구독/해제한다. 맵 연산(compute) 밖에서 호출한다.
+     */
+    private void syncChannel(Long roomId) {
+        synchronized (subscriptionLocks[Math.floorMod(roomId.hashCode(), LOCK_STRIPES)]) {
+            boolean wanted = roomSubscriberCounts.containsKey(roomId);
+            if (wanted && !subscribedRooms.contains(roomId)) {
+                redisMessageListener.addMessageListener(listenerAdapter, RedisPublisher.roomTopic(roomId));
+                subscribedRooms.add(roomId);
+                log.debug("Redis chat channel subscribed: room {}", roomId);
+            } else if (!wanted && subscribedRooms.remove(roomId)) {
+                redisMessageListener.removeMessageListener(listenerAdapter, RedisPublisher.roomTopic(roomId));
+                log.debug("Redis chat channel unsubscribed: room {}", roomId);
+            }
+        }
+    }
+
+    private static Object[] createLocks() {
+        Object[] locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(ROOM_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.ssg9th2team.geharbang.domain.auth.entity.User;
+import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.domain.chat.RealtimeChatRoom;
+import com.ssg9th2team.geharbang.domain.chat.repository.RealtimeChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 요약(마지막 메시지, 시각, 참여자별 안 읽은 수)을 Redis Hash 로 관리하는 서비스
+ *
+ * <p>메시지마다 realtime_chat_rooms 행을 갱신하던 방식 대신 Redis 에서 HINCRBY 로 갱신하고,
+ * 변경된 방 ID 를 dirty Set 에 모아 ChatRoomSummaryWriter 가 주기적으로 MySQL 에 배치 반영한다.
+ * <ul>
+ *   <li>chat:room:{id}:summary : lastMessageId / lastMessage / lastMessageTime / unread:{userId}</li>
+ *   <li>chat:room:{id}:members : 호스트/게스트 ID 와 닉네임 캐시 (메시지 전송 시 DB 조회 제거)</li>
+ *   <li>chat:room:summary:dirty : MySQL 반영 대기 중인 방 ID</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRoomSummaryService {
+
+    public static final String DIRTY_ROOMS_KEY = "chat:room:summary:dirty";
+    static final String FIELD_LAST_MESSAGE = "lastMessage";
+    static final String FIELD_LAST_MESSAGE_TIME = "lastMessageTime";
+    static final String FIELD_UNREAD_PREFIX = "unread:";
+
+    private static final String SUMMARY_KEY = "chat:room:%d:summary";
+    private static final String MEMBERS_KEY = "chat:room:%d:members";
+    private static final long SUMMARY_TTL_DAYS = 7;
+    private static final long MEMBERS_TTL_MINUTES = 60;
+
+    // 마지막 메시지는 더 큰 메시지 ID 일 때만 교체하고, 수신자 안 읽은 수는 HINCRBY 로 증가
+    private static final DefaultRedisScript<Long> RECORD_MESSAGE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'lastMessageId') "
+                    + "if (not current) or tonumber(current) < tonumber(ARGV[1]) then "
+                    + "redis.call('HSET', KEYS[1], 'lastMessageId', ARGV[1], 'lastMessage', ARGV[2], 'lastMessageTime', ARGV[3]) end "
+                    + "local unread = 0 "
+                    + "if ARGV[4] ~= '' then unread = redis.call('HINCRBY', KEYS[1], ARGV[4], 1) end "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[5]) "
+                    + "redis.call('SADD', KEYS[2], ARGV[6]) "
+                    + "return unread",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RealtimeChatRoomRepository chatRoomRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 채팅방 참여자 정보 (Redis 캐시, 없으면 DB 에서 읽어 캐시하고 요약을 DB 값으로 초기화)
+     */
+    public RoomParticipants getParticipants(Long roomId) {
+        String membersKey = String.format(MEMBERS_KEY, roomId);
+        Map<Object, Object> cached = stringRedisTemplate.opsForHash().entries(membersKey);
+        if (!cached.isEmpty()) {
+            return RoomParticipants.from(cached);
+        }
+
+        RealtimeChatRoom chatRoom = chatRoomRepository.findById(roomId)
+                .orElseThrow(() -> new IllegalArgumentException("Chat room not found"));
+        Map<Long, String> nicknames = new HashMap<>();
+        for (User user : userRepository.findAllById(List.of(chatRoom.getHostUserId(), chatRoom.getGuestUserId()))) {
+            nicknames.put(user.getId(), user.getNickname());
+        }
+
+        RoomParticipants participants = new RoomParticipants(
+                chatRoom.getHostUserId(), chatRoom.getGuestUserId(),
+                nicknames.get(chatRoom.getHostUserId()), nicknames.get(chatRoom.getGuestUserId()));
+        stringRedisTemplate.opsForHash().putAll(membersKey, participants.toHash());
+        stringRedisTemplate.expire(membersKey, MEMBERS_TTL_MINUTES, TimeUnit.MINUTES);
+
+        seedSummary(chatRoom);
+        return participants;
+    }
+
+    /**
+     * 새 메시지 반영 (마지막 메시지 갱신 + 수신자 안 읽은 수 증가)
+     *
+     * @param recipientUserId 수신자 ID (없으면 null)
+     * @return 수신자의 갱신된 안 읽은 수 (수신자가 없으면 0)
+     */
+    public long recordMessage(Long roomId, long messageId, String content, LocalDateTime createdAt, Long recipientUserId) {
+        Long unread = stringRedisTemplate.execute(RECORD_MESSAGE_SCRIPT,
+                List.of(String.format(SUMMARY_KEY, roomId), DIRTY_ROOMS_KEY),
+                String.valueOf(messageId),
+                content,
+                createdAt.toString(),
+                recipientUserId == null ? "" : FIELD_UNREAD_PREFIX + recipientUserId,
+                String.valueOf(TimeUnit.DAYS.toSeconds(SUMMARY_TTL_DAYS)),
+                roomId.toString());
+        return unread == null ? 0L : unread;
+    }
+
+    /**
+     * 읽음 처리 - 해당 참여자의 안 읽은 수를 0 으로
+     */
+    public void markRead(Long roomId, Long userId) {
+        String summaryKey = String.format(SUMMARY_KEY, roomId);
+        stringRedisTemplate.opsForHash().put(summaryKey, FIELD_UNREAD_PREFIX + userId, "0");
+        stringRedisTemplate.expire(summaryKey, SUMMARY_TTL_DAYS, TimeUnit.DAYS);
+        stringRedisTemplate.opsForSet().add(DIRTY_ROOMS_KEY, roomId.toString());
+    }
+
+    /**
+     * 여러 채팅방 요약을 파이프라인 HGETALL 한 번으로 조회
+     *
+     * @return roomId -> 요약 (Redis 에 요약이 없는 방은 제외)
+     */
+    public Map<Long, RoomSummary> getSummaries(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Long> ids = List.copyOf(roomIds);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long roomId : ids) {
+                connection.hashCommands().hGetAll(String.format(SUMMARY_KEY, roomId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Map<Long, RoomSummary> summaries = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (results.get(i) instanceof Map<?, ?> hash && !hash.isEmpty()) {
+                summaries.put(ids.get(i), RoomSummary.from(hash));
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * MySQL 반영 대기 중인 방 ID 를 최대 count 개 꺼낸다
+     */
+    public List<Long> popDirtyRoomIds(int count) {
+        List<String> popped = stringRedisTemplate.opsForSet().pop(DIRTY_ROOMS_KEY, count);
+        if (popped == null || popped.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return popped.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 반영 실패한 방 ID 를 다시 dirty Set 에 넣는다
+     */
+    public void requeueDirtyRoomIds(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForSet().add(DIRTY_ROOMS_KEY, roomIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    // 요약이 없을 때(배포 직후, TTL 만료) DB 에 반영된 값을 시작값으로 둔다. 이미 있는 필드는 덮어쓰지 않음
+    private void seedSummary(RealtimeChatRoom chatRoom) {
+        byte[] key = String.format(SUMMARY_KEY, chatRoom.getId()).getBytes(StandardCharsets.UTF_8);
+        Map<String, String> seed = new HashMap<>();
+        seed.put(FIELD_UNREAD_PREFIX + chatRoom.getHostUserId(), String.valueOf(nullToZero(chatRoom.getHostUnreadCount())));
+        seed.put(FIELD_UNREAD_PREFIX + chatRoom.getGuestUserId(), String.valueOf(nullToZero(chatRoom.getGuestUnreadCount())));
+        if (chatRoom.getLastMessage() != null && chatRoom.getLastMessageTime() != null) {
+            seed.put(FIELD_LAST_MESSAGE, chatRoom.getLastMessage());
+            seed.put(FIELD_LAST_MESSAGE_TIME, chatRoom.getLastMessageTime().toString());
+        }
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            seed.forEach((field, value) -> connection.hashCommands().hSetNX(key,
+                    field.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8)));
+            connection.keyCommands().expire(key, TimeUnit.DAYS.toSeconds(SUMMARY_TTL_DAYS));
+            return null;
+        });
+    }
+
+    private static int nullToZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * 채팅방 참여자
+     */
+    public record RoomParticipants(Long hostUserId, Long guestUserId, String hostName, String guestName) {
+
+        static RoomParticipants from(Map<Object, Object> hash) {
+            return new RoomParticipants(
+                    Long.valueOf(hash.get("hostUserId").toString()),
+                    Long.valueOf(hash.get("guestUserId").toString()),
+                    hash.containsKey("hostName") ? hash.get("hostName").toString() : null,
+                    hash.containsKey("guestName") ? hash.get("guestName").toString() : null);
+        }
+
+        Map<String, String> toHash() {
+            Map<String, String> hash = new HashMap<>();
+            hash.put("hostUserId", hostUserId.toString());
+            hash.put("guestUserId", guestUserId.toString());
+            if (hostName != null) {
+                hash.put("hostName", hostName);
+            }
+            if (guestName != null) {
+                hash.put("guestName", guestName);
+            }
+            return hash;
+        }
+
+        public boolean isParticipant(Long userId) {
+            return hostUserId.equals(userId) || guestUserId.equals(userId);
+        }
+
+        // 상대 참여자 ID (참여자가 아니면 null)
+        public Long otherOf(Long userId) {
+            if (hostUserId.equals(userId)) {
+                return guestUserId;
+            }
+            if (guestUserId.equals(userId)) {
+                return hostUserId;
+            }
+            return null;
+        }
+
+        public String nameOf(Long userId) {
+            if (hostUserId.equals(userId)) {
+                return hostName;
+            }
+            if (guestUserId.equals(userId)) {
+                return guestName;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 채팅방 요약 (Redis Hash)
+     */
+    public record RoomSummary(String lastMessage, LocalDateTime lastMessageTime, Map<Long, Integer> unreadCounts) {
+
+        static RoomSummary from(Map<?, ?> hash) {
+            Map<Long, Integer> unreadCounts = new HashMap<>();
+            String lastMessage = null;
+            LocalDateTime lastMessageTime = null;
+            for (Map.Entry<?, ?> entry : hash.entrySet()) {
+                String field = String.valueOf(entry.getKey());
+                String value = String.valueOf(entry.getValue());
+                if (field.startsWith(FIELD_UNREAD_PREFIX)) {
+                    unreadCounts.put(Long.valueOf(field.substring(FIELD_UNREAD_PREFIX.length())), Integer.valueOf(value));
+                } else if (FIELD_LAST_MESSAGE.equals(field)) {
+                    lastMessage = value;
+                } else if (FIELD_LAST_MESSAGE_TIME.equals(field)) {
+                    lastMessageTime = LocalDateTime.parse(value);
+                }
+            }
+            return new RoomSummary(lastMessage, lastMessageTime, unreadCounts);
+        }
+
+        // 요약에 해당 참여자 카운터가 없으면 null
+        public Integer unreadCountOf(Long userId) {
+            return unreadCounts.get(userId);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.ssg9th2team.geharbang.domain.chat.RealtimeChatRoom;
+import com.ssg9th2team.geharbang.domain.chat.repository.RealtimeChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 요약 MySQL write-behind 반영
+ *
+ * <p>ChatRoomSummaryService 가 dirty Set 에 모은 방 ID 를 flush-delay-ms 마다 최대 batch-size 개 꺼내
+ * Redis 요약(마지막 메시지, 시각, 안 읽은 수)을 realtime_chat_rooms 에 saveAll 로 반영한다.
+ * 반영 실패 시 꺼낸 방 ID 를 다시 dirty Set 에 넣어 다음 주기에 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSummaryWriter {
+
+    private final ChatRoomSummaryService chatRoomSummaryService;
+    private final RealtimeChatRoomRepository chatRoomRepository;
+
+    @Value("${chat.summary.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.summary.batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${chat.summary.flush-delay-ms:5000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> roomIds = chatRoomSummaryService.popDirtyRoomIds(batchSize);
+        if (roomIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Long, ChatRoomSummaryService.RoomSummary> summaries = chatRoomSummaryService.getSummaries(roomIds);
+            List<RealtimeChatRoom> rooms = chatRoomRepository.findAllById(summaries.keySet());
+            LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+            for (RealtimeChatRoom room : rooms) {
+                apply(room, summaries.get(room.getId()), now);
+            }
+            chatRoomRepository.saveAll(rooms);
+            log.debug("Flushed {} chat room summaries", rooms.size());
+        } catch (Exception e) {
+            log.error("Chat room summary flush failed. Re-queueing {} rooms", roomIds.size(), e);
+            chatRoomSummaryService.requeueDirtyRoomIds(roomIds);
+        }
+    }
+
+    private void apply(RealtimeChatRoom room, ChatRoomSummaryService.RoomSummary summary, LocalDateTime now) {
+        if (summary.lastMessage() != null) {
+            room.setLastMessage(summary.lastMessage());
+            room.setLastMessageTime(summary.lastMessageTime());
+        }
+        Integer hostUnread = summary.unreadCountOf(room.getHostUserId());
+        if (hostUnread != null) {
+            room.setHostUnreadCount(hostUnread);
+        }
+        Integer guestUnread = summary.unreadCountOf(room.getGuestUserId());
+        if (guestUnread != null) {
+            room.setGuestUnreadCount(guestUnread);
+        }
+        room.setUpdatedAt(now);
+    }
+}
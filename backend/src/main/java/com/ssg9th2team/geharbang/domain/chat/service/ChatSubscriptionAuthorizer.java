@@ -0,0 +1,146 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssg9th2team.geharbang.domain.chat.repository.RealtimeChatRoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 채팅 STOMP 구독 권한 확인
+ *
+ * <p>StompHandler 가 SUBSCRIBE 마다 호출한다. 아래 목적지 외에는 모두 거부한다.
+ * <ul>
+ *   <li>/topic/chatroom/{roomId} : 채팅방 참여자(호스트/게스트)만 구독 가능</li>
+ *   <li>/topic/user/{userId}/... : 본인 채널만 구독 가능</li>
+ *   <li>/user/... : 세션 사용자에게만 전달되는 사용자 목적지</li>
+ * </ul>
+ * 브로커는 구독 목적지를 패턴으로 해석하므로(SimpleBroker 의 Ant 패턴, relay 브로커의 와일드카드)
+ * 와일드카드 문자가 들어간 목적지는 어떤 경우에도 허용하지 않는다.
+ * 사용자별 참여 채팅방 ID 목록을 Caffeine 로컬 캐시에 보관해 구독마다 DB 를 읽지 않는다.
+ * 채팅방 생성 시 {@link #invalidate(Long...)} 로 무효화하고(트랜잭션 안이면 커밋 후), 다른 노드에서 생성된 방처럼
+ * 캐시에 없는 방은 min-reload-ms 가 지난 항목에 한해 한 번 다시 읽어 확인한다.
+ */
+@Slf4j
+@Component
+public class ChatSubscriptionAuthorizer {
+
+    private static final String USER_DESTINATION_PREFIX = "/topic/user/";
+    private static final String SESSION_USER_DESTINATION_PREFIX = "/user/";
+    private static final String WILDCARD_CHARACTERS = "*?{}#>";
+
+    private final RealtimeChatRoomRepository chatRoomRepository;
+    private final Cache<Long, AllowedRooms> allowedRoomsCache;
+    private final long minReloadNanos;
+
+    public ChatSubscriptionAuthorizer(RealtimeChatRoomRepository chatRoomRepository,
+                                      @Value("${chat.subscription.cache.ttl-minutes:10}") long ttlMinutes,
+                                      @Value("${chat.subscription.cache.max-size:50000}") long maxSize,
+                                      @Value("${chat.subscription.cache.min-reload-ms:1000}") long minReloadMs) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.allowedRoomsCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(maxSize)
+                .build();
+        this.minReloadNanos = Duration.ofMillis(minReloadMs).toNanos();
+    }
+
+    /**
+     * 구독 권한 확인. 권한이 없거나 허용 목록에 없는 목적지면 SecurityException.
+     */
+    public void checkSubscribe(Long userId, String destination) {
+        if (userId == null || destination == null || hasWildcard(destination)) {
+            deny(userId, destination, "Subscription destination is not allowed");
+        }
+        if (destination.startsWith(RedisPublisher.ROOM_DESTINATION_PREFIX)) {
+            Long roomId = parseId(destination.substring(RedisPublisher.ROOM_DESTINATION_PREFIX.length()));
+            if (roomId == null || !canAccessRoom(userId, roomId)) {
+                deny(userId, destination, "User is not a participant of this chat room");
+            }
+        } else if (destination.startsWith(USER_DESTINATION_PREFIX)) {
+            String rest = destination.substring(USER_DESTINATION_PREFIX.length());
+            int slash = rest.indexOf('/');
+            Long channelUserId = parseId(slash < 0 ? rest : rest.substring(0, slash));
+            if (channelUserId == null || !channelUserId.equals(userId)) {
+                deny(userId, destination, "Cannot subscribe to another user's channel");
+            }
+        } else if (!destination.startsWith(SESSION_USER_DESTINATION_PREFIX)) {
+            deny(userId, destination, "Subscription destination is not allowed");
+        }
+    }
+
+    private static boolean hasWildcard(String destination) {
+        for (int i = 0; i < destination.length(); i++) {
+            if (WILDCARD_CHARACTERS.indexOf(destination.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void deny(Long userId, String destination, String reason) {
+        log.warn("Subscription denied. userId={}, destination={}", userId, destination);
+        throw new SecurityException(reason);
+    }
+
+    boolean canAccessRoom(Long userId, Long roomId) {
+        AllowedRooms allowed = allowedRoomsCache.get(userId, this::load);
+        if (allowed.roomIds().contains(roomId)) {
+            return true;
+        }
+        // 캐시 이후 생성된 방일 수 있으므로 너무 자주가 아니면 한 번 다시 읽는다
+        if (System.nanoTime() - allowed.loadedAtNanos() < minReloadNanos) {
+            return false;
+        }
+        AllowedRooms reloaded = load(userId);
+        allowedRoomsCache.put(userId, reloaded);
+        return reloaded.roomIds().contains(roomId);
+    }
+
+    /**
+     * 채팅방 생성 시 참여자의 캐시 무효화
+     * 트랜잭션 안에서 호출하면 커밋 후에 무효화한다. 커밋 전에 비우면 그 사이 구독 확인이
+     * 새 방이 없는 목록을 다시 읽어 캐시하고, 재조회 간격 동안 새 방 구독이 거부될 수 있다.
+     */
+    public void invalidate(Long... userIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(userIds);
+                }
+            });
+            return;
+        }
+        invalidateNow(userIds);
+    }
+
+    private void invalidateNow(Long... userIds) {
+        for (Long userId : userIds) {
+            if (userId != null) {
+                allowedRoomsCache.invalidate(userId);
+            }
+        }
+    }
+
+    private AllowedRooms load(Long userId) {
+        return new AllowedRooms(Set.copyOf(chatRoomRepository.findRoomIdsByParticipant(userId)), System.nanoTime());
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record AllowedRooms(Set<Long> roomIds, long loadedAtNanos) {
+    }
+}
@@ -3,22 +3,18 @@ package com.ssg9th2team.geharbang.domain.chat.service;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.mybatis.AccommodationMapper;
 import com.ssg9th2team.geharbang.domain.chat.RealtimeChatRoom;
 import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessagePageDto;
 import com.ssg9th2team.geharbang.domain.chat.dto.ChatRoomDto;
 import com.ssg9th2team.geharbang.domain.chat.repository.RealtimeChatRoomRepository;
 import com.ssg9th2team.geharbang.domain.auth.entity.User;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,13 +26,16 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class RealtimeChatService {
 
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 30;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final RealtimeChatRoomRepository chatRoomRepository;
     private final RedisChatMessageService redisChatMessageService; // Redis로 변경
     private final UserRepository userRepository;
     private final AccommodationMapper accommodationMapper;
     private final RedisPublisher redisPublisher;
-    private final ChannelTopic channelTopic;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomSummaryService chatRoomSummaryService;
+    private final ChatNotificationCoalescer chatNotificationCoalescer;
 
     // 유저의 채팅방 목록 조회
     @Transactional(readOnly = true)
@@ -73,6 +72,10 @@ public class RealtimeChatService {
                 ));
         log.info("숙소 대표 이미지 {}건을 일괄 조회했습니다.", imageMap.size());
 
+        // 마지막 메시지/안 읽은 수: Redis 요약을 파이프라인 한 번으로 조회 (요약이 없는 방은 DB 값 사용)
+        Map<Long, ChatRoomSummaryService.RoomSummary> summaries = chatRoomSummaryService.getSummaries(
+                rooms.stream().map(RealtimeChatRoom::getId).collect(Collectors.toList()));
+
         List<ChatRoomDto> chatRoomDtos = rooms.stream().map(room -> {
             Long otherUserId;
             String otherUserName;
@@ -85,6 +88,19 @@ public class RealtimeChatService {
                 otherUserId = room.getGuestUserId();
                 unreadCount = room.getHostUnreadCount();
             }
+            String lastMessage = room.getLastMessage();
+            LocalDateTime lastMessageTime = room.getLastMessageTime();
+            ChatRoomSummaryService.RoomSummary summary = summaries.get(room.getId());
+            if (summary != null) {
+                Integer redisUnread = summary.unreadCountOf(userId);
+                if (redisUnread != null) {
+                    unreadCount = redisUnread;
+                }
+                if (summary.lastMessage() != null) {
+                    lastMessage = summary.lastMessage();
+                    lastMessageTime = summary.lastMessageTime();
+                }
+            }
 
             User otherUser = userMap.get(otherUserId);
             otherUserName = (otherUser != null) ? otherUser.getNickname() : "알 수 없는 사용자";
@@ -113,8 +129,8 @@ public class RealtimeChatService {
                 .hostProfileImage(hostProfileImage)
                 .guestProfileImage(guestProfileImage)
                 .otherParticipantName(otherUserName)
-                .lastMessage(room.getLastMessage())
-                .lastMessageTime(room.getLastMessageTime())
+                .lastMessage(lastMessage)
+                .lastMessageTime(lastMessageTime)
                 .unreadCount(unreadCount)
                 .build();
         }).collect(Collectors.toList());
@@ -131,95 +147,69 @@ public class RealtimeChatService {
         return chatRoomDtos;
     }
 
-    // 특정 채팅방의 메시지 조회 (Redis에서 조회)
+    // 특정 채팅방의 최신 메시지 조회 (이전 API 호환용. Redis 는 오래된 메시지를 아카이브 후 지우므로 전체 대신
+    // 아카이브 fallback 이 있는 페이지 조회의 최신 페이지를 돌려준다. 과거 메시지는 getRoomMessagePage 의 cursor 로 조회)
     public List<ChatMessageDto> getRoomMessages(Long roomId, Long currentUserId) {
-        RealtimeChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("Chat room not found"));
+        return getRoomMessagePage(roomId, currentUserId, null, DEFAULT_HISTORY_PAGE_SIZE).getMessages();
+    }
+
+    // 특정 채팅방의 메시지 페이지 조회 (최신 N건, 스크롤 시 cursor 로 과거 페이지)
+    public ChatMessagePageDto getRoomMessagePage(Long roomId, Long currentUserId, String cursor, Integer size) {
+        validateParticipant(roomId, currentUserId);
+
+        int pageSize = size == null ? DEFAULT_HISTORY_PAGE_SIZE : Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        return redisChatMessageService.getMessagePage(roomId, cursor, pageSize);
+    }
 
-        // 사용자가 해당 채팅방의 참여자인지 확인
-        if (!chatRoom.getHostUserId().equals(currentUserId) && !chatRoom.getGuestUserId().equals(currentUserId)) {
+    private void validateParticipant(Long roomId, Long currentUserId) {
+        // 사용자가 해당 채팅방의 참여자인지 확인 (참여자 정보는 Redis 캐시)
+        if (!chatRoomSummaryService.getParticipants(roomId).isParticipant(currentUserId)) {
             throw new SecurityException("User is not a participant of this chat room");
         }
-
-        // Redis에서 메시지 조회
-        return redisChatMessageService.getMessages(roomId);
     }
 
-    // 메시지 저장 (Redis에 저장)
-    @Transactional
+    // 메시지 저장 (Redis에 저장, 채팅방 요약은 ChatRoomSummaryWriter 가 MySQL 에 주기적으로 반영)
     public ChatMessageDto saveMessage(Long roomId, Long senderUserId, String content) {
-        RealtimeChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("Chat room not found"));
+        ChatRoomSummaryService.RoomParticipants participants = chatRoomSummaryService.getParticipants(roomId);
 
-        User sender = userRepository.findById(senderUserId)
-                .orElseThrow(() -> new IllegalArgumentException("Sender not found"));
+        String senderName = participants.nameOf(senderUserId);
+        if (senderName == null) {
+            User sender = userRepository.findById(senderUserId)
+                    .orElseThrow(() -> new IllegalArgumentException("Sender not found"));
+            senderName = sender.getNickname();
+        }
 
         // Redis에 메시지 저장
-        ChatMessageDto savedMessage = redisChatMessageService.saveMessage(
-                roomId, senderUserId, sender.getNickname(), content);
-
-        // 채팅방 정보 업데이트 (마지막 메시지, 시간, 안 읽은 메시지 수)
-        chatRoom.setLastMessage(content);
-        chatRoom.setLastMessageTime(savedMessage.getCreatedAt());
-
-        // 메시지를 보낸 사람이 아닌 다른 참여자의 unreadCount 증가 및 수신자 ID 확인
-        Long recipientUserId = null;
-        int newUnreadCount = 0;
-        if (chatRoom.getHostUserId().equals(senderUserId)) {
-            newUnreadCount = chatRoom.getGuestUnreadCount() + 1;
-            chatRoom.setGuestUnreadCount(newUnreadCount);
-            recipientUserId = chatRoom.getGuestUserId();
-        } else if (chatRoom.getGuestUserId().equals(senderUserId)) {
-            newUnreadCount = chatRoom.getHostUnreadCount() + 1;
-            chatRoom.setHostUnreadCount(newUnreadCount);
-            recipientUserId = chatRoom.getHostUserId();
-        }
-        chatRoom.setUpdatedAt(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
-        chatRoomRepository.save(chatRoom);
+        ChatMessageDto savedMessage = redisChatMessageService.saveMessage(roomId, senderUserId, senderName, content);
+
+        // 채팅방 요약 갱신 (마지막 메시지, 시간, 수신자 안 읽은 메시지 수 HINCRBY)
+        Long recipientUserId = participants.otherOf(senderUserId);
+        long newUnreadCount = chatRoomSummaryService.recordMessage(
+                roomId, savedMessage.getId(), content, savedMessage.getCreatedAt(), recipientUserId);
 
-        // 수신자에게 새 메시지 알림 전송 (채팅방 목록 업데이트용)
+        // 수신자에게 새 메시지 알림 전송 (채팅방 목록 업데이트용, 짧은 창 동안 방별 최신 상태로 묶어서 전송)
         if (recipientUserId != null) {
-            Map<String, Object> notification = new HashMap<>();
-            notification.put("type", "NEW_MESSAGE");
-            notification.put("roomId", roomId);
-            notification.put("unreadCount", newUnreadCount);
-            notification.put("lastMessage", content);
-            notification.put("lastMessageTime", savedMessage.getCreatedAt().toString());
-            notification.put("senderName", sender.getNickname());
-
-            log.info("Sending notification to user {}: {}", recipientUserId, notification);
-            messagingTemplate.convertAndSend("/topic/user/" + recipientUserId + "/notifications", notification);
+            chatNotificationCoalescer.notifyNewMessage(recipientUserId, roomId, savedMessage.getId(), newUnreadCount,
+                    content, savedMessage.getCreatedAt(), senderName);
         }
 
         return savedMessage;
     }
 
     // 메시지 읽음 처리 (Redis에서 처리)
-    @Transactional
     public void markMessagesAsRead(Long roomId, Long readerUserId) {
-        RealtimeChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("Chat room not found"));
-
-        // 사용자가 해당 채팅방의 참여자인지 확인
-        if (!chatRoom.getHostUserId().equals(readerUserId) && !chatRoom.getGuestUserId().equals(readerUserId)) {
-            throw new SecurityException("User is not a participant of this chat room");
-        }
+        validateParticipant(roomId, readerUserId);
 
         // Redis에서 읽음 처리
         redisChatMessageService.markMessagesAsRead(roomId, readerUserId);
 
-        // 채팅방의 unreadCount를 0으로 초기화
-        if (chatRoom.getHostUserId().equals(readerUserId)) {
-            chatRoom.setHostUnreadCount(0);
-        } else if (chatRoom.getGuestUserId().equals(readerUserId)) {
-            chatRoom.setGuestUnreadCount(0);
-        }
-        chatRoomRepository.save(chatRoom);
+        // 채팅방 요약의 unreadCount를 0으로 초기화 (MySQL 반영은 ChatRoomSummaryWriter)
+        chatRoomSummaryService.markRead(roomId, readerUserId);
 
         // 채팅방 전체에 읽음 알림 브로드캐스트 (해당 방을 구독 중인 모든 사용자가 수신)
         log.info("Broadcasting read receipt to room {} by user {}", roomId, readerUserId);
-        redisPublisher.publish(
-                channelTopic,
+        redisPublisher.publishToRoom(
+                roomId,
                 Map.of(
                         "type", "MESSAGES_READ",
                         "roomId", roomId,
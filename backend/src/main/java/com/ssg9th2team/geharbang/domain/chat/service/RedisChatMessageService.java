@@ -1,145 +1,303 @@
 package com.ssg9th2team.geharbang.domain.chat.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessagePageDto;
+import com.ssg9th2team.geharbang.domain.chat.repository.mybatis.RealtimeChatMessageMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
-import java.util.Collections;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisChatMessageService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RealtimeChatMessageMapper realtimeChatMessageMapper;
+    private final ChatMessageIdGenerator messageIdGenerator;
+    private final ChatMessageCodec chatMessageCodec;
 
     private static final String CHAT_MESSAGES_KEY = "chat:room:%d:messages";
-    private static final String CHAT_READ_STATUS_KEY = "chat:room:%d:read:%d"; // roomId:messageId
+    // 참여자별 읽음 워터마크 (Hash: userId -> 마지막으로 읽은 메시지의 score)
+    private static final String CHAT_READ_WATERMARK_KEY = "chat:room:%d:read";
     private static final long MESSAGE_TTL_DAYS = 7; // 메시지 보관 기간 (7일)
+    // 다른 노드가 더 큰 ID 를 먼저 저장했을 때 ID 를 다시 발급받는 최대 횟수
+    private static final int MAX_ORDERING_RETRIES = 5;
+    private static final RedisSerializer<Long> LONG_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    // 채팅방의 최신 score 보다 클 때만 추가 (방 내 순서 보장). 성공 시 0, 실패 시 현재 최신 score 반환
+    private static final DefaultRedisScript<Long> APPEND_IF_LATEST_SCRIPT = new DefaultRedisScript<>(
+            "local last = redis.call('ZREVRANGE', KEYS[1], 0, 0, 'WITHSCORES') "
+                    + "if last[2] and tonumber(last[2]) >= tonumber(ARGV[2]) then return tonumber(last[2]) end "
+                    + "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+                    + "return 0",
+            Long.class);
+
+    // 읽음 워터마크를 채팅방 최신 메시지의 score 로 올린다 (뒤로 가지 않음)
+    private static final DefaultRedisScript<Long> MARK_READ_SCRIPT = new DefaultRedisScript<>(
+            "local last = redis.call('ZREVRANGE', KEYS[1], 0, 0, 'WITHSCORES') "
+                    + "local target = last[2] or '0' "
+                    + "local current = redis.call('HGET', KEYS[2], ARGV[1]) "
+                    + "if current and tonumber(current) >= tonumber(target) then return 0 end "
+                    + "redis.call('HSET', KEYS[2], ARGV[1], target) "
+                    + "redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+                    + "return 1",
+            Long.class);
 
     /**
-     * 메시지 저장 (Sorted Set 사용 - 시간순 정렬)
+     * 메시지 저장 (Sorted Set 사용 - 메시지 ID 순 정렬)
+     * 메시지 ID 는 {@link ChatMessageIdGenerator} 가 발급한 단조 증가 값이며 ZSET score 로도 그대로 사용한다.
+     * ZSET 멤버와 아카이브 대기열에는 {@link ChatMessageCodec} 압축 인코딩으로 저장한다.
      */
     public ChatMessageDto saveMessage(Long roomId, Long senderUserId, String senderName, String content) {
         String key = String.format(CHAT_MESSAGES_KEY, roomId);
 
-        // 메시지 ID 생성 (timestamp + random)
-        long messageId = System.currentTimeMillis() * 1000 + (long)(Math.random() * 1000);
-        
-        // 서버 시간대와 관계없이 한국 시간(KST)으로 저장
+        // 서버 시간대와 관계없이 한국 시간(KST)으로 저장 (인코딩 정밀도에 맞춰 ms 단위)
         ZoneId kstZoneId = ZoneId.of("Asia/Seoul");
-        LocalDateTime now = LocalDateTime.now(kstZoneId);
-        
-        // Score는 KST 기준의 타임스탬프로 설정
-        double score = now.atZone(kstZoneId).toInstant().toEpochMilli();
-
-        ChatMessageDto message = ChatMessageDto.builder()
-                .id(messageId)
-                .chatRoomId(roomId)
-                .senderUserId(senderUserId)
-                .senderName(senderName)
-                .messageContent(content)
-                .createdAt(now)
-                .isRead(false)
-                .build();
-
-        try {
-            String messageJson = objectMapper.writeValueAsString(message);
-            redisTemplate.opsForZSet().add(key, messageJson, score);
-
-            // TTL 갱신 (새 메시지가 올 때마다 7일로 연장)
-            redisTemplate.expire(key, MESSAGE_TTL_DAYS, TimeUnit.DAYS);
+        LocalDateTime now = LocalDateTime.now(kstZoneId).truncatedTo(ChronoUnit.MILLIS);
+        byte[] ttlSeconds = bytes(String.valueOf(TimeUnit.DAYS.toSeconds(MESSAGE_TTL_DAYS)));
+
+        long messageId = messageIdGenerator.nextId();
+        for (int attempt = 0; ; attempt++) {
+            ChatMessageDto message = ChatMessageDto.builder()
+                    .id(messageId)
+                    .chatRoomId(roomId)
+                    .senderUserId(senderUserId)
+                    .senderName(senderName)
+                    .messageContent(content)
+                    .createdAt(now)
+                    .isRead(false)
+                    .build();
+
+            Long latest = stringRedisTemplate.execute(APPEND_IF_LATEST_SCRIPT, RedisSerializer.byteArray(),
+                    LONG_RESULT_SERIALIZER, List.of(key),
+                    chatMessageCodec.encode(message, false), bytes(String.valueOf(messageId)), ttlSeconds);
+            if (latest != null && latest > 0) {
+                // 다른 노드가 더 큰 ID 를 먼저 저장함 → 그보다 큰 ID 로 다시 시도
+                if (attempt >= MAX_ORDERING_RETRIES) {
+                    throw new IllegalStateException("Failed to order message in room " + roomId);
+                }
+                messageId = messageIdGenerator.nextIdAfter(latest);
+                continue;
+            }
+
+            // MySQL 아카이브 대기열 (ChatMessageArchiveWriter 가 배치로 적재, 채팅방 ID 포함)
+            byte[] archivePayload = chatMessageCodec.encode(message, true);
+            stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.listCommands()
+                    .rPush(bytes(ChatMessageArchiveWriter.ARCHIVE_QUEUE_KEY), archivePayload));
+
+            // 보낸 사람은 자신의 메시지까지 모두 읽은 것으로 간주
+            String watermarkKey = String.format(CHAT_READ_WATERMARK_KEY, roomId);
+            stringRedisTemplate.opsForHash().put(watermarkKey, senderUserId.toString(), String.valueOf(messageId));
+            stringRedisTemplate.expire(watermarkKey, MESSAGE_TTL_DAYS, TimeUnit.DAYS);
 
             log.info("Message saved to Redis. Room: {}, MessageId: {}", roomId, messageId);
             return message;
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize message: {}", e.getMessage());
-            throw new RuntimeException("Failed to save message", e);
         }
     }
 
     /**
-     * 채팅방의 모든 메시지 조회 (시간순)
+     * 커서 기반 메시지 페이지 조회 (최신 → 과거 방향)
+     * ZREVRANGEBYSCORE ... LIMIT 으로 필요한 만큼만 읽고 역직렬화한다.
+     *
+     * @param cursor 이전 페이지의 nextCursor ("score:messageId"), null 이면 최신 페이지
+     * @param size   페이지 크기
+     * @return 시간순(오래된 → 최신)으로 정렬된 메시지와 다음(더 과거) 페이지 커서
      */
-    public List<ChatMessageDto> getMessages(Long roomId) {
+    public ChatMessagePageDto getMessagePage(Long roomId, String cursor, int size) {
         String key = String.format(CHAT_MESSAGES_KEY, roomId);
+        MessageCursor position = MessageCursor.parse(cursor);
+        Map<Long, Long> watermarks = getReadWatermarks(roomId);
 
-        Set<Object> messagesJson = redisTemplate.opsForZSet().range(key, 0, -1);
+        List<ScoredMessage> candidates = new ArrayList<>();
+        double upperBound = Double.POSITIVE_INFINITY;
+        if (position != null) {
+            // 커서와 같은 score(같은 ms)의 메시지는 id 로 이어서 가져온다
+            for (ScoredMessage message : toScoredMessages(
+                    rangeByScore(key, position.score()), roomId, watermarks)) {
+                if (message.message().getId() < position.messageId()) {
+                    candidates.add(message);
+                }
+            }
+            // score 는 정수(메시지 ID 또는 기존 메시지의 ms)이므로 0.5 를 빼서 커서 score 를 제외한다
+            upperBound = position.score() - 0.5;
+        }
+
+        double maxScore = upperBound;
+        List<ScoredMessage> older = toScoredMessages(
+                stringRedisTemplate.execute((RedisCallback<Set<Tuple>>) connection -> connection.zSetCommands()
+                        .zRevRangeByScoreWithScores(bytes(key), Double.NEGATIVE_INFINITY, maxScore, 0, size + 1)),
+                roomId, watermarks);
+        if (older.size() == size + 1) {
+            // LIMIT 경계에서 같은 score 의 메시지가 잘렸을 수 있으므로 해당 score 는 전부 가져온다
+            double boundaryScore = older.stream().mapToDouble(ScoredMessage::score).min().orElse(0);
+            older.removeIf(message -> message.score() == boundaryScore);
+            older.addAll(toScoredMessages(rangeByScore(key, boundaryScore), roomId, watermarks));
+        }
+        candidates.addAll(older);
 
-        if (messagesJson == null || messagesJson.isEmpty()) {
-            return Collections.emptyList();
+        // Redis 에 더 과거 메시지가 없으면 MySQL 아카이브에서 이어서 조회
+        if (candidates.size() <= size) {
+            long beforeId = candidates.stream()
+                    .mapToLong(message -> message.message().getId())
+                    .min()
+                    .orElse(position != null ? position.messageId() : Long.MAX_VALUE);
+            for (ChatMessageDto archived : realtimeChatMessageMapper.selectArchivedBefore(
+                    roomId, beforeId, size + 1 - candidates.size())) {
+                candidates.add(toArchivedMessage(archived, watermarks));
+            }
         }
 
-        return messagesJson.stream()
-                .map(json -> {
-                    try {
-                        return objectMapper.readValue(json.toString(), ChatMessageDto.class);
-                    } catch (JsonProcessingException e) {
-                        log.error("Failed to deserialize message: {}", e.getMessage());
-                        return null;
-                    }
-                })
-                .filter(msg -> msg != null)
-                .collect(Collectors.toList());
+        candidates.sort(Comparator.comparingDouble(ScoredMessage::score)
+                .thenComparing(message -> message.message().getId())
+                .reversed());
+
+        boolean hasMore = candidates.size() > size;
+        List<ScoredMessage> page = candidates.subList(0, Math.min(size, candidates.size()));
+        String nextCursor = hasMore ? MessageCursor.of(page.get(page.size() - 1)) : null;
+
+        List<ChatMessageDto> messages = new ArrayList<>(page.size());
+        for (int i = page.size() - 1; i >= 0; i--) {
+            messages.add(page.get(i).message());
+        }
+        return new ChatMessagePageDto(messages, nextCursor, hasMore);
     }
 
     /**
-     * 메시지 읽음 처리 - 해당 채팅방에서 특정 사용자가 보낸 메시지 제외하고 모두 읽음 처리
+     * 메시지 읽음 처리 - 읽은 사용자의 워터마크만 채팅방 최신 메시지의 score 로 갱신한다.
+     * 메시지 수와 관계없이 스크립트 한 번으로 끝나며 저장된 메시지는 다시 쓰지 않는다.
+     * 시각이 아니라 실제 마지막 메시지 기준이므로 같은 ms 에 도착한 메시지도 정확히 구분된다.
      */
     public void markMessagesAsRead(Long roomId, Long readerUserId) {
-        String key = String.format(CHAT_MESSAGES_KEY, roomId);
+        stringRedisTemplate.execute(MARK_READ_SCRIPT,
+                List.of(String.format(CHAT_MESSAGES_KEY, roomId), String.format(CHAT_READ_WATERMARK_KEY, roomId)),
+                readerUserId.toString(), String.valueOf(TimeUnit.DAYS.toSeconds(MESSAGE_TTL_DAYS)));
+
+        log.info("Messages marked as read. Room: {}, Reader: {}", roomId, readerUserId);
+    }
+
+    private Map<Long, Long> getReadWatermarks(Long roomId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash()
+                .entries(String.format(CHAT_READ_WATERMARK_KEY, roomId));
+        Map<Long, Long> watermarks = new HashMap<>();
+        entries.forEach((userId, score) ->
+                watermarks.put(Long.parseLong(userId.toString()), parseScore(score)));
+        return watermarks;
+    }
+
+    // Lua 스크립트가 기록한 score 는 지수 표기일 수 있으므로 double 로 읽는다
+    private static long parseScore(Object score) {
+        return (long) Double.parseDouble(score.toString());
+    }
 
-        Set<Object> messagesJson = redisTemplate.opsForZSet().range(key, 0, -1);
+    /**
+     * MySQL 아카이브에 적재된 오래된 메시지를 Redis 에서 제거하여 방별 메시지 수를 keep 건으로 유지한다.
+     * 아직 적재되지 않은 메시지가 지워지지 않도록 archivedScore 미만까지만 제거한다.
+     */
+    public void trimArchivedMessages(Long roomId, double archivedScore, int keep) {
+        String key = String.format(CHAT_MESSAGES_KEY, roomId);
+        Set<Tuple> boundary = stringRedisTemplate.execute((RedisCallback<Set<Tuple>>) connection ->
+                connection.zSetCommands().zRevRangeWithScores(bytes(key), keep, keep));
+        if (boundary == null || boundary.isEmpty()) {
+            return;
+        }
 
-        if (messagesJson == null || messagesJson.isEmpty()) {
+        Double boundaryScore = boundary.iterator().next().getScore();
+        if (boundaryScore == null) {
             return;
         }
+        // 적재된 마지막 메시지 자체는 남겨 둔다 (archivedScore 미만까지만 제거)
+        double cutoff = Math.min(boundaryScore, archivedScore - 1);
+        Long removed = stringRedisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, cutoff);
+        if (removed != null && removed > 0) {
+            log.debug("Trimmed {} archived messages from room {}", removed, roomId);
+        }
+    }
 
-        for (Object json : messagesJson) {
+    /**
+     * 메시지 score (saveMessage 와 동일 규칙)
+     * 생성기가 발급한 ID 는 ID 자체가 score 이고, 기존 메시지는 KST createdAt 기준 epoch millis 이다.
+     */
+    public static double scoreOf(ChatMessageDto message) {
+        if (message.getId() != null && ChatMessageIdGenerator.isGeneratedId(message.getId())) {
+            return message.getId();
+        }
+        if (message.getCreatedAt() == null) {
+            return 0;
+        }
+        return message.getCreatedAt().atZone(ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli();
+    }
+
+    // 아카이브 메시지는 상대방 워터마크가 없으면(Redis 보관 기간 경과) 읽은 것으로 본다
+    private ScoredMessage toArchivedMessage(ChatMessageDto message, Map<Long, Long> watermarks) {
+        double score = scoreOf(message);
+        boolean hasOtherWatermark = watermarks.keySet().stream()
+                .anyMatch(userId -> !userId.equals(message.getSenderUserId()));
+        boolean read = Boolean.TRUE.equals(message.getIsRead())
+                || !hasOtherWatermark
+                || isReadByOthers(watermarks, message.getSenderUserId(), score);
+        return new ScoredMessage(message.withRead(read), score);
+    }
+
+    private List<ScoredMessage> toScoredMessages(Set<Tuple> tuples, Long roomId, Map<Long, Long> watermarks) {
+        List<ScoredMessage> result = new ArrayList<>();
+        if (tuples == null) {
+            return result;
+        }
+        for (Tuple tuple : tuples) {
             try {
-                ChatMessageDto message = objectMapper.readValue(json.toString(), ChatMessageDto.class);
-
-                // 내가 보낸 메시지가 아니고 아직 읽지 않은 경우
-                if (!message.getSenderUserId().equals(readerUserId) && !Boolean.TRUE.equals(message.getIsRead())) {
-                    // 기존 메시지 삭제
-                    redisTemplate.opsForZSet().remove(key, json.toString());
-
-                    // 읽음 처리된 메시지로 다시 저장
-                    ChatMessageDto updatedMessage = ChatMessageDto.builder()
-                            .id(message.getId())
-                            .chatRoomId(message.getChatRoomId())
-                            .senderUserId(message.getSenderUserId())
-                            .senderName(message.getSenderName())
-                            .messageContent(message.getMessageContent())
-                            .createdAt(message.getCreatedAt())
-                            .isRead(true)
-                            .build();
-
-                    ZoneId kstZoneId = ZoneId.of("Asia/Seoul");
-                    double score = message.getCreatedAt().atZone(kstZoneId).toInstant().toEpochMilli();
-                    String updatedJson = objectMapper.writeValueAsString(updatedMessage);
-                    redisTemplate.opsForZSet().add(key, updatedJson, score);
-                }
-            } catch (JsonProcessingException e) {
-                log.error("Failed to process message for read status: {}", e.getMessage());
+                ChatMessageDto message = chatMessageCodec.decode(tuple.getValue(), roomId);
+                boolean read = Boolean.TRUE.equals(message.getIsRead())
+                        || isReadByOthers(watermarks, message.getSenderUserId(), tuple.getScore());
+                result.add(new ScoredMessage(message.withRead(read), tuple.getScore() == null ? 0 : tuple.getScore()));
+            } catch (IllegalArgumentException e) {
+                log.error("Failed to deserialize message: {}", e.getMessage());
             }
         }
+        return result;
+    }
 
-        log.info("Messages marked as read. Room: {}, Reader: {}", roomId, readerUserId);
+    private Set<Tuple> rangeByScore(String key, double score) {
+        return stringRedisTemplate.execute((RedisCallback<Set<Tuple>>) connection ->
+                connection.zSetCommands().zRangeByScoreWithScores(bytes(key), score, score));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 보낸 사람이 아닌 참여자 중 누군가의 워터마크가 메시지 score 이상이면 읽음
+    private boolean isReadByOthers(Map<Long, Long> watermarks, Long senderUserId, Double score) {
+        if (score == null) {
+            return false;
+        }
+        for (Map.Entry<Long, Long> entry : watermarks.entrySet()) {
+            if (!entry.getKey().equals(senderUserId) && entry.getValue() >= score) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -147,7 +305,7 @@ public class RedisChatMessageService {
      */
     public void deleteAllMessages(Long roomId) {
         String key = String.format(CHAT_MESSAGES_KEY, roomId);
-        redisTemplate.delete(key);
+        stringRedisTemplate.delete(List.of(key, String.format(CHAT_READ_WATERMARK_KEY, roomId)));
         log.info("All messages deleted for room: {}", roomId);
     }
 
@@ -163,9 +321,41 @@ public class RedisChatMessageService {
                 .toInstant()
                 .toEpochMilli();
 
-        Long removedCount = redisTemplate.opsForZSet().removeRangeByScore(key, 0, cutoffTime);
-        if (removedCount != null && removedCount > 0) {
+        // 기존 메시지(score = ms)와 생성기 ID 메시지(score = ID)를 각각의 기준으로 제거
+        Long legacyRemoved = stringRedisTemplate.opsForZSet().removeRangeByScore(key, 0, cutoffTime);
+        Long idRemoved = stringRedisTemplate.opsForZSet().removeRangeByScore(key,
+                ChatMessageIdGenerator.GENERATED_ID_FLOOR, ChatMessageIdGenerator.minIdAt(cutoffTime));
+        long removedCount = (legacyRemoved == null ? 0 : legacyRemoved) + (idRemoved == null ? 0 : idRemoved);
+        if (removedCount > 0) {
             log.info("Removed {} old messages from room {}", removedCount, roomId);
         }
     }
+
+    private record ScoredMessage(ChatMessageDto message, double score) {
+    }
+
+    /**
+     * 페이지 커서 ("score:messageId")
+     */
+    private record MessageCursor(double score, long messageId) {
+
+        static MessageCursor parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            String[] parts = cursor.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid message cursor: " + cursor);
+            }
+            try {
+                return new MessageCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid message cursor: " + cursor);
+            }
+        }
+
+        static String of(ScoredMessage message) {
+            return (long) message.score() + ":" + message.message().getId();
+        }
+    }
 }
@@ -1,16 +1,83 @@
 package com.ssg9th2team.geharbang.domain.chat.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
+import com.ssg9th2team.geharbang.global.config.WebSocketConfig;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 채팅 메시지를 채팅방별 Redis 채널(chatroom:{roomId})로 발행한다.
+ * 해당 방을 로컬에서 구독 중인 노드만 채널을 구독하므로 ({@link ChatRoomSubscriptionRegistry})
+ * 관계없는 노드는 메시지를 받지도 역직렬화하지도 않는다.
+ * 채팅 메시지는 {@link ChatMessageCodec} 압축 인코딩으로, 그 밖의 이벤트(읽음 알림 등)는 JSON 으로 발행하며
+ * JSON 변환은 STOMP 로 내보내는 RedisSubscriber 에서 한다.
+ *
+ * <p>외부 STOMP 브로커 relay 모드(chat.broker.mode=relay)에서는 브로커가 노드 간 fan-out 을 맡으므로
+ * Redis 를 거치지 않고 /topic/chatroom/{roomId} 로 바로 보낸다.
+ */
 @Service
 @RequiredArgsConstructor
 public class RedisPublisher {
-    private final RedisTemplate<String, Object> redisTemplate;
 
-    public void publish(ChannelTopic topic, Object message) {
-        redisTemplate.convertAndSend(topic.getTopic(), message);
+    private static final String ROOM_CHANNEL_PREFIX = "chatroom:";
+    static final String ROOM_DESTINATION_PREFIX = "/topic/chatroom/";
+    static final Map<String, Object> JSON_HEADERS = Map.of(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageCodec chatMessageCodec;
+
+    @Value("${" + WebSocketConfig.BROKER_MODE_PROPERTY + ":simple}")
+    private String brokerMode;
+
+    public static ChannelTopic roomTopic(Long roomId) {
+        return new ChannelTopic(ROOM_CHANNEL_PREFIX + roomId);
+    }
+
+    public static String roomDestination(Long roomId) {
+        return ROOM_DESTINATION_PREFIX + roomId;
+    }
+
+    /**
+     * 채널명에서 채팅방 ID 추출 (채팅방 채널이 아니면 null)
+     */
+    public static Long parseRoomId(String channel) {
+        if (channel == null || !channel.startsWith(ROOM_CHANNEL_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(channel.substring(ROOM_CHANNEL_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public void publishToRoom(Long roomId, Object message) {
+        try {
+            if (WebSocketConfig.isRelayMode(brokerMode)) {
+                messagingTemplate.convertAndSend(roomDestination(roomId), objectMapper.writeValueAsBytes(message), JSON_HEADERS);
+                return;
+            }
+            byte[] payload = message instanceof ChatMessageDto chatMessage
+                    ? chatMessageCodec.encode(chatMessage, false)
+                    : objectMapper.writeValueAsBytes(message);
+            byte[] channel = roomTopic(roomId).getTopic().getBytes(StandardCharsets.UTF_8);
+            stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채팅 메시지 직렬화에 실패했습니다.", e);
+        }
     }
 }
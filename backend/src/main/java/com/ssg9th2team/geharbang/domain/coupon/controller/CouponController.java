@@ -1,13 +1,13 @@
 package com.ssg9th2team.geharbang.domain.coupon.controller;
 
-import com.ssg9th2team.geharbang.domain.auth.entity.User;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.domain.coupon.dto.CouponDiscountResponseDto;
 import com.ssg9th2team.geharbang.domain.coupon.dto.CouponResponseDto;
 import com.ssg9th2team.geharbang.domain.coupon.dto.UserCouponResponseDto;
+import com.ssg9th2team.geharbang.domain.coupon.service.CouponPricingService;
 import com.ssg9th2team.geharbang.domain.coupon.service.UserCouponService;
+import com.ssg9th2team.geharbang.global.common.annotation.CurrentUserId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.ArrayList;
@@ -20,7 +20,7 @@ public class CouponController {
 
     private final com.ssg9th2team.geharbang.domain.coupon.service.CouponService couponService;
     private final UserCouponService userCouponService;
-    private final UserRepository userRepository;
+    private final CouponPricingService couponPricingService;
 
     // 숙소 상세페이지에서 다운로드 가능한 쿠폰 목록 조회
     @GetMapping("/accommodation/{accommodationId}")
@@ -36,28 +36,30 @@ public class CouponController {
     // 상태별 내 쿠폰 조회 (ISSUED / USED / EXPIRED)
     @GetMapping("/my")
     public ResponseEntity<List<UserCouponResponseDto>> getMyCoupons(
-            Authentication authentication,
+            @CurrentUserId Long userId,
             @RequestParam(defaultValue = "ISSUED") String status) {
 
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-
-        List<UserCouponResponseDto> coupons = userCouponService.getMyCouponsByStatus(user.getId(), status);
+        List<UserCouponResponseDto> coupons = userCouponService.getMyCouponsByStatus(userId, status);
         return ResponseEntity.ok(coupons);
     }
 
+    // 결제 페이지: 보유 쿠폰 중 적용 가능한 쿠폰과 최적 할인 한 번에 계산
+    @GetMapping("/my/best")
+    public ResponseEntity<CouponDiscountResponseDto> getBestCoupon(
+            @CurrentUserId Long userId,
+            @RequestParam Long accommodationId,
+            @RequestParam int totalAmount) {
+
+        return ResponseEntity.ok(couponPricingService.evaluateBestCoupon(userId, accommodationId, totalAmount));
+    }
+
     // 쿠폰 수동 발급
     @PostMapping("/issue")
     public ResponseEntity<String> issueCoupon(
-            Authentication authentication,
+            @CurrentUserId Long userId,
             @RequestParam Long couponId) {
 
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-
-        userCouponService.issueCoupon(user.getId(), couponId);
+        userCouponService.issueCoupon(userId, couponId);
         return ResponseEntity.ok("쿠폰이 발급되었습니다");
     }
 
@@ -65,24 +67,17 @@ public class CouponController {
     // 쿠폰 사용 처리
     @PostMapping("/{userCouponId}/use")
     public ResponseEntity<String> useCoupon(
-            Authentication authentication,
+            @CurrentUserId Long userId,
             @PathVariable Long userCouponId) {
 
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-
-        userCouponService.useCoupon(user.getId(), userCouponId);
+        userCouponService.useCoupon(userId, userCouponId);
         return ResponseEntity.ok("쿠폰이 사용되었습니다");
     }
 
 
 
     @GetMapping("/my/ids")
-    public ResponseEntity<List<Long>> getMyCouponIds(Authentication authentication) {
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-        return ResponseEntity.ok(new ArrayList<>(userCouponService.getMyCouponIds(user.getId())));
+    public ResponseEntity<List<Long>> getMyCouponIds(@CurrentUserId Long userId) {
+        return ResponseEntity.ok(new ArrayList<>(userCouponService.getMyCouponIds(userId)));
     }
 }
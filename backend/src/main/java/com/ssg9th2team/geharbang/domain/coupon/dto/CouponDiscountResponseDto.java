@@ -0,0 +1,50 @@
+package com.ssg9th2team.geharbang.domain.coupon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CouponDiscountResponseDto {
+
+    // 결제 페이지 "최적 쿠폰 자동 적용"
+    // 적용 가능한 쿠폰은 할인액 내림차순, 첫 번째가 최적 쿠폰
+    private int totalAmount;            // 할인 전 금액
+    private Long bestUserCouponId;      // 최적 쿠폰 (없으면 null)
+    private int bestDiscountAmount;     // 최적 쿠폰 할인액
+    private int finalAmount;            // 최적 쿠폰 적용 후 금액
+    private List<ApplicableCoupon> applicableCoupons;
+
+    public static CouponDiscountResponseDto empty(int totalAmount) {
+        return new CouponDiscountResponseDto(totalAmount, null, 0, totalAmount, List.of());
+    }
+
+    public static CouponDiscountResponseDto of(int totalAmount, List<ApplicableCoupon> applicableCoupons) {
+        if (applicableCoupons.isEmpty()) {
+            return empty(totalAmount);
+        }
+        ApplicableCoupon best = applicableCoupons.get(0);
+        return new CouponDiscountResponseDto(
+                totalAmount,
+                best.getUserCouponId(),
+                best.getDiscountAmount(),
+                Math.max(0, totalAmount - best.getDiscountAmount()),
+                applicableCoupons
+        );
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ApplicableCoupon {
+        private final Long userCouponId;
+        private final Long couponId;
+        private final String name;
+        private final String discountType;
+        private final Integer discountValue;
+        private final int discountAmount;
+        private final LocalDateTime expiredAt;
+    }
+}
@@ -0,0 +1,15 @@
+package com.ssg9th2team.geharbang.domain.coupon.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserCouponKeyDto {
+
+    // 쿠폰 배치 청크 처리용 최소 컬럼 (캐시 무효화 대상 userId 수집)
+    private Long id;
+    private Long userId;
+}
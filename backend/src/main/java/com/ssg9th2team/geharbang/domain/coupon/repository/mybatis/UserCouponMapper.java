@@ -1,9 +1,11 @@
 package com.ssg9th2team.geharbang.domain.coupon.repository.mybatis;
 
+import com.ssg9th2team.geharbang.domain.coupon.dto.UserCouponKeyDto;
 import com.ssg9th2team.geharbang.domain.coupon.dto.UserCouponResponseDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -12,4 +14,35 @@ public interface UserCouponMapper {
     // 상태별 쿠폰 조회 (ISSUED / USED / EXPIRED)
     List<UserCouponResponseDto> selectMyCouponsByStatus(@Param("userId") Long userId,
                                                         @Param("status") String status);
+
+    // 배치 시작 시점의 최대 PK (청크 처리 상한)
+    long selectMaxUserCouponId();
+
+    // 만료 대상 (id, user_id) 청크 조회 - 키셋 페이지네이션
+    List<UserCouponKeyDto> selectOverdueIssuedChunk(@Param("lastId") long lastId,
+                                                    @Param("maxId") long maxId,
+                                                    @Param("now") LocalDateTime now,
+                                                    @Param("limit") int limit);
+
+    // 청크 단위 만료 처리
+    int expireByIds(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // 일일 선착순 쿠폰 발급 이력 (id, user_id) 청크 조회 - 키셋 페이지네이션
+    List<UserCouponKeyDto> selectKeysByCouponIdsChunk(@Param("couponIds") List<Long> couponIds,
+                                                      @Param("lastId") long lastId,
+                                                      @Param("maxId") long maxId,
+                                                      @Param("limit") int limit);
+
+    // 청크 단위 삭제
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    // 쿠폰별 발급 이력 (id, user_id) 청크 조회 - Redis 정합성 점검용 키셋 페이지네이션
+    List<UserCouponKeyDto> selectIssuedKeysByCouponChunk(@Param("couponId") Long couponId,
+                                                         @Param("lastId") long lastId,
+                                                         @Param("since") LocalDateTime since,
+                                                         @Param("limit") int limit);
+
+    // 주어진 사용자 중 해당 쿠폰 발급 이력이 있는 사용자 ID
+    List<Long> selectIssuedUserIds(@Param("couponId") Long couponId,
+                                   @Param("userIds") List<Long> userIds);
 }
@@ -1,9 +1,11 @@
 package com.ssg9th2team.geharbang.domain.coupon.scheduler;
 
 import com.ssg9th2team.geharbang.domain.coupon.service.CouponInventoryService;
+import com.ssg9th2team.geharbang.domain.coupon.service.CouponReconciliationService;
 import com.ssg9th2team.geharbang.domain.coupon.service.UserCouponService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -16,6 +18,10 @@ public class CouponScheduler {
 
     private final UserCouponService userCouponService;
     private final CouponInventoryService couponInventoryService;
+    private final CouponReconciliationService couponReconciliationService;
+
+    @Value("${coupon.reconcile.enabled:true}")
+    private boolean reconcileEnabled;
 
     /**
      * 애플리케이션 시작 시 Redis 재고 초기화
@@ -39,6 +45,7 @@ public class CouponScheduler {
 
     /**
      * 매일 자정에 만료된 쿠폰 상태 변경 및 선착순 재고 초기화
+     * 만료/발급 이력 초기화는 CouponExpiryBatchService 가 청크 단위로 나누어 처리한다.
      * 
      * ⚠️ 운영용: 매일 자정 실행
      */
@@ -56,4 +63,21 @@ public class CouponScheduler {
         log.info("자정 배치 실행 완료 - 만료: {}, 재고 리셋: {}, 발급 이력 클리어: {}", 
                  expired, reset, cleared);
     }
+
+    /**
+     * Redis 쿠폰 상태(재고/발급 이력)와 DB 정합성 주기 점검
+     * 불일치 보정은 발급 요청이 아닌 이 배치에서만 수행한다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.reconcile.interval-ms:300000}",
+            initialDelayString = "${coupon.reconcile.initial-delay-ms:120000}")
+    public void reconcileRedisState() {
+        if (!reconcileEnabled) {
+            return;
+        }
+        try {
+            couponReconciliationService.reconcile();
+        } catch (Exception e) {
+            log.error("쿠폰 Redis-DB 정합성 점검 실패", e);
+        }
+    }
 }
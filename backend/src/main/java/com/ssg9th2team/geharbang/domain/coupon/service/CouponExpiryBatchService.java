@@ -0,0 +1,290 @@
+package com.ssg9th2team.geharbang.domain.coupon.service;
+
+import com.ssg9th2team.geharbang.domain.coupon.dto.UserCouponKeyDto;
+import com.ssg9th2team.geharbang.domain.coupon.repository.mybatis.UserCouponMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 자정 배치를 청크 단위로 나누어 처리하는 서비스
+ *
+ * <p>기존에는 만료 대상 / 일일 발급 이력을 한 트랜잭션에서 전부 로딩하고 갱신했기 때문에
+ * user_coupon 이 커질수록 자정에 긴 락과 복제 지연이 발생했다. 이를 다음 방식으로 바꾼다.
+ * <ul>
+ *   <li>키셋 페이지네이션: PK 기준 (lastId, maxId] 구간을 chunk-size 건씩 조회</li>
+ *   <li>청크마다 별도 트랜잭션으로 UPDATE/DELETE → 락 보유 시간 최소화</li>
+ *   <li>청크 사이 pause-ms 만큼 대기 → 복제 지연 완화</li>
+ *   <li>Redis 체크포인트(lastId, 만료 기준 시각) 저장 → 배치 도중 서버가 내려가도 같은 날 재실행 시 같은 기준으로 이어서 처리</li>
+ *   <li>작업별 Redisson 락 → 여러 노드가 같은 체크포인트를 동시에 진행하지 않도록 한 노드만 실행</li>
+ *   <li>Micrometer 카운터/타이머로 진행 상황 노출 (coupon.batch.rows / coupon.batch.chunk)</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponExpiryBatchService {
+
+    public static final String JOB_EXPIRE = "expire";
+    public static final String JOB_DAILY_RESET = "daily-reset";
+
+    private static final String CHECKPOINT_KEY_PREFIX = "coupon:batch:checkpoint:";
+    private static final String LOCK_KEY_PREFIX = "LOCK:coupon:batch:";
+    private static final String COUPON_ISSUED_KEY_PREFIX = "coupon:issued:";
+
+    private final UserCouponMapper userCouponMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedissonClient redissonClient;
+    private final UserCouponWalletService userCouponWalletService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coupon.batch.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${coupon.batch.pause-ms:50}")
+    private long pauseMs;
+
+    /**
+     * 만료일이 지난 ISSUED 쿠폰을 EXPIRED 로 변경한다.
+     *
+     * @return 만료 처리된 쿠폰 수 (체크포인트에서 이어받은 경우 이전 진행분 포함, 다른 노드가 실행 중이면 0)
+     */
+    public int expireOverdueCoupons() {
+        RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + JOB_EXPIRE);
+        if (!lock.tryLock()) {
+            log.info("쿠폰 배치 [{}] 건너뜀 - 다른 인스턴스에서 실행 중", JOB_EXPIRE);
+            return 0;
+        }
+        try {
+            return expireInChunks(loadOrStart(JOB_EXPIRE));
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private int expireInChunks(Checkpoint checkpoint) {
+        // 재개하더라도 처음 시작한 시각을 기준으로 만료 대상을 고른다
+        LocalDateTime cutoff = checkpoint.cutoff;
+        while (true) {
+            List<UserCouponKeyDto> chunk = userCouponMapper.selectOverdueIssuedChunk(
+                    checkpoint.lastId, checkpoint.maxId, cutoff, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = chunk.stream().map(UserCouponKeyDto::getId).toList();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Integer result = transactionTemplate.execute(status -> userCouponMapper.expireByIds(ids, cutoff));
+            int updated = result == null ? 0 : result;
+            sample.stop(chunkTimer(JOB_EXPIRE));
+
+            syncWallets(chunk, updated);
+
+            advance(checkpoint, ids.get(ids.size() - 1), updated);
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            pause();
+        }
+
+        return complete(checkpoint);
+    }
+
+    /**
+     * 청크 전체가 만료되었으면 쿠폰함(Redis Hash)의 해당 필드만 EXPIRED 로 갱신한다.
+     * 조회 후 UPDATE 전에 사용/복구된 쿠폰은 status 조건으로 UPDATE 에서 빠지므로,
+     * 건수가 다르면 어느 행이 빠졌는지 알 수 없어 해당 사용자들의 쿠폰함을 폐기하고 다음 조회 때 DB 에서 다시 읽게 한다.
+     */
+    private void syncWallets(List<UserCouponKeyDto> chunk, int updated) {
+        if (updated == chunk.size()) {
+            chunk.forEach(row -> userCouponWalletService.onStatusChanged(
+                    row.getUserId(), row.getId(), "EXPIRED", null));
+            return;
+        }
+        log.info("쿠폰 만료 청크 중 {}건이 조회 이후 변경되어 쿠폰함을 재로딩합니다.", chunk.size() - updated);
+        chunk.stream()
+                .map(UserCouponKeyDto::getUserId)
+                .distinct()
+                .forEach(userCouponWalletService::invalidate);
+    }
+
+    /**
+     * 일일 선착순 쿠폰의 발급 이력(Redis Set + user_coupon)을 초기화한다.
+     *
+     * @param limitedCouponIds 선착순(coupon_inventory) 쿠폰 ID 목록
+     * @return 삭제된 user_coupon 행 수 (다른 노드가 실행 중이면 0)
+     */
+    public int resetDailyIssuedCoupons(List<Long> limitedCouponIds) {
+        if (limitedCouponIds.isEmpty()) {
+            return 0;
+        }
+
+        RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + JOB_DAILY_RESET);
+        if (!lock.tryLock()) {
+            log.info("쿠폰 배치 [{}] 건너뜀 - 다른 인스턴스에서 실행 중", JOB_DAILY_RESET);
+            return 0;
+        }
+        try {
+            // Redis 키는 쿠폰 수만큼만 존재하므로 먼저 한 번에 삭제
+            limitedCouponIds.forEach(couponId -> redisTemplate.delete(COUPON_ISSUED_KEY_PREFIX + couponId));
+            return deleteIssuedInChunks(limitedCouponIds, loadOrStart(JOB_DAILY_RESET));
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private int deleteIssuedInChunks(List<Long> limitedCouponIds, Checkpoint checkpoint) {
+        while (true) {
+            List<UserCouponKeyDto> chunk = userCouponMapper.selectKeysByCouponIdsChunk(
+                    limitedCouponIds, checkpoint.lastId, checkpoint.maxId, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = chunk.stream().map(UserCouponKeyDto::getId).toList();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Integer deleted = transactionTemplate.execute(status -> userCouponMapper.deleteByIds(ids));
+            sample.stop(chunkTimer(JOB_DAILY_RESET));
+
+            chunk.stream()
+                    .collect(Collectors.groupingBy(UserCouponKeyDto::getUserId,
+                            Collectors.mapping(UserCouponKeyDto::getId, Collectors.toList())))
+                    .forEach(userCouponWalletService::onRemoved);
+
+            advance(checkpoint, ids.get(ids.size() - 1), deleted == null ? 0 : deleted);
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            pause();
+        }
+
+        return complete(checkpoint);
+    }
+
+    /**
+     * 진행 중인 체크포인트 조회 (모니터링용)
+     *
+     * @return lastId / maxId / processed / runDate / cutoff (없으면 빈 Map)
+     */
+    public Map<String, String> getCheckpoint(String job) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(CHECKPOINT_KEY_PREFIX + job);
+        Map<String, String> result = new HashMap<>();
+        entries.forEach((k, v) -> result.put(String.valueOf(k), String.valueOf(v)));
+        return result;
+    }
+
+    /**
+     * 오늘 날짜의 미완료 체크포인트가 있으면 이어서, 없으면 현재 최대 PK 를 상한으로 새로 시작한다.
+     * 상한(maxId)과 기준 시각(cutoff)을 고정하므로 배치 도중 새로 발급된 쿠폰은 건드리지 않고,
+     * 재개해도 처음 시작한 시각 기준으로 만료 대상을 고른다.
+     */
+    private Checkpoint loadOrStart(String job) {
+        String key = CHECKPOINT_KEY_PREFIX + job;
+        String today = LocalDate.now().toString();
+        Map<Object, Object> saved = redisTemplate.opsForHash().entries(key);
+
+        if (today.equals(saved.get("runDate"))) {
+            // cutoff 가 없는 이전 버전 체크포인트는 지금 시각으로 이어간다
+            Object cutoff = saved.get("cutoff");
+            Checkpoint resumed = new Checkpoint(job, key,
+                    Long.parseLong(String.valueOf(saved.get("lastId"))),
+                    Long.parseLong(String.valueOf(saved.get("maxId"))),
+                    Integer.parseInt(String.valueOf(saved.get("processed"))),
+                    cutoff != null ? LocalDateTime.parse(String.valueOf(cutoff)) : LocalDateTime.now());
+            log.info("쿠폰 배치 [{}] 체크포인트에서 재개 - lastId: {}, maxId: {}, processed: {}, cutoff: {}",
+                    job, resumed.lastId, resumed.maxId, resumed.processed, resumed.cutoff);
+            return resumed;
+        }
+
+        Checkpoint checkpoint = new Checkpoint(job, key, 0L, userCouponMapper.selectMaxUserCouponId(), 0,
+                LocalDateTime.now());
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                "runDate", today,
+                "lastId", "0",
+                "maxId", String.valueOf(checkpoint.maxId),
+                "processed", "0",
+                "cutoff", checkpoint.cutoff.toString()
+        ));
+        return checkpoint;
+    }
+
+    private void advance(Checkpoint checkpoint, long lastId, int processedInChunk) {
+        checkpoint.lastId = lastId;
+        checkpoint.processed += processedInChunk;
+        redisTemplate.opsForHash().putAll(checkpoint.key, Map.of(
+                "lastId", String.valueOf(lastId),
+                "processed", String.valueOf(checkpoint.processed)
+        ));
+        Counter.builder("coupon.batch.rows")
+                .tag("job", checkpoint.job)
+                .register(meterRegistry)
+                .increment(processedInChunk);
+        log.debug("쿠폰 배치 [{}] 진행 - lastId: {}/{}, 누적: {}",
+                checkpoint.job, lastId, checkpoint.maxId, checkpoint.processed);
+    }
+
+    private int complete(Checkpoint checkpoint) {
+        redisTemplate.delete(checkpoint.key);
+        log.info("쿠폰 배치 [{}] 완료 - 처리: {}건 (maxId: {})", checkpoint.job, checkpoint.processed, checkpoint.maxId);
+        return checkpoint.processed;
+    }
+
+    private Timer chunkTimer(String job) {
+        return Timer.builder("coupon.batch.chunk")
+                .tag("job", job)
+                .register(meterRegistry);
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쿠폰 배치가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 배치 진행 상태 (Redis 체크포인트와 동기화)
+     */
+    private static class Checkpoint {
+        private final String job;
+        private final String key;
+        private long lastId;
+        private final long maxId;
+        private int processed;
+        private final LocalDateTime cutoff;
+
+        private Checkpoint(String job, String key, long lastId, long maxId, int processed, LocalDateTime cutoff) {
+            this.job = job;
+            this.key = key;
+            this.lastId = lastId;
+            this.maxId = maxId;
+            this.processed = processed;
+            this.cutoff = cutoff;
+        }
+    }
+}
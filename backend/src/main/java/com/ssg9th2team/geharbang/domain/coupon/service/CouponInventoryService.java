@@ -2,6 +2,7 @@ package com.ssg9th2team.geharbang.domain.coupon.service;
 
 import com.ssg9th2team.geharbang.domain.coupon.entity.CouponInventory;
 import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.CouponInventoryRepository;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,6 +21,7 @@ public class CouponInventoryService {
 
     private final CouponInventoryRepository couponInventoryRepository;
     private final StringRedisTemplate redisTemplate;
+    private final CouponIssueMetrics couponIssueMetrics;
 
     @Value("${coupon.issue.skip-db-finalize:false}")
     private boolean skipDbFinalize;
@@ -47,7 +49,9 @@ public class CouponInventoryService {
         
         try {
             // Redis에서 해당 쿠폰 재고 값을 1 감소
+            Timer.Sample redisSample = couponIssueMetrics.startSample();
             Long remaining = redisTemplate.opsForValue().decrement(redisKey);
+            couponIssueMetrics.recordRedis(redisSample, CouponIssueMetrics.STEP_STOCK);
             // 남은 쿠폰이 없거나 쿠폰 남은 수량이 0보다 작다면 -> 100명중 50명은 팅김
             // decrement는 -1 하는건데 쿠폰 개수가 0 -> -1  되면 다시 incremnet로 +1 시킴 ->  쿠폰 0 개
             if (remaining == null || remaining < 0) {
@@ -64,14 +68,17 @@ public class CouponInventoryService {
             }
 
             // Redis 통과 - 2단계: DB <- 최종 확정 (비동기 모드에서도 수행)
-            return couponInventoryRepository.findWithLockByCouponId(couponId)
+            Timer.Sample dbSample = couponIssueMetrics.startSample();
+            boolean finalized = couponInventoryRepository.findWithLockByCouponId(couponId)
                     .map(inventory -> {
                         inventory.resetIfNeeded(LocalDate.now());
 
                         if (!inventory.hasAvailable()) {
-                            // DB와 Redis 불일치 발견 - Redis 동기화
-                            log.warn("쿠폰 {} Redis-DB 불일치 감지. Redis 0으로 초기화", couponId);
-                            redisTemplate.opsForValue().set(redisKey, "0");
+                            // DB와 Redis 불일치 - 여기서는 보정하지 않는다.
+                            // 차감한 Redis 재고를 되돌리지 않으므로 이후 요청이 Redis 재고를 0 까지 소진하고,
+                            // 남은 차이는 CouponReconciliationService 가 INCRBY 로 맞춘다.
+                            log.warn("쿠폰 {} Redis-DB 불일치 감지 - DB 재고 없음 (Redis 재고: {})", couponId, remaining);
+                            couponIssueMetrics.incrementDrift(CouponIssueMetrics.DRIFT_STOCK);
                             return false;
                         }
 
@@ -82,7 +89,9 @@ public class CouponInventoryService {
                         return true;
                     })
                     .orElse(true); // 선착순 제한이 없는 쿠폰
-                    
+            couponIssueMetrics.recordDbFinalize(dbSample);
+            return finalized;
+
         } catch (Exception e) {
             log.error("Redis 오류 발생. DB 락으로 폴백: couponId={}", couponId, e);
             // Redis 장애 시 기존 DB 락 방식으로 폴백
@@ -3,11 +3,10 @@ package com.ssg9th2team.geharbang.domain.coupon.service;
 import com.ssg9th2team.geharbang.domain.coupon.entity.UserCoupon;
 import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.CouponInventoryRepository;
 import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.UserCouponJpaRepository;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,7 +30,8 @@ public class CouponIssueAsyncProcessor {
     private final CouponIssueQueueService couponIssueQueueService;
     private final UserCouponJpaRepository userCouponJpaRepository;
     private final CouponInventoryRepository couponInventoryRepository;
-    private final CacheManager cacheManager;
+    private final UserCouponWalletService userCouponWalletService;
+    private final CouponIssueMetrics couponIssueMetrics;
 
     @Value("${coupon.issue.async-enabled:true}")
     private boolean asyncEnabled;
@@ -77,7 +77,7 @@ public class CouponIssueAsyncProcessor {
      * <ol>
      *   <li>UserCoupon 엔티티 생성 및 저장</li>
      *   <li>CouponInventory의 잔여 수량 차감</li>
-     *   <li>사용자 쿠폰 캐시 무효화 (최신 데이터 조회 보장)</li>
+     *   <li>사용자 쿠폰함(Redis Hash)에 발급 쿠폰 추가 (커밋 후 반영)</li>
      * </ol>
      * 
      * <p>실패 시 재시도 큐(coupon:issue:retry)에 적재하여
@@ -86,35 +86,22 @@ public class CouponIssueAsyncProcessor {
      * @param request Redis 큐에서 가져온 발급 요청 (userId, couponId, expiresAt 포함)
      */
     private void processRequest(CouponIssueQueueService.IssueRequest request) {
+        Timer.Sample sample = couponIssueMetrics.startSample();
         try {
             UserCoupon userCoupon = UserCoupon.issue(
                     request.getUserId(),
                     request.getCouponId(),
                     request.getExpiresAt()
             );
-            userCouponJpaRepository.save(userCoupon);
+            UserCoupon saved = userCouponJpaRepository.save(userCoupon);
             couponInventoryRepository.decrementAvailable(request.getCouponId());
-            evictUserCouponCache(request.getUserId(), "ISSUED");
+            userCouponWalletService.onIssued(saved);
+            couponIssueMetrics.recordDbFinalize(sample);
+            couponIssueMetrics.incrementProcessed();
         } catch (Exception ex) {
             log.error("쿠폰 발급 비동기 처리 실패. payload={}", request.getPayload(), ex);
             couponIssueQueueService.enqueueRetry(request.getPayload());
+            couponIssueMetrics.incrementFailed();
         }
     }
-
-    /**
-     * 사용자의 쿠폰 목록 캐시를 무효화한다.
-     * 
-     * <p>DB에 새 쿠폰이 추가되었으므로, 기존 캐시를 삭제하여
-     * 다음 조회 시 최신 데이터를 가져오도록 한다.
-     * 
-     * @param userId 쿠폰을 발급받은 사용자 ID
-     * @param status 무효화할 쿠폰 상태 (예: "ISSUED")
-     */
-    private void evictUserCouponCache(Long userId, String status) {
-        Cache cache = cacheManager.getCache("userCoupons");
-        if (cache == null) {
-            return;
-        }
-        cache.evict(userId + "_" + status);
-    }
 }
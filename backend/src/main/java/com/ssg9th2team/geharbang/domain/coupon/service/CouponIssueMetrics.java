@@ -0,0 +1,197 @@
+package com.ssg9th2team.geharbang.domain.coupon.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Deque;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 발급 파이프라인 Micrometer 지표
+ *
+ * <p>/actuator/metrics 로 노출되며, AdminCouponAsyncController 가 요약해서 보여준다.
+ * <ul>
+ *   <li>coupon.issue.queue.size / coupon.issue.retry.size : 메인/재시도 큐 길이 (gauge)</li>
+ *   <li>coupon.issue.queue.oldest.age : 가장 오래 대기 중인 요청의 대기 시간(ms) (gauge, 적재 시각이 없으면 NaN)</li>
+ *   <li>coupon.issue.redis : Redis 구간 지연 (timer, step=dedupe 중복체크 / stock 재고 차감)</li>
+ *   <li>coupon.issue.db.finalize : DB 확정(재고 락/비동기 저장) 구간 지연 (timer)</li>
+ *   <li>coupon.issue.async.processed / failed : 비동기 처리 건수 (counter). 처리량은 모니터링 백엔드의 rate 로 보고,
+ *       요약 API 는 주기적으로 남긴 카운터 표본으로 최근 drain-window-ms 구간의 처리량을 계산한다 (호출 시점과 무관)</li>
+ *   <li>coupon.issue.drift : "Redis-DB 불일치" 감지 후 보정 횟수 (counter, source 태그)</li>
+ * </ul>
+ */
+@Component
+public class CouponIssueMetrics {
+
+    public static final String DRIFT_STOCK = "stock";
+    public static final String DRIFT_ISSUED = "issued";
+    public static final String STEP_DEDUPE = "dedupe";
+    public static final String STEP_STOCK = "stock";
+
+    private final MeterRegistry meterRegistry;
+    private final CouponIssueQueueService couponIssueQueueService;
+    private final Timer redisDedupeTimer;
+    private final Timer redisStockTimer;
+    private final Timer dbFinalizeTimer;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+
+    // 처리량(drain rate) 계산용 processed 카운터 표본 (오래된 것부터)
+    private final Deque<DrainSnapshot> drainSamples = new ConcurrentLinkedDeque<>();
+
+    @Value("${coupon.issue.metrics.drain-window-ms:60000}")
+    private long drainWindowMs;
+
+    public CouponIssueMetrics(MeterRegistry meterRegistry, CouponIssueQueueService couponIssueQueueService) {
+        this.meterRegistry = meterRegistry;
+        this.couponIssueQueueService = couponIssueQueueService;
+
+        Gauge.builder("coupon.issue.queue.size", couponIssueQueueService, CouponIssueQueueService::getQueueSize)
+                .description("쿠폰 발급 메인 큐 길이")
+                .register(meterRegistry);
+        Gauge.builder("coupon.issue.retry.size", couponIssueQueueService, CouponIssueQueueService::getRetrySize)
+                .description("쿠폰 발급 재시도 큐 길이")
+                .register(meterRegistry);
+        Gauge.builder("coupon.issue.queue.oldest.age", couponIssueQueueService,
+                        queue -> toGaugeValue(queue.getOldestAgeMillis()))
+                .description("메인 큐에서 가장 오래 대기 중인 요청의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+
+        this.redisDedupeTimer = redisTimer(meterRegistry, STEP_DEDUPE);
+        this.redisStockTimer = redisTimer(meterRegistry, STEP_STOCK);
+        this.dbFinalizeTimer = Timer.builder("coupon.issue.db.finalize")
+                .description("DB 확정 처리 지연")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.processedCounter = Counter.builder("coupon.issue.async.processed")
+                .description("비동기 처리기가 DB에 반영한 발급 건수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("coupon.issue.async.failed")
+                .description("비동기 처리 실패로 재시도 큐에 적재된 건수")
+                .register(meterRegistry);
+    }
+
+    public Timer.Sample startSample() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordRedis(Timer.Sample sample, String step) {
+        sample.stop(STEP_DEDUPE.equals(step) ? redisDedupeTimer : redisStockTimer);
+    }
+
+    public void recordDbFinalize(Timer.Sample sample) {
+        sample.stop(dbFinalizeTimer);
+    }
+
+    public void incrementProcessed() {
+        processedCounter.increment();
+    }
+
+    public void incrementFailed() {
+        failedCounter.increment();
+    }
+
+    public void incrementDrift(String source) {
+        Counter.builder("coupon.issue.drift")
+                .description("Redis-DB 불일치 감지 후 보정 횟수")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * processed 카운터 표본을 남기고 drain-window-ms 보다 오래된 표본은 버린다
+     */
+    @Scheduled(fixedRateString = "${coupon.issue.metrics.drain-sample-ms:10000}")
+    public void sampleProcessed() {
+        sampleProcessed(System.currentTimeMillis());
+    }
+
+    void sampleProcessed(long now) {
+        drainSamples.addLast(new DrainSnapshot(now, processedCounter.count()));
+        DrainSnapshot oldest;
+        while ((oldest = drainSamples.peekFirst()) != null && oldest.timestamp() < now - drainWindowMs) {
+            drainSamples.pollFirst();
+        }
+    }
+
+    /**
+     * 관리자 대시보드용 요약 스냅샷
+     */
+    public Summary summarize() {
+        long now = System.currentTimeMillis();
+        double processed = processedCounter.count();
+        OptionalLong oldestAge = couponIssueQueueService.getOldestAgeMillis();
+
+        return new Summary(
+                couponIssueQueueService.getQueueSize(),
+                couponIssueQueueService.getRetrySize(),
+                oldestAge.isPresent() ? oldestAge.getAsLong() : null,
+                (long) processed,
+                (long) failedCounter.count(),
+                drainRatePerSec(now, processed),
+                (long) driftCount(DRIFT_STOCK),
+                (long) driftCount(DRIFT_ISSUED),
+                redisDedupeTimer.mean(TimeUnit.MILLISECONDS),
+                redisStockTimer.mean(TimeUnit.MILLISECONDS),
+                Math.max(redisDedupeTimer.max(TimeUnit.MILLISECONDS), redisStockTimer.max(TimeUnit.MILLISECONDS)),
+                dbFinalizeTimer.mean(TimeUnit.MILLISECONDS),
+                dbFinalizeTimer.max(TimeUnit.MILLISECONDS)
+        );
+    }
+
+    /**
+     * 가장 오래된 표본부터 지금까지의 초당 처리 건수. 표본이 아직 없으면 0
+     */
+    double drainRatePerSec(long now, double processed) {
+        DrainSnapshot oldest = drainSamples.peekFirst();
+        if (oldest == null || now <= oldest.timestamp()) {
+            return 0.0;
+        }
+        return (processed - oldest.processed()) * 1000.0 / (now - oldest.timestamp());
+    }
+
+    private static double toGaugeValue(OptionalLong value) {
+        return value.isPresent() ? value.getAsLong() : Double.NaN;
+    }
+
+    private static Timer redisTimer(MeterRegistry meterRegistry, String step) {
+        return Timer.builder("coupon.issue.redis")
+                .description("Redis 구간 지연 (중복 체크 / 재고 차감)")
+                .tag("step", step)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private double driftCount(String source) {
+        Counter counter = meterRegistry.find("coupon.issue.drift").tag("source", source).counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+
+    private record DrainSnapshot(long timestamp, double processed) {
+    }
+
+    public record Summary(
+            long queueSize,
+            long retrySize,
+            Long oldestAgeMs,
+            long processedTotal,
+            long failedTotal,
+            double drainRatePerSec,
+            long stockDriftTotal,
+            long issuedDriftTotal,
+            double redisDedupeMeanMs,
+            double redisStockMeanMs,
+            double redisMaxMs,
+            double dbFinalizeMeanMs,
+            double dbFinalizeMaxMs) {
+    }
+}
@@ -1,8 +1,10 @@
 package com.ssg9th2team.geharbang.domain.coupon.service;
 
 import java.time.LocalDateTime;
+import java.util.OptionalLong;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -21,6 +23,14 @@ import org.springframework.stereotype.Service;
  *   <li>LPUSH: 큐의 왼쪽(머리)에 추가</li>
  *   <li>RPOP: 큐의 오른쪽(꼬리)에서 꺼내기 → FIFO 구조</li>
  * </ul>
+ *
+ * <p>payload 형식 (롤링 배포 호환):
+ * <ul>
+ *   <li>v1 "userId|couponId|expiresAt": 이전 버전 노드가 읽는 형식 (split 3 으로 파싱)</li>
+ *   <li>v2 "userId|couponId|expiresAt|enqueuedAt": 앞 세 필드 위치는 v1 과 같고 적재 시각만 덧붙인다</li>
+ * </ul>
+ * 이전 버전 노드는 v2 를 읽지 못하므로 coupon.issue.queue.include-enqueued-at 은 기본 false(v1 적재)로 두고,
+ * 모든 노드가 이 버전 이상으로 올라간 뒤에 켠다. 읽기는 두 형식을 모두 받는다.
  */
 @Service
 @RequiredArgsConstructor
@@ -32,6 +42,9 @@ public class CouponIssueQueueService {
 
     private final StringRedisTemplate redisTemplate;
 
+    @Value("${coupon.issue.queue.include-enqueued-at:false}")
+    private boolean includeEnqueuedAt;
+
     /**
      * 쿠폰 발급 요청을 메인 큐에 적재한다.
      * 
@@ -44,7 +57,8 @@ public class CouponIssueQueueService {
      * @return 큐 적재 성공 여부
      */
     public boolean enqueueIssue(Long userId, Long couponId, LocalDateTime expiresAt) {
-        String payload = encode(userId, couponId, expiresAt);
+        String payload = encode(userId, couponId, expiresAt,
+                includeEnqueuedAt ? System.currentTimeMillis() : null);
         return redisTemplate.opsForList().leftPush(QUEUE_KEY, payload) != null;
     }
 
@@ -103,6 +117,26 @@ public class CouponIssueQueueService {
         return size == null ? 0L : size;
     }
 
+    /**
+     * 메인 큐에서 가장 오래 대기 중인 요청의 대기 시간(ms)을 조회한다.
+     * 
+     * <p>FIFO 꼬리(RPOP 위치, 인덱스 -1)의 적재 시각을 기준으로 계산한다.
+     * 큐가 비었으면 0을 반환한다. 적재 시각을 싣지 않는 설정(include-enqueued-at=false)이거나
+     * 이전 형식의 payload 라 적재 시각이 없으면 대기 시간을 알 수 없으므로 빈 값을 반환한다.
+     * 
+     * @return 가장 오래된 요청의 대기 시간(ms), 알 수 없으면 empty
+     */
+    public OptionalLong getOldestAgeMillis() {
+        String payload = redisTemplate.opsForList().index(QUEUE_KEY, -1);
+        if (payload == null) {
+            return OptionalLong.of(0L);
+        }
+        long enqueuedAt = decode(payload).getEnqueuedAt();
+        return enqueuedAt > 0
+                ? OptionalLong.of(Math.max(0L, System.currentTimeMillis() - enqueuedAt))
+                : OptionalLong.empty();
+    }
+
     /**
      * 재시도 큐의 요청을 메인 큐로 다시 옮긴다.
      * 
@@ -141,7 +175,7 @@ public class CouponIssueQueueService {
      * <p>비동기 처리기에서 DB 저장 중 예외가 발생하면 호출되며,
      * 나중에 다시 처리될 수 있도록 재시도 큐로 분리한다.
      * 
-     * @param payload 실패한 요청의 직렬화된 문자열 (userId|couponId|expiresAt 형식)
+     * @param payload 실패한 요청의 직렬화된 문자열 (v1 또는 v2 형식 그대로)
      */
     public void enqueueRetry(String payload) {
         redisTemplate.opsForList().leftPush(RETRY_KEY, payload);
@@ -151,15 +185,18 @@ public class CouponIssueQueueService {
      * 쿠폰 발급 정보를 문자열로 직렬화한다.
      * 
      * <p>Redis에는 단순 문자열 형태로 저장하기 위해 파이프(|) 구분자로 연결한다.
-     * 예: "123|45|2026-01-12T17:00:00"
+     * enqueuedAt 이 있으면 큐 적재 시각(epoch ms)을 마지막 필드로 붙인다(v2). 대기 시간 모니터링에 사용한다.
+     * 예: "123|45|2026-01-12T17:00:00" (v1), "123|45|2026-01-12T17:00:00|1768204800000" (v2)
      * 
      * @param userId 사용자 ID
      * @param couponId 쿠폰 ID
      * @param expiresAt 만료 일시
+     * @param enqueuedAt 적재 시각 (null 이면 v1 형식)
      * @return 직렬화된 문자열
      */
-    public static String encode(Long userId, Long couponId, LocalDateTime expiresAt) {
-        return userId + DELIMITER + couponId + DELIMITER + expiresAt;
+    public static String encode(Long userId, Long couponId, LocalDateTime expiresAt, Long enqueuedAt) {
+        String payload = userId + DELIMITER + couponId + DELIMITER + expiresAt;
+        return enqueuedAt != null ? payload + DELIMITER + enqueuedAt : payload;
     }
 
     /**
@@ -167,19 +204,23 @@ public class CouponIssueQueueService {
      * 
      * <p>Redis에서 꺼낸 문자열을 파싱하여 원래 데이터로 복원한다.
      * 
-     * @param payload 직렬화된 문자열 (예: "123|45|2026-01-12T17:00:00")
+     * <p>v1("userId|couponId|expiresAt")과 v2("userId|couponId|expiresAt|enqueuedAt")를 모두 처리한다.
+     * v1 은 적재 시각을 0 으로 둔다.
+     * 
+     * @param payload 직렬화된 문자열 (예: "123|45|2026-01-12T17:00:00|1768204800000")
      * @return 역직렬화된 발급 요청 객체
      * @throws IllegalArgumentException payload 형식이 잘못된 경우
      */
     public static IssueRequest decode(String payload) {
-        String[] parts = payload.split("\\|", 3);
-        if (parts.length < 3) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 3 && parts.length != 4) {
             throw new IllegalArgumentException("Invalid payload format: " + payload);
         }
         Long userId = Long.valueOf(parts[0]);
         Long couponId = Long.valueOf(parts[1]);
         LocalDateTime expiresAt = LocalDateTime.parse(parts[2]);
-        return new IssueRequest(userId, couponId, expiresAt, payload);
+        long enqueuedAt = parts.length == 4 ? Long.parseLong(parts[3]) : 0L;
+        return new IssueRequest(userId, couponId, expiresAt, payload, enqueuedAt);
     }
 
     /**
@@ -190,12 +231,14 @@ public class CouponIssueQueueService {
         private final Long couponId;
         private final LocalDateTime expiresAt;
         private final String payload;
+        private final long enqueuedAt;
 
-        public IssueRequest(Long userId, Long couponId, LocalDateTime expiresAt, String payload) {
+        public IssueRequest(Long userId, Long couponId, LocalDateTime expiresAt, String payload, long enqueuedAt) {
             this.userId = userId;
             this.couponId = couponId;
             this.expiresAt = expiresAt;
             this.payload = payload;
+            this.enqueuedAt = enqueuedAt;
         }
 
         public Long getUserId() {
@@ -213,5 +256,9 @@ public class CouponIssueQueueService {
         public String getPayload() {
             return payload;
         }
+
+        public long getEnqueuedAt() {
+            return enqueuedAt;
+        }
     }
 }
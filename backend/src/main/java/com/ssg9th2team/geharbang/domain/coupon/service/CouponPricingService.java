@@ -0,0 +1,292 @@
+package com.ssg9th2team.geharbang.domain.coupon.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssg9th2team.geharbang.domain.coupon.dto.CouponDiscountResponseDto;
+import com.ssg9th2team.geharbang.domain.coupon.entity.Coupon;
+import com.ssg9th2team.geharbang.domain.coupon.entity.UserCoupon;
+import com.ssg9th2team.geharbang.domain.coupon.entity.UserCouponStatus;
+import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.CouponJpaRepository;
+import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.UserCouponJpaRepository;
+import com.ssg9th2team.geharbang.global.cache.LocalCacheEvictionBroadcaster;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 쿠폰 할인 계산 서비스
+ * 결제 페이지(최적 쿠폰 추천)와 예약 생성(쿠폰 검증/할인액 계산)이 같은 규칙을 사용하도록 한 곳에 모은다.
+ *
+ * <p>쿠폰 마스터(Coupon)는 거의 바뀌지 않으므로 불변 스냅샷(CouponDefinition)으로 만들어
+ * Caffeine 로컬 캐시에 보관한다. 예약 시도마다 coupon 테이블을 다시 읽지 않는다.
+ * <ul>
+ *   <li>캐시 미스는 findAllById 한 번으로 묶어서 로딩</li>
+ *   <li>쿠폰 수정 시 {@link #invalidate(Long)} 호출로 모든 노드의 캐시를 커밋 후 무효화 (Redis Pub/Sub)</li>
+ *   <li>무효화 누락 대비 expireAfterWrite 로 최대 보관 시간 제한</li>
+ *   <li>비활성(is_active = false) 쿠폰은 할인 계산/추천과 쿠폰함의 사용 가능 목록에서 제외한다</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class CouponPricingService {
+
+    static final String CACHE_NAME = "coupon-pricing";
+
+    private final CouponJpaRepository couponJpaRepository;
+    private final UserCouponJpaRepository userCouponJpaRepository;
+    private final LocalCacheEvictionBroadcaster evictionBroadcaster;
+    private final Cache<Long, CouponDefinition> definitionCache;
+
+    public CouponPricingService(CouponJpaRepository couponJpaRepository,
+                                UserCouponJpaRepository userCouponJpaRepository,
+                                LocalCacheEvictionBroadcaster evictionBroadcaster,
+                                @Value("${coupon.pricing.cache.ttl-minutes:30}") long ttlMinutes,
+                                @Value("${coupon.pricing.cache.max-size:1000}") long maxSize) {
+        this.couponJpaRepository = couponJpaRepository;
+        this.userCouponJpaRepository = userCouponJpaRepository;
+        this.evictionBroadcaster = evictionBroadcaster;
+        this.definitionCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @PostConstruct
+    void registerEviction() {
+        evictionBroadcaster.register(CACHE_NAME, key -> definitionCache.invalidate(Long.valueOf(key)));
+    }
+
+    /**
+     * 예약 생성 시 선택한 쿠폰을 검증하고 할인 금액을 계산한다.
+     * 검증 실패 시 기존 예약 로직과 동일한 메시지로 IllegalArgumentException 을 던진다.
+     *
+     * @param userId          예약자 ID
+     * @param userCouponId    사용하려는 유저 쿠폰 ID
+     * @param accommodationId 예약 숙소 ID
+     * @param totalAmount     할인 전 금액
+     * @return 할인 금액
+     */
+    @Transactional(readOnly = true)
+    public int calculateDiscount(Long userId, Long userCouponId, Long accommodationId, int totalAmount) {
+        UserCoupon userCoupon = userCouponJpaRepository.findById(userCouponId)
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다."));
+
+        if (!userCoupon.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("본인의 쿠폰만 사용할 수 있습니다.");
+        }
+
+        if (userCoupon.getStatus() != UserCouponStatus.ISSUED) {
+            throw new IllegalArgumentException("사용할 수 없는 쿠폰입니다.");
+        }
+
+        if (isExpired(userCoupon, LocalDateTime.now())) {
+            throw new IllegalArgumentException("만료된 쿠폰입니다.");
+        }
+
+        CouponDefinition definition = getDefinitions(Set.of(userCoupon.getCouponId()))
+                .get(userCoupon.getCouponId());
+        if (definition == null) {
+            throw new IllegalArgumentException("쿠폰 정보를 찾을 수 없습니다.");
+        }
+
+        if (!definition.active()) {
+            throw new IllegalArgumentException("사용할 수 없는 쿠폰입니다.");
+        }
+
+        if (!definition.meetsMinPrice(totalAmount)) {
+            throw new IllegalArgumentException("최소 결제 금액을 충족하지 못했습니다.");
+        }
+
+        if (!definition.appliesTo(accommodationId)) {
+            throw new IllegalArgumentException("해당 숙소 전용 쿠폰입니다.");
+        }
+
+        return definition.discountFor(totalAmount);
+    }
+
+    /**
+     * 사용자가 보유한 쿠폰 중 주어진 장바구니(숙소 + 금액)에 적용 가능한 쿠폰을 한 번에 평가한다.
+     * 유저 쿠폰 조회 1회 + 캐시 미스 쿠폰 마스터 조회 최대 1회로 끝난다.
+     *
+     * @param userId          사용자 ID
+     * @param accommodationId 숙소 ID
+     * @param totalAmount     할인 전 금액
+     * @return 할인액 내림차순으로 정렬된 적용 가능 쿠폰 목록과 최적 쿠폰
+     */
+    @Transactional(readOnly = true)
+    public CouponDiscountResponseDto evaluateBestCoupon(Long userId, Long accommodationId, int totalAmount) {
+        List<UserCoupon> userCoupons = userCouponJpaRepository.findByUserIdAndStatus(userId, UserCouponStatus.ISSUED);
+        if (userCoupons.isEmpty()) {
+            return CouponDiscountResponseDto.empty(totalAmount);
+        }
+
+        Set<Long> couponIds = new HashSet<>();
+        for (UserCoupon userCoupon : userCoupons) {
+            couponIds.add(userCoupon.getCouponId());
+        }
+        Map<Long, CouponDefinition> definitions = getDefinitions(couponIds);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CouponDiscountResponseDto.ApplicableCoupon> applicable = new ArrayList<>();
+        for (UserCoupon userCoupon : userCoupons) {
+            if (isExpired(userCoupon, now)) {
+                continue;
+            }
+            CouponDefinition definition = definitions.get(userCoupon.getCouponId());
+            if (definition == null
+                    || !definition.active()
+                    || !definition.meetsMinPrice(totalAmount)
+                    || !definition.appliesTo(accommodationId)) {
+                continue;
+            }
+            int discount = Math.min(definition.discountFor(totalAmount), totalAmount);
+            applicable.add(new CouponDiscountResponseDto.ApplicableCoupon(
+                    userCoupon.getId(),
+                    definition.couponId(),
+                    definition.name(),
+                    definition.discountType(),
+                    definition.discountValue(),
+                    discount,
+                    userCoupon.getExpiredAt()
+            ));
+        }
+
+        // 할인액이 같으면 만료가 빠른 쿠폰을 먼저 추천
+        applicable.sort(Comparator
+                .comparingInt(CouponDiscountResponseDto.ApplicableCoupon::getDiscountAmount).reversed()
+                .thenComparing(CouponDiscountResponseDto.ApplicableCoupon::getExpiredAt,
+                        Comparator.nullsLast(Comparator.naturalOrder())));
+
+        return CouponDiscountResponseDto.of(totalAmount, applicable);
+    }
+
+    /**
+     * 단건 쿠폰 정의 조회 (캐시 우선)
+     *
+     * @return 쿠폰 정의 (존재하지 않으면 null)
+     */
+    @Transactional(readOnly = true)
+    public CouponDefinition getDefinition(Long couponId) {
+        return getDefinitions(Set.of(couponId)).get(couponId);
+    }
+
+    /**
+     * 주어진 쿠폰 중 사용 가능한(존재하고 활성화된) 쿠폰 ID (캐시 우선)
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findActiveCouponIds(Collection<Long> couponIds) {
+        Set<Long> active = new HashSet<>();
+        if (couponIds.isEmpty()) {
+            return active;
+        }
+        getDefinitions(new HashSet<>(couponIds)).forEach((couponId, definition) -> {
+            if (definition.active()) {
+                active.add(couponId);
+            }
+        });
+        return active;
+    }
+
+    /**
+     * 쿠폰 마스터 수정/비활성화 시 호출하여 모든 노드에서 캐시된 정의를 제거한다.
+     * 트랜잭션 안이면 커밋 후에 제거한다.
+     */
+    public void invalidate(Long couponId) {
+        if (couponId != null) {
+            evictionBroadcaster.broadcast(CACHE_NAME, String.valueOf(couponId));
+        }
+    }
+
+    /**
+     * 캐시에 없는 쿠폰 정의만 모아 한 번의 IN 쿼리로 로딩한다.
+     */
+    private Map<Long, CouponDefinition> getDefinitions(Set<Long> couponIds) {
+        Map<Long, CouponDefinition> result = new HashMap<>(definitionCache.getAllPresent(couponIds));
+        if (result.size() == couponIds.size()) {
+            return result;
+        }
+
+        List<Long> missing = couponIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .toList();
+        for (Coupon coupon : couponJpaRepository.findAllById(missing)) {
+            CouponDefinition definition = CouponDefinition.from(coupon);
+            definitionCache.put(definition.couponId(), definition);
+            result.put(definition.couponId(), definition);
+        }
+        log.debug("쿠폰 정의 캐시 로딩 - 요청: {}, 미스: {}", couponIds.size(), missing.size());
+        return result;
+    }
+
+    private boolean isExpired(UserCoupon userCoupon, LocalDateTime now) {
+        return userCoupon.getExpiredAt() != null && userCoupon.getExpiredAt().isBefore(now);
+    }
+
+    /**
+     * 캐시에 보관하는 쿠폰 마스터 불변 스냅샷
+     * JPA 엔티티(지연 로딩 연관관계 포함)를 그대로 캐시하지 않기 위해 필요한 값만 복사한다.
+     */
+    public record CouponDefinition(
+            Long couponId,
+            String code,
+            String name,
+            String discountType,
+            Integer discountValue,
+            Integer minPrice,
+            Integer maxDiscount,
+            Long accommodationId,
+            boolean active) {
+
+        public static CouponDefinition from(Coupon coupon) {
+            Long accommodationId = coupon.getAccommodation() != null
+                    ? coupon.getAccommodation().getAccommodationsId()
+                    : null;
+            return new CouponDefinition(
+                    coupon.getCouponId(),
+                    coupon.getCode(),
+                    coupon.getName(),
+                    coupon.getDiscountType(),
+                    coupon.getDiscountValue(),
+                    coupon.getMinPrice(),
+                    coupon.getMaxDiscount(),
+                    accommodationId,
+                    Boolean.TRUE.equals(coupon.getIsActive())
+            );
+        }
+
+        public boolean meetsMinPrice(int totalAmount) {
+            return minPrice == null || totalAmount >= minPrice;
+        }
+
+        public boolean appliesTo(Long targetAccommodationId) {
+            return accommodationId == null || accommodationId.equals(targetAccommodationId);
+        }
+
+        // PERCENT: 정률 할인 (최대 할인 금액 적용) / 그 외: 정액 할인
+        public int discountFor(int totalAmount) {
+            if (discountValue == null) {
+                return 0;
+            }
+
+            if ("PERCENT".equalsIgnoreCase(discountType)) {
+                int discount = (int) Math.floor(totalAmount * (discountValue / 100.0));
+                return maxDiscount != null ? Math.min(discount, maxDiscount) : discount;
+            }
+
+            return discountValue;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.ssg9th2team.geharbang.domain.coupon.service;
+
+import com.ssg9th2team.geharbang.domain.coupon.dto.UserCouponKeyDto;
+import com.ssg9th2team.geharbang.domain.coupon.entity.CouponInventory;
+import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.CouponInventoryRepository;
+import com.ssg9th2team.geharbang.domain.coupon.repository.mybatis.UserCouponMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 선착순 쿠폰 Redis 상태와 MySQL 간 정합성 점검 (백그라운드)
+ *
+ * <p>발급 요청 처리 중에는 불일치를 감지해도 drift 메트릭만 남기고,
+ * 보정은 이 서비스가 주기적으로 제한된 배치 크기로 수행한다. 발급 핫패스는 보정 비용을 지지 않는다.
+ * <ul>
+ *   <li>coupon:stock:{couponId} ↔ coupon_inventory.available_today</li>
+ *   <li>coupon:issued:{couponId} ↔ user_coupon (오늘 발급분)</li>
+ * </ul>
+ *
+ * <p>진행 중인 발급(Redis 선반영 후 DB 커밋 대기, 비동기 큐 대기)과 구분하기 위해
+ * 되돌리는 방향의 보정은 연속 두 번의 점검에서 같은 불일치가 관측될 때만 적용한다.
+ * 재고는 SET 대신 INCRBY 로 차이만 보정하여 동시에 들어온 DECR 을 덮어쓰지 않는다.
+ * 여러 인스턴스 중 한 곳에서만 실행되도록 Redisson 락을 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponReconciliationService {
+
+    private static final String COUPON_STOCK_KEY_PREFIX = "coupon:stock:";
+    private static final String COUPON_ISSUED_KEY_PREFIX = "coupon:issued:";
+    private static final String LOCK_KEY = "LOCK:coupon:reconcile";
+
+    private final CouponInventoryRepository couponInventoryRepository;
+    private final UserCouponMapper userCouponMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedissonClient redissonClient;
+    private final CouponIssueQueueService couponIssueQueueService;
+    private final CouponIssueMetrics couponIssueMetrics;
+
+    @Value("${coupon.issue.skip-db-finalize:false}")
+    private boolean skipDbFinalize;
+
+    @Value("${coupon.reconcile.batch-size:500}")
+    private int batchSize;
+
+    @Value("${coupon.reconcile.max-repairs:1000}")
+    private int maxRepairs;
+
+    // 직전 점검에서 관측된 재고 차이 (couponId -> DB 기대값 - Redis 값)
+    private final Map<Long, Long> pendingStockDrift = new ConcurrentHashMap<>();
+
+    // 직전 점검에서 DB 이력 없이 Redis Set 에만 있던 멤버 ("couponId:userId")
+    private volatile Set<String> pendingIssuedExtras = Set.of();
+
+    /**
+     * 모든 선착순 쿠폰을 한 바퀴 점검하고 보정한다.
+     * 다른 인스턴스가 점검 중이면 바로 건너뛴다.
+     */
+    public ReconcileResult reconcile() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.debug("쿠폰 정합성 점검 건너뜀 - 다른 인스턴스에서 실행 중");
+            return ReconcileResult.lockNotAcquired();
+        }
+
+        try {
+            RepairBudget budget = new RepairBudget(maxRepairs);
+            List<CouponInventory> inventories = couponInventoryRepository.findAll();
+            LocalDate today = LocalDate.now();
+            // 큐에 남은 발급은 Redis 에만 반영되어 있으므로 큐가 비어 있을 때만 Redis 값을 DB 기준으로 되돌린다
+            boolean queueDrained = couponIssueQueueService.getQueueSize() == 0
+                    && couponIssueQueueService.getRetrySize() == 0;
+
+            int stockRepaired = 0;
+            for (CouponInventory inventory : inventories) {
+                if (budget.exhausted()) {
+                    break;
+                }
+                stockRepaired += reconcileStock(inventory, today, queueDrained, budget);
+            }
+
+            int issuedAdded = 0;
+            int issuedRemoved = 0;
+            Set<String> nextExtras = new HashSet<>();
+            for (CouponInventory inventory : inventories) {
+                if (budget.exhausted()) {
+                    break;
+                }
+                Long couponId = inventory.getCouponId();
+                issuedAdded += addMissingIssued(couponId, today.atStartOfDay(), budget);
+                issuedRemoved += removeExtraIssued(couponId, queueDrained, nextExtras, budget);
+            }
+            pendingIssuedExtras = nextExtras;
+
+            ReconcileResult result = new ReconcileResult(
+                    false, inventories.size(), stockRepaired, issuedAdded, issuedRemoved, budget.exhausted());
+            if (result.totalRepaired() > 0) {
+                log.warn("쿠폰 Redis-DB 정합성 보정 완료 - {}", result);
+            } else {
+                log.debug("쿠폰 Redis-DB 정합성 점검 완료 - 불일치 없음 (쿠폰 {}건)", inventories.size());
+            }
+            return result;
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 재고 키 점검. 키가 없으면 즉시 생성하고(DECR 이 -1 로 만들어 품절 처리되는 것 방지),
+     * 값이 다르면 같은 차이가 두 번 연속 관측되고 발급 큐가 비어 있을 때 INCRBY 로 차이만큼 보정한다.
+     */
+    private int reconcileStock(CouponInventory inventory, LocalDate today, boolean queueDrained, RepairBudget budget) {
+        // skip-db-finalize 모드에서는 DB 재고를 차감하지 않으므로 Redis 가 기준이다
+        if (skipDbFinalize) {
+            return 0;
+        }
+
+        Long couponId = inventory.getCouponId();
+        String redisKey = COUPON_STOCK_KEY_PREFIX + couponId;
+        long expected = expectedStock(inventory, today);
+
+        String current = redisTemplate.opsForValue().get(redisKey);
+        if (current == null) {
+            Boolean created = redisTemplate.opsForValue().setIfAbsent(redisKey, String.valueOf(expected));
+            pendingStockDrift.remove(couponId);
+            if (Boolean.TRUE.equals(created)) {
+                log.warn("쿠폰 {} Redis 재고 키 누락 - DB 기준 {} 로 복구", couponId, expected);
+                couponIssueMetrics.incrementDrift(CouponIssueMetrics.DRIFT_STOCK);
+                budget.use();
+                return 1;
+            }
+            return 0;
+        }
+
+        long drift = expected - Long.parseLong(current);
+        if (drift == 0) {
+            pendingStockDrift.remove(couponId);
+            return 0;
+        }
+
+        Long previous = pendingStockDrift.put(couponId, drift);
+        if (previous == null || previous != drift) {
+            log.debug("쿠폰 {} 재고 차이 관측 (DB {} / Redis {}) - 다음 점검에서 재확인", couponId, expected, current);
+            return 0;
+        }
+        if (!queueDrained) {
+            // 관측한 차이는 남겨 두고, 큐가 비워진 뒤에도 같은 차이면 그때 보정한다
+            log.debug("쿠폰 {} 재고 차이 {} - 발급 큐 처리 중이라 보정 보류", couponId, drift);
+            return 0;
+        }
+
+        redisTemplate.opsForValue().increment(redisKey, drift);
+        pendingStockDrift.remove(couponId);
+        couponIssueMetrics.incrementDrift(CouponIssueMetrics.DRIFT_STOCK);
+        budget.use();
+        log.warn("쿠폰 {} Redis 재고 보정: {} -> {} (차이 {})", couponId, current, expected, drift);
+        return 1;
+    }
+
+    /**
+     * DB 에는 오늘 발급 이력이 있는데 Redis Set 에 없는 사용자를 추가한다.
+     * 추가는 중복 발급을 막는 방향이므로 확인 없이 바로 적용한다.
+     * 자정 초기화 전의 지난 이력은 곧 삭제될 대상이므로 issued_at 으로 제외한다.
+     */
+    private int addMissingIssued(Long couponId, LocalDateTime since, RepairBudget budget) {
+        String redisKey = COUPON_ISSUED_KEY_PREFIX + couponId;
+        long lastId = 0L;
+        int added = 0;
+
+        while (!budget.exhausted()) {
+            List<UserCouponKeyDto> chunk = userCouponMapper.selectIssuedKeysByCouponChunk(
+                    couponId, lastId, since, batchSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            Object[] members = chunk.stream().map(row -> row.getUserId().toString()).toArray();
+            Map<Object, Boolean> present = redisTemplate.opsForSet().isMember(redisKey, members);
+            List<String> missing = new ArrayList<>();
+            for (Object member : members) {
+                if (present == null || !Boolean.TRUE.equals(present.get(member))) {
+                    missing.add((String) member);
+                }
+            }
+
+            if (!missing.isEmpty()) {
+                List<String> toAdd = missing.subList(0, Math.min(missing.size(), budget.remaining()));
+                redisTemplate.opsForSet().add(redisKey, toAdd.toArray(new String[0]));
+                toAdd.forEach(member -> couponIssueMetrics.incrementDrift(CouponIssueMetrics.DRIFT_ISSUED));
+                budget.use(toAdd.size());
+                added += toAdd.size();
+                log.warn("쿠폰 {} Redis 발급 이력 누락 {}건 복구", couponId, toAdd.size());
+            }
+
+            lastId = chunk.get(chunk.size() - 1).getId();
+            if (chunk.size() < batchSize) {
+                break;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Redis Set 에는 있는데 DB 발급 이력이 없는 사용자를 SSCAN 으로 찾아 제거한다.
+     * 비동기 큐 대기 중이거나 커밋 직전인 발급일 수 있으므로
+     * 직전 점검에서도 같은 멤버가 관측되었고 발급 큐가 비어 있을 때만 제거한다.
+     */
+    private int removeExtraIssued(Long couponId, boolean queueDrained, Set<String> nextExtras, RepairBudget budget) {
+        String redisKey = COUPON_ISSUED_KEY_PREFIX + couponId;
+        ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+        int removed = 0;
+
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(redisKey, options)) {
+            List<String> batch = new ArrayList<>(batchSize);
+            while (cursor.hasNext() && !budget.exhausted()) {
+                batch.add(cursor.next());
+                if (batch.size() >= batchSize || !cursor.hasNext()) {
+                    removed += removeExtraBatch(couponId, redisKey, batch, queueDrained, nextExtras, budget);
+                    batch.clear();
+                }
+            }
+        }
+        return removed;
+    }
+
+    private int removeExtraBatch(Long couponId, String redisKey, List<String> members,
+                                 boolean queueDrained, Set<String> nextExtras, RepairBudget budget) {
+        List<Long> userIds = new ArrayList<>(members.size());
+        for (String member : members) {
+            try {
+                userIds.add(Long.parseLong(member));
+            } catch (NumberFormatException e) {
+                log.warn("쿠폰 {} Redis 발급 이력에 잘못된 멤버: {}", couponId, member);
+            }
+        }
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> issued = new HashSet<>(userCouponMapper.selectIssuedUserIds(couponId, userIds));
+        List<String> confirmed = new ArrayList<>();
+        for (Long userId : userIds) {
+            if (issued.contains(userId)) {
+                continue;
+            }
+            String token = couponId + ":" + userId;
+            if (queueDrained && pendingIssuedExtras.contains(token) && confirmed.size() < budget.remaining()) {
+                confirmed.add(userId.toString());
+            } else {
+                nextExtras.add(token);
+            }
+        }
+
+        if (confirmed.isEmpty()) {
+            return 0;
+        }
+        redisTemplate.opsForSet().remove(redisKey, confirmed.toArray());
+        confirmed.forEach(member -> couponIssueMetrics.incrementDrift(CouponIssueMetrics.DRIFT_ISSUED));
+        budget.use(confirmed.size());
+        log.warn("쿠폰 {} DB 이력 없는 Redis 발급 이력 {}건 제거", couponId, confirmed.size());
+        return confirmed.size();
+    }
+
+    // 자정 초기화 전이라면 오늘 재고는 daily_limit 으로 간주 (CouponInventory.resetIfNeeded 와 동일 규칙)
+    private long expectedStock(CouponInventory inventory, LocalDate today) {
+        if (inventory.getLastResetDate() == null || inventory.getLastResetDate().isBefore(today)) {
+            return inventory.getDailyLimit();
+        }
+        return inventory.getAvailableToday();
+    }
+
+    /**
+     * 한 번의 점검에서 적용할 수 있는 최대 보정 건수
+     */
+    private static class RepairBudget {
+        private int remaining;
+
+        private RepairBudget(int limit) {
+            this.remaining = limit;
+        }
+
+        private boolean exhausted() {
+            return remaining <= 0;
+        }
+
+        private int remaining() {
+            return Math.max(remaining, 0);
+        }
+
+        private void use() {
+            use(1);
+        }
+
+        private void use(int count) {
+            remaining -= count;
+        }
+    }
+
+    public record ReconcileResult(
+            boolean skipped,
+            int couponsChecked,
+            int stockRepaired,
+            int issuedAdded,
+            int issuedRemoved,
+            boolean budgetExhausted) {
+
+        static ReconcileResult lockNotAcquired() {
+            return new ReconcileResult(true, 0, 0, 0, 0, false);
+        }
+
+        public int totalRepaired() {
+            return stockRepaired + issuedAdded + issuedRemoved;
+        }
+    }
+}
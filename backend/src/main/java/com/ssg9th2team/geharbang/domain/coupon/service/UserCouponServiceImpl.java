@@ -8,19 +8,16 @@ import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.UserCouponJpaRepos
 import com.ssg9th2team.geharbang.domain.coupon.repository.mybatis.UserCouponMapper;
 import com.ssg9th2team.geharbang.domain.review.repository.jpa.ReviewJpaRepository;
 import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -38,8 +35,10 @@ public class UserCouponServiceImpl implements UserCouponService {
     private final ReservationJpaRepository reservationJpaRepository;
     private final ReviewJpaRepository reviewJpaRepository;
     private final StringRedisTemplate redisTemplate;
-    private final CacheManager cacheManager;
     private final CouponIssueQueueService couponIssueQueueService;
+    private final CouponExpiryBatchService couponExpiryBatchService;
+    private final UserCouponWalletService userCouponWalletService;
+    private final CouponIssueMetrics couponIssueMetrics;
 
     @Value("${coupon.issue.skip-duplicate-check:false}")
     private boolean skipDuplicateCheck;
@@ -147,7 +146,9 @@ public class UserCouponServiceImpl implements UserCouponService {
             if (!skipDuplicateCheck) {
                 // 1. Redis Set으로 중복 체크 (O(1))
                 String redisKey = COUPON_ISSUED_KEY_PREFIX + couponId;
+                Timer.Sample redisSample = couponIssueMetrics.startSample();
                 Long addCount = redisTemplate.opsForSet().add(redisKey, userId.toString());
+                couponIssueMetrics.recordRedis(redisSample, CouponIssueMetrics.STEP_DEDUPE);
 
                 if (addCount != null && addCount == 0) {
                     // Redis에 이미 존재 → 중복 발급
@@ -156,12 +157,12 @@ public class UserCouponServiceImpl implements UserCouponService {
                 }
 
                 if (!asyncEnabled) {
-                    // DB에도 확인 (Redis 장애 대비 이중 체크)
+                    // 동기 모드는 이 트랜잭션에서 DB 재고 차감과 INSERT 를 함께 하므로,
+                    // Redis Set 이 유실된 경우 UNIQUE 제약 위반(rollback-only)까지 가지 않도록 INSERT 전에 막는다.
+                    // 보정은 하지 않는다: 방금 SADD 로 멤버가 이미 채워졌고, 나머지 불일치는 CouponReconciliationService 가 맞춘다.
                     if (userCouponJpaRepository.existsByUserIdAndCouponId(userId, couponId)) {
-                        // Redis에는 없었지만 DB에 있음 → Redis 동기화 필요
                         log.warn("쿠폰 {} Redis-DB 불일치 감지 - userId: {}", couponId, userId);
-                        // Redis에서 제거 (동기화)
-                        redisTemplate.opsForSet().remove(redisKey, userId.toString());
+                        couponIssueMetrics.incrementDrift(CouponIssueMetrics.DRIFT_ISSUED);
                         return CouponIssueResult.DUPLICATED;
                     }
                 }
@@ -221,12 +222,12 @@ public class UserCouponServiceImpl implements UserCouponService {
 
 
     // 사용 가능 쿠폰, 만료 쿠폰, 사용 완료한 쿠폰 조회
+    // 쿠폰함(Redis Hash)이 로딩되어 있으면 DB를 조회하지 않는다
     @Override
-    @Cacheable(value = "userCoupons", key = "#userId + '_' + #status")
     @Transactional(readOnly = true)
     public List<UserCouponResponseDto> getMyCouponsByStatus(Long userId, String status) {
         //  DTO 리스트 반환
-        return userCouponMapper.selectMyCouponsByStatus(userId, status);
+        return userCouponWalletService.getCoupons(userId, status);
     }
 
 
@@ -256,8 +257,7 @@ public class UserCouponServiceImpl implements UserCouponService {
         }
 
         userCoupon.use();
-        evictUserCouponCache(userId, "ISSUED");
-        evictUserCouponCache(userId, "USED");
+        userCouponWalletService.onStatusChanged(userCoupon);
     }
 
 
@@ -288,26 +288,15 @@ public class UserCouponServiceImpl implements UserCouponService {
             userCoupon.expire();
         }
 
-        evictUserCouponCache(userId, "ISSUED");
-        evictUserCouponCache(userId, "USED");
-        evictUserCouponCache(userId, "EXPIRED");
+        userCouponWalletService.onStatusChanged(userCoupon);
     }
 
 
-    // 새로운 쿠폰 발급시 캐시 무효화 후 새로운 캐시
-    private void evictUserCouponCache(Long userId, String status) {
-        Cache cache = cacheManager.getCache("userCoupons");
-        if (cache == null) {
-            return;
-        }
-        cache.evict(userId + "_" + status);
-    }
-
     private CouponIssueResult saveUserCoupon(Long userId, Long couponId, LocalDateTime expiresAt) {
         try {
             UserCoupon userCoupon = UserCoupon.issue(userId, couponId, expiresAt);
-            userCouponJpaRepository.save(userCoupon);
-            evictUserCouponCache(userId, "ISSUED");
+            UserCoupon saved = userCouponJpaRepository.save(userCoupon);
+            userCouponWalletService.onIssued(saved);
             return CouponIssueResult.SUCCESS;
         } catch (DataIntegrityViolationException e) {
             log.warn("쿠폰 {} 중복 발급 차단 (DB 제약) - userId: {}", couponId, userId);
@@ -317,24 +306,10 @@ public class UserCouponServiceImpl implements UserCouponService {
 
 
     // 만료된 쿠폰 상태 변경 (스케줄러에서 호출)
+    // 청크 단위 트랜잭션으로 처리하므로 여기서는 트랜잭션을 열지 않는다.
     @Override
-    @Transactional
     public int expireOverdueCoupons() {
-        List<UserCoupon> expiredCoupons = userCouponJpaRepository
-                .findByStatusAndExpiredAtBefore(UserCouponStatus.ISSUED, LocalDateTime.now());
-
-        Set<Long> affectedUserIds = new HashSet<>();
-        for (UserCoupon coupon : expiredCoupons) {
-            coupon.expire();
-            affectedUserIds.add(coupon.getUserId());
-        }
-
-        for (Long userId : affectedUserIds) {
-            evictUserCouponCache(userId, "ISSUED");
-            evictUserCouponCache(userId, "EXPIRED");
-        }
-
-        return expiredCoupons.size();
+        return couponExpiryBatchService.expireOverdueCoupons();
     }
 
     @Override
@@ -388,25 +363,15 @@ public class UserCouponServiceImpl implements UserCouponService {
      * CouponScheduler에서 매일 자정에 호출됨.
      */
     @Override
-    @Transactional
     public int resetDailyCouponIssuedTracking() {
-        List<Long> limitedCouponIds = couponInventoryRepository.findAll()
-                .stream()
-                .map(CouponInventory::getCouponId)
-                .toList();
+        List<Long> limitedCouponIds = couponInventoryRepository.findAllCouponIds();
         if (limitedCouponIds.isEmpty()) {
             log.info("일일 쿠폰 초기화: 선착순 쿠폰이 없어 스킵합니다.");
             return 0;
         }
 
-        // Redis 키 삭제 (기존 로직 유지)
-        limitedCouponIds.forEach(couponId -> {
-            String redisKey = "coupon:issued:" + couponId;
-            redisTemplate.delete(redisKey);
-        });
-
-        // DB 기록 삭제 - Bulk Delete로 한 번에 처리 (N+1 문제 해결)
-        int deletedFromDb = userCouponJpaRepository.deleteByCouponIds(limitedCouponIds);
+        // Redis 키 삭제 + DB 기록 청크 삭제 (키셋 페이지네이션, 청크별 트랜잭션)
+        int deletedFromDb = couponExpiryBatchService.resetDailyIssuedCoupons(limitedCouponIds);
         log.info("일일 쿠폰 초기화 완료 - Redis 키 {}개 삭제, DB 레코드 {}개 삭제",
                 limitedCouponIds.size(), deletedFromDb);
         return deletedFromDb;
@@ -424,7 +389,8 @@ public class UserCouponServiceImpl implements UserCouponService {
         // 첫 예약 쿠폰이 있으면 삭제
         if (!firstReservationCoupons.isEmpty()) {
             userCouponJpaRepository.deleteAll(firstReservationCoupons);
-            evictUserCouponCache(userId, "ISSUED");
+            userCouponWalletService.onRemoved(userId,
+                    firstReservationCoupons.stream().map(UserCoupon::getId).toList());
             log.info("첫 예약 쿠폰 회수 - userId: {}, 개수: {}", userId, firstReservationCoupons.size());
         }
     }
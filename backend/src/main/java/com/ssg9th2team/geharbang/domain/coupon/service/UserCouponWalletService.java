@@ -0,0 +1,313 @@
+package com.ssg9th2team.geharbang.domain.coupon.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssg9th2team.geharbang.domain.coupon.dto.UserCouponResponseDto;
+import com.ssg9th2team.geharbang.domain.coupon.entity.UserCoupon;
+import com.ssg9th2team.geharbang.domain.coupon.repository.mybatis.UserCouponMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 유저 쿠폰함(Wallet) Write-through 캐시
+ *
+ * <p>기존 userCoupons 캐시는 발급/사용 시마다 통째로 evict 되어 직후 첫 조회가 항상 MySQL 로 갔다.
+ * 쿠폰함을 유저별 Redis Hash 로 두고 변경 시점에 해당 필드만 갱신한다.
+ * <pre>
+ *   key   : coupon:wallet:{userId}
+ *   field : uc:{userCouponId} → UserCouponResponseDto JSON
+ *           _v               → 버전 (모든 변경마다 +1)
+ *           _loaded          → DB 전체 로딩 완료 여부
+ * </pre>
+ *
+ * <p>버전 카운터로 "DB 조회 중 동시 변경" 을 감지한다.
+ * <ol>
+ *   <li>조회: _v 를 읽고 DB 로딩 → 버전이 그대로일 때만 Hash 채움 (Lua CAS)</li>
+ *   <li>변경: 항상 _v 증가, 로딩된 쿠폰함이면 해당 필드만 갱신</li>
+ *   <li>로딩된 쿠폰함에 없는 필드를 수정하려 하면 불일치로 보고 쿠폰함을 폐기 → 다음 조회에서 재로딩</li>
+ * </ol>
+ * 모든 변경은 DB 트랜잭션 커밋 이후에 반영하여 롤백된 변경이 캐시에 남지 않도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserCouponWalletService {
+
+    private static final String WALLET_KEY_PREFIX = "coupon:wallet:";
+    private static final String ENTRY_PREFIX = "uc:";
+    private static final String VERSION_FIELD = "_v";
+    private static final String LOADED_FIELD = "_loaded";
+    private static final long WALLET_TTL_SECONDS = 60L * 60 * 24;
+
+    /**
+     * DB 스냅샷으로 쿠폰함 채우기 (버전이 조회 시점과 같을 때만)
+     * KEYS[1] wallet key / ARGV[1] 기대 버전, ARGV[2] TTL, ARGV[3..] field, value 쌍
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('HGET', KEYS[1], '_v') or '0' " +
+            "if v ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], '_v', v, '_loaded', '1') " +
+            "for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 필드 추가/교체 (발급)
+     * KEYS[1] wallet key / ARGV[1] field, ARGV[2] value, ARGV[3] TTL
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('HINCRBY', KEYS[1], '_v', 1) " +
+            "if redis.call('HEXISTS', KEYS[1], '_loaded') == 1 then " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "end " +
+            "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[3]) end " +
+            "return v",
+            Long.class);
+
+    /**
+     * 상태 변경 (사용/복구/만료) - 저장된 JSON 의 status, usedAt 만 수정
+     * KEYS[1] wallet key / ARGV[1] field, ARGV[2] status, ARGV[3] usedAt(빈 문자열이면 null), ARGV[4] TTL
+     * 반환: -1 = 로딩된 쿠폰함에 필드가 없음 (불일치)
+     */
+    private static final RedisScript<Long> PATCH_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('HINCRBY', KEYS[1], '_v', 1) " +
+            "if redis.call('HEXISTS', KEYS[1], '_loaded') == 1 then " +
+            "  local raw = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "  if not raw then return -1 end " +
+            "  local entry = cjson.decode(raw) " +
+            "  entry['status'] = ARGV[2] " +
+            "  if ARGV[3] == '' then entry['usedAt'] = cjson.null else entry['usedAt'] = ARGV[3] end " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], cjson.encode(entry)) " +
+            "end " +
+            "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[4]) end " +
+            "return v",
+            Long.class);
+
+    /**
+     * 필드 삭제 (회수/일일 초기화)
+     * KEYS[1] wallet key / ARGV[1] TTL, ARGV[2..] field
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('HINCRBY', KEYS[1], '_v', 1) " +
+            "for i = 2, #ARGV do redis.call('HDEL', KEYS[1], ARGV[i]) end " +
+            "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+            "return v",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserCouponMapper userCouponMapper;
+    private final CouponPricingService couponPricingService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 상태별 내 쿠폰 조회 (ISSUED / USED / EXPIRED / ALL)
+     * 쿠폰함이 로딩되어 있으면 Redis 만 조회한다.
+     * 사용 가능 목록(ISSUED)에서는 결제 시 거절되는 비활성 쿠폰을 쿠폰 정의 캐시 기준으로 뺀다.
+     */
+    public List<UserCouponResponseDto> getCoupons(Long userId, String status) {
+        String key = walletKey(userId);
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+
+        Collection<UserCouponResponseDto> coupons;
+        if (entries.containsKey(LOADED_FIELD)) {
+            coupons = readEntries(entries);
+        } else {
+            coupons = loadFromDb(userId, key, entries.get(VERSION_FIELD));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<UserCouponResponseDto> matched = coupons.stream()
+                .filter(coupon -> matchesStatus(coupon, status, now))
+                .sorted(Comparator.comparing(UserCouponResponseDto::getId))
+                .toList();
+        if (!"ISSUED".equals(status) || matched.isEmpty()) {
+            return matched;
+        }
+        Set<Long> activeCouponIds = couponPricingService.findActiveCouponIds(
+                matched.stream().map(UserCouponResponseDto::getCouponId).collect(Collectors.toSet()));
+        return matched.stream()
+                .filter(coupon -> activeCouponIds.contains(coupon.getCouponId()))
+                .toList();
+    }
+
+    /**
+     * 발급 (트랜잭션 커밋 후 반영)
+     */
+    public void onIssued(UserCoupon userCoupon) {
+        UserCouponResponseDto entry = toEntry(userCoupon);
+        if (entry == null) {
+            invalidate(userCoupon.getUserId());
+            return;
+        }
+        String payload = serialize(entry);
+        afterCommit(() -> redisTemplate.execute(PUT_SCRIPT, List.of(walletKey(userCoupon.getUserId())),
+                entryField(userCoupon.getId()), payload, String.valueOf(WALLET_TTL_SECONDS)));
+    }
+
+    /**
+     * 사용 / 복구 / 만료 (트랜잭션 커밋 후 반영)
+     */
+    public void onStatusChanged(UserCoupon userCoupon) {
+        onStatusChanged(userCoupon.getUserId(), userCoupon.getId(),
+                userCoupon.getStatus().name(), userCoupon.getUsedAt());
+    }
+
+    public void onStatusChanged(Long userId, Long userCouponId, String status, LocalDateTime usedAt) {
+        String usedAtValue = usedAt != null ? usedAt.toString() : "";
+        afterCommit(() -> {
+            Long result = redisTemplate.execute(PATCH_SCRIPT, List.of(walletKey(userId)),
+                    entryField(userCouponId), status, usedAtValue, String.valueOf(WALLET_TTL_SECONDS));
+            if (result != null && result < 0) {
+                log.warn("쿠폰함 불일치 감지 - userId: {}, userCouponId: {}. 쿠폰함 재로딩 예약", userId, userCouponId);
+                redisTemplate.delete(walletKey(userId));
+            }
+        });
+    }
+
+    /**
+     * 쿠폰 삭제 (첫 예약 쿠폰 회수, 일일 선착순 쿠폰 초기화)
+     */
+    public void onRemoved(Long userId, Collection<Long> userCouponIds) {
+        if (userCouponIds.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(WALLET_TTL_SECONDS));
+        userCouponIds.forEach(id -> args.add(entryField(id)));
+        afterCommit(() -> redisTemplate.execute(REMOVE_SCRIPT, List.of(walletKey(userId)), args.toArray()));
+    }
+
+    /**
+     * 쿠폰함 전체 폐기 (회원 탈퇴 등) - 다음 조회 시 DB 에서 재로딩
+     */
+    public void invalidate(Long userId) {
+        afterCommit(() -> redisTemplate.delete(walletKey(userId)));
+    }
+
+    private List<UserCouponResponseDto> loadFromDb(Long userId, String key, Object versionAtRead) {
+        String expectedVersion = versionAtRead != null ? String.valueOf(versionAtRead) : "0";
+        List<UserCouponResponseDto> coupons = userCouponMapper.selectMyCouponsByStatus(userId, "ALL");
+
+        List<String> args = new ArrayList<>();
+        args.add(expectedVersion);
+        args.add(String.valueOf(WALLET_TTL_SECONDS));
+        for (UserCouponResponseDto coupon : coupons) {
+            args.add(entryField(coupon.getId()));
+            args.add(serialize(coupon));
+        }
+
+        Long loaded = redisTemplate.execute(LOAD_SCRIPT, List.of(key), args.toArray());
+        if (loaded == null || loaded == 0) {
+            // DB 조회 중 다른 변경이 먼저 반영됨 → 이번 스냅샷은 캐시하지 않음 (다음 조회에서 재시도)
+            log.debug("쿠폰함 로딩 중 버전 변경 감지 - userId: {}", userId);
+        }
+        return coupons;
+    }
+
+    private List<UserCouponResponseDto> readEntries(Map<Object, Object> entries) {
+        List<UserCouponResponseDto> coupons = new ArrayList<>();
+        entries.forEach((field, value) -> {
+            if (String.valueOf(field).startsWith(ENTRY_PREFIX)) {
+                coupons.add(deserialize(String.valueOf(value)));
+            }
+        });
+        return coupons;
+    }
+
+    // UserCouponMapper.selectMyCouponsByStatus 의 상태 조건과 동일
+    private boolean matchesStatus(UserCouponResponseDto coupon, String status, LocalDateTime now) {
+        boolean notExpired = coupon.getExpiredAt() != null && coupon.getExpiredAt().isAfter(now);
+        return switch (status) {
+            case "ALL" -> true;
+            case "ISSUED" -> "ISSUED".equals(coupon.getStatus()) && notExpired;
+            case "EXPIRED" -> "EXPIRED".equals(coupon.getStatus())
+                    || ("ISSUED".equals(coupon.getStatus()) && !notExpired);
+            default -> status.equals(coupon.getStatus());
+        };
+    }
+
+    private UserCouponResponseDto toEntry(UserCoupon userCoupon) {
+        CouponPricingService.CouponDefinition definition = couponPricingService.getDefinition(userCoupon.getCouponId());
+        if (definition == null) {
+            return null;
+        }
+        UserCouponResponseDto dto = new UserCouponResponseDto();
+        dto.setId(userCoupon.getId());
+        dto.setStatus(userCoupon.getStatus().name());
+        dto.setIssuedAt(userCoupon.getIssuedAt());
+        dto.setUsedAt(userCoupon.getUsedAt());
+        dto.setExpiredAt(userCoupon.getExpiredAt());
+        dto.setCouponId(definition.couponId());
+        dto.setCode(definition.code());
+        dto.setName(definition.name());
+        dto.setDiscountType(definition.discountType());
+        dto.setDiscountValue(definition.discountValue() != null ? definition.discountValue() : 0);
+        dto.setMinPrice(definition.minPrice() != null ? definition.minPrice() : 0);
+        dto.setMaxDiscount(definition.maxDiscount());
+        dto.setAccommodationsId(definition.accommodationId());
+        return dto;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runQuietly(action);
+                }
+            });
+            return;
+        }
+        runQuietly(action);
+    }
+
+    // 캐시 반영 실패가 비즈니스 로직을 깨뜨리지 않도록 로그만 남긴다
+    private void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.error("쿠폰함 캐시 반영 실패", e);
+        }
+    }
+
+    private String serialize(UserCouponResponseDto dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("쿠폰함 직렬화 실패", e);
+        }
+    }
+
+    private UserCouponResponseDto deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, UserCouponResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("쿠폰함 역직렬화 실패", e);
+        }
+    }
+
+    private String walletKey(Long userId) {
+        return WALLET_KEY_PREFIX + userId;
+    }
+
+    private String entryField(Long userCouponId) {
+        return ENTRY_PREFIX + userCouponId;
+    }
+}
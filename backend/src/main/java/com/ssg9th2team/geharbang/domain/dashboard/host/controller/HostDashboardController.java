@@ -1,12 +1,10 @@
 package com.ssg9th2team.geharbang.domain.dashboard.host.controller;
 
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.dashboard.host.dto.HostDashboardSummaryResponse;
 import com.ssg9th2team.geharbang.domain.dashboard.host.dto.TodayScheduleItemResponse;
 import com.ssg9th2team.geharbang.domain.dashboard.host.service.HostDashboardService;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.common.annotation.CurrentUserId;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -22,19 +20,14 @@ import java.util.List;
 public class HostDashboardController {
 
     private final HostDashboardService hostDashboardService;
-    private final UserRepository userRepository;
 
     @GetMapping("/dashboard/summary")
     public HostDashboardSummaryResponse summary(
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) Integer month,
             @RequestParam(required = false) String range,
-            Authentication authentication
+            @CurrentUserId Long hostId
     ) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
         if (range != null && !range.isBlank()) {
             LocalDate today = LocalDate.now();
             RangeWindow window = RangeWindow.from(range.trim(), today);
@@ -49,12 +42,8 @@ public class HostDashboardController {
     @GetMapping("/dashboard/today-schedule")
     public List<TodayScheduleItemResponse> todaySchedule(
             @RequestParam LocalDate date,
-            Authentication authentication
+            @CurrentUserId Long hostId
     ) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
         return hostDashboardService.getTodaySchedule(hostId, date);
     }
 
@@ -1,16 +1,16 @@
 package com.ssg9th2team.geharbang.domain.main.controller;
 
 import com.ssg9th2team.geharbang.domain.accommodation.service.AccommodationService;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.main.dto.AvailableRoomResponse;
 import com.ssg9th2team.geharbang.domain.main.dto.AccommodationDetailDto;
 import com.ssg9th2team.geharbang.domain.main.dto.MainAccommodationListResponse;
+import com.ssg9th2team.geharbang.domain.main.dto.PublicListResponse;
 import com.ssg9th2team.geharbang.domain.main.service.MainService;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomJpaRepository;
+import com.ssg9th2team.geharbang.global.common.annotation.CurrentUserId;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -32,39 +32,22 @@ public class MainController {
 
     private final MainService mainService;
     private final AccommodationService accommodationService;
-    private final UserRepository userRepository; // Inject UserRepository
 
     private final RoomJpaRepository roomJpaRepository;
 
     @GetMapping("/list")
     public MainAccommodationListResponse list(
-            Authentication authentication, // Inject Authentication object
+            @CurrentUserId(required = false) Long userId, // 비로그인이면 null
             @RequestParam(name = "themeIds", required = false) List<Long> themeIds,
             @RequestParam(name = "keyword", required = false) String keyword) {
-
-        Long userId = null;
-        if (authentication != null && authentication.isAuthenticated()) {
-            String userEmail = authentication.getName();
-            userId = userRepository.findByEmail(userEmail)
-                    .map(com.ssg9th2team.geharbang.domain.auth.entity.User::getId)
-                    .orElse(null); // If user not found, userId remains null
-        }
         return mainService.getMainAccommodationList(userId, themeIds, keyword);
     }
 
     @GetMapping("/list/bulk")
     public Map<Long, MainAccommodationListResponse> listBulk(
-            Authentication authentication,
+            @CurrentUserId(required = false) Long userId,
             @RequestParam(name = "themeIds") List<Long> themeIds,
             @RequestParam(name = "keyword", required = false) String keyword) {
-        Long userId = null;
-        if (authentication != null && authentication.isAuthenticated()) {
-            String userEmail = authentication.getName();
-            userId = userRepository.findByEmail(userEmail)
-                    .map(com.ssg9th2team.geharbang.domain.auth.entity.User::getId)
-                    .orElse(null);
-        }
-
         if (themeIds == null || themeIds.isEmpty()) {
             return new LinkedHashMap<>();
         }
@@ -73,6 +56,15 @@ public class MainController {
         return mainService.getMainAccommodationListBulk(userId, themeIds, keyword);
     }
 
+    // 메인 피드 무한 스크롤 (themeId 없으면 기본 피드)
+    @GetMapping("/feed")
+    public PublicListResponse feed(
+            @RequestParam(name = "themeId", required = false) Long themeId,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return mainService.getMainFeed(themeId, page, size);
+    }
+
     @GetMapping("/detail/{accommodationsId}")
     public AccommodationDetailDto accommodationDetail(@PathVariable Long accommodationsId) {
         return AccommodationDetailDto.from(accommodationService.getAccommodation(accommodationsId));
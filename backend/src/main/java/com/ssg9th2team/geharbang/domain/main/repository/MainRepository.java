@@ -1,7 +1,6 @@
 package com.ssg9th2team.geharbang.domain.main.repository;
 
 import com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation;
-import com.ssg9th2team.geharbang.domain.accommodation.entity.ApprovalStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,17 +18,17 @@ public interface MainRepository extends JpaRepository<Accommodation, Long> {
             """, nativeQuery = true)
     List<Accommodation> findByThemeIds(@Param("themeIds") List<Long> themeIds);
 
-    List<Accommodation> findByAccommodationStatusAndApprovalStatus(
-            Integer accommodationStatus, ApprovalStatus approvalStatus);
-
+    // 검색어로 거른 노출 중 숙소 ID (메인 피드와 같은 정렬)
     @Query(value = """
-            SELECT a.*
+            SELECT a.accommodations_id
             FROM accommodation a
             WHERE a.accommodation_status = 1
               AND a.approval_status = 'APPROVED'
               AND LOWER(CONCAT_WS(' ', a.accommodations_name, a.city, a.district, a.township)) LIKE CONCAT('%', LOWER(:keyword), '%')
+            ORDER BY (COALESCE(a.review_count, 0) * COALESCE(a.rating, 0.0) + 40.0) / (COALESCE(a.review_count, 0) + 10.0) DESC,
+                     a.accommodations_id DESC
             """, nativeQuery = true)
-    List<Accommodation> findApprovedByKeyword(@Param("keyword") String keyword);
+    List<Long> findApprovedIdsByKeyword(@Param("keyword") String keyword);
 
     @Query(value = """
             SELECT DISTINCT a.*
@@ -57,4 +56,76 @@ public interface MainRepository extends JpaRepository<Accommodation, Long> {
     List<AccommodationImageProjection> findRepresentativeImages(
             @Param("accommodationIds") List<Long> accommodationIds
     );
+
+    // 메인 피드 정렬 순서 (검색 recommended 정렬과 같은 베이지안 평점 내림차순)
+    @Query(value = """
+            SELECT a.accommodations_id
+            FROM accommodation a
+            WHERE a.accommodation_status = 1
+              AND a.approval_status = 'APPROVED'
+            ORDER BY (COALESCE(a.review_count, 0) * COALESCE(a.rating, 0.0) + 40.0) / (COALESCE(a.review_count, 0) + 10.0) DESC,
+                     a.accommodations_id DESC
+            """, nativeQuery = true)
+    List<Long> findApprovedFeedIds();
+
+    @Query(value = """
+            SELECT a.accommodations_id
+            FROM accommodation a
+            JOIN accommodation_theme at ON at.accommodations_id = a.accommodations_id
+            WHERE at.theme_id = :themeId
+              AND a.accommodation_status = 1
+              AND a.approval_status = 'APPROVED'
+            ORDER BY (COALESCE(a.review_count, 0) * COALESCE(a.rating, 0.0) + 40.0) / (COALESCE(a.review_count, 0) + 10.0) DESC,
+                     a.accommodations_id DESC
+            """, nativeQuery = true)
+    List<Long> findApprovedFeedIdsByTheme(@Param("themeId") Long themeId);
+
+    // 목록 카드 한 장에 필요한 컬럼만 (대표 이미지, 최대 인원 포함) 한 번에 조회
+    @Query(value = """
+            SELECT
+                a.accommodations_id AS accommodationsId,
+                a.accommodations_name AS accommodationsName,
+                a.short_description AS shortDescription,
+                a.city AS city,
+                a.district AS district,
+                a.township AS township,
+                a.latitude AS latitude,
+                a.longitude AS longitude,
+                a.min_price AS minPrice,
+                COALESCE(a.rating, 0.0) AS rating,
+                a.review_count AS reviewCount,
+                COALESCE(rs.maxGuests, 0) AS maxGuests,
+                ai.image_url AS imageUrl
+            FROM accommodation a
+            LEFT JOIN (
+                SELECT r.accommodations_id, MAX(r.max_guests) AS maxGuests
+                FROM room r
+                WHERE r.room_status = 1
+                  AND r.accommodations_id IN (:accommodationIds)
+                GROUP BY r.accommodations_id
+            ) rs ON rs.accommodations_id = a.accommodations_id
+            LEFT JOIN accommodation_image ai
+              ON ai.accommodations_id = a.accommodations_id
+             AND ai.sort_order = 0
+             AND ai.image_type = 'banner'
+            WHERE a.accommodations_id IN (:accommodationIds)
+              AND a.accommodation_status = 1
+              AND a.approval_status = 'APPROVED'
+            """, nativeQuery = true)
+    List<ListDtoProjection> findListItems(@Param("accommodationIds") List<Long> accommodationIds);
+
+    // 테마 선반 스냅샷/테마 색인 생성용: 노출 중인 숙소의 (테마, 숙소) 연결 전체와 정렬용 평점/리뷰 수
+    @Query(value = """
+            SELECT
+                at.theme_id AS themeId,
+                a.accommodations_id AS accommodationsId,
+                a.rating AS rating,
+                a.review_count AS reviewCount
+            FROM accommodation_theme at
+            JOIN accommodation a ON a.accommodations_id = at.accommodations_id
+            WHERE a.accommodation_status = 1
+              AND a.approval_status = 'APPROVED'
+            ORDER BY at.theme_id, a.accommodations_id
+            """, nativeQuery = true)
+    List<ThemeAccommodationLinkProjection> findApprovedThemeLinks();
 }
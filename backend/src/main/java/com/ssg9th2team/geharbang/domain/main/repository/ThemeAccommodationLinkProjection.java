@@ -0,0 +1,8 @@
+package com.ssg9th2team.geharbang.domain.main.repository;
+
+public interface ThemeAccommodationLinkProjection {
+    Long getThemeId();
+    Long getAccommodationsId();
+    Double getRating();
+    Integer getReviewCount();
+}
@@ -1,19 +1,20 @@
 package com.ssg9th2team.geharbang.domain.main.service;
 
 import com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation;
-import com.ssg9th2team.geharbang.domain.accommodation.entity.ApprovalStatus;
-import com.ssg9th2team.geharbang.domain.accommodation_theme.entity.AccommodationTheme;
 import com.ssg9th2team.geharbang.domain.accommodation_theme.repository.AccommodationThemeRepository;
 import com.ssg9th2team.geharbang.domain.auth.entity.User;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.main.dto.ListDto;
 import com.ssg9th2team.geharbang.domain.main.dto.MainAccommodationListResponse;
+import com.ssg9th2team.geharbang.domain.main.dto.PublicListResponse;
 import com.ssg9th2team.geharbang.domain.main.repository.AccommodationImageProjection;
 import com.ssg9th2team.geharbang.domain.main.repository.MainRepository;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.AccommodationGuestStats;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomJpaRepository;
 import com.ssg9th2team.geharbang.domain.theme.entity.Theme;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,8 +30,12 @@ public class BaseMainService implements MainService {
     private final UserRepository userRepository;
     private final AccommodationThemeRepository accommodationThemeRepository;
     private final RoomJpaRepository roomJpaRepository;
+    private final MainFeedCache mainFeedCache;
+    private final ThemeShelfSnapshotService themeShelfSnapshotService;
+    private final ThemePostingIndex themePostingIndex;
 
     private static final int RECOMMENDATION_LIMIT = 5; // 최대 추천 숙소 개수
+    private static final int MAX_FEED_PAGE_SIZE = 50; // 피드 한 페이지 최대 숙소 수
 
     @Override
     public MainAccommodationListResponse getMainAccommodationList(Long userId, List<Long> filterThemeIds,
@@ -45,23 +50,18 @@ public class BaseMainService implements MainService {
             List<Accommodation> filteredAccommodations = loadApprovedAccommodationsByTheme(filterThemeIds,
                     normalizedKeyword);
             generalAccommodations = toListDtos(filteredAccommodations);
-        } else if (!userThemeIds.isEmpty()) {
-            List<Accommodation> approvedAccommodations = loadApprovedAccommodations(normalizedKeyword);
-            // 사용자 테마 기반 추천 로직 (필터 테마 ID가 없을 때만 적용)
-            recommendedAccommodations = getRecommendedAccommodations(approvedAccommodations, userThemeIds);
-            Set<Long> recommendedAccommodationIds = recommendedAccommodations.stream()
-                    .map(ListDto::getAccommodationsId)
-                    .collect(Collectors.toSet());
+        } else {
+            // 노출 중인 숙소는 ID 목록(메인 피드 순서)만 읽고 카드는 목록 카드 캐시에서 채운다 (카탈로그를 엔티티로 읽지 않음)
+            List<Long> approvedIds = loadApprovedAccommodationIds(normalizedKeyword);
+            // 사용자 테마 기반 추천 로직 (필터 테마 ID가 없을 때만 적용, 테마가 없거나 비로그인이면 추천 없음)
+            List<Long> recommendedIds = getRecommendedAccommodationIds(approvedIds, userThemeIds);
+            recommendedAccommodations = mainFeedCache.getListItems(recommendedIds);
 
             // 추천 숙소를 제외한 나머지 숙소를 일반 목록에 추가
-            List<Accommodation> remainingAccommodations = approvedAccommodations.stream()
-                    .filter(acc -> !recommendedAccommodationIds.contains(acc.getAccommodationsId()))
-                    .toList();
-            generalAccommodations = toListDtos(remainingAccommodations);
-        } else {
-            // 테마가 없거나 비로그인 상태일 경우 모든 승인된 숙소를 일반 목록에 추가
-            List<Accommodation> approvedAccommodations = loadApprovedAccommodations(normalizedKeyword);
-            generalAccommodations = toListDtos(approvedAccommodations);
+            Set<Long> recommendedIdSet = new HashSet<>(recommendedIds);
+            generalAccommodations = mainFeedCache.getListItems(approvedIds.stream()
+                    .filter(id -> !recommendedIdSet.contains(id))
+                    .toList());
         }
 
         return MainAccommodationListResponse.builder()
@@ -77,9 +77,59 @@ public class BaseMainService implements MainService {
             return Collections.emptyMap();
         }
         String normalizedKeyword = normalizeKeyword(keyword);
-        List<Accommodation> accommodations = loadApprovedAccommodationsByTheme(themeIds, normalizedKeyword);
+        long rotation = themeShelfSnapshotService.currentRotation();
+
+        Map<Long, List<ListDto>> shelves = new HashMap<>();
+        List<Long> liveThemeIds = themeIds;
+        if (normalizedKeyword == null) {
+            // 검색어가 없으면 미리 섞어 둔 테마 선반 스냅샷(MGET) + 목록 카드 캐시로 응답
+            Map<Long, List<Long>> snapshots = themeShelfSnapshotService.getShelves(themeIds);
+            shelves.putAll(hydrateShelves(snapshots));
+            liveThemeIds = themeIds.stream().filter(themeId -> !snapshots.containsKey(themeId)).toList();
+            if (snapshots.isEmpty()) {
+                // 스냅샷이 통째로 없으면(만료/미생성) 다시 만들도록 요청. 일부만 없는 테마는 다음 회전에 포함된다
+                themeShelfSnapshotService.requestRebuild();
+            }
+        }
+        if (!liveThemeIds.isEmpty()) {
+            shelves.putAll(groupThemeShelves(liveThemeIds, normalizedKeyword, rotation));
+        }
+
+        Map<Long, MainAccommodationListResponse> result = new LinkedHashMap<>();
+        for (Long themeId : themeIds) {
+            result.put(themeId, MainAccommodationListResponse.builder()
+                    .recommendedAccommodations(Collections.emptyList())
+                    .generalAccommodations(shelves.getOrDefault(themeId, Collections.emptyList()))
+                    .build());
+        }
+        return result;
+    }
+
+    // 스냅샷의 숙소 ID 를 목록 카드로 채운다 (여러 테마에 걸친 숙소도 한 번에 조회)
+    private Map<Long, List<ListDto>> hydrateShelves(Map<Long, List<Long>> snapshots) {
+        if (snapshots.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> accommodationIds = snapshots.values().stream()
+                .flatMap(List::stream)
+                .distinct()
+                .toList();
+        Map<Long, ListDto> itemById = mainFeedCache.getListItems(accommodationIds).stream()
+                .collect(Collectors.toMap(ListDto::getAccommodationsId, item -> item));
+
+        Map<Long, List<ListDto>> shelves = new HashMap<>();
+        snapshots.forEach((themeId, ids) -> shelves.put(themeId, ids.stream()
+                .map(itemById::get)
+                .filter(Objects::nonNull)
+                .toList()));
+        return shelves;
+    }
+
+    // 스냅샷이 없거나 검색어가 있을 때 직접 그룹핑 (스냅샷과 같은 시드로 섞는다)
+    private Map<Long, List<ListDto>> groupThemeShelves(List<Long> themeIds, String keyword, long rotation) {
+        List<Accommodation> accommodations = loadApprovedAccommodationsByTheme(themeIds, keyword);
         if (accommodations.isEmpty()) {
-            return buildEmptyThemeMap(themeIds);
+            return Map.of();
         }
 
         Map<Long, Accommodation> accommodationById = accommodations.stream()
@@ -87,7 +137,7 @@ public class BaseMainService implements MainService {
         Map<Long, String> imageById = loadRepresentativeImages(accommodations);
         Map<Long, Integer> maxGuestsById = loadMaxGuests(accommodations);
 
-        List<Long> accommodationIds = accommodationById.keySet().stream().toList();
+        List<Long> accommodationIds = accommodationById.keySet().stream().sorted().toList();
         Map<Long, List<Accommodation>> grouped = new HashMap<>();
         Set<Long> themeIdSet = new HashSet<>(themeIds);
         accommodationThemeRepository.findByAccommodationIds(accommodationIds).forEach(link -> {
@@ -103,19 +153,30 @@ public class BaseMainService implements MainService {
             grouped.computeIfAbsent(themeId, key -> new ArrayList<>()).add(accommodation);
         });
 
-        Map<Long, MainAccommodationListResponse> result = new LinkedHashMap<>();
-        for (Long themeId : themeIds) {
-            List<Accommodation> list = grouped.getOrDefault(themeId, Collections.emptyList());
-            // 테마별 숙소 순서를 랜덤하게 섞어 같은 숙소가 여러 테마에서 항상 첫번째로 나오지 않도록 함
+        Map<Long, List<ListDto>> shelves = new HashMap<>();
+        grouped.forEach((themeId, list) -> {
+            // 테마별 숙소 순서를 섞어 같은 숙소가 여러 테마에서 항상 첫번째로 나오지 않도록 함 (회전 주기 동안은 고정)
             List<Accommodation> shuffledList = new ArrayList<>(list);
-            Collections.shuffle(shuffledList);
-            List<ListDto> general = toListDtosWithMaps(shuffledList, imageById, maxGuestsById);
-            result.put(themeId, MainAccommodationListResponse.builder()
-                    .recommendedAccommodations(Collections.emptyList())
-                    .generalAccommodations(general)
-                    .build());
-        }
-        return result;
+            shuffledList.sort(Comparator.comparing(Accommodation::getAccommodationsId));
+            ThemeShelfSnapshotService.shuffle(shuffledList, themeId, rotation);
+            shelves.put(themeId, toListDtosWithMaps(shuffledList, imageById, maxGuestsById));
+        });
+        return shelves;
+    }
+
+    @Override
+    public PublicListResponse getMainFeed(Long themeId, int page, int size) {
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+
+        // 캐시된 정렬 ID 목록에서 페이지만 잘라 카드 캐시로 채운다 (전체 카탈로그를 엔티티로 읽지 않음)
+        List<Long> feedIds = mainFeedCache.getFeedIds(themeId);
+        int fromIndex = (int) Math.min((long) pageNumber * pageSize, feedIds.size());
+        int toIndex = Math.min(fromIndex + pageSize, feedIds.size());
+        List<ListDto> items = mainFeedCache.getListItems(feedIds.subList(fromIndex, toIndex));
+
+        return PublicListResponse.of(items,
+                new PageImpl<>(items, PageRequest.of(pageNumber, pageSize), feedIds.size()));
     }
 
     private String normalizeKeyword(String keyword) {
@@ -126,11 +187,11 @@ public class BaseMainService implements MainService {
         return normalized.isEmpty() ? null : normalized;
     }
 
-    private List<Accommodation> loadApprovedAccommodations(String keyword) {
+    private List<Long> loadApprovedAccommodationIds(String keyword) {
         if (keyword == null) {
-            return mainRepository.findByAccommodationStatusAndApprovalStatus(1, ApprovalStatus.APPROVED);
+            return mainFeedCache.getFeedIds(null);
         }
-        return mainRepository.findApprovedByKeyword(keyword);
+        return mainRepository.findApprovedIdsByKeyword(keyword);
     }
 
     private List<Accommodation> loadApprovedAccommodationsByTheme(List<Long> themeIds, String keyword) {
@@ -160,17 +221,6 @@ public class BaseMainService implements MainService {
                 .toList();
     }
 
-    private Map<Long, MainAccommodationListResponse> buildEmptyThemeMap(List<Long> themeIds) {
-        Map<Long, MainAccommodationListResponse> result = new LinkedHashMap<>();
-        for (Long themeId : themeIds) {
-            result.put(themeId, MainAccommodationListResponse.builder()
-                    .recommendedAccommodations(Collections.emptyList())
-                    .generalAccommodations(Collections.emptyList())
-                    .build());
-        }
-        return result;
-    }
-
     private Set<Long> getUserThemeIds(Long userId) {
         if (userId == null) {
             return Collections.emptySet();
@@ -183,65 +233,15 @@ public class BaseMainService implements MainService {
                 .collect(Collectors.toSet());
     }
 
-    private List<ListDto> getRecommendedAccommodations(List<Accommodation> allApprovedAccommodations,
-            Set<Long> userThemeIds) {
-        if (userThemeIds.isEmpty()) {
-            return Collections.emptyList();
-        }
-        if (allApprovedAccommodations.isEmpty()) {
+    private List<Long> getRecommendedAccommodationIds(List<Long> approvedIds, Set<Long> userThemeIds) {
+        if (userThemeIds.isEmpty() || approvedIds.isEmpty()) {
             return Collections.emptyList();
         }
 
-        // 모든 승인된 숙소의 테마 정보 한 번에 가져오기
-        List<Long> allAccommodationIds = allApprovedAccommodations.stream()
-                .map(Accommodation::getAccommodationsId)
-                .toList();
-        List<AccommodationTheme> allAccommodationThemes = accommodationThemeRepository
-                .findByAccommodationIds(allAccommodationIds);
-
-        // 숙소별 테마 매칭 점수 계산
-        Map<Long, Integer> accommodationScores = new HashMap<>();
-        Map<Long, Set<Long>> accommodationToThemes = new HashMap<>();
-
-        for (AccommodationTheme at : allAccommodationThemes) {
-            accommodationToThemes.computeIfAbsent(at.getAccommodation().getAccommodationsId(), k -> new HashSet<>())
-                    .add(at.getTheme().getId());
-        }
-
-        for (Accommodation acc : allApprovedAccommodations) {
-            Set<Long> themesOfAccommodation = accommodationToThemes.getOrDefault(acc.getAccommodationsId(),
-                    Collections.emptySet());
-            int score = 0;
-            for (Long userThemeId : userThemeIds) {
-                if (themesOfAccommodation.contains(userThemeId)) {
-                    score++;
-                }
-            }
-            accommodationScores.put(acc.getAccommodationsId(), score);
-        }
-
-        // 점수 기준으로 정렬 및 상위 N개 선택
-        List<Accommodation> recommended = allApprovedAccommodations.stream()
-                .filter(acc -> accommodationScores.getOrDefault(acc.getAccommodationsId(), 0) > 0) // 점수가 0보다 큰 숙소만 추천
-                .sorted((acc1, acc2) -> {
-                    int score1 = accommodationScores.getOrDefault(acc1.getAccommodationsId(), 0);
-                    int score2 = accommodationScores.getOrDefault(acc2.getAccommodationsId(), 0);
-                    if (score1 != score2) {
-                        return Integer.compare(score2, score1); // 점수 내림차순
-                    }
-                    // 2차 정렬 기준: 평점 내림차순, 리뷰 수 내림차순
-                    double rating1 = acc1.getRating() != null ? acc1.getRating() : 0.0;
-                    double rating2 = acc2.getRating() != null ? acc2.getRating() : 0.0;
-                    if (rating1 != rating2) {
-                        return Double.compare(rating2, rating1);
-                    }
-                    int reviewCount1 = acc1.getReviewCount() != null ? acc1.getReviewCount() : 0;
-                    int reviewCount2 = acc2.getReviewCount() != null ? acc2.getReviewCount() : 0;
-                    return Integer.compare(reviewCount2, reviewCount1);
-                })
-                .limit(RECOMMENDATION_LIMIT)
-                .toList();
-        return toListDtos(recommended);
+        // 테마 색인에서 사용자 테마와 겹치는 숙소만 순회해 상위 N개 선택
+        // (정렬: 겹치는 테마 수 내림차순, 평점 내림차순, 리뷰 수 내림차순)
+        Set<Long> allowedIds = new HashSet<>(approvedIds);
+        return themePostingIndex.current().topK(userThemeIds, RECOMMENDATION_LIMIT, allowedIds::contains);
     }
 
     private Map<Long, Integer> loadMaxGuests(List<Accommodation> accommodations) {
@@ -0,0 +1,135 @@
+package com.ssg9th2team.geharbang.domain.main.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssg9th2team.geharbang.domain.main.dto.ListDto;
+import com.ssg9th2team.geharbang.domain.main.repository.ListDtoProjection;
+import com.ssg9th2team.geharbang.domain.main.repository.MainRepository;
+import com.ssg9th2team.geharbang.global.cache.LocalCacheEvictionBroadcaster;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메인 피드 캐시
+ *
+ * <p>두 단계로 나눠 Caffeine 로컬 캐시에 보관한다.
+ * <ul>
+ *   <li>피드 순서: 기본 피드/테마별로 정렬된 숙소 ID 목록만 (ID 목록이라 전체 카탈로그여도 작다)</li>
+ *   <li>목록 카드: 숙소 ID -> ListDto. 기본 피드와 테마 피드가 같은 항목을 공유한다</li>
+ * </ul>
+ * 페이지 요청은 ID 목록에서 잘라낸 뒤 카드 캐시에서 채우고, 캐시에 없는 카드만 한 번의 쿼리로 읽는다.
+ * 숙소 승인/반려 시 {@link #invalidateAll()} 로 모든 노드에서 커밋 후 무효화하고, 그 밖의 변경(평점, 가격 등)은 TTL 로 반영된다.
+ */
+@Slf4j
+@Component
+public class MainFeedCache {
+
+    static final String CACHE_NAME = "main-feed";
+    private static final Long DEFAULT_FEED_KEY = 0L;
+
+    private final MainRepository mainRepository;
+    private final LocalCacheEvictionBroadcaster cacheEvictionBroadcaster;
+    private final Cache<Long, List<Long>> feedIdsCache;
+    private final Cache<Long, ListDto> listItemCache;
+
+    public MainFeedCache(MainRepository mainRepository,
+                         LocalCacheEvictionBroadcaster cacheEvictionBroadcaster,
+                         @Value("${main.feed.cache.ids-ttl-minutes:5}") long idsTtlMinutes,
+                         @Value("${main.feed.cache.item-ttl-minutes:10}") long itemTtlMinutes,
+                         @Value("${main.feed.cache.item-max-size:20000}") long itemMaxSize) {
+        this.mainRepository = mainRepository;
+        this.cacheEvictionBroadcaster = cacheEvictionBroadcaster;
+        this.feedIdsCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(idsTtlMinutes))
+                .maximumSize(500)
+                .build();
+        this.listItemCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(itemTtlMinutes))
+                .maximumSize(itemMaxSize)
+                .build();
+    }
+
+    @PostConstruct
+    void registerEviction() {
+        cacheEvictionBroadcaster.register(CACHE_NAME, ignored -> evictLocally());
+    }
+
+    /**
+     * 정렬된 피드 숙소 ID 목록 (themeId 가 null 이면 기본 피드)
+     */
+    public List<Long> getFeedIds(Long themeId) {
+        Long key = themeId != null ? themeId : DEFAULT_FEED_KEY;
+        return feedIdsCache.get(key, ignored -> List.copyOf(themeId != null
+                ? mainRepository.findApprovedFeedIdsByTheme(themeId)
+                : mainRepository.findApprovedFeedIds()));
+    }
+
+    /**
+     * 숙소 ID 순서대로 목록 카드 조회. 캐시에 없는 카드는 한 번에 읽어 채우며, 그 사이 비노출된 숙소는 빠진다.
+     */
+    public List<ListDto> getListItems(List<Long> accommodationIds) {
+        if (accommodationIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ListDto> items = listItemCache.getAll(accommodationIds, this::loadListItems);
+        List<ListDto> result = new ArrayList<>(accommodationIds.size());
+        for (Long accommodationId : accommodationIds) {
+            ListDto item = items.get(accommodationId);
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 모든 노드의 피드 캐시를 비운다. 트랜잭션 안에서 호출하면 커밋 후에 비운다
+     * (커밋 전 다른 요청이 옛 승인 상태를 다시 캐시하지 않도록).
+     */
+    public void invalidateAll() {
+        cacheEvictionBroadcaster.broadcast(CACHE_NAME, "all");
+    }
+
+    private void evictLocally() {
+        feedIdsCache.invalidateAll();
+        listItemCache.invalidateAll();
+    }
+
+    private Map<Long, ListDto> loadListItems(Collection<? extends Long> accommodationIds) {
+        List<ListDtoProjection> projections = mainRepository.findListItems(new ArrayList<>(accommodationIds));
+        Map<Long, ListDto> loaded = new HashMap<>(projections.size());
+        for (ListDtoProjection projection : projections) {
+            // 대표 이미지가 여러 장이면 첫 행 사용
+            loaded.putIfAbsent(projection.getAccommodationsId(), toListDto(projection));
+        }
+        log.debug("Loaded {} main feed list items ({} requested)", loaded.size(), accommodationIds.size());
+        return loaded;
+    }
+
+    private ListDto toListDto(ListDtoProjection projection) {
+        return ListDto.builder()
+                .accommodationsId(projection.getAccommodationsId())
+                .accommodationsName(projection.getAccommodationsName())
+                .shortDescription(projection.getShortDescription())
+                .city(projection.getCity())
+                .district(projection.getDistrict())
+                .township(projection.getTownship())
+                .latitude(projection.getLatitude())
+                .longitude(projection.getLongitude())
+                .minPrice(projection.getMinPrice())
+                .rating(projection.getRating())
+                .reviewCount(projection.getReviewCount())
+                .maxGuests(projection.getMaxGuests())
+                .imageUrl(projection.getImageUrl())
+                .build();
+    }
+}
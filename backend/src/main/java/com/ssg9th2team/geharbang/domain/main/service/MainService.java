@@ -1,6 +1,7 @@
 package com.ssg9th2team.geharbang.domain.main.service;
 
 import com.ssg9th2team.geharbang.domain.main.dto.MainAccommodationListResponse;
+import com.ssg9th2team.geharbang.domain.main.dto.PublicListResponse;
 import java.util.List;
 import java.util.Map;
 
@@ -12,4 +13,7 @@ public interface MainService {
     Map<Long, MainAccommodationListResponse> getMainAccommodationListBulk(Long userId, List<Long> themeIds,
             String keyword);
 
+    // 메인 피드 페이지 조회 (무한 스크롤) - themeId 가 없으면 기본 피드
+    PublicListResponse getMainFeed(Long themeId, int page, int size);
+
 }
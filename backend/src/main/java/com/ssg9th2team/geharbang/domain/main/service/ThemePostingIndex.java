@@ -0,0 +1,215 @@
+package com.ssg9th2team.geharbang.domain.main.service;
+
+import com.ssg9th2team.geharbang.domain.main.repository.MainRepository;
+import com.ssg9th2team.geharbang.global.cache.LocalCacheEvictionBroadcaster;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongPredicate;
+
+/**
+ * 테마 -> 숙소 posting list 색인 (맞춤 추천용)
+ *
+ * <p>노출 중인 숙소에 0부터 위치 번호를 매기고 테마별로 해당 숙소 위치를 BitSet 으로 보관한다.
+ * 추천은 사용자 테마 BitSet 의 합집합(테마가 하나라도 겹치는 숙소)만 순회하며
+ * 크기 K 의 힙으로 (겹치는 테마 수, 평점, 리뷰 수) 상위 K 개를 고른다.
+ * <ul>
+ *   <li>숙소 승인/반려, 테마 변경, 삭제 시 {@link #invalidate()} 로 다음 조회 때 다시 만든다.
+ *       무효화는 {@link LocalCacheEvictionBroadcaster} 로 모든 노드에 전달된다 (발행 실패 시 다른 노드는 refresh-minutes 까지 이전 색인)</li>
+ *   <li>평점/리뷰 수 변화는 refresh-minutes 마다 반영된다</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThemePostingIndex {
+
+    static final String CACHE_NAME = "theme-posting-index";
+
+    private final MainRepository mainRepository;
+    private final LocalCacheEvictionBroadcaster cacheEvictionBroadcaster;
+
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile Snapshot snapshot;
+    private volatile long builtAtNanos;
+
+    @Value("${main.theme-index.refresh-minutes:5}")
+    private long refreshMinutes;
+
+    /**
+     * 현재 색인. 갱신이 필요하면 한 스레드만 다시 만들고, 나머지는 기존 색인을 그대로 사용한다.
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    rebuild();
+                }
+                return snapshot;
+            }
+        }
+        boolean expired = System.nanoTime() - builtAtNanos > Duration.ofMinutes(refreshMinutes).toNanos();
+        if ((stale.get() || expired) && refreshing.compareAndSet(false, true)) {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("Theme posting index refresh failed. Keeping previous index: {}", e.getMessage());
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return snapshot;
+    }
+
+    @PostConstruct
+    void registerEviction() {
+        cacheEvictionBroadcaster.register(CACHE_NAME, ignored -> stale.set(true));
+    }
+
+    /**
+     * 모든 노드의 색인을 다음 조회 때 다시 만들도록 표시한다 (트랜잭션 안이면 커밋 후)
+     */
+    public void invalidate() {
+        cacheEvictionBroadcaster.broadcast(CACHE_NAME, "all");
+    }
+
+    private void rebuild() {
+        stale.set(false);
+        List<Posting> postings = new ArrayList<>();
+        mainRepository.findApprovedThemeLinks().forEach(link -> postings.add(new Posting(
+                link.getThemeId(), link.getAccommodationsId(), link.getRating(), link.getReviewCount())));
+        Snapshot built = Snapshot.build(postings);
+        snapshot = built;
+        builtAtNanos = System.nanoTime();
+        log.debug("Built theme posting index: {} accommodations, {} themes", built.size(), built.themeCount());
+    }
+
+    /**
+     * (테마, 숙소) 연결 한 건과 정렬 기준 값
+     */
+    public record Posting(Long themeId, Long accommodationId, Double rating, Integer reviewCount) {
+    }
+
+    /**
+     * 불변 색인. 위치 번호는 숙소 ID 오름차순.
+     */
+    public static final class Snapshot {
+
+        private final long[] accommodationIds;
+        private final double[] ratings;
+        private final int[] reviewCounts;
+        private final Map<Long, BitSet> postingsByTheme;
+
+        private Snapshot(long[] accommodationIds, double[] ratings, int[] reviewCounts,
+                         Map<Long, BitSet> postingsByTheme) {
+            this.accommodationIds = accommodationIds;
+            this.ratings = ratings;
+            this.reviewCounts = reviewCounts;
+            this.postingsByTheme = postingsByTheme;
+        }
+
+        public static Snapshot build(Collection<Posting> postings) {
+            TreeMap<Long, Posting> byAccommodation = new TreeMap<>();
+            for (Posting posting : postings) {
+                byAccommodation.putIfAbsent(posting.accommodationId(), posting);
+            }
+
+            int size = byAccommodation.size();
+            long[] accommodationIds = new long[size];
+            double[] ratings = new double[size];
+            int[] reviewCounts = new int[size];
+            Map<Long, Integer> positionById = new HashMap<>(size * 2);
+            int position = 0;
+            for (Posting posting : byAccommodation.values()) {
+                accommodationIds[position] = posting.accommodationId();
+                ratings[position] = posting.rating() != null ? posting.rating() : 0.0;
+                reviewCounts[position] = posting.reviewCount() != null ? posting.reviewCount() : 0;
+                positionById.put(posting.accommodationId(), position);
+                position++;
+            }
+
+            Map<Long, BitSet> postingsByTheme = new HashMap<>();
+            for (Posting posting : postings) {
+                postingsByTheme.computeIfAbsent(posting.themeId(), key -> new BitSet(size))
+                        .set(positionById.get(posting.accommodationId()));
+            }
+            return new Snapshot(accommodationIds, ratings, reviewCounts, postingsByTheme);
+        }
+
+        /**
+         * 사용자 테마와 하나 이상 겹치는 숙소 중 상위 K 개 숙소 ID (좋은 순)
+         *
+         * @param allowed 후보로 허용할 숙소 (검색어 필터 등)
+         */
+        public List<Long> topK(Set<Long> themeIds, int k, LongPredicate allowed) {
+            List<BitSet> userPostings = new ArrayList<>(themeIds.size());
+            BitSet candidates = new BitSet(accommodationIds.length);
+            for (Long themeId : themeIds) {
+                BitSet posting = postingsByTheme.get(themeId);
+                if (posting != null) {
+                    userPostings.add(posting);
+                    candidates.or(posting);
+                }
+            }
+            if (k <= 0 || candidates.isEmpty()) {
+                return List.of();
+            }
+
+            // 가장 나쁜 후보가 머리에 오는 크기 K 힙
+            Comparator<Candidate> worstFirst = Comparator.comparingInt(Candidate::score)
+                    .thenComparingDouble(candidate -> ratings[candidate.position()])
+                    .thenComparingInt(candidate -> reviewCounts[candidate.position()])
+                    .thenComparing(Comparator.comparingInt(Candidate::position).reversed());
+            PriorityQueue<Candidate> heap = new PriorityQueue<>(k + 1, worstFirst);
+            for (int position = candidates.nextSetBit(0); position >= 0; position = candidates.nextSetBit(position + 1)) {
+                if (!allowed.test(accommodationIds[position])) {
+                    continue;
+                }
+                int score = 0;
+                for (BitSet posting : userPostings) {
+                    if (posting.get(position)) {
+                        score++;
+                    }
+                }
+                heap.offer(new Candidate(position, score));
+                if (heap.size() > k) {
+                    heap.poll();
+                }
+            }
+
+            Long[] result = new Long[heap.size()];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = accommodationIds[heap.poll().position()];
+            }
+            return List.of(result);
+        }
+
+        public int size() {
+            return accommodationIds.length;
+        }
+
+        public int themeCount() {
+            return postingsByTheme.size();
+        }
+
+        private record Candidate(int position, int score) {
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.ssg9th2team.geharbang.domain.main.service;
+
+import com.ssg9th2team.geharbang.domain.main.repository.MainRepository;
+import com.ssg9th2team.geharbang.domain.theme.entity.Theme;
+import com.ssg9th2team.geharbang.domain.theme.repository.ThemeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 메인 테마 선반(listBulk) 스냅샷
+ *
+ * <p>테마별 노출 숙소 ID 목록을 미리 섞어 Redis 에 저장해 두고, listBulk 는 MGET 한 번으로 읽는다.
+ * <ul>
+ *   <li>Key: main:theme-shelf:{themeId}, Value: 쉼표로 이은 숙소 ID (숙소가 없는 테마는 빈 문자열)</li>
+ *   <li>섞는 순서는 (테마 ID, 회전 번호) 시드로 정해져 rotate-minutes 동안 모든 요청/노드에서 같다</li>
+ *   <li>회전 번호가 바뀌거나 숙소 승인/테마 변경으로 {@link #requestRebuild()} 가 호출되면 다음 확인 주기에 다시 만든다</li>
+ * </ul>
+ * 스냅샷이 없거나 Redis 를 읽지 못하면 호출 측이 같은 시드로 직접 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThemeShelfSnapshotService {
+
+    private static final String SHELF_KEY = "main:theme-shelf:%d";
+    private static final String BUILD_LOCK_KEY = "main:theme-shelf:built:%d";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MainRepository mainRepository;
+    private final ThemeRepository themeRepository;
+
+    // 기동 직후 첫 확인 주기에 한 번 만든다
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean(true);
+    private volatile long builtRotation = -1;
+
+    @Value("${main.theme-shelf.enabled:true}")
+    private boolean enabled;
+
+    @Value("${main.theme-shelf.rotate-minutes:10}")
+    private long rotateMinutes;
+
+    /**
+     * 테마별 스냅샷 조회 (MGET). 스냅샷이 없는 테마는 결과에 포함되지 않는다.
+     */
+    public Map<Long, List<Long>> getShelves(List<Long> themeIds) {
+        if (!enabled || themeIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(
+                    themeIds.stream().map(themeId -> String.format(SHELF_KEY, themeId)).toList());
+            if (values == null) {
+                return Map.of();
+            }
+            Map<Long, List<Long>> shelves = new LinkedHashMap<>();
+            for (int i = 0; i < themeIds.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    shelves.put(themeIds.get(i), parseIds(value));
+                }
+            }
+            return shelves;
+        } catch (Exception e) {
+            log.warn("Failed to read theme shelf snapshots. Falling back to live grouping: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 숙소 승인/반려, 테마 변경 시 호출. 다음 확인 주기에 스냅샷을 다시 만든다.
+     */
+    public void requestRebuild() {
+        rebuildRequested.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${main.theme-shelf.check-delay-ms:30000}")
+    public void rebuildIfNeeded() {
+        if (!enabled) {
+            return;
+        }
+        long rotation = currentRotation();
+        boolean requested = rebuildRequested.getAndSet(false);
+        if (!requested && rotation == builtRotation) {
+            return;
+        }
+        try {
+            // 회전 때문에 다시 만드는 경우는 노드 하나만 만든다 (결과가 결정적이므로 먼저 잡은 노드의 것을 공유)
+            if (!requested && !Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(
+                    String.format(BUILD_LOCK_KEY, rotation), "1", Duration.ofMinutes(rotateMinutes)))) {
+                builtRotation = rotation;
+                return;
+            }
+            rebuild(rotation);
+            builtRotation = rotation;
+        } catch (Exception e) {
+            // 다음 주기에 (이 노드 또는 다른 노드가) 다시 시도하도록 요청/잠금을 되돌린다
+            if (requested) {
+                rebuildRequested.set(true);
+            } else {
+                releaseBuildLock(rotation);
+            }
+            log.error("Theme shelf snapshot rebuild failed", e);
+        }
+    }
+
+    private void releaseBuildLock(long rotation) {
+        try {
+            stringRedisTemplate.delete(String.format(BUILD_LOCK_KEY, rotation));
+        } catch (Exception ignored) {
+            // Redis 장애 시 잠금은 TTL 로 풀린다
+        }
+    }
+
+    void rebuild(long rotation) {
+        Map<Long, List<Long>> shelves = new HashMap<>();
+        for (Theme theme : themeRepository.findAll()) {
+            shelves.put(theme.getId(), new ArrayList<>());
+        }
+        mainRepository.findApprovedThemeLinks().forEach(link ->
+                shelves.computeIfAbsent(link.getThemeId(), key -> new ArrayList<>()).add(link.getAccommodationsId()));
+
+        // 회전 두 번 분량보다 길게 보관해 스케줄러가 잠시 멈춰도 직접 계산으로 떨어지지 않게 한다
+        Expiration expiration = Expiration.from(Duration.ofMinutes(rotateMinutes * 3));
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            shelves.forEach((themeId, accommodationIds) -> {
+                shuffle(accommodationIds, themeId, rotation);
+                String value = accommodationIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+                connection.stringCommands().set(
+                        String.format(SHELF_KEY, themeId).getBytes(StandardCharsets.UTF_8),
+                        value.getBytes(StandardCharsets.UTF_8),
+                        expiration,
+                        RedisStringCommands.SetOption.upsert());
+            });
+            return null;
+        });
+        log.info("Rebuilt {} theme shelf snapshots (rotation {})", shelves.size(), rotation);
+    }
+
+    /**
+     * 현재 회전 번호 (rotate-minutes 단위)
+     */
+    public long currentRotation() {
+        return System.currentTimeMillis() / Duration.ofMinutes(rotateMinutes).toMillis();
+    }
+
+    /**
+     * (테마 ID, 회전 번호) 시드로 섞는다. 같은 입력이면 어느 노드에서든 같은 순서가 나온다.
+     */
+    public static <T> void shuffle(List<T> items, Long themeId, long rotation) {
+        Collections.shuffle(items, new Random(Objects.hash(themeId, rotation)));
+    }
+
+    private static List<Long> parseIds(String value) {
+        if (value.isEmpty()) {
+            return List.of();
+        }
+        String[] tokens = value.split(",");
+        List<Long> ids = new ArrayList<>(tokens.length);
+        for (String token : tokens) {
+            ids.add(Long.parseLong(token));
+        }
+        return ids;
+    }
+}
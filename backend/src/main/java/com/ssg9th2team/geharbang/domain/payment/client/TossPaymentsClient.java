@@ -0,0 +1,172 @@
+package com.ssg9th2team.geharbang.domain.payment.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 토스페이먼츠 결제 API 클라이언트
+ *
+ * <p>호출마다 RestTemplate 을 새로 만들지 않고, 연결 풀(Reactor Netty ConnectionProvider) 하나를
+ * 동기(RestClient) 호출과 비동기(WebClient) 호출이 함께 쓴다.
+ * <ul>
+ *   <li>max-connections 를 넘는 요청은 pending-acquire-timeout-ms 까지만 풀을 기다린다</li>
+ *   <li>connect-timeout-ms / read-timeout-ms 를 넘으면 동기 호출은 RestClientException, 비동기 호출은 오류 Mono 로 끝난다</li>
+ * </ul>
+ */
+@Component
+public class TossPaymentsClient {
+
+    private final ObjectMapper objectMapper;
+    private final ConnectionProvider connectionProvider;
+    private final RestClient restClient;
+    private final WebClient webClient;
+
+    public TossPaymentsClient(ObjectMapper objectMapper,
+                              @Value("${tosspayments.secret-key}") String secretKey,
+                              @Value("${tosspayments.api-base-url:https://api.tosspayments.com}") String baseUrl,
+                              @Value("${tosspayments.http.max-connections:50}") int maxConnections,
+                              @Value("${tosspayments.http.pending-acquire-timeout-ms:2000}") long pendingAcquireTimeoutMs,
+                              @Value("${tosspayments.http.max-idle-ms:30000}") long maxIdleMs,
+                              @Value("${tosspayments.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+                              @Value("${tosspayments.http.read-timeout-ms:10000}") long readTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.connectionProvider = ConnectionProvider.builder("toss-payments")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleMs))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        String authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+        this.restClient = RestClient.builder()
+                .requestFactory(new ReactorClientHttpRequestFactory(httpClient))
+                .baseUrl(baseUrl)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, authorization)
+                .build();
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .baseUrl(baseUrl)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, authorization)
+                .build();
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionProvider.dispose();
+    }
+
+    /**
+     * 결제 승인 (POST /v1/payments/confirm)
+     */
+    public ConfirmResult confirm(String paymentKey, String orderId, Integer amount) {
+        String response = restClient.post()
+                .uri("/v1/payments/confirm")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(confirmBody(paymentKey, orderId, amount))
+                .retrieve()
+                .body(String.class);
+        return parseConfirm(response);
+    }
+
+    /**
+     * 결제 취소 (POST /v1/payments/{paymentKey}/cancel). cancelAmount 가 null 이면 전액 취소
+     */
+    public void cancel(String paymentKey, String cancelReason, Integer cancelAmount) {
+        restClient.post()
+                .uri("/v1/payments/{paymentKey}/cancel", paymentKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cancelBody(cancelReason, cancelAmount))
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    public Mono<Void> cancelAsync(String paymentKey, String cancelReason, Integer cancelAmount) {
+        return webClient.post()
+                .uri("/v1/payments/{paymentKey}/cancel", paymentKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(cancelBody(cancelReason, cancelAmount))
+                .retrieve()
+                .toBodilessEntity()
+                .then();
+    }
+
+    /**
+     * 결제 상태 조회 (GET /v1/payments/{paymentKey}). READY, IN_PROGRESS, DONE, CANCELED, PARTIAL_CANCELED, ABORTED, EXPIRED 등
+     */
+    public String getPaymentStatus(String paymentKey) {
+        String response = restClient.get()
+                .uri("/v1/payments/{paymentKey}", paymentKey)
+                .retrieve()
+                .body(String.class);
+        return parseStatus(response);
+    }
+
+    private Map<String, Object> confirmBody(String paymentKey, String orderId, Integer amount) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("paymentKey", paymentKey);
+        body.put("orderId", orderId);
+        body.put("amount", amount);
+        return body;
+    }
+
+    private Map<String, Object> cancelBody(String cancelReason, Integer cancelAmount) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("cancelReason", cancelReason);
+        if (cancelAmount != null) {
+            body.put("cancelAmount", cancelAmount);
+        }
+        return body;
+    }
+
+    private ConfirmResult parseConfirm(String response) {
+        try {
+            JsonNode responseJson = objectMapper.readTree(response);
+            String paymentMethod = responseJson.has("method") ? responseJson.get("method").asText() : "CARD";
+            String approvedAtStr = responseJson.has("approvedAt") ? responseJson.get("approvedAt").asText() : null;
+            LocalDateTime approvedAt = approvedAtStr != null ? LocalDateTime.parse(approvedAtStr.substring(0, 19))
+                    : LocalDateTime.now();
+            return new ConfirmResult(paymentMethod, approvedAt);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Unreadable Toss confirm response", e);
+        }
+    }
+
+    private String parseStatus(String response) {
+        try {
+            JsonNode status = objectMapper.readTree(response).get("status");
+            if (status == null || status.isNull()) {
+                throw new IllegalStateException("Toss payment response has no status");
+            }
+            return status.asText();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable Toss payment response", e);
+        }
+    }
+
+    public record ConfirmResult(String method, LocalDateTime approvedAt) {
+    }
+}
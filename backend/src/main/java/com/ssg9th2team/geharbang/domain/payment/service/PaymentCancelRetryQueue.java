@@ -0,0 +1,164 @@
+package com.ssg9th2team.geharbang.domain.payment.service;
+
+import com.ssg9th2team.geharbang.domain.payment.client.TossPaymentsClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 승인 후 반영에 실패한 결제의 보상 취소 대기열
+ *
+ * <p>취소 요청을 보내기 전에 Redis Sorted Set 에 먼저 남기고, 취소가 끝나면 지운다.
+ * <ul>
+ *   <li>Key: payment:cancel:pending, Member: paymentKey|사유, Score: 다음 시도 시각(epoch ms)</li>
+ *   <li>바로 보낸 비동기 취소가 실패하거나 그 사이 노드가 내려가도 스케줄러가 시도 시각이 지난 건을 다시 보낸다</li>
+ *   <li>스케줄러는 Lua 로 건을 가져가면서 다음 시도 시각을 미루므로 여러 노드가 같은 건을 동시에 보내지 않는다</li>
+ *   <li>토스가 4xx 로 거절하면 결제 상태를 조회해 이미 취소되었거나 승인된 적이 없는 건만 지운다.
+ *       승인이 끝나기 전에 도착한 취소도 거절되므로 그 밖의 상태는 남겨 다시 보낸다</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentCancelRetryQueue {
+
+    static final String PENDING_KEY = "payment:cancel:pending";
+    private static final String DELIMITER = "|";
+    // 토스 cancelReason 최대 길이
+    static final int MAX_REASON_LENGTH = 200;
+    // 더 보낼 필요가 없는 결제 상태: 전액 취소됨, 승인 전에 중단/만료됨
+    private static final Set<String> SETTLED_STATUSES = Set.of("CANCELED", "ABORTED", "EXPIRED");
+
+    // 시도 시각이 지난 건을 최대 ARGV[2] 개 가져오며 다음 시도 시각을 ARGV[3] 으로 미룬다. ARGV: 현재 시각, 개수, 다음 시도 시각
+    @SuppressWarnings("rawtypes")
+    static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) " +
+                    "for _, member in ipairs(due) do redis.call('ZADD', KEYS[1], ARGV[3], member) end " +
+                    "return due",
+            List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TossPaymentsClient tossPaymentsClient;
+
+    @Value("${payment.cancel-retry.delay-ms:60000}")
+    private long retryDelayMs;
+
+    @Value("${payment.cancel-retry.batch-size:20}")
+    private int batchSize;
+
+    /**
+     * 승인된 결제를 전액 취소한다. 대기열에 남긴 뒤 비동기로 보내므로 응답 시간에 PG 호출이 들어가지 않는다.
+     * 대기열에 남기지 못하면(Redis 장애) 바로 동기로 보낸다.
+     */
+    public void cancel(String paymentKey, String cancelReason) {
+        String reason = cancelReason.length() > MAX_REASON_LENGTH
+                ? cancelReason.substring(0, MAX_REASON_LENGTH) : cancelReason;
+        String member = paymentKey + DELIMITER + reason;
+        try {
+            stringRedisTemplate.opsForZSet().add(PENDING_KEY, member, System.currentTimeMillis() + retryDelayMs);
+        } catch (Exception e) {
+            log.warn("결제 취소 대기열 적재 실패, 바로 취소: paymentKey={}", paymentKey, e);
+            try {
+                tossPaymentsClient.cancel(paymentKey, reason, null);
+                log.info("결제 자동 취소 성공: paymentKey={}", paymentKey);
+            } catch (Exception cancelEx) {
+                log.error("결제 자동 취소 실패! (수동 환불 필요) paymentKey={}", paymentKey, cancelEx);
+            }
+            return;
+        }
+        tossPaymentsClient.cancelAsync(paymentKey, reason, null)
+                // 완료 처리의 Redis 호출이 PG 응답 스레드(event loop)를 막지 않도록
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(null,
+                        cancelEx -> log.warn("결제 자동 취소 실패, 재시도 예정: paymentKey={}", paymentKey, cancelEx),
+                        () -> {
+                            remove(member);
+                            log.info("결제 자동 취소 성공: paymentKey={}", paymentKey);
+                        });
+    }
+
+    /**
+     * 시도 시각이 지난 취소 건을 다시 보낸다.
+     */
+    @Scheduled(fixedDelayString = "${payment.cancel-retry.poll-ms:30000}")
+    public void retryDue() {
+        List<String> due;
+        try {
+            due = claimDue();
+        } catch (Exception e) {
+            log.warn("결제 취소 대기열 조회 실패: {}", e.getMessage());
+            return;
+        }
+        for (String member : due) {
+            int split = member.indexOf(DELIMITER);
+            String paymentKey = split >= 0 ? member.substring(0, split) : member;
+            String reason = split >= 0 ? member.substring(split + 1) : "";
+            try {
+                tossPaymentsClient.cancel(paymentKey, reason, null);
+                remove(member);
+                log.info("결제 자동 취소 재시도 성공: paymentKey={}", paymentKey);
+            } catch (HttpClientErrorException e) {
+                handleRejected(member, paymentKey, e);
+            } catch (Exception e) {
+                log.error("결제 자동 취소 재시도 실패 (다음 주기에 다시 시도) paymentKey={}", paymentKey, e);
+            }
+        }
+    }
+
+    /**
+     * 토스가 취소를 거절한 건. 결제 상태가 취소됨/승인 안 됨으로 확인될 때만 지우고, 그 밖에는 다음 주기에 다시 보낸다.
+     */
+    private void handleRejected(String member, String paymentKey, HttpClientErrorException rejected) {
+        String paymentStatus;
+        try {
+            paymentStatus = tossPaymentsClient.getPaymentStatus(paymentKey);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                // 승인된 적 없는 결제
+                remove(member);
+                log.info("결제 자동 취소 대기 종료: paymentKey={}, 결제 없음", paymentKey);
+            } else {
+                log.warn("결제 상태 조회 거절, 다음 주기에 다시 시도: paymentKey={}, status={}", paymentKey, e.getStatusCode());
+            }
+            return;
+        } catch (Exception e) {
+            log.warn("결제 상태 조회 실패, 다음 주기에 다시 시도: paymentKey={}", paymentKey, e);
+            return;
+        }
+
+        if (SETTLED_STATUSES.contains(paymentStatus)) {
+            remove(member);
+            log.info("결제 자동 취소 대기 종료: paymentKey={}, 결제 상태={}", paymentKey, paymentStatus);
+            return;
+        }
+        log.error("결제 자동 취소 거절, 다음 주기에 다시 시도 (반복되면 수동 확인 필요) paymentKey={}, 결제 상태={}, status={}, body={}",
+                paymentKey, paymentStatus, rejected.getStatusCode(), rejected.getResponseBodyAsString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> claimDue() {
+        long now = System.currentTimeMillis();
+        List<String> due = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(PENDING_KEY),
+                String.valueOf(now), String.valueOf(batchSize), String.valueOf(now + retryDelayMs));
+        return due != null ? due : List.of();
+    }
+
+    private void remove(String member) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(PENDING_KEY, member);
+        } catch (Exception e) {
+            // 남은 건은 다음 재시도에서 토스가 거절하고 결제 상태가 취소됨으로 확인되면 지워진다
+            log.warn("결제 취소 대기열 삭제 실패: {}", e.getMessage());
+        }
+    }
+}
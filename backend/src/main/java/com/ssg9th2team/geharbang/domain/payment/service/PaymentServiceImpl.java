@@ -1,7 +1,7 @@
 package com.ssg9th2team.geharbang.domain.payment.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssg9th2team.geharbang.domain.admin.service.PlatformStatsCounter;
+import com.ssg9th2team.geharbang.domain.payment.client.TossPaymentsClient;
 import com.ssg9th2team.geharbang.domain.payment.dto.PaymentConfirmRequestDto;
 import com.ssg9th2team.geharbang.domain.payment.dto.PaymentConfirmResponseDto;
 import com.ssg9th2team.geharbang.domain.payment.dto.PaymentResponseDto;
@@ -16,19 +16,15 @@ import com.ssg9th2team.geharbang.domain.coupon.service.UserCouponService;
 import com.ssg9th2team.geharbang.domain.reservation.service.WaitlistService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
-import org.springframework.web.client.RestTemplate;
 
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.Base64;
-import java.util.HashMap;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -36,21 +32,25 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class PaymentServiceImpl implements PaymentService {
 
+    private static final String AUTO_CANCEL_REASON = "시스템 오류로 인한 자동 취소";
+
     private final PaymentJpaRepository paymentRepository;
     private final PaymentRefundJpaRepository paymentRefundRepository;
     private final RefundPolicyService refundPolicyService;
     private final ReservationJpaRepository reservationRepository;
     private final UserCouponService userCouponService;
-    private final ObjectMapper objectMapper;
     private final WaitlistService waitlistService;
-
-    @Value("${tosspayments.secret-key}")
-    private String secretKey;
-
-    private static final String TOSS_CONFIRM_URL = "https://api.tosspayments.com/v1/payments/confirm";
-
+    private final PlatformStatsCounter platformStatsCounter;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final PaymentCancelRetryQueue paymentCancelRetryQueue;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 결제 승인. PG 호출 동안 DB 연결을 잡지 않도록 트랜잭션 밖에서 검증 → PG 승인 → 짧은 트랜잭션으로 반영 순서로 처리한다.
+     * 반영에 실패하면(이미 결제된 예약 포함) 승인된 결제를 취소한다.
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentConfirmResponseDto confirmPayment(PaymentConfirmRequestDto requestDto) {
         log.info("결제 승인 요청: orderId={}, amount={}", requestDto.orderId(), requestDto.amount());
 
@@ -66,133 +66,98 @@ public class PaymentServiceImpl implements PaymentService {
             throw new IllegalArgumentException("결제 금액이 일치하지 않습니다");
         }
 
-        // 토스페이먼츠 결제 승인 API 호출
-        try {
-            RestTemplate restTemplate = new RestTemplate();
-
-            // UTF-8 인코딩 설정
-            restTemplate.getMessageConverters()
-                    .add(0, new org.springframework.http.converter.StringHttpMessageConverter(StandardCharsets.UTF_8));
-
-            // Basic 인증 헤더 생성
-            String encodedSecretKey = Base64.getEncoder()
-                    .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
-            headers.setAcceptCharset(java.util.Collections.singletonList(StandardCharsets.UTF_8));
-            headers.set("Authorization", "Basic " + encodedSecretKey);
-
-            // 요청 바디
-            Map<String, Object> body = new HashMap<>();
-            body.put("paymentKey", requestDto.paymentKey());
-            body.put("orderId", requestDto.orderId());
-            body.put("amount", requestDto.amount());
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    TOSS_CONFIRM_URL,
-                    HttpMethod.POST,
-                    entity,
-                    String.class);
-
-            log.info("토스페이먼츠 응답: status={}", response.getStatusCode());
-
-            // 응답 파싱
-            JsonNode responseJson = objectMapper.readTree(response.getBody());
-            String paymentMethod = responseJson.has("method") ? responseJson.get("method").asText() : "CARD";
-            String approvedAtStr = responseJson.has("approvedAt") ? responseJson.get("approvedAt").asText() : null;
-            LocalDateTime approvedAt = approvedAtStr != null ? LocalDateTime.parse(approvedAtStr.substring(0, 19))
-                    : LocalDateTime.now();
-
-            // Payment 저장
-            Payment payment = Payment.builder()
-                    .reservationId(reservationId)
-                    .pgProviderCode("TOSS")
-                    .paymentMethod(paymentMethod)
-                    .orderId(requestDto.orderId())
-                    .pgPaymentKey(requestDto.paymentKey())
-                    .requestAmount(requestDto.amount())
-                    .approvedAmount(requestDto.amount())
-                    .paymentStatus(1) // 성공
-                    .approvedAt(approvedAt)
-                    .build();
-
-            Payment savedPayment = paymentRepository.save(payment);
-
-            // 예약 상태 업데이트 (예약확정, 결제완료)
-            reservation.updatePaymentCompleted();
-            reservationRepository.save(reservation);
-
-            // 쿠폰 사용 처리
-            if (reservation.getUserCouponId() != null) {
-                userCouponService.useCoupon(reservation.getUserId(), reservation.getUserCouponId());
-                log.info("쿠폰 사용 처리 완료: userCouponId={}", reservation.getUserCouponId());
-            }
-
-            // 첫 예약 완료 쿠폰 발급
-            boolean firstReservationCouponIssued = userCouponService
-                    .issueFirstReservationCoupon(reservation.getUserId());
-            if (firstReservationCouponIssued) {
-                log.info("첫 예약 쿠폰 발급 완료: userId={}", reservation.getUserId());
-            }
-
-            log.info("결제 승인 완료: paymentId={}, reservationId={}", savedPayment.getId(), reservationId);
-
-            return PaymentConfirmResponseDto.of(PaymentResponseDto.from(savedPayment), firstReservationCouponIssued);
+        // 이미 결제된 예약이면 PG 승인 전에 거절 (동시 요청은 반영 단계의 조건부 UPDATE 에서 다시 확인)
+        if (!reservation.isAwaitingPayment()) {
+            throw new IllegalStateException("결제할 수 없는 예약입니다: " + reservationId);
+        }
 
+        TossPaymentsClient.ConfirmResult confirmed;
+        try {
+            // 토스페이먼츠 결제 승인 API 호출 (트랜잭션 밖)
+            confirmed = tossPaymentsClient.confirm(requestDto.paymentKey(), requestDto.orderId(), requestDto.amount());
+            log.info("토스페이먼츠 승인 완료: orderId={}, method={}", requestDto.orderId(), confirmed.method());
+        } catch (HttpClientErrorException e) {
+            // 토스가 승인을 거절함 (이미 처리된 결제 등). 이 요청으로 승인된 결제가 없으므로 취소하지 않는다
+            log.error("결제 승인 거절: orderId={}, status={}", requestDto.orderId(), e.getStatusCode());
+            throw new RuntimeException(e.getMessage());
         } catch (Exception e) {
+            // 타임아웃/5xx 는 승인 여부를 알 수 없으므로 취소한다
             log.error("결제 승인 중 오류 발생 (결제 취소 진행)", e);
+            cancelApprovedPayment(requestDto.paymentKey(), e);
+            throw new RuntimeException(e.getMessage());
+        }
 
-            // 1. 이미 승인된 결제가 있다면 취소 (돈 환불)
-            try {
-                if (requestDto.paymentKey() != null) {
-                    RestTemplate restTemplate = new RestTemplate();
-
-                    String encodedSecretKey = Base64.getEncoder()
-                            .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+        try {
+            return transactionTemplate.execute(status -> completePayment(reservationId, requestDto, confirmed));
+        } catch (Exception e) {
+            log.error("결제 승인 반영 중 오류 발생 (결제 취소 진행)", e);
+            cancelApprovedPayment(requestDto.paymentKey(), e);
+            throw new RuntimeException(e.getMessage());
+        }
+    }
 
-                    HttpHeaders headers = new HttpHeaders();
-                    headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
-                    headers.set("Authorization", "Basic " + encodedSecretKey);
+    /**
+     * 승인된 결제 취소 (돈 환불). 취소 대기열에 남기고 비동기로 보내므로 응답 시간에 들어가지 않고, 실패하면 다시 보낸다
+     */
+    private void cancelApprovedPayment(String paymentKey, Exception cause) {
+        if (paymentKey != null) {
+            // 예외 메시지는 토스 cancelReason 길이 제한을 넘을 수 있으므로 사유는 고정하고 원인은 로그에만 남긴다
+            log.warn("승인된 결제 자동 취소 요청: paymentKey={}, 원인={}", paymentKey, cause.toString());
+            paymentCancelRetryQueue.cancel(paymentKey, AUTO_CANCEL_REASON);
+        }
+    }
 
-                    Map<String, Object> body = new HashMap<>();
-                    body.put("cancelReason", "시스템 오류로 인한 자동 취소: " + e.getMessage());
+    /**
+     * 승인 결과 반영 (짧은 트랜잭션 안)
+     */
+    private PaymentConfirmResponseDto completePayment(Long reservationId, PaymentConfirmRequestDto requestDto,
+            TossPaymentsClient.ConfirmResult confirmed) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다: " + reservationId));
+        Integer previousPaymentStatus = reservation.getPaymentStatus();
+        Integer previousReservationStatus = reservation.getReservationStatus();
 
-                    HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
+        // 예약 상태 업데이트 (예약확정, 결제완료). 아직 결제 대기 중일 때만 바뀌며,
+        // 같은 예약에 동시에 들어온 다른 승인은 0건이 되어 롤백 후 취소된다
+        if (reservationRepository.markPaymentCompleted(reservationId, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("이미 결제되었거나 결제할 수 없는 예약입니다: " + reservationId);
+        }
+        reservation.updatePaymentCompleted();
+
+        // Payment 저장
+        Payment payment = Payment.builder()
+                .reservationId(reservationId)
+                .pgProviderCode("TOSS")
+                .paymentMethod(confirmed.method())
+                .orderId(requestDto.orderId())
+                .pgPaymentKey(requestDto.paymentKey())
+                .requestAmount(requestDto.amount())
+                .approvedAmount(requestDto.amount())
+                .paymentStatus(1) // 성공
+                .approvedAt(confirmed.approvedAt())
+                .build();
 
-                    String cancelUrl = "https://api.tosspayments.com/v1/payments/" + requestDto.paymentKey()
-                            + "/cancel";
+        Payment savedPayment = paymentRepository.save(payment);
 
-                    restTemplate.exchange(cancelUrl, HttpMethod.POST, entity, String.class);
-                    log.info("결제 자동 취소 성공: paymentKey={}", requestDto.paymentKey());
-                }
-            } catch (Exception cancelEx) {
-                log.error("결제 자동 취소 실패! (수동 환불 필요) paymentKey={}", requestDto.paymentKey(), cancelEx);
-            }
+        platformStatsCounter.paymentApproved(savedPayment);
+        platformStatsCounter.reservationStatusChanged(reservation, previousPaymentStatus, previousReservationStatus);
 
-            // 2. DB 상태 업데이트 시도 (트랜잭션 롤백 상태면 실패할 수 있음 - 무시)
-            try {
-                Payment failedPayment = Payment.builder()
-                        .reservationId(reservationId)
-                        .pgProviderCode("TOSS")
-                        .paymentMethod("UNKNOWN")
-                        .orderId(requestDto.orderId())
-                        .requestAmount(requestDto.amount())
-                        .paymentStatus(2) // 실패
-                        .failureMessage(e.getMessage())
-                        .build();
-                paymentRepository.save(failedPayment);
-
-                reservation.updatePaymentFailed();
-                reservationRepository.save(reservation);
-            } catch (Exception dbEx) {
-                log.warn("실패 내역 DB 저장 불가 (트랜잭션 롤백됨): {}", dbEx.getMessage());
-            }
+        // 쿠폰 사용 처리
+        if (reservation.getUserCouponId() != null) {
+            userCouponService.useCoupon(reservation.getUserId(), reservation.getUserCouponId());
+            log.info("쿠폰 사용 처리 완료: userCouponId={}", reservation.getUserCouponId());
+        }
 
-            throw new RuntimeException(e.getMessage());
+        // 첫 예약 완료 쿠폰 발급
+        boolean firstReservationCouponIssued = userCouponService
+                .issueFirstReservationCoupon(reservation.getUserId());
+        if (firstReservationCouponIssued) {
+            log.info("첫 예약 쿠폰 발급 완료: userId={}", reservation.getUserId());
         }
+
+        log.info("결제 승인 완료: paymentId={}, reservationId={}", savedPayment.getId(), reservationId);
+
+        return PaymentConfirmResponseDto.of(PaymentResponseDto.from(savedPayment), firstReservationCouponIssued);
     }
 
     @Override
@@ -287,6 +252,9 @@ public class PaymentServiceImpl implements PaymentService {
     // 공통 환불 처리 로직
     private PaymentResponseDto processRefund(Payment payment, Reservation reservation, Integer actualRefundAmount,
             String reason, Integer approvedAmount) {
+        Integer previousPaymentStatus = reservation.getPaymentStatus();
+        Integer previousReservationStatus = reservation.getReservationStatus();
+
         // 환불 기록 생성 (요청 상태)
         PaymentRefund paymentRefund = PaymentRefund.builder()
                 .paymentId(payment.getId())
@@ -301,6 +269,8 @@ public class PaymentServiceImpl implements PaymentService {
             paymentRefundRepository.save(paymentRefund);
             reservation.updateRefunded();
             reservationRepository.save(reservation);
+            platformStatsCounter.refundRecorded(paymentRefund);
+            platformStatsCounter.reservationStatusChanged(reservation, previousPaymentStatus, previousReservationStatus);
 
             // 환불 금액이 0이어도 쿠폰은 복구
             if (reservation.getUserCouponId() != null) {
@@ -312,35 +282,9 @@ public class PaymentServiceImpl implements PaymentService {
         } else {
             // 토스페이먼츠 결제 취소 API 호출
             try {
-                RestTemplate restTemplate = new RestTemplate();
-                restTemplate.getMessageConverters()
-                        .add(0, new org.springframework.http.converter.StringHttpMessageConverter(
-                                StandardCharsets.UTF_8));
-
-                String encodedSecretKey = Base64.getEncoder()
-                        .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
-
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
-                headers.set("Authorization", "Basic " + encodedSecretKey);
-
-                Map<String, Object> body = new HashMap<>();
-                body.put("cancelReason", reason);
-                if (actualRefundAmount < approvedAmount) {
-                    body.put("cancelAmount", actualRefundAmount); // 부분 취소
-                }
-
-                HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-
-                String cancelUrl = "https://api.tosspayments.com/v1/payments/" + payment.getPgPaymentKey() + "/cancel";
-
-                ResponseEntity<String> response = restTemplate.exchange(
-                        cancelUrl,
-                        HttpMethod.POST,
-                        entity,
-                        String.class);
-
-                log.info("토스페이먼츠 취소 응답: status={}", response.getStatusCode());
+                Integer cancelAmount = actualRefundAmount < approvedAmount ? actualRefundAmount : null; // 부분 취소
+                tossPaymentsClient.cancel(payment.getPgPaymentKey(), reason, cancelAmount);
+                log.info("토스페이먼츠 취소 완료: paymentKey={}", payment.getPgPaymentKey());
 
                 // 환불 성공 - payment_refund 테이블 업데이트
                 paymentRefund.updateRefundSuccess(payment.getPgPaymentKey(), LocalDateTime.now());
@@ -349,6 +293,8 @@ public class PaymentServiceImpl implements PaymentService {
                 // 예약 상태 업데이트 (취소/환불)
                 reservation.updateRefunded();
                 reservationRepository.save(reservation);
+                platformStatsCounter.refundRecorded(paymentRefund);
+                platformStatsCounter.reservationStatusChanged(reservation, previousPaymentStatus, previousReservationStatus);
 
                 // 쿠폰 복구 처리
                 if (reservation.getUserCouponId() != null) {
@@ -103,6 +103,15 @@ public class Reservation {
         this.paymentStatus = 1; // 결제 완료
     }
 
+    /**
+     * 결제를 받을 수 있는 상태인지 (결제 완료/환불/취소/삭제된 예약이 아님)
+     */
+    public boolean isAwaitingPayment() {
+        return !Boolean.TRUE.equals(isDeleted)
+                && (paymentStatus == null || (paymentStatus != 1 && paymentStatus != 3))
+                && (reservationStatus == null || reservationStatus != 9);
+    }
+
     /**
      * 결제 실패 시 상태 업데이트
      * - 결제상태: 2 (실패)
@@ -108,6 +108,18 @@ public interface ReservationJpaRepository
                         "where r.createdAt >= :start and r.createdAt < :end")
         long countDistinctHost(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
+        /**
+         * [동시성 제어] 결제 대기 중인 예약만 결제 완료(예약 확정)로 변경
+         * - 결제 완료(1)/환불(3), 취소(9), 삭제된 예약은 바꾸지 않음 (Reservation.isAwaitingPayment 와 같은 조건)
+         * - 같은 예약의 동시 승인 반영은 행 잠금으로 한 건씩 처리되고, 뒤의 요청은 0건이 됨
+         * - 벌크 수정이라 @PreUpdate 가 돌지 않으므로 updated_at 을 직접 갱신
+         */
+        @Modifying(clearAutomatically = true)
+        @Query("UPDATE Reservation r SET r.reservationStatus = 2, r.paymentStatus = 1, r.updatedAt = :now " +
+                        "WHERE r.id = :reservationId AND r.isDeleted = false " +
+                        "AND r.paymentStatus NOT IN (1, 3) AND r.reservationStatus != 9")
+        int markPaymentCompleted(@Param("reservationId") Long reservationId, @Param("now") LocalDateTime now);
+
         /**
          * [동시성 제어] 특정 객실, 특정 날짜 범위에 예약된 총 인원 수 조회
          * - 취소(9) 및 삭제된 예약 제외
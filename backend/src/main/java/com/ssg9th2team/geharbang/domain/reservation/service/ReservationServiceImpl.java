@@ -3,13 +3,8 @@ package com.ssg9th2team.geharbang.domain.reservation.service;
 import com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.AccommodationJpaRepository;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.mybatis.AccommodationMapper;
-import com.ssg9th2team.geharbang.domain.auth.entity.User;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
-import com.ssg9th2team.geharbang.domain.coupon.entity.Coupon;
-import com.ssg9th2team.geharbang.domain.coupon.entity.UserCoupon;
-import com.ssg9th2team.geharbang.domain.coupon.entity.UserCouponStatus;
-import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.CouponJpaRepository;
-import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.UserCouponJpaRepository;
+import com.ssg9th2team.geharbang.domain.admin.service.PlatformStatsCounter;
+import com.ssg9th2team.geharbang.domain.coupon.service.CouponPricingService;
 import com.ssg9th2team.geharbang.domain.payment.entity.Payment;
 import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentJpaRepository;
 import com.ssg9th2team.geharbang.domain.payment.service.PaymentService;
@@ -19,9 +14,11 @@ import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
 import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
 import com.ssg9th2team.geharbang.domain.review.repository.jpa.ReviewJpaRepository;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomJpaRepository;
+import com.ssg9th2team.geharbang.global.common.resolver.UserIdentityResolver;
 import com.ssg9th2team.geharbang.global.lock.DistributedLock;
 import com.ssg9th2team.geharbang.domain.chat.repository.RealtimeChatRoomRepository;
 import com.ssg9th2team.geharbang.domain.chat.RealtimeChatRoom;
+import com.ssg9th2team.geharbang.domain.chat.service.ChatSubscriptionAuthorizer;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,15 +42,16 @@ public class ReservationServiceImpl implements ReservationService {
         private final ReservationJpaRepository reservationRepository;
         private final AccommodationJpaRepository accommodationRepository;
         private final AccommodationMapper accommodationMapper;
-        private final UserRepository userRepository;
         private final ReviewJpaRepository reviewJpaRepository;
         private final PaymentService paymentService;
         private final RoomJpaRepository roomJpaRepository;
         private final PaymentJpaRepository paymentRepository;
         private final WaitlistService waitlistService;
         private final RealtimeChatRoomRepository realtimeChatRoomRepository;
-        private final UserCouponJpaRepository userCouponJpaRepository;
-        private final CouponJpaRepository couponJpaRepository;
+        private final CouponPricingService couponPricingService;
+        private final ChatSubscriptionAuthorizer chatSubscriptionAuthorizer;
+        private final UserIdentityResolver userIdentityResolver;
+        private final PlatformStatsCounter platformStatsCounter;
 
         @Override
         @DistributedLock(key = "'reservation:room:' + #requestDto.roomId() + ':date:' + #requestDto.checkin().toString().substring(0,10)")
@@ -61,12 +59,9 @@ public class ReservationServiceImpl implements ReservationService {
         public ReservationResponseDto createReservation(ReservationRequestDto requestDto) {
                 // JWT 토큰에서 인증된 사용자 정보 추출
                 Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-                String email = authentication.getName();
-                User user = userRepository.findByEmail(email)
-                                .orElseThrow(() -> new IllegalStateException("인증된 사용자를 찾을 수 없습니다: " + email));
-                Long userId = user.getId();
+                Long userId = userIdentityResolver.resolveUserId(authentication);
 
-                log.debug("DEBUG: createReservation called for user: {} (ID: {})", email, userId);
+                log.debug("DEBUG: createReservation called for user: {} (ID: {})", authentication.getName(), userId);
 
                 // Room ID 필수 확인
                 if (requestDto.roomId() == null) {
@@ -116,37 +111,10 @@ public class ReservationServiceImpl implements ReservationService {
                 // 쿠폰 할인액 (서버에서 검증/계산)
                 int couponDiscount = 0;
                 if (requestDto.userCouponId() != null) {
-                        UserCoupon userCoupon = userCouponJpaRepository.findById(requestDto.userCouponId())
-                                        .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다."));
-
-                        if (!userCoupon.getUserId().equals(userId)) {
-                                throw new IllegalArgumentException("본인의 쿠폰만 사용할 수 있습니다.");
-                        }
-
-                        if (userCoupon.getStatus() != UserCouponStatus.ISSUED) {
-                                throw new IllegalArgumentException("사용할 수 없는 쿠폰입니다.");
-                        }
-
-                        if (userCoupon.getExpiredAt() != null
-                                        && userCoupon.getExpiredAt().isBefore(LocalDateTime.now())) {
-                                throw new IllegalArgumentException("만료된 쿠폰입니다.");
-                        }
-
-                        Coupon coupon = couponJpaRepository.findById(userCoupon.getCouponId())
-                                        .orElseThrow(() -> new IllegalArgumentException("쿠폰 정보를 찾을 수 없습니다."));
-
-                        Integer minPrice = coupon.getMinPrice();
-                        if (minPrice != null && requestDto.totalAmount() < minPrice) {
-                                throw new IllegalArgumentException("최소 결제 금액을 충족하지 못했습니다.");
-                        }
-
-                        if (coupon.getAccommodation() != null
-                                        && !coupon.getAccommodation().getAccommodationsId()
-                                                        .equals(requestDto.accommodationsId())) {
-                                throw new IllegalArgumentException("해당 숙소 전용 쿠폰입니다.");
-                        }
-
-                        couponDiscount = calculateCouponDiscount(coupon, requestDto.totalAmount());
+                        // 쿠폰 마스터는 CouponPricingService 캐시에서 조회 (예약 시도마다 coupon 테이블 재조회 X)
+                        couponDiscount = couponPricingService.calculateDiscount(
+                                        userId, requestDto.userCouponId(), requestDto.accommodationsId(),
+                                        requestDto.totalAmount());
                 }
 
                 // 최종 결제 금액 계산
@@ -171,6 +139,7 @@ public class ReservationServiceImpl implements ReservationService {
                                 .build();
 
                 Reservation saved = reservationRepository.save(reservation);
+                platformStatsCounter.reservationCreated(saved);
 
                 // 채팅방 자동 생성 (별도 트랜잭션으로 분리)
                 Accommodation accommodation = accommodationRepository.findById(requestDto.accommodationsId())
@@ -203,6 +172,8 @@ public class ReservationServiceImpl implements ReservationService {
                                         .build();
 
                         realtimeChatRoomRepository.save(chatRoom);
+                        // 새 채팅방을 바로 구독할 수 있도록 참여자의 구독 권한 캐시 무효화 (커밋 후)
+                        chatSubscriptionAuthorizer.invalidate(chatRoom.getHostUserId(), chatRoom.getGuestUserId());
                         log.info("채팅방 생성 완료. reservationId={}, chatRoomId={}", reservation.getId(), chatRoom.getId());
 
                 } catch (Exception e) {
@@ -212,20 +183,6 @@ public class ReservationServiceImpl implements ReservationService {
                 }
         }
 
-        private int calculateCouponDiscount(Coupon coupon, int totalAmount) {
-                if (coupon == null || coupon.getDiscountValue() == null) {
-                        return 0;
-                }
-
-                if ("PERCENT".equalsIgnoreCase(coupon.getDiscountType())) {
-                        int discount = (int) Math.floor(totalAmount * (coupon.getDiscountValue() / 100.0));
-                        Integer maxDiscount = coupon.getMaxDiscount();
-                        return maxDiscount != null ? Math.min(discount, maxDiscount) : discount;
-                }
-
-                return coupon.getDiscountValue();
-        }
-
         @Override
         public ReservationResponseDto getReservationById(Long reservationId) {
                 Reservation reservation = reservationRepository.findById(reservationId)
@@ -267,12 +224,7 @@ public class ReservationServiceImpl implements ReservationService {
         @Override
         public List<ReservationResponseDto> getMyReservations() {
                 // JWT 토큰에서 인증된 사용자 정보 추출
-                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-                String email = authentication.getName();
-                User user = userRepository.findByEmail(email)
-                                .orElseThrow(() -> new IllegalStateException("인증된 사용자를 찾을 수 없습니다: " + email));
-
-                Long userId = user.getId();
+                Long userId = userIdentityResolver.resolveUserId(SecurityContextHolder.getContext().getAuthentication());
 
                 // 사용자의 예약 목록 조회 (숙소 정보 + 이미지 + 리뷰 작성 여부 포함)
                 // DB 레벨에서 결제 완료된 예약만 조회 (reservationStatus >= 2: 확정 이상)
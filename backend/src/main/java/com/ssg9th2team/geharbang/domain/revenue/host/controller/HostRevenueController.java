@@ -1,14 +1,12 @@
 package com.ssg9th2team.geharbang.domain.revenue.host.controller;
 
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.revenue.host.dto.HostRevenueDetailResponse;
 import com.ssg9th2team.geharbang.domain.revenue.host.dto.HostRevenueSummaryResponse;
 import com.ssg9th2team.geharbang.domain.revenue.host.dto.HostRevenueTrendResponse;
 import com.ssg9th2team.geharbang.domain.revenue.host.service.HostRevenueService;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.common.annotation.CurrentUserId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -23,30 +21,21 @@ import java.util.List;
 public class HostRevenueController {
 
     private final HostRevenueService hostRevenueService;
-    private final UserRepository userRepository;
 
     @GetMapping("/summary")
     public HostRevenueSummaryResponse summary(
             @RequestParam int year,
             @RequestParam int month,
-            Authentication authentication
+            @CurrentUserId Long hostId
     ) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
         return hostRevenueService.getSummary(hostId, year, month);
     }
 
     @GetMapping("/trend")
     public List<HostRevenueTrendResponse> trend(
             @RequestParam int year,
-            Authentication authentication
+            @CurrentUserId Long hostId
     ) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
         return hostRevenueService.getTrend(hostId, year);
     }
 
@@ -55,12 +44,8 @@ public class HostRevenueController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
             @RequestParam(required = false) String granularity,
-            Authentication authentication
+            @CurrentUserId Long hostId
     ) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
         return hostRevenueService.getDetails(hostId, from, to, granularity);
     }
 }
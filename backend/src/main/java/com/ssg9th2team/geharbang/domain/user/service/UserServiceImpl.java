@@ -5,6 +5,7 @@ import com.ssg9th2team.geharbang.domain.auth.entity.UserSocial;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserSocialRepository;
 import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.UserCouponJpaRepository;
+import com.ssg9th2team.geharbang.domain.coupon.service.UserCouponWalletService;
 import com.ssg9th2team.geharbang.domain.chat.repository.RealtimeChatRoomRepository;
 import com.ssg9th2team.geharbang.domain.chat.repository.RealtimeChatMessageRepository;
 import com.ssg9th2team.geharbang.domain.payment.entity.Payment;
@@ -18,6 +19,8 @@ import com.ssg9th2team.geharbang.domain.review.repository.jpa.ReviewJpaRepositor
 import com.ssg9th2team.geharbang.domain.user.dto.DeleteAccountRequest;
 import com.ssg9th2team.geharbang.domain.user.dto.UpdateProfileRequest;
 import com.ssg9th2team.geharbang.domain.wishlist.repository.jpa.WishlistJpaRepository;
+import com.ssg9th2team.geharbang.global.common.resolver.UserIdentityResolver;
+import com.ssg9th2team.geharbang.global.security.UserAccessCache;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
@@ -47,12 +50,15 @@ public class UserServiceImpl implements UserService {
     private final ReviewJpaRepository reviewJpaRepository;
     private final WishlistJpaRepository wishlistJpaRepository;
     private final UserCouponJpaRepository userCouponJpaRepository;
+    private final UserCouponWalletService userCouponWalletService;
     private final RealtimeChatRoomRepository realtimeChatRoomRepository;
     private final RealtimeChatMessageRepository realtimeChatMessageRepository;
     private final com.ssg9th2team.geharbang.domain.chatbot.repository.ChatRoomRepository chatbotRoomRepository;
     private final com.ssg9th2team.geharbang.domain.chatbot.repository.ChatHistoryRepository chatbotHistoryRepository;
     private final com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.AccommodationJpaRepository accommodationJpaRepository;
     private final com.ssg9th2team.geharbang.domain.accommodation.service.AccommodationService accommodationService;
+    private final UserIdentityResolver userIdentityResolver;
+    private final UserAccessCache userAccessCache;
 
     @Override
     @Transactional
@@ -153,6 +159,7 @@ public class UserServiceImpl implements UserService {
 
             // 10. 사용자 쿠폰 삭제
             userCouponJpaRepository.deleteAllByUserId(userId);
+            userCouponWalletService.invalidate(userId);
             log.info("사용자 {}의 쿠폰 삭제 완료", email);
 
             // 11. 소셜 로그인 정보 삭제
@@ -176,6 +183,10 @@ public class UserServiceImpl implements UserService {
 
             // JDBC로 직접 삭제
             jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", userId);
+            // 같은 이메일로 재가입하면 새 ID 가 발급되므로 이메일 -> ID 캐시를 비운다
+            userIdentityResolver.evict(email);
+            // 이미 발급된 토큰이 만료 전까지 쓰이지 않도록 권한 상태 캐시도 비운다
+            userAccessCache.evict(userId);
             log.info("사용자 {} 탈퇴 성공", email);
 
         } catch (IllegalArgumentException | IllegalStateException e) {
@@ -0,0 +1,100 @@
+package com.ssg9th2team.geharbang.global.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 노드별 로컬 캐시(Caffeine 등) 무효화를 Redis Pub/Sub 으로 모든 노드에 전달한다.
+ *
+ * <p>캐시 소유자는 {@link #register(String, Consumer)} 로 로컬 무효화 함수를 등록하고,
+ * 원본이 바뀌면 {@link #broadcast(String, String)} 를 호출한다. 발행한 노드도 자기 메시지를 받아 같은 경로로 무효화한다.
+ * <ul>
+ *   <li>트랜잭션 안에서 호출하면 커밋 후에 발행한다 (커밋 전 다른 노드가 옛 값을 다시 캐시하지 않도록)</li>
+ *   <li>Redis 발행이 실패하면 이 노드만 즉시 무효화하고, 다른 노드는 각 캐시의 TTL/갱신 주기까지 옛 값을 볼 수 있다</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalCacheEvictionBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "cache:local:evict";
+
+    private final RedisMessageListenerContainer redisMessageListener;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // cacheName -> 로컬 무효화 함수 (인자: 캐시 키)
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListener.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public void register(String cacheName, Consumer<String> handler) {
+        handlers.put(cacheName, handler);
+    }
+
+    /**
+     * 모든 노드의 cacheName 캐시에서 key 를 무효화한다.
+     */
+    public void broadcast(String cacheName, String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(cacheName, key);
+                }
+            });
+        } else {
+            publish(cacheName, key);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = payload.indexOf('|');
+        if (separator < 0) {
+            log.warn("Ignoring malformed cache eviction message: {}", payload);
+            return;
+        }
+        evictLocally(payload.substring(0, separator), payload.substring(separator + 1));
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, cacheName + "|" + key);
+        } catch (Exception e) {
+            log.warn("Failed to broadcast cache eviction {}#{}, evicting locally only: {}", cacheName, key, e.getMessage());
+            evictLocally(cacheName, key);
+        }
+    }
+
+    private void evictLocally(String cacheName, String key) {
+        Consumer<String> handler = handlers.get(cacheName);
+        if (handler == null) {
+            return;
+        }
+        try {
+            handler.accept(key);
+            log.debug("Local cache evicted: {}#{}", cacheName, key);
+        } catch (Exception e) {
+            log.warn("Local cache eviction failed: {}#{}", cacheName, key, e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.ssg9th2team.geharbang.global.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 현재 로그인한 사용자의 ID(Long)를 주입하기 위한 어노테이션.
+ * CurrentUserIdArgumentResolver에서 처리됩니다.
+ * required = false 이면 비로그인 요청에 null 을 주입합니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUserId {
+
+    boolean required() default true;
+}
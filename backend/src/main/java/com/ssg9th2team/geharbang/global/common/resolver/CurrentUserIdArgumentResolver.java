@@ -0,0 +1,38 @@
+package com.ssg9th2team.geharbang.global.common.resolver;
+
+import com.ssg9th2team.geharbang.global.common.annotation.CurrentUserId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+@RequiredArgsConstructor
+public class CurrentUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserIdentityResolver userIdentityResolver;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUserId.class) &&
+                Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CurrentUserId annotation = parameter.getParameterAnnotation(CurrentUserId.class);
+        if (annotation != null && !annotation.required()) {
+            return userIdentityResolver.findUserId(authentication);
+        }
+        return userIdentityResolver.resolveUserId(authentication);
+    }
+}
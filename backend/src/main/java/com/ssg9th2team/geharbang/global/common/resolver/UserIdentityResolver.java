@@ -0,0 +1,131 @@
+package com.ssg9th2team.geharbang.global.common.resolver;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssg9th2team.geharbang.domain.auth.entity.User;
+import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.oauth.service.CustomOAuth2User;
+import com.ssg9th2team.geharbang.global.security.CustomUserDetails;
+import com.ssg9th2team.geharbang.global.security.JwtTokenProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * 현재 요청 사용자의 ID 조회
+ *
+ * <p>핸들러/서비스마다 이메일로 users 테이블을 다시 조회하지 않도록 다음 순서로 찾는다.
+ * <ul>
+ *   <li>인증 principal(CustomUserDetails, CustomOAuth2User)에 이미 담긴 사용자</li>
+ *   <li>그 밖의 인증 정보는 이메일 -> ID Caffeine 캐시 (ID 는 바뀌지 않으므로 탈퇴 시에만 {@link #evict(String)})</li>
+ *   <li>JWT 필터를 타지 않는 공개 API 는 Authorization 헤더 토큰의 사용자 ID 클레임</li>
+ * </ul>
+ * 찾은 값은 요청 속성에 보관해 같은 요청 안에서는 한 번만 계산한다.
+ * 권한(role)은 바뀔 수 있으므로 캐시하지 않고 Authentication 의 권한 정보를 그대로 사용한다.
+ */
+@Component
+public class UserIdentityResolver {
+
+    private static final String REQUEST_ATTRIBUTE = UserIdentityResolver.class.getName() + ".userId";
+    private static final Long ANONYMOUS = -1L;
+
+    private final UserRepository userRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, Long> userIdByEmail;
+
+    public UserIdentityResolver(UserRepository userRepository,
+                                JwtTokenProvider jwtTokenProvider,
+                                @Value("${auth.identity.cache.ttl-minutes:30}") long ttlMinutes,
+                                @Value("${auth.identity.cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userIdByEmail = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 로그인 사용자 ID. 찾을 수 없으면 IllegalStateException.
+     */
+    public Long resolveUserId(Authentication authentication) {
+        Long userId = findUserId(authentication);
+        if (userId == null) {
+            throw new IllegalStateException("인증된 사용자를 찾을 수 없습니다.");
+        }
+        return userId;
+    }
+
+    /**
+     * 로그인 사용자 ID. 비로그인이거나 찾을 수 없으면 null.
+     */
+    public Long findUserId(Authentication authentication) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof Long userId) {
+                return ANONYMOUS.equals(userId) ? null : userId;
+            }
+        }
+
+        Long userId = lookup(authentication, attributes);
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, userId != null ? userId : ANONYMOUS,
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+        return userId;
+    }
+
+    /**
+     * 회원 탈퇴 등으로 이메일과 ID 의 연결이 끊길 때 호출
+     */
+    public void evict(String email) {
+        if (email != null) {
+            userIdByEmail.invalidate(email);
+        }
+    }
+
+    private Long lookup(Authentication authentication, RequestAttributes attributes) {
+        if (isAuthenticated(authentication)) {
+            Object principal = authentication.getPrincipal();
+            if (principal instanceof CustomUserDetails userDetails) {
+                return userDetails.getId();
+            }
+            if (principal instanceof CustomOAuth2User oAuth2User) {
+                return oAuth2User.getUserId();
+            }
+            return userIdByEmail.get(authentication.getName(), email -> userRepository.findByEmail(email)
+                    .map(User::getId)
+                    .orElse(null));
+        }
+
+        // 공개 API 는 JWT 필터를 건너뛰므로 헤더 토큰의 ID 클레임만 읽는다 (DB 조회 없음)
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            String token = resolveToken(servletAttributes.getRequest());
+            if (token != null) {
+                return jwtTokenProvider.getUserIdFromToken(token);
+            }
+        }
+        return null;
+    }
+
+    private boolean isAuthenticated(Authentication authentication) {
+        return authentication != null && authentication.isAuthenticated()
+                && !"anonymousUser".equals(authentication.getPrincipal());
+    }
+
+    private String resolveToken(HttpServletRequest request) {
+        String bearerToken = request.getHeader("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
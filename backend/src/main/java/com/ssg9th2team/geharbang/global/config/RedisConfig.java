@@ -12,11 +12,11 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -27,14 +27,12 @@ public class RedisConfig {
 
     /**
      * Redis Pub/Sub 처리를 위한 리스너 설정
+     * 채팅방 채널(chatroom:{roomId})은 ChatRoomSubscriptionRegistry 가 로컬 구독 현황에 따라 동적으로 등록한다.
      */
     @Bean
-    public RedisMessageListenerContainer redisMessageListener(RedisConnectionFactory connectionFactory,
-                                                              MessageListenerAdapter listenerAdapter,
-                                                              ChannelTopic channelTopic) {
+    public RedisMessageListenerContainer redisMessageListener(RedisConnectionFactory connectionFactory) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(listenerAdapter, channelTopic);
         return container;
     }
 
@@ -44,18 +42,11 @@ public class RedisConfig {
     @Bean
     public MessageListenerAdapter listenerAdapter(RedisSubscriber subscriber) {
         MessageListenerAdapter adapter = new MessageListenerAdapter(subscriber, "sendMessage");
-        adapter.setSerializer(new StringRedisSerializer());
+        // 채팅 메시지는 압축 바이너리로 발행되므로 바이트 그대로 전달 (채널명은 문자열)
+        adapter.setSerializer(RedisSerializer.byteArray());
         return adapter;
     }
 
-    /**
-     * 사용할 Redis Topic 설정
-     */
-    @Bean
-    public ChannelTopic channelTopic() {
-        return new ChannelTopic("chatroom");
-    }
-
     /**
      * 어플리케이션에서 사용할 RedisTemplate 설정
      */
@@ -84,16 +75,11 @@ public class RedisConfig {
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
 
-        // 사용자 쿠폰용 설정 (3분 TTL)
-        RedisCacheConfiguration userCouponConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(3))
-                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
+        // 사용자 쿠폰함은 UserCouponWalletService(Redis Hash write-through)로 관리
 
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withCacheConfiguration("downloadableCoupons", couponListConfig)
-                .withCacheConfiguration("userCoupons", userCouponConfig)
                 .build();
     }
 
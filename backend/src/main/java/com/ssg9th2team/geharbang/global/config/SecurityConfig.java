@@ -66,11 +66,13 @@ public class SecurityConfig {
                                                 .requestMatchers("/api/reviews/write/**").authenticated()
                                                 .requestMatchers("/api/coupons/my").authenticated()
                                                 .requestMatchers("/api/coupons/my/ids").authenticated()
+                                                .requestMatchers("/api/coupons/my/best").authenticated()
                                                 .requestMatchers("/api/coupons/issue").authenticated()
                                                 .requestMatchers("/api/coupons/*/use").authenticated()
                                                 .requestMatchers("/api/wishlist", "/api/wishlist/**").authenticated()
                                                 .requestMatchers("/api/host/**").authenticated()
                                                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                                                .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")
                                                 // 그 외 모든 요청은 허용 (SPA에서 프론트엔드 라우팅 처리)
                                                 .anyRequest().permitAll())
 
@@ -1,5 +1,7 @@
 package com.ssg9th2team.geharbang.global.config;
 
+import com.ssg9th2team.geharbang.domain.chat.service.ChatSubscriptionAuthorizer;
+import com.ssg9th2team.geharbang.global.common.resolver.UserIdentityResolver;
 import com.ssg9th2team.geharbang.global.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +22,8 @@ import org.springframework.stereotype.Component;
 public class StompHandler implements ChannelInterceptor {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final ChatSubscriptionAuthorizer chatSubscriptionAuthorizer;
+    private final UserIdentityResolver userIdentityResolver;
     private static final String AUTHENTICATION_KEY = "AUTHENTICATION";
 
     @Override
@@ -80,6 +84,12 @@ public class StompHandler implements ChannelInterceptor {
                 log.debug("Restored authentication for user: {} (command: {})",
                          authentication.getName(), accessor.getCommand());
 
+                // 구독 권한 확인 (principal 종류와 무관하게 사용자 ID 로 확인, 참여 채팅방 목록은 로컬 캐시)
+                if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+                    chatSubscriptionAuthorizer.checkSubscribe(userIdentityResolver.findUserId(authentication),
+                            accessor.getDestination());
+                }
+
                 // 수정된 메시지 반환
                 return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
             } else {
@@ -2,6 +2,7 @@ package com.ssg9th2team.geharbang.global.config;
 
 import com.ssg9th2team.geharbang.domain.admin.support.AdminIdArgumentResolver;
 import com.ssg9th2team.geharbang.global.common.resolver.CurrentUserArgumentResolver;
+import com.ssg9th2team.geharbang.global.common.resolver.CurrentUserIdArgumentResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value; // 이거 꼭 추가해야 합니다!
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +18,7 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final AdminIdArgumentResolver adminIdArgumentResolver;
     private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final CurrentUserIdArgumentResolver currentUserIdArgumentResolver;
 
     // ▼▼▼ [핵심 수정] 설정 파일에서 변수 가져오기 (없으면 기본값 localhost 사용) ▼▼▼
     @Value("${env.oauth2-frontend-base-url:http://localhost:5173}")
@@ -43,5 +45,6 @@ public class WebConfig implements WebMvcConfigurer {
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(adminIdArgumentResolver);
         resolvers.add(currentUserArgumentResolver);
+        resolvers.add(currentUserIdArgumentResolver);
     }
 }
\ No newline at end of file
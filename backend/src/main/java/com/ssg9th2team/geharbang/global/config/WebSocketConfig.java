@@ -1,6 +1,8 @@
 package com.ssg9th2team.geharbang.global.config;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -9,24 +11,103 @@ import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBr
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+/**
+ * STOMP 메시지 브로커 설정
+ *
+ * <p>chat.broker.mode 로 브로커 방식을 고른다.
+ * <ul>
+ *   <li>simple (기본) : 노드 내장 SimpleBroker. 노드 간 전달은 Redis 채팅방 채널(RedisPublisher/RedisSubscriber)</li>
+ *   <li>relay : 외부 STOMP 브로커(ActiveMQ Artemis, RabbitMQ STOMP 플러그인 등)로 relay.
+ *       브로커가 모든 노드의 구독자에게 fan-out 하므로 Redis 채널 중계를 사용하지 않는다.</li>
+ * </ul>
+ * 클라이언트 inbound/outbound 채널 스레드 풀은 chat.websocket.* 설정으로 조정한다.
+ */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    public static final String BROKER_MODE_PROPERTY = "chat.broker.mode";
+    public static final String BROKER_MODE_RELAY = "relay";
+
     private final StompHandler stompHandler; // StompHandler 주입
 
+    @Value("${" + BROKER_MODE_PROPERTY + ":simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.client-login:guest}")
+    private String relayClientLogin;
+
+    @Value("${chat.broker.relay.client-passcode:guest}")
+    private String relayClientPasscode;
+
+    @Value("${chat.broker.relay.system-login:guest}")
+    private String relaySystemLogin;
+
+    @Value("${chat.broker.relay.system-passcode:guest}")
+    private String relaySystemPasscode;
+
+    @Value("${chat.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${chat.websocket.heartbeat-pool-size:1}")
+    private int heartbeatPoolSize;
+
+    @Value("${chat.websocket.inbound.core-pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors() * 2}}")
+    private int inboundCorePoolSize;
+
+    @Value("${chat.websocket.inbound.max-pool-size:64}")
+    private int inboundMaxPoolSize;
+
+    @Value("${chat.websocket.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${chat.websocket.outbound.core-pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors() * 2}}")
+    private int outboundCorePoolSize;
+
+    @Value("${chat.websocket.outbound.max-pool-size:64}")
+    private int outboundMaxPoolSize;
+
+    @Value("${chat.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // TaskScheduler 설정 (heartbeat 지원)
-        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
-        taskScheduler.setPoolSize(1);
-        taskScheduler.setThreadNamePrefix("wss-heartbeat-");
-        taskScheduler.initialize();
-
-        config.enableSimpleBroker("/topic", "/queue")
-                .setTaskScheduler(taskScheduler)
-                .setHeartbeatValue(new long[]{10000, 10000}); // 10초마다 heartbeat
+        if (isRelayMode(brokerMode)) {
+            var relay = config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayClientLogin)
+                    .setClientPasscode(relayClientPasscode)
+                    .setSystemLogin(relaySystemLogin)
+                    .setSystemPasscode(relaySystemPasscode)
+                    .setSystemHeartbeatSendInterval(10000)
+                    .setSystemHeartbeatReceiveInterval(10000)
+                    // 다른 노드에 연결된 사용자에게도 /user 목적지(@SendToUser) 전달
+                    .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            log.info("STOMP broker relay enabled: {}:{}", relayHost, relayPort);
+        } else {
+            // TaskScheduler 설정 (heartbeat 지원)
+            ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+            taskScheduler.setPoolSize(heartbeatPoolSize);
+            taskScheduler.setThreadNamePrefix("wss-heartbeat-");
+            taskScheduler.initialize();
+
+            config.enableSimpleBroker("/topic", "/queue")
+                    .setTaskScheduler(taskScheduler)
+                    .setHeartbeatValue(new long[]{10000, 10000}); // 10초마다 heartbeat
+        }
         config.setApplicationDestinationPrefixes("/app");
     }
 
@@ -44,5 +125,24 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler); // 인터셉터 등록
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    /**
+     * 외부 브로커 relay 모드 여부 (Redis 채널 중계 사용 여부 판단용)
+     */
+    public static boolean isRelayMode(String brokerMode) {
+        return BROKER_MODE_RELAY.equalsIgnoreCase(brokerMode);
     }
 }
@@ -0,0 +1,38 @@
+package com.ssg9th2team.geharbang.global.scheduler;
+
+import com.ssg9th2team.geharbang.domain.admin.service.AdminHourlyRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminHourlyRollupScheduler {
+
+    private final AdminHourlyRollupService rollupService;
+
+    @Value("${admin.rollup.reconcile-days:7}")
+    private int reconcileDays;
+
+    // 변경된 시간만 다시 합산
+    @Scheduled(fixedDelayString = "${admin.rollup.refresh-delay-ms:60000}")
+    public void refreshChangedBuckets() {
+        try {
+            rollupService.refreshChanged();
+        } catch (Exception e) {
+            log.warn("Failed to refresh admin hourly rollup: {}", e.getMessage());
+        }
+    }
+
+    // 최근 며칠은 원본에서 통째로 다시 만들어 변경분 추적이 놓친 값을 바로잡는다
+    @Scheduled(cron = "0 20 0 * * *")
+    public void reconcileRecentDays() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        rollupService.rebuildDays(yesterday.minusDays(reconcileDays - 1L), yesterday);
+    }
+}
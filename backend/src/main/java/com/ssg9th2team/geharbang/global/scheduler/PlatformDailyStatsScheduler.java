@@ -2,11 +2,13 @@ package com.ssg9th2team.geharbang.global.scheduler;
 
 import com.ssg9th2team.geharbang.domain.admin.service.PlatformDailyStatsService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class PlatformDailyStatsScheduler {
@@ -17,4 +19,14 @@ public class PlatformDailyStatsScheduler {
     public void refreshYesterdayStats() {
         statsService.refreshDailyStats(LocalDate.now().minusDays(1));
     }
+
+    // 오늘 통계는 실시간 카운터로 주기적으로 갱신한다
+    @Scheduled(fixedDelayString = "${admin.stats.flush-delay-ms:60000}")
+    public void flushTodayStats() {
+        try {
+            statsService.flushLiveStats(LocalDate.now());
+        } catch (Exception e) {
+            log.warn("Failed to flush live platform stats: {}", e.getMessage());
+        }
+    }
 }
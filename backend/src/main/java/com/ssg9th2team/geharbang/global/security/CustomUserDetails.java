@@ -1,34 +1,65 @@
 package com.ssg9th2team.geharbang.global.security;
 
 import com.ssg9th2team.geharbang.domain.auth.entity.User;
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
 
-@Getter
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long id;
+    private final String email;
+    private final Collection<? extends GrantedAuthority> authorities;
+    private final Supplier<User> userLoader;
+    private User user;
+
+    public CustomUserDetails(User user) {
+        this.id = user.getId();
+        this.email = user.getEmail();
+        this.authorities = Collections.singleton(new SimpleGrantedAuthority(user.getRole().getKey()));
+        this.userLoader = () -> user;
+        this.user = user;
+    }
+
+    private CustomUserDetails(Long id, String email, Collection<? extends GrantedAuthority> authorities,
+                              Supplier<User> userLoader) {
+        this.id = id;
+        this.email = email;
+        this.authorities = authorities;
+        this.userLoader = userLoader;
+    }
+
+    // 토큰 클레임(ID, 이메일, 권한)만으로 만든 principal. User 엔티티는 getUser() 를 처음 호출할 때 한 번만 읽는다
+    public static CustomUserDetails fromClaims(Long id, String email, Collection<? extends GrantedAuthority> authorities,
+                                               Supplier<User> userLoader) {
+        return new CustomUserDetails(id, email, List.copyOf(authorities), userLoader);
+    }
+
+    public User getUser() {
+        if (user == null) {
+            user = userLoader.get();
+        }
+        return user;
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singleton(new SimpleGrantedAuthority(user.getRole().getKey()));
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return getUser().getPassword();
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -48,10 +79,10 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return !Boolean.TRUE.equals(user.getSuspended());
+        return !Boolean.TRUE.equals(getUser().getSuspended());
     }
 
     public Long getId() {
-        return user.getId();
+        return id;
     }
 }
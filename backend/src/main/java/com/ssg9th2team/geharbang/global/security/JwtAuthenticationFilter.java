@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -63,9 +64,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 2. 토큰 유효성 검증
         if (token != null && jwtTokenProvider.validateToken(token)) {
             // 3. 토큰이 유효하면 토큰에서 Authentication 객체를 가져와서 SecurityContext에 저장
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.debug("Security Context에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
+            try {
+                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                log.debug("Security Context에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
+            } catch (AuthenticationException e) {
+                // 탈퇴/정지된 사용자의 토큰은 인증 없이 진행해 보호된 API 에서 401 을 받게 한다
+                SecurityContextHolder.clearContext();
+                log.debug("토큰 사용자 인증 거부: {}", e.getMessage());
+            }
         } else {
             log.debug("유효한 JWT 토큰이 없습니다. URI: {}", request.getRequestURI());
         }
@@ -5,18 +5,21 @@ import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.auth.entity.User;
+import com.ssg9th2team.geharbang.global.oauth.service.CustomOAuth2User;
 
 import javax.crypto.SecretKey;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Date;
 import java.util.stream.Collectors;
 
@@ -24,17 +27,21 @@ import java.util.stream.Collectors;
 @Component/// 스프링이 클래스를 관리하도록 빈 등록
 public class JwtTokenProvider {
 
+    private static final String USER_ID_CLAIM = "uid";/// 사용자 ID 클레임 (일반/소셜 사용자 토큰에만 포함)
+
     private final SecretKey key;/// 암호화에 사용할 비밀 키
     private final long accessTokenExpiration;/// Access 토큰 유효 시간
     private final long refreshTokenExpiration;/// Refresh 토큰 유효 시간
     private final UserRepository userRepository;/// 사용자 정보 조회용
+    private final UserAccessCache userAccessCache;/// 사용자 현재 권한/정지/탈퇴 여부 캐시
 
     /// 생성자 application.properties에 적은 설정값들을 가져와 초기화
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,/// 비밀키
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,/// 접근토큰
             @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,/// 리프래시 토큰
-            UserRepository userRepository) {/// 사용자 저장소
+            UserRepository userRepository,/// 사용자 저장소
+            UserAccessCache userAccessCache) {/// 사용자 권한 상태 캐시
 
         /// BASE 64로 인코딩된 비밀키를 디코딩해서 실제 암호화 키 객체로 만들기
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
@@ -42,6 +49,7 @@ public class JwtTokenProvider {
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
         this.userRepository = userRepository;
+        this.userAccessCache = userAccessCache;
     }
 
     /// Access Token 생성
@@ -64,16 +72,34 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration); ///현재 시간 + 유효시간 = 만료시간
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(authentication.getName()) /// 토큰
-                .claim("auth", authorities)///  토큰에 담을 권한 정보
+                .claim("auth", authorities);///  토큰에 담을 권한 정보
+
+        /// 사용자 ID를 함께 담아 요청마다 이메일로 사용자를 다시 찾지 않도록 한다
+        Long userId = extractUserId(authentication.getPrincipal());
+        if (userId != null) {
+            builder.claim(USER_ID_CLAIM, userId);
+        }
+
+        return builder
                 .issuedAt(now) ///  토큰 발행 시간
                 .expiration(expiryDate) /// 토큰 만료 시간
                 .signWith(key, Jwts.SIG.HS512)/// 비밀키로 서명 (HS512 알고리즘 사용 )
                 .compact(); ///최종적으로 문자열로 변 환
     }
 
-    // 토큰에서 인증 정보 조회
+    private Long extractUserId(Object principal) {
+        if (principal instanceof CustomUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        if (principal instanceof CustomOAuth2User oAuth2User) {
+            return oAuth2User.getUserId();
+        }
+        return null;
+    }
+
+    // 토큰에서 인증 정보 조회 (요청마다 호출되므로 ID 클레임이 있으면 사용자 테이블 대신 권한 상태 캐시를 읽는다)
     public Authentication getAuthentication(String token) {
         Claims claims = parseClaims(token);///JWT안에 저장된 정보가 있는것을  Claims
 
@@ -81,22 +107,44 @@ public class JwtTokenProvider {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");///오류 던져
         }
 
-        /// 토큰에서 이메일 추출
-        String email = claims.getSubject();
-        
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        if (userId == null) {
+            /// ID 클레임이 없는 예전 토큰은 이메일로 사용자를 조회
+            return loadAuthentication(claims.getSubject());
+        }
+
+        /// 권한은 발급 시점 클레임 대신 캐시의 현재 역할을 쓰고, 탈퇴/정지된 사용자는 거부한다
+        /// (역할 변경·정지·탈퇴 시 캐시를 비우므로 반영이 늦어도 캐시 TTL 까지). User 엔티티는 필요한 곳에서만 지연 조회
+        Long id = userId.longValue();
+        UserAccessCache.UserAccess access = userAccessCache.get(id);
+        if (access.removed()) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + id);
+        }
+        if (access.suspended()) {
+            throw new DisabledException("정지된 사용자입니다: " + id);
+        }
+        Collection<? extends GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(access.authority()));
+        UserDetails principal = CustomUserDetails.fromClaims(id, claims.getSubject(), authorities,
+                () -> userRepository.findById(id)
+                        .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + id)));
+
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    }
+
+    // 토큰의 사용자를 DB 에서 다시 읽어 인증 정보 생성 (토큰 재발급처럼 최신 권한이 필요한 경우)
+    public Authentication getAuthenticationWithUser(String token) {
+        return loadAuthentication(parseClaims(token).getSubject());
+    }
+
+    private Authentication loadAuthentication(String email) {
         /// 이메일로 실제 User 엔티티 조회
         User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new org.springframework.security.core.userdetails.UsernameNotFoundException(
-                        "사용자를 찾을 수 없습니다: " + email));
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
         /// CustomUserDetails 생성 (실제 User 엔티티 포함)
         UserDetails principal = new CustomUserDetails(user);
 
-        /// Spring Security에서 권한을 GrantedAuthority라는 객체로 관리
-        /// 권한 목록 생성
-        Collection<? extends GrantedAuthority> authorities = principal.getAuthorities();
-
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
 
     // 토큰 검증`
@@ -137,6 +185,21 @@ public class JwtTokenProvider {
         return parseClaims(token).getSubject();
     }
 
+    // 토큰에서 사용자 ID 추출 (검증에 실패했거나 ID 클레임이 없는 토큰이면 null)
+    public Long getUserIdFromToken(String token) {
+        try {
+            Number userId = Jwts.parser()
+                    .verifyWith(key)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload()
+                    .get(USER_ID_CLAIM, Number.class);
+            return userId != null ? userId.longValue() : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     // Access Token 만료 시간 조회
     public long getAccessTokenExpiration() {
         return accessTokenExpiration;
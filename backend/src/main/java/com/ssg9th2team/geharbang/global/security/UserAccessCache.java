@@ -0,0 +1,79 @@
+package com.ssg9th2team.geharbang.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.cache.LocalCacheEvictionBroadcaster;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자 ID -> 현재 권한/정지/탈퇴 여부 캐시
+ *
+ * <p>JWT 의 auth 클레임은 발급 시점 권한이라 토큰 수명(1시간) 동안 역할 변경, 정지, 탈퇴가 반영되지 않는다.
+ * 요청마다 users 테이블을 읽지 않으면서 이를 다시 확인하기 위해 {@link JwtTokenProvider#getAuthentication(String)} 가 사용한다.
+ * <ul>
+ *   <li>역할 변경, 정지/해제, 탈퇴 시 {@link #evict(Long)} 로 모든 노드의 항목을 커밋 후 지운다</li>
+ *   <li>Redis 발행이 실패하면 다른 노드는 TTL(기본 60초)까지 옛 상태를 볼 수 있다</li>
+ * </ul>
+ */
+@Component
+public class UserAccessCache {
+
+    static final String CACHE_NAME = "userAccess";
+
+    private final UserRepository userRepository;
+    private final LocalCacheEvictionBroadcaster cacheEvictionBroadcaster;
+    private final Cache<Long, UserAccess> accessById;
+
+    public UserAccessCache(UserRepository userRepository,
+                           LocalCacheEvictionBroadcaster cacheEvictionBroadcaster,
+                           @Value("${auth.access.cache.ttl-seconds:60}") long ttlSeconds,
+                           @Value("${auth.access.cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cacheEvictionBroadcaster = cacheEvictionBroadcaster;
+        this.accessById = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @PostConstruct
+    void registerEviction() {
+        cacheEvictionBroadcaster.register(CACHE_NAME, key -> accessById.invalidate(Long.valueOf(key)));
+    }
+
+    /**
+     * 사용자의 현재 권한 상태. 탈퇴한 사용자는 {@link UserAccess#REMOVED}.
+     */
+    public UserAccess get(Long userId) {
+        return accessById.get(userId, id -> userRepository.findById(id)
+                .map(user -> new UserAccess(user.getRole().getKey(), Boolean.TRUE.equals(user.getSuspended())))
+                .orElse(UserAccess.REMOVED));
+    }
+
+    /**
+     * 역할 변경, 정지/해제, 탈퇴처럼 권한 상태가 바뀔 때 호출
+     */
+    public void evict(Long userId) {
+        if (userId != null) {
+            cacheEvictionBroadcaster.broadcast(CACHE_NAME, String.valueOf(userId));
+        }
+    }
+
+    /**
+     * @param authority 현재 역할의 권한 키 (ROLE_USER 등), 탈퇴한 사용자는 null
+     * @param suspended 관리자 정지 여부
+     */
+    public record UserAccess(String authority, boolean suspended) {
+
+        public static final UserAccess REMOVED = new UserAccess(null, false);
+
+        public boolean removed() {
+            return authority == null;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+-- 채팅 메시지 MySQL 아카이브 (write-behind) 과거 페이지 조회용
+-- id 는 Redis 에서 발급한 메시지 ID 를 그대로 저장하므로 채팅방별 id 역순으로 스캔한다.
+create index idx_realtime_chat_messages_room_id
+    on realtime_chat_messages (chat_room_id, id);
@@ -0,0 +1,98 @@
+-- 관리자 대시보드 시간 단위 롤업
+-- 결제/환불/예약/가입 지표를 시간(bucket_at = 정시) 단위로 미리 합산해 두고 대시보드는 이 행만 합친다.
+-- 원본 행의 시간 기준은 기존 KPI 정의와 같다: 결제/예약/가입 created_at, 환불 requested_at.
+CREATE TABLE IF NOT EXISTS admin_hourly_rollup
+(
+    bucket_at                  DATETIME NOT NULL COMMENT '집계 시간 (정시)',
+    payment_success_count      BIGINT   NOT NULL DEFAULT 0 COMMENT '결제 성공 건수 (payment_status = 1)',
+    payment_gross_amount       BIGINT   NOT NULL DEFAULT 0 COMMENT '결제 성공 금액 합',
+    payment_failure_count      BIGINT   NOT NULL DEFAULT 0 COMMENT '결제 실패 건수 (payment_status = 2)',
+    refund_request_count       BIGINT   NOT NULL DEFAULT 0 COMMENT '환불 요청 건수 (refund_status = 0)',
+    refund_completed_count     BIGINT   NOT NULL DEFAULT 0 COMMENT '환불 완료 건수 (refund_status = 1)',
+    refund_completed_amount    BIGINT   NOT NULL DEFAULT 0 COMMENT '환불 완료 금액 합',
+    reservation_count          BIGINT   NOT NULL DEFAULT 0 COMMENT '생성된 예약 건수',
+    reservation_paid_count     BIGINT   NOT NULL DEFAULT 0 COMMENT '결제 완료 예약 건수 (payment_status = 1)',
+    reservation_canceled_count BIGINT   NOT NULL DEFAULT 0 COMMENT '취소 예약 건수 (reservation_status = 9)',
+    signup_count               BIGINT   NOT NULL DEFAULT 0 COMMENT '가입 회원 수',
+    updated_at                 DATETIME NOT NULL COMMENT '마지막 집계 시각',
+    CONSTRAINT PK_ADMIN_HOURLY_ROLLUP PRIMARY KEY (bucket_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 롤업 갱신은 마지막 처리 이후 바뀐 행의 시간만 다시 합산하므로 updated_at 으로 변경분을 찾는다.
+create index idx_payment_updated_at on payment (updated_at);
+create index idx_payment_refund_updated_at on payment_refund (updated_at);
+create index idx_reservation_updated_at on reservation (updated_at);
+create index idx_users_created_at on users (created_at);
+
+-- 바뀐 시간을 다시 합산할 때의 원본 범위 조회용
+create index idx_payment_created_at on payment (created_at);
+create index idx_payment_refund_requested_at on payment_refund (requested_at);
+create index idx_reservation_created_at on reservation (created_at);
+
+-- 기존 데이터 최초 적재 (이후는 애플리케이션 롤업 갱신이 유지한다)
+INSERT INTO admin_hourly_rollup (bucket_at,
+                                 payment_success_count,
+                                 payment_gross_amount,
+                                 payment_failure_count,
+                                 refund_request_count,
+                                 refund_completed_count,
+                                 refund_completed_amount,
+                                 reservation_count,
+                                 reservation_paid_count,
+                                 reservation_canceled_count,
+                                 signup_count,
+                                 updated_at)
+SELECT s.bucket_at,
+       SUM(s.payment_success_count),
+       SUM(s.payment_gross_amount),
+       SUM(s.payment_failure_count),
+       SUM(s.refund_request_count),
+       SUM(s.refund_completed_count),
+       SUM(s.refund_completed_amount),
+       SUM(s.reservation_count),
+       SUM(s.reservation_paid_count),
+       SUM(s.reservation_canceled_count),
+       SUM(s.signup_count),
+       NOW()
+FROM (
+    SELECT CAST(DATE_FORMAT(p.created_at, '%Y-%m-%d %H:00:00') AS DATETIME) AS bucket_at,
+           SUM(CASE WHEN p.payment_status = 1 THEN 1 ELSE 0 END) AS payment_success_count,
+           SUM(CASE WHEN p.payment_status = 1 THEN COALESCE(p.approved_amount, 0) ELSE 0 END) AS payment_gross_amount,
+           SUM(CASE WHEN p.payment_status = 2 THEN 1 ELSE 0 END) AS payment_failure_count,
+           0 AS refund_request_count,
+           0 AS refund_completed_count,
+           0 AS refund_completed_amount,
+           0 AS reservation_count,
+           0 AS reservation_paid_count,
+           0 AS reservation_canceled_count,
+           0 AS signup_count
+    FROM payment p
+    GROUP BY 1
+    UNION ALL
+    SELECT CAST(DATE_FORMAT(pr.requested_at, '%Y-%m-%d %H:00:00') AS DATETIME),
+           0, 0, 0,
+           SUM(CASE WHEN pr.refund_status = 0 THEN 1 ELSE 0 END),
+           SUM(CASE WHEN pr.refund_status = 1 THEN 1 ELSE 0 END),
+           SUM(CASE WHEN pr.refund_status = 1 THEN COALESCE(pr.refund_amount, 0) ELSE 0 END),
+           0, 0, 0, 0
+    FROM payment_refund pr
+    GROUP BY 1
+    UNION ALL
+    SELECT CAST(DATE_FORMAT(r.created_at, '%Y-%m-%d %H:00:00') AS DATETIME),
+           0, 0, 0, 0, 0, 0,
+           COUNT(*),
+           SUM(CASE WHEN r.payment_status = 1 THEN 1 ELSE 0 END),
+           SUM(CASE WHEN r.reservation_status = 9 THEN 1 ELSE 0 END),
+           0
+    FROM reservation r
+    GROUP BY 1
+    UNION ALL
+    SELECT CAST(DATE_FORMAT(u.created_at, '%Y-%m-%d %H:00:00') AS DATETIME),
+           0, 0, 0, 0, 0, 0, 0, 0, 0,
+           COUNT(*)
+    FROM users u
+    GROUP BY 1
+) s
+WHERE s.bucket_at IS NOT NULL
+GROUP BY s.bucket_at;
@@ -0,0 +1,132 @@
+package com.ssg9th2team.geharbang.domain.admin.log;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminLogEntry;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminLogMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminAuditLogWriterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 14, 0);
+
+    @Mock
+    private AdminLogMapper adminLogMapper;
+
+    @TempDir
+    private Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private AdminAuditLogWriter newWriter(int queueCapacity, long retryIntervalMs) {
+        // 주기 drain 이 테스트 중에 돌지 않도록 간격을 길게 두고 drain 을 직접 호출
+        AdminAuditLogWriter writer = new AdminAuditLogWriter(adminLogMapper, objectMapper,
+                queueCapacity, 2, 60_000L, 1_000L, retryIntervalMs, tempDir.resolve("spool.ndjson").toString());
+        writer.start();
+        return writer;
+    }
+
+    private static AdminLogEntry entry(long targetId) {
+        return new AdminLogEntry(1L, AdminLogConstants.TARGET_RESERVATION, targetId,
+                AdminLogConstants.ACTION_REFUND, "reason", null, "127.0.0.1", "JUnit", NOW);
+    }
+
+    @Test
+    @DisplayName("큐에 쌓인 로그를 batch-size 건씩 다중 행 INSERT 한다")
+    void drainsInBatches() {
+        List<Integer> batchSizes = new ArrayList<>();
+        given(adminLogMapper.insertAdminLogs(anyList())).willAnswer(invocation -> {
+            batchSizes.add(invocation.<List<AdminLogEntry>>getArgument(0).size());
+            return batchSizes.get(batchSizes.size() - 1);
+        });
+        AdminAuditLogWriter writer = newWriter(100, 30_000L);
+
+        writer.submit(entry(1L));
+        writer.submit(entry(2L));
+        writer.submit(entry(3L));
+        writer.drain();
+
+        assertThat(batchSizes).containsExactly(2, 1);
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("INSERT 가 실패하면 스풀 파일에 남기고, DB 가 돌아오면 다시 적재한 뒤 파일을 지운다")
+    void spoolsOnFailureAndReplays() throws InterruptedException {
+        List<AdminLogEntry> inserted = new ArrayList<>();
+        given(adminLogMapper.insertAdminLogs(anyList()))
+                .willThrow(new IllegalStateException("db down"))
+                .willAnswer(invocation -> {
+                    inserted.addAll(invocation.getArgument(0));
+                    return inserted.size();
+                });
+        AdminAuditLogWriter writer = newWriter(100, 100L);
+
+        writer.submit(entry(1L));
+        writer.drain();
+
+        assertThat(tempDir.resolve("spool.ndjson")).exists();
+        assertThat(inserted).isEmpty();
+
+        // retry-interval-ms 동안은 DB 를 다시 시도하지 않는다
+        Thread.sleep(150);
+        writer.drain();
+
+        assertThat(inserted).containsExactly(entry(1L));
+        assertThat(tempDir.resolve("spool.ndjson")).doesNotExist();
+        assertThat(tempDir.resolve("spool.ndjson.replay")).doesNotExist();
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 요청 스레드에서 바로 스풀 파일에 쓴다")
+    void spoolsWhenQueueIsFull() throws IOException {
+        AdminAuditLogWriter writer = newWriter(1, 30_000L);
+
+        writer.submit(entry(1L));
+        writer.submit(entry(2L));
+
+        List<String> lines = Files.readAllLines(tempDir.resolve("spool.ndjson"));
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readValue(lines.get(0), AdminLogEntry.class)).isEqualTo(entry(2L));
+        verify(adminLogMapper, never()).insertAdminLogs(anyList());
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 로그를 모두 적재한다")
+    void flushesOnShutdown() {
+        List<AdminLogEntry> inserted = new ArrayList<>();
+        given(adminLogMapper.insertAdminLogs(anyList())).willAnswer(invocation -> {
+            inserted.addAll(invocation.getArgument(0));
+            return inserted.size();
+        });
+        AdminAuditLogWriter writer = newWriter(100, 30_000L);
+
+        writer.submit(entry(1L));
+        writer.submit(entry(2L));
+        writer.submit(entry(3L));
+        writer.shutdown();
+
+        assertThat(inserted).containsExactly(entry(1L), entry(2L), entry(3L));
+    }
+}
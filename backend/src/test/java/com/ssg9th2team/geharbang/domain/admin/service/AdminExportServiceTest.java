@@ -0,0 +1,169 @@
+package com.ssg9th2team.geharbang.domain.admin.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class AdminExportServiceTest {
+
+    private record Row(long id, String memo) {
+    }
+
+    private static final List<AdminExportService.Column<Row>> COLUMNS = List.of(
+            new AdminExportService.Column<>("id", Row::id),
+            new AdminExportService.Column<>("memo", Row::memo)
+    );
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("백만 행을 모으지 않고 한 행씩 흘려 쓴다")
+    void streamsMillionRows() throws IOException {
+        AdminExportService exportService = new AdminExportService(objectMapper, 2, 1_000_000, 1000);
+        CountingOutputStream out = new CountingOutputStream();
+        long[] flushedMidway = {0};
+
+        long written = exportService.write(AdminExportService.Format.CSV, COLUMNS, (limit, sink) -> {
+            for (int i = 0; i < limit; i++) {
+                sink.accept(new Row(i, "memo"));
+                if (i == limit / 2) {
+                    flushedMidway[0] = out.lines;
+                }
+            }
+        }, out);
+
+        assertThat(written).isEqualTo(1_000_000L);
+        assertThat(out.lines).isEqualTo(1_000_001L);
+        // 중간 시점에 이미 flush-rows 단위로 응답에 흘러가 있어야 한다
+        assertThat(flushedMidway[0]).isGreaterThanOrEqualTo(499_000L);
+    }
+
+    @Test
+    @DisplayName("행 수 상한까지만 공급원에 요청한다")
+    void passesRowCapToSource() throws IOException {
+        AdminExportService exportService = new AdminExportService(objectMapper, 2, 3, 1000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int[] requested = {0};
+
+        long written = exportService.write(AdminExportService.Format.NDJSON, COLUMNS, (limit, sink) -> {
+            requested[0] = limit;
+            for (int i = 0; i < limit; i++) {
+                sink.accept(new Row(i, "m"));
+            }
+        }, out);
+
+        assertThat(requested[0]).isEqualTo(3);
+        assertThat(written).isEqualTo(3L);
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"id\":0,\"memo\":\"m\"}\n{\"id\":1,\"memo\":\"m\"}\n{\"id\":2,\"memo\":\"m\"}\n");
+    }
+
+    @Test
+    @DisplayName("CSV 값은 RFC 4180 으로 감싸고 수식 시작 문자는 무력화한다")
+    void escapesCsvValues() throws IOException {
+        AdminExportService exportService = new AdminExportService(objectMapper, 2, 10, 1000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.write(AdminExportService.Format.CSV, COLUMNS, (limit, sink) -> {
+            sink.accept(new Row(1, "a,\"b\""));
+            sink.accept(new Row(2, "=SUM(A1)"));
+            sink.accept(new Row(3, "-100"));
+            sink.accept(new Row(4, null));
+        }, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,memo\r\n1,\"a,\"\"b\"\"\"\r\n2,'=SUM(A1)\r\n3,-100\r\n4,\r\n");
+    }
+
+    @Test
+    @DisplayName("본문을 쓰는 동안 동시 내보내기 수를 넘으면 429, 끝난 내보내기는 자리를 돌려준다")
+    void limitsConcurrentExports() throws IOException {
+        AdminExportService exportService = new AdminExportService(objectMapper, 1, 10, 1000);
+        ResponseEntity<StreamingResponseBody> waiting = exportService.export("payments", "csv", COLUMNS, (limit, sink) -> {
+        });
+        Throwable[] rejected = new Throwable[2];
+
+        ResponseEntity<StreamingResponseBody> first = exportService.export("payments", "csv", COLUMNS, (limit, sink) -> {
+            rejected[0] = catchThrowable(() -> exportService.export("payments", "csv", COLUMNS, (l, s) -> {
+            }));
+            rejected[1] = catchThrowable(() -> waiting.getBody().writeTo(new ByteArrayOutputStream()));
+        });
+        assertThat(first.getHeaders().getFirst(AdminExportService.MAX_ROWS_HEADER)).isEqualTo("10");
+        first.getBody().writeTo(new ByteArrayOutputStream());
+
+        assertThat(rejected).allSatisfy(e -> assertThat(e)
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+        assertThat(exportService.export("payments", "ndjson", COLUMNS, (limit, sink) -> {
+        }).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("본문이 실행되지 않고 끝난 응답(타임아웃, 연결 종료)은 자리를 잡고 있지 않는다")
+    void unwrittenBodyDoesNotHoldPermit() throws IOException {
+        AdminExportService exportService = new AdminExportService(objectMapper, 1, 10, 1000);
+
+        exportService.export("payments", "csv", COLUMNS, (limit, sink) -> {
+        });
+        ResponseEntity<StreamingResponseBody> next = exportService.export("payments", "csv", COLUMNS,
+                (limit, sink) -> sink.accept(new Row(1, "m")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        next.getBody().writeTo(out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("id,memo\r\n1,m\r\n");
+    }
+
+    @Test
+    @DisplayName("내보내기 중 예외가 나도 자리를 돌려준다")
+    void releasesPermitOnFailure() throws IOException {
+        AdminExportService exportService = new AdminExportService(objectMapper, 1, 10, 1000);
+        ResponseEntity<StreamingResponseBody> failing = exportService.export("payments", "csv", COLUMNS, (limit, sink) -> {
+            throw new IllegalStateException("cursor closed");
+        });
+
+        assertThatThrownBy(() -> failing.getBody().writeTo(new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalStateException.class);
+
+        exportService.export("payments", "csv", COLUMNS, (limit, sink) -> {
+        }).getBody().writeTo(new ByteArrayOutputStream());
+    }
+
+    /**
+     * 내용을 버리고 줄 수만 센다 (백만 행 결과를 메모리에 두지 않기 위해)
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
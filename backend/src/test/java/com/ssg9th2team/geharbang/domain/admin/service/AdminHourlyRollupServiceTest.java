@@ -0,0 +1,87 @@
+package com.ssg9th2team.geharbang.domain.admin.service;
+
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminHourlyRollupMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminHourlyRollupServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 14, 30);
+
+    @Mock
+    private AdminHourlyRollupMapper rollupMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AdminHourlyRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE);
+        rollupService = new AdminHourlyRollupService(rollupMapper, new TransactionTemplate(transactionManager), clock);
+        ReflectionTestUtils.setField(rollupService, "startupLookbackHours", 24L);
+        ReflectionTestUtils.setField(rollupService, "overlapSeconds", 300L);
+    }
+
+    @Test
+    @DisplayName("변경된 시간만 한 시간 구간으로 다시 합산하고, 다음 주기는 마지막 처리 시각부터 겹쳐 읽는다")
+    void refreshChangedRebuildsOnlyChangedHours() {
+        LocalDateTime hour = LocalDateTime.of(2026, 10, 19, 9, 0);
+        given(rollupMapper.selectChangedBuckets(NOW.minusHours(24))).willReturn(List.of(hour));
+        given(rollupMapper.selectChangedBuckets(NOW.minusSeconds(300))).willReturn(List.of());
+
+        assertThat(rollupService.refreshChanged()).isEqualTo(1);
+        assertThat(rollupService.refreshChanged()).isZero();
+
+        verify(rollupMapper).deleteBuckets(hour, hour.plusHours(1));
+        verify(rollupMapper).insertBuckets(hour, hour.plusHours(1), NOW);
+    }
+
+    @Test
+    @DisplayName("한 시간 합산이 실패해도 나머지 시간은 계속 처리한다")
+    void refreshChangedContinuesAfterFailure() {
+        LocalDateTime first = LocalDateTime.of(2026, 10, 19, 9, 0);
+        LocalDateTime second = LocalDateTime.of(2026, 10, 19, 10, 0);
+        given(rollupMapper.selectChangedBuckets(any())).willReturn(List.of(first, second));
+        willThrow(new IllegalStateException("duplicate")).given(rollupMapper).insertBuckets(first, first.plusHours(1), NOW);
+
+        assertThat(rollupService.refreshChanged()).isEqualTo(1);
+
+        verify(rollupMapper).insertBuckets(second, second.plusHours(1), NOW);
+    }
+
+    @Test
+    @DisplayName("일자 보정은 하루씩 다시 만든다")
+    void rebuildDaysRebuildsEachDay() {
+        rollupService.rebuildDays(LocalDate.of(2026, 10, 17), LocalDate.of(2026, 10, 18));
+
+        verify(rollupMapper, times(2)).deleteBuckets(any(), any());
+        verify(rollupMapper).insertBuckets(
+                LocalDate.of(2026, 10, 17).atStartOfDay(), LocalDate.of(2026, 10, 18).atStartOfDay(), NOW);
+        verify(rollupMapper, never()).selectChangedBuckets(any());
+    }
+}
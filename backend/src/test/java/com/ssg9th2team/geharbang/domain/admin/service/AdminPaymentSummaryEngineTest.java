@@ -0,0 +1,82 @@
+package com.ssg9th2team.geharbang.domain.admin.service;
+
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminPaymentSummaryRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminRefundSummaryRow;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminPaymentMetricsMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminPaymentSummaryEngineTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 10, 20, 0, 0);
+
+    @Mock
+    private AdminPaymentMetricsMapper paymentMetricsMapper;
+
+    private AdminPaymentSummaryEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new AdminPaymentSummaryEngine(paymentMetricsMapper, 30, 100);
+    }
+
+    @Test
+    @DisplayName("결제/환불 테이블을 한 번씩 읽고, 같은 필터는 캐시 결과를 쓴다")
+    void summarizesWithTwoQueriesAndCaches() {
+        given(paymentMetricsMapper.selectPaymentSummary(START, END, null, null, "order"))
+                .willReturn(new AdminPaymentSummaryRow(100_000L, 3L, 1L));
+        given(paymentMetricsMapper.selectRefundSummary(START, END, false, "order"))
+                .willReturn(new AdminRefundSummaryRow(2L, 1L, 30_000L));
+
+        AdminPaymentSummaryEngine.Summary first = engine.summarize(START, END, null, null, " order ");
+        AdminPaymentSummaryEngine.Summary second = engine.summarize(START, END, null, null, "order");
+
+        assertThat(first).isEqualTo(new AdminPaymentSummaryEngine.Summary(100_000L, 3L, 1L, 2L, 1L, 30_000L));
+        assertThat(second).isEqualTo(first);
+        verify(paymentMetricsMapper, times(1)).selectPaymentSummary(any(), any(), any(), any(), any());
+        verify(paymentMetricsMapper, times(1)).selectRefundSummary(any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("예약 유형 필터면 환불은 조회하지 않고 0건으로 본다")
+    void skipsRefundQueryForReservationType() {
+        given(paymentMetricsMapper.selectPaymentSummary(START, END, null, "RESERVATION", null))
+                .willReturn(new AdminPaymentSummaryRow(50_000L, 1L, 0L));
+
+        AdminPaymentSummaryEngine.Summary summary = engine.summarize(START, END, null, "RESERVATION", null);
+
+        assertThat(summary.refundRequestCount()).isZero();
+        assertThat(summary.refundCompletedAmount()).isZero();
+        verify(paymentMetricsMapper, never()).selectRefundSummary(any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("환불 상태 필터면 완료된 환불만 집계한다")
+    void refundedStatusCountsCompletedRefundsOnly() {
+        given(paymentMetricsMapper.selectPaymentSummary(START, END, 3, null, null))
+                .willReturn(new AdminPaymentSummaryRow(0L, 0L, 0L));
+        given(paymentMetricsMapper.selectRefundSummary(eq(START), eq(END), eq(true), any()))
+                .willReturn(new AdminRefundSummaryRow(0L, 2L, 10_000L));
+
+        AdminPaymentSummaryEngine.Summary summary = engine.summarize(START, END, 3, null, null);
+
+        assertThat(summary.refundCompletedCount()).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,114 @@
+package com.ssg9th2team.geharbang.domain.admin.service;
+
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyStatsRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformStatsSnapshotRow;
+import com.ssg9th2team.geharbang.domain.admin.entity.PlatformDailyStats;
+import com.ssg9th2team.geharbang.domain.admin.repository.PlatformDailyStatsRepository;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.PlatformDailyStatsMapper;
+import com.ssg9th2team.geharbang.domain.admin.service.PlatformStatsCounter.Metric;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PlatformDailyStatsServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    @Mock
+    private PlatformDailyStatsRepository statsRepository;
+
+    @Mock
+    private PlatformDailyStatsMapper statsMapper;
+
+    @Mock
+    private PlatformStatsCounter statsCounter;
+
+    @InjectMocks
+    private PlatformDailyStatsService statsService;
+
+    @Test
+    @DisplayName("결제 대기 -> 결제 완료 -> 환불 전이에 따라 성공/실패/취소 지표가 옮겨진다")
+    void reservationDeltas() {
+        assertThat(PlatformStatsCounter.reservationDeltas(null, null, 0, 0)).isEmpty();
+        assertThat(PlatformStatsCounter.reservationDeltas(0, 0, 1, 2))
+                .containsExactlyEntriesOf(Map.of(Metric.RESERVATIONS_SUCCESS, 1L));
+        assertThat(PlatformStatsCounter.reservationDeltas(1, 2, 3, 9))
+                .containsEntry(Metric.RESERVATIONS_SUCCESS, -1L)
+                .containsEntry(Metric.RESERVATIONS_FAILED, 1L)
+                .containsEntry(Metric.CANCEL_COUNT, 1L)
+                .hasSize(3);
+    }
+
+    @Test
+    @DisplayName("오늘 통계는 카운터와 스냅샷 쿼리로 저장하고 전체 집계는 하지 않는다")
+    void flushUsesCounters() {
+        given(statsCounter.read(TODAY)).willReturn(counters(5L));
+        given(statsMapper.selectSnapshot(any(), any())).willReturn(new PlatformStatsSnapshotRow(3L, 10L, 1L, 0L, 4L, 2L));
+        given(statsRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        PlatformDailyStats saved = statsService.flushLiveStats(TODAY);
+
+        assertThat(saved.getTotalReservations()).isEqualTo(5L);
+        assertThat(saved.getTotalHosts()).isEqualTo(3L);
+        assertThat(saved.getActiveGuests()).isEqualTo(4L);
+        verify(statsMapper, never()).selectDailyStats(any(), any());
+        verify(statsCounter, never()).seed(any(), any());
+    }
+
+    @Test
+    @DisplayName("카운터가 비어 있으면 그날 집계로 먼저 채운다")
+    void flushSeedsEmptyCounters() {
+        PlatformDailyStatsRow row = row(7L);
+        given(statsCounter.read(TODAY)).willReturn(null, counters(7L));
+        given(statsMapper.selectDailyStats(any(), any())).willReturn(row);
+        given(statsMapper.selectSnapshot(any(), any())).willReturn(new PlatformStatsSnapshotRow(3L, 10L, 1L, 0L, 4L, 2L));
+        given(statsRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        PlatformDailyStats saved = statsService.flushLiveStats(TODAY);
+
+        verify(statsCounter).seed(TODAY, row);
+        assertThat(saved.getTotalReservations()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("야간 검증은 집계 값으로 저장하고 해당 날짜 카운터를 지운다")
+    void refreshSavesRecomputedValues() {
+        given(statsMapper.selectDailyStats(any(), any())).willReturn(row(9L));
+        given(statsCounter.read(TODAY)).willReturn(counters(8L));
+        given(statsRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        PlatformDailyStats saved = statsService.refreshDailyStats(TODAY);
+
+        assertThat(saved.getTotalReservations()).isEqualTo(9L);
+        assertThat(saved.getTotalHosts()).isEqualTo(3L);
+        verify(statsCounter).clear(TODAY);
+    }
+
+    private Map<Metric, Long> counters(long totalReservations) {
+        Map<Metric, Long> counters = new EnumMap<>(Metric.class);
+        for (Metric metric : Metric.values()) {
+            counters.put(metric, 0L);
+        }
+        counters.put(Metric.TOTAL_RESERVATIONS, totalReservations);
+        return counters;
+    }
+
+    private PlatformDailyStatsRow row(long totalReservations) {
+        return new PlatformDailyStatsRow(3L, 0L, 10L, 0L, totalReservations, 0L, 0L, 0L,
+                0L, 0L, 0L, 1L, 0L, 4L, 2L);
+    }
+}
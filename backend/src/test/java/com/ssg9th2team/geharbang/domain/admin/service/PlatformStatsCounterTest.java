@@ -0,0 +1,87 @@
+package com.ssg9th2team.geharbang.domain.admin.service;
+
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyStatsRow;
+import com.ssg9th2team.geharbang.domain.admin.service.PlatformStatsCounter.Metric;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카운터 Lua 스크립트를 실제 Redis 로 검증한다 (Docker 가 없으면 건너뛴다)
+ */
+class PlatformStatsCounterTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    private static GenericContainer<?> redis;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private PlatformStatsCounter counter;
+
+    @BeforeAll
+    static void startRedis() {
+        Assumptions.assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker 가 필요합니다");
+        redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+        redis.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        counter = new PlatformStatsCounter(stringRedisTemplate);
+        counter.clear(TODAY);
+    }
+
+    @Test
+    @DisplayName("채우기 전에 들어온 증감은 집계 값에 이미 포함되므로, 채운 뒤 두 번 세지 않는다")
+    void recordBeforeSeedIsNotDoubleCounted() {
+        counter.accommodationCreated(TODAY.atTime(9, 0));
+        assertThat(counter.read(TODAY)).isNull();
+
+        // 집계 쿼리는 위 숙소를 포함해 2건으로 센다
+        assertThat(counter.seed(TODAY, row(2L))).isTrue();
+
+        assertThat(counter.read(TODAY).get(Metric.NEW_ACCOMMODATIONS)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("채운 뒤의 증감은 누적되고, 다시 채우기는 값을 덮어쓰지 않는다")
+    void recordAfterSeedAccumulates() {
+        counter.seed(TODAY, row(2L));
+
+        counter.accommodationCreated(TODAY.atTime(10, 0));
+
+        assertThat(counter.seed(TODAY, row(5L))).isFalse();
+        assertThat(counter.read(TODAY).get(Metric.NEW_ACCOMMODATIONS)).isEqualTo(3L);
+    }
+
+    private static PlatformDailyStatsRow row(long newAccommodations) {
+        return new PlatformDailyStatsRow(0L, 0L, 0L, newAccommodations, 0L, 0L, 0L, 0L, 0L, 0L, 0L,
+                0L, 0L, 0L, 0L);
+    }
+}
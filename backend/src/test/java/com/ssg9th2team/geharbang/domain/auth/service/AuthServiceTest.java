@@ -221,7 +221,7 @@ public class AuthServiceTest {
         String refreshToken = "valid.refresh.token";
         Authentication authentication = mock(Authentication.class);
         when(jwtTokenProvider.validateToken(refreshToken)).thenReturn(true);
-        when(jwtTokenProvider.getAuthentication(refreshToken)).thenReturn(authentication);
+        when(jwtTokenProvider.getAuthenticationWithUser(refreshToken)).thenReturn(authentication);
         when(authentication.getName()).thenReturn("user@example.com");
 
         // when
@@ -243,7 +243,7 @@ public class AuthServiceTest {
 
         // when & then
         assertThrows(IllegalArgumentException.class, () -> authService.refresh(refreshToken));
-        verify(jwtTokenProvider, never()).getAuthentication(anyString());
+        verify(jwtTokenProvider, never()).getAuthenticationWithUser(anyString());
         verify(jwtTokenProvider, never()).generateAccessToken(any(Authentication.class));
     }
 
@@ -0,0 +1,301 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.MimeTypeUtils;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STOMP 브로커 모드별 fan-out 벤치마크 (simple vs relay)
+ *
+ * <p>N개 채팅방 × M명 구독자에게 방마다 K건을 발행하고, 전체 전달 처리량(msg/s)과
+ * 발행 → 구독자 outbound 채널 도착까지의 지연(p50/p99/max)을 측정한다.
+ * 애플리케이션과 같은 구성(inbound/outbound 스레드 풀 채널 + 브로커 핸들러)만 띄우므로 DB/Redis 는 필요 없다.
+ * relay 모드는 Docker 로 ActiveMQ Artemis 컨테이너를 띄운다.
+ *
+ * <pre>
+ * CHAT_BENCHMARK=true CHAT_BENCHMARK_ROOMS=10 CHAT_BENCHMARK_SUBSCRIBERS=20 CHAT_BENCHMARK_MESSAGES=100 \
+ *   ./gradlew test --tests '*ChatBrokerBenchmarkTest'
+ * </pre>
+ */
+@EnabledIfEnvironmentVariable(named = "CHAT_BENCHMARK", matches = "true")
+class ChatBrokerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatBrokerBenchmarkTest.class);
+
+    private static final String ARTEMIS_IMAGE = "apache/activemq-artemis:2.31.2-alpine";
+    private static final String ARTEMIS_USER = "artemis";
+    private static final int STOMP_PORT = 61613;
+    private static final String WARMUP = "warmup";
+    private static final long TIMEOUT_MS = 60_000;
+
+    private final int rooms = intEnv("CHAT_BENCHMARK_ROOMS", 10);
+    private final int subscribers = intEnv("CHAT_BENCHMARK_SUBSCRIBERS", 20);
+    private final int messagesPerRoom = intEnv("CHAT_BENCHMARK_MESSAGES", 100);
+    private final int poolSize = intEnv("CHAT_BENCHMARK_POOL_SIZE", Runtime.getRuntime().availableProcessors() * 2);
+
+    @Test
+    @DisplayName("simple 브로커: N개 채팅방 × M명 구독 fan-out 처리량/지연")
+    void simpleBroker() throws Exception {
+        BrokerFixture fixture = new BrokerFixture(poolSize);
+        SimpleBrokerMessageHandler broker = new SimpleBrokerMessageHandler(
+                fixture.inbound, fixture.outbound, fixture.brokerChannel, List.of("/topic", "/queue"));
+
+        run("simple", fixture, broker);
+    }
+
+    @Test
+    @DisplayName("relay 브로커 (ActiveMQ Artemis): N개 채팅방 × M명 구독 fan-out 처리량/지연")
+    void relayBroker() throws Exception {
+        Assumptions.assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker 가 필요합니다");
+
+        try (GenericContainer<?> artemis = new GenericContainer<>(ARTEMIS_IMAGE)
+                .withEnv("ARTEMIS_USER", ARTEMIS_USER)
+                .withEnv("ARTEMIS_PASSWORD", ARTEMIS_USER)
+                .withExposedPorts(STOMP_PORT)
+                .waitingFor(Wait.forListeningPort())) {
+            artemis.start();
+
+            BrokerFixture fixture = new BrokerFixture(poolSize);
+            StompBrokerRelayMessageHandler relay = new StompBrokerRelayMessageHandler(
+                    fixture.inbound, fixture.outbound, fixture.brokerChannel, List.of("/topic", "/queue"));
+            relay.setRelayHost(artemis.getHost());
+            relay.setRelayPort(artemis.getMappedPort(STOMP_PORT));
+            relay.setClientLogin(ARTEMIS_USER);
+            relay.setClientPasscode(ARTEMIS_USER);
+            relay.setSystemLogin(ARTEMIS_USER);
+            relay.setSystemPasscode(ARTEMIS_USER);
+
+            run("relay", fixture, relay);
+        }
+    }
+
+    private void run(String mode, BrokerFixture fixture, AbstractBrokerMessageHandler broker) throws Exception {
+        int sessions = rooms * subscribers;
+        int expectedDeliveries = rooms * subscribers * messagesPerRoom;
+        DeliveryRecorder recorder = new DeliveryRecorder(expectedDeliveries);
+        fixture.outbound.subscribe(recorder);
+
+        broker.start();
+        try {
+            awaitTrue(broker::isBrokerAvailable, "broker available");
+
+            // 세션마다 CONNECT → SUBSCRIBE (/topic/chatroom/{room})
+            for (int session = 0; session < sessions; session++) {
+                String sessionId = "bench-" + session;
+                fixture.inbound.send(connectMessage(sessionId));
+            }
+            awaitTrue(() -> recorder.connected.get() >= sessions, "all sessions connected");
+            for (int session = 0; session < sessions; session++) {
+                String sessionId = "bench-" + session;
+                fixture.inbound.send(subscribeMessage(sessionId, RedisPublisher.roomDestination((long) (session % rooms))));
+            }
+
+            // 구독이 브로커에 반영될 때까지 방마다 warm-up 메시지를 발행
+            awaitTrue(() -> {
+                for (int room = 0; room < rooms; room++) {
+                    publish(fixture, room, WARMUP);
+                }
+                return recorder.warmedUpSessions.size() >= sessions;
+            }, "all subscriptions active");
+            recorder.startMeasuring();
+
+            long startNanos = System.nanoTime();
+            for (int seq = 0; seq < messagesPerRoom; seq++) {
+                for (int room = 0; room < rooms; room++) {
+                    publish(fixture, room, String.valueOf(System.nanoTime()));
+                }
+            }
+            long publishNanos = System.nanoTime() - startNanos;
+            awaitTrue(() -> recorder.delivered.get() >= expectedDeliveries, "all messages delivered");
+            long totalNanos = recorder.lastDeliveryNanos - startNanos;
+
+            long[] latencies = recorder.sortedLatenciesMicros();
+            log.info("[{}] rooms={} subscribers={} messages/room={} pool={} | publish {} msg/s, deliver {} msg/s | "
+                            + "fan-out latency p50={}us p99={}us max={}us",
+                    mode, rooms, subscribers, messagesPerRoom, poolSize,
+                    perSecond(rooms * messagesPerRoom, publishNanos),
+                    perSecond(expectedDeliveries, totalNanos),
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1]);
+
+            assertThat(recorder.delivered.get()).isEqualTo(expectedDeliveries);
+        } finally {
+            broker.stop();
+            fixture.shutdown();
+        }
+    }
+
+    private static Message<byte[]> connectMessage(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.setAcceptVersion("1.2");
+        accessor.setHeartbeat(0, 0);
+        accessor.setSessionAttributes(new ConcurrentHashMap<>());
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> subscribeMessage(String sessionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-" + sessionId);
+        accessor.setDestination(destination);
+        accessor.setSessionAttributes(new ConcurrentHashMap<>());
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static void publish(BrokerFixture fixture, int room, String body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(RedisPublisher.roomDestination((long) room));
+        accessor.setContentType(MimeTypeUtils.TEXT_PLAIN);
+        fixture.brokerChannel.send(MessageBuilder.createMessage(
+                body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+    }
+
+    private static void awaitTrue(Condition condition, String description) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.check()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Timed out waiting for " + description);
+            }
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+    }
+
+    private static long perSecond(long count, long nanos) {
+        return nanos <= 0 ? 0 : count * TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static int intEnv(String name, int defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value);
+    }
+
+    @FunctionalInterface
+    private interface Condition {
+        boolean check() throws Exception;
+    }
+
+    /**
+     * 애플리케이션과 같은 채널 구성: inbound/outbound 는 스레드 풀, broker 채널은 동기
+     */
+    private static class BrokerFixture {
+        private final ThreadPoolTaskExecutor inboundExecutor = executor("bench-inbound-");
+        private final ThreadPoolTaskExecutor outboundExecutor = executor("bench-outbound-");
+        private final ExecutorSubscribableChannel inbound = new ExecutorSubscribableChannel(inboundExecutor);
+        private final ExecutorSubscribableChannel outbound = new ExecutorSubscribableChannel(outboundExecutor);
+        private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+
+        private BrokerFixture(int poolSize) {
+            inboundExecutor.setCorePoolSize(poolSize);
+            outboundExecutor.setCorePoolSize(poolSize);
+            inboundExecutor.initialize();
+            outboundExecutor.initialize();
+        }
+
+        private static ThreadPoolTaskExecutor executor(String prefix) {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setThreadNamePrefix(prefix);
+            executor.setQueueCapacity(Integer.MAX_VALUE);
+            return executor;
+        }
+
+        private void shutdown() {
+            inboundExecutor.shutdown();
+            outboundExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 구독자 outbound 채널에 도착한 메시지 집계
+     */
+    private static class DeliveryRecorder implements MessageHandler {
+        private final AtomicInteger connected = new AtomicInteger();
+        private final AtomicInteger delivered = new AtomicInteger();
+        private final Map<String, Boolean> warmedUpSessions = new ConcurrentHashMap<>();
+        private final AtomicLongArray latenciesNanos;
+        private volatile boolean measuring;
+        private volatile long lastDeliveryNanos;
+
+        private DeliveryRecorder(int expectedDeliveries) {
+            this.latenciesNanos = new AtomicLongArray(expectedDeliveries);
+        }
+
+        private void startMeasuring() {
+            measuring = true;
+        }
+
+        @Override
+        public void handleMessage(Message<?> message) {
+            long now = System.nanoTime();
+            StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+            if (accessor.getCommand() == StompCommand.CONNECTED
+                    || accessor.getMessageType() == SimpMessageType.CONNECT_ACK) {
+                connected.incrementAndGet();
+                return;
+            }
+            if (accessor.getMessageType() != SimpMessageType.MESSAGE) {
+                return;
+            }
+
+            String body = new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+            if (WARMUP.equals(body)) {
+                warmedUpSessions.put(accessor.getSessionId(), Boolean.TRUE);
+                return;
+            }
+            if (!measuring) {
+                return;
+            }
+            int index = delivered.getAndIncrement();
+            if (index < latenciesNanos.length()) {
+                latenciesNanos.set(index, now - Long.parseLong(body));
+            }
+            lastDeliveryNanos = now;
+        }
+
+        private long[] sortedLatenciesMicros() {
+            int count = Math.min(delivered.get(), latenciesNanos.length());
+            long[] micros = new long[count];
+            for (int i = 0; i < count; i++) {
+                micros[i] = TimeUnit.NANOSECONDS.toMicros(latenciesNanos.get(i));
+            }
+            Arrays.sort(micros);
+            return micros;
+        }
+    }
+}
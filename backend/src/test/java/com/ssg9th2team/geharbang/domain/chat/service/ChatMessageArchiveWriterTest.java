@@ -0,0 +1,151 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
+import com.ssg9th2team.geharbang.domain.chat.repository.mybatis.RealtimeChatMessageMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageArchiveWriterTest {
+
+    private static final long BASE_ID = ChatMessageIdGenerator.GENERATED_ID_FLOOR;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private RealtimeChatMessageMapper realtimeChatMessageMapper;
+    @Mock
+    private RedisChatMessageService redisChatMessageService;
+
+    private final ChatMessageCodec codec = new ChatMessageCodec(new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+    private ChatMessageArchiveWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new ChatMessageArchiveWriter(stringRedisTemplate, realtimeChatMessageMapper,
+                redisChatMessageService, codec);
+        ReflectionTestUtils.setField(writer, "enabled", true);
+        ReflectionTestUtils.setField(writer, "batchSize", 500);
+        ReflectionTestUtils.setField(writer, "keepPerRoom", 200);
+        ReflectionTestUtils.setField(writer, "leaseMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("INSERT 가 끝난 뒤 처리 중 배치를 ack 하고, 방별 최대 score 기준으로 Redis 를 정리한다")
+    void acksAndTrimsAfterInsert() {
+        claimReturns(message(1L, BASE_ID + 1), message(1L, BASE_ID + 5), message(2L, BASE_ID + 3));
+        given(realtimeChatMessageMapper.insertIgnoreBatch(anyList())).willReturn(3);
+        given(stringRedisTemplate.execute(eq(ChatMessageArchiveWriter.ACK_SCRIPT),
+                eq(List.of(ChatMessageArchiveWriter.PROCESSING_KEY, ChatMessageArchiveWriter.LEASE_KEY)),
+                anyString())).willReturn(1L);
+
+        writer.flush();
+
+        verify(redisChatMessageService).trimArchivedMessages(1L, BASE_ID + 5, 200);
+        verify(redisChatMessageService).trimArchivedMessages(2L, BASE_ID + 3, 200);
+        verify(stringRedisTemplate, never()).execute(eq(ChatMessageArchiveWriter.RELEASE_SCRIPT), anyList(),
+                anyString());
+    }
+
+    @Test
+    @DisplayName("INSERT 가 실패하면 ack 하지 않고 리스만 풀어 배치를 처리 중 목록에 남기며, Redis 도 정리하지 않는다")
+    void keepsBatchAndSkipsTrimWhenInsertFails() {
+        claimReturns(message(1L, BASE_ID + 1));
+        given(realtimeChatMessageMapper.insertIgnoreBatch(anyList()))
+                .willThrow(new DataAccessResourceFailureException("db down"));
+
+        writer.flush();
+
+        verify(stringRedisTemplate).execute(eq(ChatMessageArchiveWriter.RELEASE_SCRIPT),
+                eq(List.of(ChatMessageArchiveWriter.LEASE_KEY)), anyString());
+        verify(stringRedisTemplate, never()).execute(eq(ChatMessageArchiveWriter.ACK_SCRIPT), anyList(),
+                anyString());
+        verify(redisChatMessageService, never()).trimArchivedMessages(anyLong(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @DisplayName("리스가 만료되어 ack 가 거절돼도 이미 적재된 배치이므로 정리는 진행한다")
+    void trimsEvenWhenAckIsRejected() {
+        claimReturns(message(1L, BASE_ID + 1));
+        given(realtimeChatMessageMapper.insertIgnoreBatch(anyList())).willReturn(1);
+        given(stringRedisTemplate.execute(eq(ChatMessageArchiveWriter.ACK_SCRIPT), anyList(), anyString()))
+                .willReturn(0L);
+
+        writer.flush();
+
+        verify(redisChatMessageService).trimArchivedMessages(1L, BASE_ID + 1, 200);
+    }
+
+    @Test
+    @DisplayName("깨진 payload 만 있는 배치는 INSERT 없이 ack 해 대기열을 막지 않는다")
+    void acksBatchOfMalformedPayloads() {
+        given(stringRedisTemplate.execute(any(RedisCallback.class)))
+                .willReturn(List.of("garbage".getBytes(StandardCharsets.UTF_8)));
+
+        writer.flush();
+
+        verify(realtimeChatMessageMapper, never()).insertIgnoreBatch(anyList());
+        verify(stringRedisTemplate).execute(eq(ChatMessageArchiveWriter.ACK_SCRIPT), anyList(), anyString());
+    }
+
+    @Test
+    @DisplayName("가져올 배치가 없으면(다른 노드가 처리 중 포함) 아무것도 하지 않는다")
+    void doesNothingWhenNothingClaimed() {
+        given(stringRedisTemplate.execute(any(RedisCallback.class))).willReturn(List.of());
+
+        writer.flush();
+
+        verify(realtimeChatMessageMapper, never()).insertIgnoreBatch(anyList());
+        verify(stringRedisTemplate, never()).execute(eq(ChatMessageArchiveWriter.ACK_SCRIPT), anyList(),
+                anyString());
+    }
+
+    private void claimReturns(ChatMessageDto... messages) {
+        List<byte[]> payloads = Arrays.stream(messages)
+                .map(message -> codec.encode(message, true))
+                .toList();
+        given(stringRedisTemplate.execute(any(RedisCallback.class))).willReturn(payloads);
+    }
+
+    private static ChatMessageDto message(Long roomId, long id) {
+        return ChatMessageDto.builder()
+                .id(id)
+                .chatRoomId(roomId)
+                .senderUserId(1001L)
+                .senderName("호스트")
+                .messageContent("메시지")
+                .createdAt(LocalDateTime.of(2025, 3, 1, 14, 5, 30))
+                .isRead(false)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatMessageCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ChatMessageCodec codec = new ChatMessageCodec(objectMapper);
+
+    private final ChatMessageDto message = ChatMessageDto.builder()
+            .id(7_284_739_123_456_789L)
+            .chatRoomId(42L)
+            .senderUserId(1001L)
+            .senderName("호스트")
+            .messageContent("체크인은 오후 3시부터 가능합니다 😊")
+            .createdAt(LocalDateTime.of(2025, 3, 1, 14, 5, 30, 123_000_000))
+            .isRead(false)
+            .build();
+
+    @Test
+    @DisplayName("압축 인코딩 후 디코딩하면 채팅방 ID 는 키에서 받은 값으로 복원된다")
+    void roundTripWithoutRoomId() {
+        byte[] encoded = codec.encode(message, false);
+
+        ChatMessageDto decoded = codec.decode(encoded, 42L);
+
+        assertThat(ChatMessageCodec.isEncoded(encoded)).isTrue();
+        assertThat(decoded.getId()).isEqualTo(message.getId());
+        assertThat(decoded.getChatRoomId()).isEqualTo(42L);
+        assertThat(decoded.getSenderUserId()).isEqualTo(1001L);
+        assertThat(decoded.getSenderName()).isEqualTo("호스트");
+        assertThat(decoded.getMessageContent()).isEqualTo(message.getMessageContent());
+        assertThat(decoded.getCreatedAt()).isEqualTo(message.getCreatedAt());
+        assertThat(decoded.getIsRead()).isFalse();
+    }
+
+    @Test
+    @DisplayName("아카이브 대기열용 인코딩은 채팅방 ID 를 포함한다")
+    void roundTripWithRoomId() {
+        ChatMessageDto decoded = codec.decode(codec.encode(message, true), null);
+
+        assertThat(decoded.getChatRoomId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("압축 인코딩은 기존 Redis 저장 형식(문자열로 감싼 JSON)보다 작다")
+    void smallerThanLegacyJson() throws Exception {
+        String json = objectMapper.writeValueAsString(message);
+        byte[] legacyMember = objectMapper.writeValueAsBytes(json);
+
+        assertThat(codec.encode(message, false).length).isLessThan(legacyMember.length / 2);
+    }
+
+    @Test
+    @DisplayName("기존 형식(ZSET 멤버의 감싼 JSON, 대기열의 JSON)도 읽을 수 있다")
+    void decodesLegacyJson() throws Exception {
+        String json = objectMapper.writeValueAsString(message);
+
+        ChatMessageDto fromMember = codec.decode(objectMapper.writeValueAsBytes(json), 42L);
+        ChatMessageDto fromQueue = codec.decode(json.getBytes(StandardCharsets.UTF_8), null);
+
+        assertThat(fromMember.getId()).isEqualTo(message.getId());
+        assertThat(fromMember.getMessageContent()).isEqualTo(message.getMessageContent());
+        assertThat(fromQueue.getChatRoomId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("잘린 데이터는 IllegalArgumentException")
+    void rejectsTruncatedPayload() {
+        byte[] encoded = codec.encode(message, false);
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 3);
+
+        assertThatThrownBy(() -> codec.decode(truncated, 42L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
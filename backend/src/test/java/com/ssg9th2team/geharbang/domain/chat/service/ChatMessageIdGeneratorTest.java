@@ -0,0 +1,147 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageIdGeneratorTest {
+
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+    private static final int TIMESTAMP_SHIFT = ChatMessageIdGenerator.NODE_BITS + ChatMessageIdGenerator.SEQUENCE_BITS;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Test
+    @DisplayName("연속 발급한 ID 는 ms 당 시퀀스를 넘겨도 중복 없이 단조 증가하고, double 로 정확히 표현된다")
+    void idsAreUniqueMonotonicAndFitInDouble() {
+        ChatMessageIdGenerator generator = configured(3);
+
+        Set<Long> seen = new HashSet<>();
+        long previous = 0L;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(seen.add(id)).isTrue();
+            assertThat((long) (double) id).isEqualTo(id);
+            previous = id;
+        }
+        assertThat(previous).isLessThan(MAX_EXACT_DOUBLE);
+        assertThat(ChatMessageIdGenerator.isGeneratedId(previous)).isTrue();
+        assertThat(nodeOf(previous)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 마지막 발급 시각 이후의 ID 를 낸다")
+    void clockRegressionDoesNotReuseIds() {
+        ChatMessageIdGenerator generator = configured(1);
+        long first = generator.nextId();
+        // 마지막 발급 시각이 현재보다 10초 앞선 상태 = 시계가 10초 뒤로 간 상황
+        long aheadMillis = (first >>> TIMESTAMP_SHIFT) + 10_000;
+        ReflectionTestUtils.setField(generator, "lastTimestamp", aheadMillis);
+
+        long next = generator.nextId();
+
+        assertThat(next).isGreaterThan(ChatMessageIdGenerator.minIdAt(aheadMillis));
+    }
+
+    @Test
+    @DisplayName("nextIdAfter 는 다른 노드가 먼저 저장한 더 큰 ID 보다 큰 ID 를 낸다")
+    void nextIdAfterFloor() {
+        ChatMessageIdGenerator generator = configured(0);
+        long otherNodeId = ChatMessageIdGenerator.minIdAt(System.currentTimeMillis() + 5_000)
+                | ((ChatMessageIdGenerator.MAX_NODES - 1L) << ChatMessageIdGenerator.SEQUENCE_BITS)
+                | ((1L << ChatMessageIdGenerator.SEQUENCE_BITS) - 1);
+
+        long id = generator.nextIdAfter(otherNodeId);
+
+        assertThat(id).isGreaterThan(otherNodeId);
+        assertThat(nodeOf(id)).isZero();
+        assertThat(generator.nextId()).isGreaterThan(id);
+    }
+
+    @Test
+    @DisplayName("node-id 가 노드 비트 범위를 넘으면 기동 시 실패한다")
+    void rejectsOutOfRangeNodeId() {
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(stringRedisTemplate,
+                ChatMessageIdGenerator.MAX_NODES, 60);
+
+        assertThatThrownBy(generator::init).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("node-id 미지정 시 INCR 시작점부터 비어 있는 노드 번호를 임대한다")
+    void leasesFirstFreeNode() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.increment("chat:message-id:node-seq")).willReturn(5L);
+        given(valueOperations.setIfAbsent(eq("chat:message-id:node:5"), anyString(), any(Duration.class)))
+                .willReturn(false);
+        given(valueOperations.setIfAbsent(eq("chat:message-id:node:6"), anyString(), any(Duration.class)))
+                .willReturn(true);
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(stringRedisTemplate, -1, 60);
+
+        generator.init();
+
+        assertThat(nodeOf(generator.nextId())).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("임대 연장에 실패하면(다른 노드가 가져감) 새 노드 번호를 임대한다")
+    void reacquiresLostLease() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.increment("chat:message-id:node-seq")).willReturn(2L, 9L);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("chat:message-id:node:2")),
+                anyString(), anyString())).willReturn(0L);
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(stringRedisTemplate, -1, 60);
+        generator.init();
+
+        generator.renewLease();
+
+        assertThat(nodeOf(generator.nextId())).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("node-id 를 지정하면 Redis 임대를 쓰지 않는다")
+    void configuredNodeSkipsLease() {
+        ChatMessageIdGenerator generator = configured(7);
+
+        generator.renewLease();
+        generator.releaseLease();
+
+        verify(stringRedisTemplate, never()).opsForValue();
+    }
+
+    private ChatMessageIdGenerator configured(int nodeId) {
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(stringRedisTemplate, nodeId, 60);
+        generator.init();
+        return generator;
+    }
+
+    private static long nodeOf(long id) {
+        return (id >>> ChatMessageIdGenerator.SEQUENCE_BITS) & (ChatMessageIdGenerator.MAX_NODES - 1);
+    }
+}
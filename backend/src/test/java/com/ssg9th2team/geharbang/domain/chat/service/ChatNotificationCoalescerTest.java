@@ -0,0 +1,118 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatNotificationCoalescerTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String DESTINATION = "/topic/user/7/notifications";
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 14, 0);
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private ChatNotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        // 예약된 flush 가 테스트 중에 실행되지 않도록 창을 길게 두고 flush 를 직접 호출
+        ReflectionTestUtils.setField(coalescer, "coalesceWindowMs", 60_000L);
+        ReflectionTestUtils.setField(coalescer, "schedulerPoolSize", 1);
+        coalescer.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("창 안의 같은 방 알림은 최신 상태 한 건(NEW_MESSAGE)으로 전송된다")
+    void coalescesSameRoom() {
+        coalescer.notifyNewMessage(USER_ID, 1L, 100L, 1, "안녕하세요", NOW, "호스트");
+        coalescer.notifyNewMessage(USER_ID, 1L, 101L, 2, "체크인 안내", NOW.plusSeconds(1), "호스트");
+        coalescer.notifyNewMessage(USER_ID, 1L, 102L, 3, "감사합니다", NOW.plusSeconds(2), "호스트");
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+
+        coalescer.flush(USER_ID);
+
+        Map<String, Object> sent = captureSingleSend();
+        assertThat(sent.get("type")).isEqualTo(ChatNotificationCoalescer.TYPE_NEW_MESSAGE);
+        assertThat(sent.get("unreadCount")).isEqualTo(3L);
+        assertThat(sent.get("lastMessage")).isEqualTo("감사합니다");
+    }
+
+    @Test
+    @DisplayName("여러 방의 알림은 방별 최신 상태를 담은 NEW_MESSAGE_BATCH 한 건으로 전송된다")
+    @SuppressWarnings("unchecked")
+    void batchesMultipleRooms() {
+        coalescer.notifyNewMessage(USER_ID, 1L, 100L, 1, "A1", NOW, "호스트A");
+        coalescer.notifyNewMessage(USER_ID, 2L, 101L, 1, "B1", NOW, "호스트B");
+        coalescer.notifyNewMessage(USER_ID, 1L, 102L, 2, "A2", NOW, "호스트A");
+
+        coalescer.flush(USER_ID);
+
+        Map<String, Object> sent = captureSingleSend();
+        assertThat(sent.get("type")).isEqualTo(ChatNotificationCoalescer.TYPE_NEW_MESSAGE_BATCH);
+        List<Map<String, Object>> notifications = (List<Map<String, Object>>) sent.get("notifications");
+        // 마지막으로 갱신된 방이 뒤에 온다
+        assertThat(notifications).extracting(n -> n.get("roomId")).containsExactly(2L, 1L);
+        assertThat(notifications.get(1).get("lastMessage")).isEqualTo("A2");
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 메시지 알림은 최신 상태를 덮어쓰지 않는다")
+    void keepsNewestMessageState() {
+        coalescer.notifyNewMessage(USER_ID, 1L, 200L, 5, "최신", NOW, "호스트");
+        coalescer.notifyNewMessage(USER_ID, 1L, 199L, 4, "이전", NOW, "호스트");
+
+        coalescer.flush(USER_ID);
+
+        Map<String, Object> sent = captureSingleSend();
+        assertThat(sent.get("lastMessage")).isEqualTo("최신");
+        assertThat(sent.get("unreadCount")).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("창이 0 이면 메시지마다 즉시 전송한다")
+    void sendsImmediatelyWhenDisabled() {
+        ReflectionTestUtils.setField(coalescer, "coalesceWindowMs", 0L);
+
+        coalescer.notifyNewMessage(USER_ID, 1L, 100L, 1, "A1", NOW, "호스트");
+        coalescer.notifyNewMessage(USER_ID, 1L, 101L, 2, "A2", NOW, "호스트");
+
+        verify(messagingTemplate, times(2)).convertAndSend(eq(DESTINATION), any(Object.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> captureSingleSend() {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq(DESTINATION), payload.capture());
+        return (Map<String, Object>) payload.getValue();
+    }
+}
@@ -0,0 +1,119 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSubscriptionRegistryTest {
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListener;
+    @Mock
+    private MessageListenerAdapter listenerAdapter;
+
+    private ChatRoomSubscriptionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChatRoomSubscriptionRegistry(redisMessageListener, listenerAdapter);
+        ReflectionTestUtils.setField(registry, "brokerMode", "simple");
+    }
+
+    @Test
+    @DisplayName("첫 구독자에서만 채널을 구독하고, 마지막 구독자가 나가면 해제한다")
+    void subscribesOnFirstAndUnsubscribesOnLast() {
+        registry.onSubscribe(subscribe("s1", "sub-1", 10L));
+        registry.onSubscribe(subscribe("s2", "sub-1", 10L));
+        verify(redisMessageListener, times(1)).addMessageListener(listenerAdapter, RedisPublisher.roomTopic(10L));
+        assertThat(registry.getSubscribedRoomCount()).isEqualTo(1);
+
+        registry.onUnsubscribe(unsubscribe("s1", "sub-1"));
+        verify(redisMessageListener, never()).removeMessageListener(listenerAdapter, RedisPublisher.roomTopic(10L));
+
+        registry.onDisconnect(new SessionDisconnectEvent(this, disconnectMessage("s2"), "s2", CloseStatus.NORMAL));
+        verify(redisMessageListener).removeMessageListener(listenerAdapter, RedisPublisher.roomTopic(10L));
+        assertThat(registry.getSubscribedRoomCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("채널 구독 I/O 는 구독 수 맵 연산 밖에서 하므로, 그 안에서 다른 방 구독이 들어와도 막히지 않는다")
+    void channelIoRunsOutsideMapCompute() {
+        willAnswer(invocation -> {
+            // 컨테이너 콜백 등에서 레지스트리로 다시 들어오는 경우
+            if (RedisPublisher.roomTopic(10L).equals(invocation.getArgument(1))) {
+                registry.onSubscribe(subscribe("s9", "sub-9", 11L));
+            }
+            return null;
+        }).given(redisMessageListener).addMessageListener(eq(listenerAdapter), any(Topic.class));
+
+        registry.onSubscribe(subscribe("s1", "sub-1", 10L));
+
+        verify(redisMessageListener).addMessageListener(listenerAdapter, RedisPublisher.roomTopic(11L));
+        assertThat(registry.getSubscribedRoomCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("채널 구독이 실패하면 구독 중으로 기록하지 않아 다음 첫 구독자가 다시 시도한다")
+    void failedSubscribeIsRetriedByNextSubscriber() {
+        willAnswer(invocation -> {
+            throw new IllegalStateException("redis down");
+        }).willAnswer(invocation -> null)
+                .given(redisMessageListener).addMessageListener(listenerAdapter, RedisPublisher.roomTopic(10L));
+
+        try {
+            registry.onSubscribe(subscribe("s1", "sub-1", 10L));
+        } catch (IllegalStateException ignored) {
+            // 첫 시도 실패
+        }
+        registry.onUnsubscribe(unsubscribe("s1", "sub-1"));
+        registry.onSubscribe(subscribe("s2", "sub-1", 10L));
+
+        verify(redisMessageListener, times(2)).addMessageListener(listenerAdapter, RedisPublisher.roomTopic(10L));
+        assertThat(registry.getSubscribedRoomCount()).isEqualTo(1);
+    }
+
+    private SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, Long roomId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination("/topic/chatroom/" + roomId);
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private Message<byte[]> disconnectMessage(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,170 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.ssg9th2team.geharbang.domain.auth.entity.User;
+import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.domain.chat.RealtimeChatRoom;
+import com.ssg9th2team.geharbang.domain.chat.repository.RealtimeChatRoomRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSummaryServiceTest {
+
+    private static final Long ROOM_ID = 5L;
+    private static final Long HOST_ID = 1L;
+    private static final Long GUEST_ID = 2L;
+    private static final LocalDateTime SENT_AT = LocalDateTime.of(2025, 3, 1, 14, 5, 30);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private RealtimeChatRoomRepository chatRoomRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @InjectMocks
+    private ChatRoomSummaryService summaryService;
+
+    @Test
+    @DisplayName("참여자 캐시가 있으면 DB 를 조회하지 않는다")
+    void participantsFromCache() {
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("chat:room:5:members")).willReturn(Map.of(
+                "hostUserId", "1", "guestUserId", "2", "hostName", "호스트", "guestName", "게스트"));
+
+        ChatRoomSummaryService.RoomParticipants participants = summaryService.getParticipants(ROOM_ID);
+
+        assertThat(participants.otherOf(HOST_ID)).isEqualTo(GUEST_ID);
+        assertThat(participants.nameOf(GUEST_ID)).isEqualTo("게스트");
+        assertThat(participants.isParticipant(3L)).isFalse();
+        verify(chatRoomRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("참여자 캐시가 없으면 DB 에서 읽어 캐시하고, 요약을 DB 값으로 HSETNX 초기화한다")
+    void participantsLoadedFromDbAndSummarySeeded() {
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("chat:room:5:members")).willReturn(Map.of());
+        given(chatRoomRepository.findById(ROOM_ID)).willReturn(Optional.of(room()));
+        given(userRepository.findAllById(List.of(HOST_ID, GUEST_ID)))
+                .willReturn(List.of(user(HOST_ID, "호스트"), user(GUEST_ID, "게스트")));
+
+        ChatRoomSummaryService.RoomParticipants participants = summaryService.getParticipants(ROOM_ID);
+
+        assertThat(participants.nameOf(HOST_ID)).isEqualTo("호스트");
+        verify(hashOperations).putAll("chat:room:5:members", Map.of(
+                "hostUserId", "1", "guestUserId", "2", "hostName", "호스트", "guestName", "게스트"));
+        verify(stringRedisTemplate).expire("chat:room:5:members", 60, TimeUnit.MINUTES);
+        verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("새 메시지는 스크립트 한 번으로 마지막 메시지와 수신자 안 읽은 수를 갱신하고 dirty Set 에 넣는다")
+    void recordMessageIncrementsRecipient() {
+        given(stringRedisTemplate.execute(any(RedisScript.class),
+                eq(List.of("chat:room:5:summary", ChatRoomSummaryService.DIRTY_ROOMS_KEY)),
+                eq("100"), eq("안녕하세요"), eq(SENT_AT.toString()), eq("unread:2"), anyString(), eq("5")))
+                .willReturn(3L);
+
+        assertThat(summaryService.recordMessage(ROOM_ID, 100L, "안녕하세요", SENT_AT, GUEST_ID)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("수신자가 없으면 안 읽은 수 필드를 비워 보내고 0 을 돌려준다")
+    void recordMessageWithoutRecipient() {
+        given(stringRedisTemplate.execute(any(RedisScript.class), any(List.class),
+                eq("100"), eq("공지"), eq(SENT_AT.toString()), eq(""), anyString(), eq("5")))
+                .willReturn(0L);
+
+        assertThat(summaryService.recordMessage(ROOM_ID, 100L, "공지", SENT_AT, null)).isZero();
+    }
+
+    @Test
+    @DisplayName("읽음 처리는 해당 참여자 안 읽은 수만 0 으로 두고 방을 dirty Set 에 넣는다")
+    void markReadResetsCounter() {
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+
+        summaryService.markRead(ROOM_ID, HOST_ID);
+
+        verify(hashOperations).put("chat:room:5:summary", "unread:1", "0");
+        verify(setOperations).add(ChatRoomSummaryService.DIRTY_ROOMS_KEY, "5");
+    }
+
+    @Test
+    @DisplayName("여러 방 요약을 파이프라인으로 읽고, 요약이 없는 방은 결과에서 뺀다")
+    void getSummariesSkipsMissingRooms() {
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of(
+                Map.of("lastMessageId", "100", "lastMessage", "안녕하세요",
+                        "lastMessageTime", SENT_AT.toString(), "unread:1", "0", "unread:2", "3"),
+                Map.of()));
+
+        Map<Long, ChatRoomSummaryService.RoomSummary> summaries = summaryService.getSummaries(List.of(ROOM_ID, 6L));
+
+        assertThat(summaries).containsOnlyKeys(ROOM_ID);
+        ChatRoomSummaryService.RoomSummary summary = summaries.get(ROOM_ID);
+        assertThat(summary.lastMessage()).isEqualTo("안녕하세요");
+        assertThat(summary.lastMessageTime()).isEqualTo(SENT_AT);
+        assertThat(summary.unreadCountOf(GUEST_ID)).isEqualTo(3);
+        assertThat(summary.unreadCountOf(HOST_ID)).isZero();
+        assertThat(summary.unreadCountOf(9L)).isNull();
+    }
+
+    @Test
+    @DisplayName("dirty Set 에서 꺼낸 방 ID 를 Long 으로 돌려준다")
+    void popDirtyRoomIds() {
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.pop(ChatRoomSummaryService.DIRTY_ROOMS_KEY, 10)).willReturn(List.of("5", "6"));
+
+        assertThat(summaryService.popDirtyRoomIds(10)).containsExactly(5L, 6L);
+    }
+
+    private static RealtimeChatRoom room() {
+        return RealtimeChatRoom.builder()
+                .id(ROOM_ID)
+                .reservationId(10L)
+                .accommodationId(20L)
+                .hostUserId(HOST_ID)
+                .guestUserId(GUEST_ID)
+                .lastMessage("이전 메시지")
+                .lastMessageTime(SENT_AT.minusDays(1))
+                .hostUnreadCount(0)
+                .guestUnreadCount(2)
+                .build();
+    }
+
+    private static User user(Long id, String nickname) {
+        User user = User.builder().nickname(nickname).email(nickname + "@example.com").build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,77 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.ssg9th2team.geharbang.domain.chat.RealtimeChatRoom;
+import com.ssg9th2team.geharbang.domain.chat.repository.RealtimeChatRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSummaryWriterTest {
+
+    private static final LocalDateTime SENT_AT = LocalDateTime.of(2025, 3, 1, 14, 5, 30);
+
+    @Mock
+    private ChatRoomSummaryService chatRoomSummaryService;
+    @Mock
+    private RealtimeChatRoomRepository chatRoomRepository;
+
+    private ChatRoomSummaryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new ChatRoomSummaryWriter(chatRoomSummaryService, chatRoomRepository);
+        ReflectionTestUtils.setField(writer, "enabled", true);
+        ReflectionTestUtils.setField(writer, "batchSize", 200);
+    }
+
+    @Test
+    @DisplayName("dirty 방의 Redis 요약을 realtime_chat_rooms 에 한 번의 saveAll 로 반영한다")
+    void flushAppliesSummaries() {
+        RealtimeChatRoom room = RealtimeChatRoom.builder().id(5L).hostUserId(1L).guestUserId(2L).build();
+        given(chatRoomSummaryService.popDirtyRoomIds(200)).willReturn(List.of(5L));
+        given(chatRoomSummaryService.getSummaries(List.of(5L))).willReturn(Map.of(5L,
+                new ChatRoomSummaryService.RoomSummary("안녕하세요", SENT_AT, Map.of(1L, 0, 2L, 3))));
+        given(chatRoomRepository.findAllById(Set.of(5L))).willReturn(List.of(room));
+
+        writer.flush();
+
+        assertThat(room.getLastMessage()).isEqualTo("안녕하세요");
+        assertThat(room.getLastMessageTime()).isEqualTo(SENT_AT);
+        assertThat(room.getHostUnreadCount()).isZero();
+        assertThat(room.getGuestUnreadCount()).isEqualTo(3);
+        assertThat(room.getUpdatedAt()).isNotNull();
+        verify(chatRoomRepository).saveAll(List.of(room));
+        verify(chatRoomSummaryService, never()).requeueDirtyRoomIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 꺼낸 방 ID 를 dirty Set 에 되돌린다")
+    void flushRequeuesOnFailure() {
+        given(chatRoomSummaryService.popDirtyRoomIds(200)).willReturn(List.of(5L, 6L));
+        given(chatRoomSummaryService.getSummaries(List.of(5L, 6L)))
+                .willThrow(new DataAccessResourceFailureException("redis down"));
+
+        writer.flush();
+
+        verify(chatRoomSummaryService).requeueDirtyRoomIds(List.of(5L, 6L));
+        verify(chatRoomRepository, never()).saveAll(anyList());
+    }
+}
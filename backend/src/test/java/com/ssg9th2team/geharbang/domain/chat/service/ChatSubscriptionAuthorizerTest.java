@@ -0,0 +1,132 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.ssg9th2team.geharbang.domain.chat.repository.RealtimeChatRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSubscriptionAuthorizerTest {
+
+    @Mock
+    private RealtimeChatRoomRepository chatRoomRepository;
+
+    private ChatSubscriptionAuthorizer authorizer;
+
+    @BeforeEach
+    void setUp() {
+        // 캐시에 없는 방은 항상 다시 읽지 않도록 재조회 최소 간격을 길게 둔다
+        authorizer = new ChatSubscriptionAuthorizer(chatRoomRepository, 10, 1000, 60_000);
+    }
+
+    @Test
+    @DisplayName("참여 중인 채팅방 구독은 허용되고, 반복 구독은 캐시로 처리된다")
+    void allowsParticipantFromCache() {
+        given(chatRoomRepository.findRoomIdsByParticipant(1L)).willReturn(List.of(10L, 11L));
+
+        assertThatCode(() -> authorizer.checkSubscribe(1L, "/topic/chatroom/10")).doesNotThrowAnyException();
+        assertThatCode(() -> authorizer.checkSubscribe(1L, "/topic/chatroom/11")).doesNotThrowAnyException();
+
+        verify(chatRoomRepository, times(1)).findRoomIdsByParticipant(1L);
+    }
+
+    @Test
+    @DisplayName("참여하지 않은 채팅방 구독은 거부된다")
+    void deniesNonParticipant() {
+        given(chatRoomRepository.findRoomIdsByParticipant(1L)).willReturn(List.of(10L));
+
+        assertThatThrownBy(() -> authorizer.checkSubscribe(1L, "/topic/chatroom/99"))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    @DisplayName("채팅방 생성 후 무효화하면 새 방 구독이 허용된다")
+    void invalidateAfterRoomCreated() {
+        given(chatRoomRepository.findRoomIdsByParticipant(1L))
+                .willReturn(List.of(10L))
+                .willReturn(List.of(10L, 12L));
+        authorizer.checkSubscribe(1L, "/topic/chatroom/10");
+
+        authorizer.invalidate(1L, 2L);
+
+        assertThatCode(() -> authorizer.checkSubscribe(1L, "/topic/chatroom/12")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 후에 캐시를 비운다")
+    void invalidateWaitsForCommit() {
+        given(chatRoomRepository.findRoomIdsByParticipant(1L))
+                .willReturn(List.of(10L))
+                .willReturn(List.of(10L, 12L));
+        authorizer.checkSubscribe(1L, "/topic/chatroom/10");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            authorizer.invalidate(1L, 2L);
+            // 커밋 전에는 기존 캐시 그대로
+            assertThatThrownBy(() -> authorizer.checkSubscribe(1L, "/topic/chatroom/12"))
+                    .isInstanceOf(SecurityException.class);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThatCode(() -> authorizer.checkSubscribe(1L, "/topic/chatroom/12")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 알림 채널 구독은 거부된다")
+    void deniesOtherUserChannel() {
+        assertThatCode(() -> authorizer.checkSubscribe(1L, "/topic/user/1/notifications")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> authorizer.checkSubscribe(1L, "/topic/user/2/notifications"))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> authorizer.checkSubscribe(1L, "/topic/chatroom/abc"))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/topic/**", "/topic/chatroom/*", "/topic/chatroom/1?", "/topic/user/{id}/notifications",
+            "/topic/user/1/#", "/topic/user/1/>", "/topic/user/1/**"})
+    @DisplayName("브로커가 패턴으로 해석하는 와일드카드 목적지는 참여 여부와 무관하게 거부된다")
+    void deniesPatternDestinations(String destination) {
+        assertThatThrownBy(() -> authorizer.checkSubscribe(1L, destination))
+                .isInstanceOf(SecurityException.class);
+        verify(chatRoomRepository, never()).findRoomIdsByParticipant(1L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/topic", "/topic/", "/topic/simp-user-registry", "/topic/unresolved-user-destination",
+            "/queue/chat/history-usersession1", "/app/chat/1", "/topic/chatroom/10/extra"})
+    @DisplayName("허용 목록에 없는 목적지는 거부된다")
+    void deniesUnknownDestinations(String destination) {
+        assertThatThrownBy(() -> authorizer.checkSubscribe(1L, destination))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    @DisplayName("사용자 목적지(/user/...)는 허용하고, 사용자 ID 를 알 수 없으면 모두 거부한다")
+    void sessionUserDestinationAndUnknownUser() {
+        assertThatCode(() -> authorizer.checkSubscribe(1L, "/user/queue/chat/history")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> authorizer.checkSubscribe(null, "/user/queue/chat/history"))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> authorizer.checkSubscribe(1L, null))
+                .isInstanceOf(SecurityException.class);
+    }
+}
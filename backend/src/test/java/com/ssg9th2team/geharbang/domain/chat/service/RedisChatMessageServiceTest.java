@@ -0,0 +1,164 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessagePageDto;
+import com.ssg9th2team.geharbang.domain.chat.repository.mybatis.RealtimeChatMessageMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisChatMessageServiceTest {
+
+    private static final Long ROOM_ID = 42L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 14, 5, 30);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private RealtimeChatMessageMapper realtimeChatMessageMapper;
+    @Mock
+    private ChatMessageIdGenerator messageIdGenerator;
+    @Mock
+    private RedisConnection connection;
+    @Mock
+    private RedisZSetCommands zSetCommands;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private final ChatMessageCodec codec = new ChatMessageCodec(new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+    private RedisChatMessageService messageService;
+
+    @BeforeEach
+    void setUp() {
+        messageService = new RedisChatMessageService(stringRedisTemplate, realtimeChatMessageMapper,
+                messageIdGenerator, codec);
+        lenient().when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        lenient().when(hashOperations.entries("chat:room:42:read")).thenReturn(Map.of());
+        lenient().when(connection.zSetCommands()).thenReturn(zSetCommands);
+        lenient().when(stringRedisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+    }
+
+    @Test
+    @DisplayName("커서 없이 요청하면 최신 size 건을 시간순으로 돌려주고, 마지막 항목으로 다음 커서를 만든다")
+    void latestPage() {
+        given(zSetCommands.zRevRangeByScoreWithScores(any(), eq(Double.NEGATIVE_INFINITY),
+                eq(Double.POSITIVE_INFINITY), eq(0L), eq(3L)))
+                .willReturn(tuples(tuple(3L, 1002), tuple(2L, 1001), tuple(1L, 1000)));
+        given(zSetCommands.zRangeByScoreWithScores(any(), eq(1000d), eq(1000d)))
+                .willReturn(tuples(tuple(1L, 1000)));
+
+        ChatMessagePageDto page = messageService.getMessagePage(ROOM_ID, null, 2);
+
+        assertThat(page.getMessages()).extracting(ChatMessageDto::getId).containsExactly(2L, 3L);
+        assertThat(page.getNextCursor()).isEqualTo("1001:2");
+        assertThat(page.isHasMore()).isTrue();
+        verify(realtimeChatMessageMapper, never()).selectArchivedBefore(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("커서와 같은 ms 의 메시지는 id 로 이어서 가져와 경계에서 빠지거나 중복되지 않는다")
+    void cursorContinuesWithinSameScore() {
+        // 10, 11 번이 같은 ms(1001) 에 저장됨, 이전 페이지는 11 번에서 끝남
+        given(zSetCommands.zRangeByScoreWithScores(any(), eq(1001d), eq(1001d)))
+                .willReturn(tuples(tuple(10L, 1001), tuple(11L, 1001)));
+        given(zSetCommands.zRevRangeByScoreWithScores(any(), eq(Double.NEGATIVE_INFINITY), eq(1000.5d),
+                eq(0L), eq(3L)))
+                .willReturn(tuples(tuple(9L, 1000)));
+        given(realtimeChatMessageMapper.selectArchivedBefore(ROOM_ID, 9L, 1)).willReturn(List.of());
+
+        ChatMessagePageDto page = messageService.getMessagePage(ROOM_ID, "1001:11", 2);
+
+        assertThat(page.getMessages()).extracting(ChatMessageDto::getId).containsExactly(9L, 10L);
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 에 남은 메시지가 부족하면 MySQL 아카이브에서 이어서 채운다")
+    void fallsBackToArchive() {
+        given(zSetCommands.zRevRangeByScoreWithScores(any(), eq(Double.NEGATIVE_INFINITY),
+                eq(Double.POSITIVE_INFINITY), eq(0L), eq(3L)))
+                .willReturn(tuples());
+        given(realtimeChatMessageMapper.selectArchivedBefore(ROOM_ID, Long.MAX_VALUE, 3))
+                .willReturn(List.of(archived(3L, 2), archived(2L, 1), archived(1L, 0)));
+
+        ChatMessagePageDto page = messageService.getMessagePage(ROOM_ID, null, 2);
+
+        assertThat(page.getMessages()).extracting(ChatMessageDto::getId).containsExactly(2L, 3L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getNextCursor()).endsWith(":2");
+        // 아카이브 메시지는 상대방 워터마크가 없으면 읽음으로 본다
+        assertThat(page.getMessages()).allMatch(ChatMessageDto::getIsRead);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException 으로 거절한다")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> messageService.getMessagePage(ROOM_ID, "abc", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Tuple tuple(Long id, double score) {
+        ChatMessageDto message = ChatMessageDto.builder()
+                .id(id)
+                .chatRoomId(ROOM_ID)
+                .senderUserId(1001L)
+                .senderName("호스트")
+                .messageContent("메시지 " + id)
+                .createdAt(CREATED_AT)
+                .isRead(false)
+                .build();
+        return new DefaultTuple(codec.encode(message, false), score);
+    }
+
+    private static Set<Tuple> tuples(Tuple... tuples) {
+        return new LinkedHashSet<>(List.of(tuples));
+    }
+
+    private static ChatMessageDto archived(Long id, int secondsAfter) {
+        return ChatMessageDto.builder()
+                .id(id)
+                .chatRoomId(ROOM_ID)
+                .senderUserId(1001L)
+                .senderName("호스트")
+                .messageContent("보관 메시지 " + id)
+                .createdAt(CREATED_AT.plusSeconds(secondsAfter))
+                .isRead(false)
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.ssg9th2team.geharbang.domain.coupon.service;
+
+import com.ssg9th2team.geharbang.domain.coupon.dto.UserCouponKeyDto;
+import com.ssg9th2team.geharbang.domain.coupon.repository.mybatis.UserCouponMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponExpiryBatchServiceTest {
+
+    private static final String EXPIRE_CHECKPOINT = "coupon:batch:checkpoint:" + CouponExpiryBatchService.JOB_EXPIRE;
+
+    @Mock
+    private UserCouponMapper userCouponMapper;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RLock lock;
+    @Mock
+    private UserCouponWalletService userCouponWalletService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CouponExpiryBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        batchService = new CouponExpiryBatchService(userCouponMapper, redisTemplate, redissonClient,
+                userCouponWalletService, new TransactionTemplate(transactionManager), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(batchService, "chunkSize", 2);
+        ReflectionTestUtils.setField(batchService, "pauseMs", 0L);
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        lenient().when(redissonClient.getLock(anyString())).thenReturn(lock);
+        lenient().when(lock.tryLock()).thenReturn(true);
+        lenient().when(lock.isHeldByCurrentThread()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("만료 대상을 chunk-size 건씩 PK 키셋으로 읽고, 청크마다 체크포인트를 남긴다")
+    void expireWalksChunksByKeyset() {
+        given(hashOperations.entries(EXPIRE_CHECKPOINT)).willReturn(Map.of());
+        given(userCouponMapper.selectMaxUserCouponId()).willReturn(100L);
+        given(userCouponMapper.selectOverdueIssuedChunk(eq(0L), eq(100L), any(), eq(2)))
+                .willReturn(List.of(key(1L, 10L), key(2L, 20L)));
+        given(userCouponMapper.selectOverdueIssuedChunk(eq(2L), eq(100L), any(), eq(2)))
+                .willReturn(List.of(key(5L, 10L)));
+        given(userCouponMapper.expireByIds(eq(List.of(1L, 2L)), any())).willReturn(2);
+        given(userCouponMapper.expireByIds(eq(List.of(5L)), any())).willReturn(1);
+
+        assertThat(batchService.expireOverdueCoupons()).isEqualTo(3);
+
+        verify(hashOperations).putAll(EXPIRE_CHECKPOINT, Map.of("lastId", "2", "processed", "2"));
+        verify(hashOperations).putAll(EXPIRE_CHECKPOINT, Map.of("lastId", "5", "processed", "3"));
+        verify(redisTemplate).delete(EXPIRE_CHECKPOINT);
+        verify(transactionManager, times(2)).commit(any());
+        verify(userCouponWalletService).onStatusChanged(10L, 1L, "EXPIRED", null);
+        verify(userCouponWalletService).onStatusChanged(20L, 2L, "EXPIRED", null);
+        verify(userCouponWalletService).onStatusChanged(10L, 5L, "EXPIRED", null);
+    }
+
+    @Test
+    @DisplayName("조회 이후 사용된 쿠폰이 UPDATE 에서 빠지면 쿠폰함을 EXPIRED 로 덮지 않고 폐기한다")
+    void expireEvictsWalletWhenRowsWereSkipped() {
+        given(hashOperations.entries(EXPIRE_CHECKPOINT)).willReturn(Map.of());
+        given(userCouponMapper.selectMaxUserCouponId()).willReturn(100L);
+        given(userCouponMapper.selectOverdueIssuedChunk(eq(0L), eq(100L), any(), eq(2)))
+                .willReturn(List.of(key(1L, 10L)));
+        // 1번 쿠폰이 조회와 UPDATE 사이에 USED 로 바뀌어 갱신 0건
+        given(userCouponMapper.expireByIds(eq(List.of(1L)), any())).willReturn(0);
+
+        assertThat(batchService.expireOverdueCoupons()).isZero();
+
+        verify(userCouponWalletService, never()).onStatusChanged(anyLong(), anyLong(), anyString(), any());
+        verify(userCouponWalletService).invalidate(10L);
+    }
+
+    @Test
+    @DisplayName("오늘 날짜 체크포인트가 있으면 lastId 다음부터, 처음 시작한 기준 시각으로 이어서 처리한다")
+    void expireResumesFromCheckpoint() {
+        LocalDateTime cutoff = LocalDate.now().atTime(0, 0, 5);
+        given(hashOperations.entries(EXPIRE_CHECKPOINT)).willReturn(Map.of(
+                "runDate", LocalDate.now().toString(), "lastId", "40", "maxId", "100", "processed", "7",
+                "cutoff", cutoff.toString()));
+        given(userCouponMapper.selectOverdueIssuedChunk(40L, 100L, cutoff, 2)).willReturn(List.of());
+
+        assertThat(batchService.expireOverdueCoupons()).isEqualTo(7);
+
+        verify(userCouponMapper, never()).selectMaxUserCouponId();
+        verify(userCouponMapper, never()).expireByIds(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("새로 시작하면 기준 시각을 체크포인트에 남겨 재개할 때 다시 쓴다")
+    void expireSavesCutoffInCheckpoint() {
+        given(hashOperations.entries(EXPIRE_CHECKPOINT)).willReturn(Map.of());
+        given(userCouponMapper.selectMaxUserCouponId()).willReturn(100L);
+        given(userCouponMapper.selectOverdueIssuedChunk(eq(0L), eq(100L), any(), eq(2))).willReturn(List.of());
+
+        batchService.expireOverdueCoupons();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> started = ArgumentCaptor.forClass(Map.class);
+        verify(hashOperations).putAll(eq(EXPIRE_CHECKPOINT), started.capture());
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(userCouponMapper).selectOverdueIssuedChunk(eq(0L), eq(100L), cutoff.capture(), eq(2));
+        assertThat(started.getValue()).containsEntry("cutoff", cutoff.getValue().toString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 같은 작업을 실행 중이면 체크포인트를 건드리지 않고 건너뛴다")
+    void skipsWhenJobIsLockedElsewhere() {
+        given(lock.tryLock()).willReturn(false);
+
+        assertThat(batchService.expireOverdueCoupons()).isZero();
+        assertThat(batchService.resetDailyIssuedCoupons(List.of(7L))).isZero();
+
+        verify(redissonClient).getLock("LOCK:coupon:batch:" + CouponExpiryBatchService.JOB_EXPIRE);
+        verify(redissonClient).getLock("LOCK:coupon:batch:" + CouponExpiryBatchService.JOB_DAILY_RESET);
+        verify(hashOperations, never()).entries(anyString());
+        verify(redisTemplate, never()).delete(anyString());
+        verify(lock, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("일일 초기화는 Redis 발급 Set 을 지우고 발급 이력을 청크 단위로 삭제한다")
+    void dailyResetDeletesInChunks() {
+        String checkpoint = "coupon:batch:checkpoint:" + CouponExpiryBatchService.JOB_DAILY_RESET;
+        given(hashOperations.entries(checkpoint)).willReturn(Map.of());
+        given(userCouponMapper.selectMaxUserCouponId()).willReturn(50L);
+        given(userCouponMapper.selectKeysByCouponIdsChunk(eq(List.of(7L)), anyLong(), eq(50L), eq(2)))
+                .willReturn(List.of(key(3L, 30L), key(4L, 30L)))
+                .willReturn(List.of());
+        given(userCouponMapper.deleteByIds(List.of(3L, 4L))).willReturn(2);
+
+        assertThat(batchService.resetDailyIssuedCoupons(List.of(7L))).isEqualTo(2);
+
+        verify(redisTemplate).delete("coupon:issued:7");
+        verify(userCouponWalletService).onRemoved(30L, List.of(3L, 4L));
+        verify(redisTemplate).delete(checkpoint);
+    }
+
+    private static UserCouponKeyDto key(Long id, Long userId) {
+        UserCouponKeyDto dto = new UserCouponKeyDto();
+        dto.setId(id);
+        dto.setUserId(userId);
+        return dto;
+    }
+}
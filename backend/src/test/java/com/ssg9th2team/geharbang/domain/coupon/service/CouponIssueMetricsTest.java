@@ -0,0 +1,67 @@
+package com.ssg9th2team.geharbang.domain.coupon.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueMetricsTest {
+
+    @Mock
+    private CouponIssueQueueService couponIssueQueueService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CouponIssueMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new CouponIssueMetrics(meterRegistry, couponIssueQueueService);
+        ReflectionTestUtils.setField(metrics, "drainWindowMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("적재 시각이 없어 대기 시간을 알 수 없으면 gauge 는 0 이 아니라 NaN, 요약은 null 이다")
+    void oldestAgeIsUnavailableWithoutEnqueuedAt() {
+        given(couponIssueQueueService.getOldestAgeMillis()).willReturn(OptionalLong.empty());
+
+        assertThat(meterRegistry.get("coupon.issue.queue.oldest.age").gauge().value()).isNaN();
+        assertThat(metrics.summarize().oldestAgeMs()).isNull();
+    }
+
+    @Test
+    @DisplayName("처리량은 요약 API 호출과 무관하게 최근 구간의 카운터 표본으로 계산한다")
+    void drainRateUsesSampledWindow() {
+        metrics.sampleProcessed(0L);
+        processed(30);
+        metrics.sampleProcessed(30_000L);
+        processed(30);
+        metrics.sampleProcessed(60_000L);
+        processed(60);
+        // 0 초 표본은 구간(60초) 밖이라 버려지고 30 초 표본이 시작점이 된다
+        metrics.sampleProcessed(90_000L);
+
+        double rate = metrics.drainRatePerSec(90_000L, 120);
+
+        assertThat(rate).isCloseTo(1.5, within(0.001));
+        // 여러 번 호출해도 값이 바뀌지 않는다
+        assertThat(metrics.drainRatePerSec(90_000L, 120)).isCloseTo(rate, within(0.001));
+    }
+
+    private void processed(int count) {
+        for (int i = 0; i < count; i++) {
+            metrics.incrementProcessed();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.ssg9th2team.geharbang.domain.coupon.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueQueueServiceTest {
+
+    private static final LocalDateTime EXPIRES_AT = LocalDateTime.of(2026, 11, 18, 23, 59, 59);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    private CouponIssueQueueService queueService;
+
+    @BeforeEach
+    void setUp() {
+        queueService = new CouponIssueQueueService(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("기본 설정은 이전 버전 노드가 읽을 수 있는 세 필드(v1) 형식으로 적재한다")
+    void enqueuesLegacyFormatByDefault() {
+        given(redisTemplate.opsForList()).willReturn(listOperations);
+        given(listOperations.leftPush(eq("coupon:issue:queue"), anyString())).willReturn(1L);
+
+        assertThat(queueService.enqueueIssue(7L, 45L, EXPIRES_AT)).isTrue();
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(listOperations).leftPush(eq("coupon:issue:queue"), payload.capture());
+        assertThat(payload.getValue()).isEqualTo("7|45|2026-11-18T23:59:59");
+        assertLegacyNodeCanParse(payload.getValue());
+    }
+
+    @Test
+    @DisplayName("include-enqueued-at 을 켜면 앞 세 필드 위치는 그대로 두고 적재 시각을 덧붙인다")
+    void appendsEnqueuedAtWhenEnabled() {
+        ReflectionTestUtils.setField(queueService, "includeEnqueuedAt", true);
+        given(redisTemplate.opsForList()).willReturn(listOperations);
+        given(listOperations.leftPush(eq("coupon:issue:queue"), anyString())).willReturn(1L);
+        long before = System.currentTimeMillis();
+
+        queueService.enqueueIssue(7L, 45L, EXPIRES_AT);
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(listOperations).leftPush(eq("coupon:issue:queue"), payload.capture());
+        String[] parts = payload.getValue().split("\\|");
+        assertThat(parts).hasSize(4);
+        assertThat(parts[0]).isEqualTo("7");
+        assertThat(parts[1]).isEqualTo("45");
+        assertThat(parts[2]).isEqualTo("2026-11-18T23:59:59");
+        assertThat(Long.parseLong(parts[3])).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("v1 과 v2 payload 를 모두 읽고, v1 은 적재 시각 0 으로 둔다")
+    void decodesBothFormats() {
+        CouponIssueQueueService.IssueRequest legacy = CouponIssueQueueService.decode("7|45|2026-11-18T23:59:59");
+        CouponIssueQueueService.IssueRequest current =
+                CouponIssueQueueService.decode("7|45|2026-11-18T23:59:59|1768204800000");
+
+        assertThat(legacy.getUserId()).isEqualTo(7L);
+        assertThat(legacy.getCouponId()).isEqualTo(45L);
+        assertThat(legacy.getExpiresAt()).isEqualTo(EXPIRES_AT);
+        assertThat(legacy.getEnqueuedAt()).isZero();
+        assertThat(current.getExpiresAt()).isEqualTo(EXPIRES_AT);
+        assertThat(current.getEnqueuedAt()).isEqualTo(1768204800000L);
+        assertThatThrownBy(() -> CouponIssueQueueService.decode("7|45"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("가장 오래된 요청에 적재 시각이 없으면(v1, include-enqueued-at=false) 대기 시간을 알 수 없어 빈 값을 돌려준다")
+    void oldestAgeIsUnavailableWithoutEnqueuedAt() {
+        given(redisTemplate.opsForList()).willReturn(listOperations);
+        given(listOperations.index("coupon:issue:queue", -1)).willReturn("7|45|2026-11-18T23:59:59");
+
+        assertThat(queueService.getOldestAgeMillis()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("큐가 비었으면 대기 시간은 0 이다")
+    void oldestAgeIsZeroForEmptyQueue() {
+        given(redisTemplate.opsForList()).willReturn(listOperations);
+        given(listOperations.index("coupon:issue:queue", -1)).willReturn(null);
+
+        assertThat(queueService.getOldestAgeMillis()).hasValue(0L);
+    }
+
+    /**
+     * 이전 버전 노드의 파싱 방식 (split 3 + LocalDateTime.parse)
+     */
+    private static void assertLegacyNodeCanParse(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        assertThat(LocalDateTime.parse(parts[2])).isEqualTo(EXPIRES_AT);
+    }
+}
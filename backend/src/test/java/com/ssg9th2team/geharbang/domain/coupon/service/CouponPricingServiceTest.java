@@ -0,0 +1,178 @@
+package com.ssg9th2team.geharbang.domain.coupon.service;
+
+import com.ssg9th2team.geharbang.domain.coupon.dto.CouponDiscountResponseDto;
+import com.ssg9th2team.geharbang.domain.coupon.entity.Coupon;
+import com.ssg9th2team.geharbang.domain.coupon.entity.UserCoupon;
+import com.ssg9th2team.geharbang.domain.coupon.entity.UserCouponStatus;
+import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.CouponJpaRepository;
+import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.UserCouponJpaRepository;
+import com.ssg9th2team.geharbang.global.cache.LocalCacheEvictionBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponPricingServiceTest {
+
+    @Mock
+    private CouponJpaRepository couponJpaRepository;
+    @Mock
+    private UserCouponJpaRepository userCouponJpaRepository;
+    @Mock
+    private LocalCacheEvictionBroadcaster evictionBroadcaster;
+
+    private CouponPricingService couponPricingService;
+
+    private final Long userId = 1L;
+    private final Long accommodationId = 10L;
+
+    @BeforeEach
+    void setUp() {
+        couponPricingService = new CouponPricingService(couponJpaRepository, userCouponJpaRepository,
+                evictionBroadcaster, 30, 100);
+    }
+
+    @Test
+    @DisplayName("보유 쿠폰 중 할인액이 가장 큰 쿠폰을 추천하고 최소 금액 미달 쿠폰은 제외한다")
+    void evaluateBestCoupon_picksLargestDiscount() {
+        Coupon fixed = coupon(100L, "FIXED", 5000, 0, null);
+        Coupon percent = coupon(200L, "PERCENT", 10, 0, 8000);
+        Coupon highMinPrice = coupon(300L, "FIXED", 30000, 500000, null);
+
+        when(userCouponJpaRepository.findByUserIdAndStatus(userId, UserCouponStatus.ISSUED)).thenReturn(List.of(
+                userCoupon(1L, 100L), userCoupon(2L, 200L), userCoupon(3L, 300L)));
+        when(couponJpaRepository.findAllById(anyIterable())).thenReturn(List.of(fixed, percent, highMinPrice));
+
+        CouponDiscountResponseDto result = couponPricingService.evaluateBestCoupon(userId, accommodationId, 100000);
+
+        assertThat(result.getApplicableCoupons()).hasSize(2);
+        assertThat(result.getBestUserCouponId()).isEqualTo(2L);
+        assertThat(result.getBestDiscountAmount()).isEqualTo(8000);
+        assertThat(result.getFinalAmount()).isEqualTo(92000);
+    }
+
+    @Test
+    @DisplayName("쿠폰 정의는 캐시되어 두 번째 계산부터는 coupon 테이블을 조회하지 않는다")
+    void calculateDiscount_usesCachedDefinition() {
+        UserCoupon userCoupon = userCoupon(1L, 100L);
+        when(userCouponJpaRepository.findById(1L)).thenReturn(Optional.of(userCoupon));
+        when(couponJpaRepository.findAllById(anyIterable())).thenReturn(List.of(coupon(100L, "FIXED", 5000, 0, null)));
+
+        assertThat(couponPricingService.calculateDiscount(userId, 1L, accommodationId, 50000)).isEqualTo(5000);
+        assertThat(couponPricingService.calculateDiscount(userId, 1L, accommodationId, 50000)).isEqualTo(5000);
+
+        verify(couponJpaRepository, times(1)).findAllById(anyIterable());
+    }
+
+    @Test
+    @DisplayName("최소 결제 금액을 충족하지 못하면 예외가 발생한다")
+    void calculateDiscount_rejectsMinPrice() {
+        when(userCouponJpaRepository.findById(1L)).thenReturn(Optional.of(userCoupon(1L, 100L)));
+        when(couponJpaRepository.findAllById(anyIterable())).thenReturn(List.of(coupon(100L, "FIXED", 5000, 70000, null)));
+
+        assertThatThrownBy(() -> couponPricingService.calculateDiscount(userId, 1L, accommodationId, 50000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("최소 결제 금액을 충족하지 못했습니다.");
+    }
+
+    @Test
+    @DisplayName("비활성 쿠폰은 추천에서 빠지고 예약에 사용할 수 없다")
+    void inactiveCouponIsExcluded() {
+        Coupon inactive = Coupon.builder()
+                .couponId(100L)
+                .name("중지된 쿠폰")
+                .discountType("FIXED")
+                .discountValue(5000)
+                .minPrice(0)
+                .isActive(false)
+                .build();
+        when(userCouponJpaRepository.findByUserIdAndStatus(userId, UserCouponStatus.ISSUED))
+                .thenReturn(List.of(userCoupon(1L, 100L)));
+        when(userCouponJpaRepository.findById(1L)).thenReturn(Optional.of(userCoupon(1L, 100L)));
+        when(couponJpaRepository.findAllById(anyIterable())).thenReturn(List.of(inactive));
+
+        assertThat(couponPricingService.evaluateBestCoupon(userId, accommodationId, 50000).getApplicableCoupons())
+                .isEmpty();
+        assertThatThrownBy(() -> couponPricingService.calculateDiscount(userId, 1L, accommodationId, 50000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("사용할 수 없는 쿠폰입니다.");
+    }
+
+    @Test
+    @DisplayName("쿠폰함 사용 가능 목록용으로 활성화된 쿠폰 ID 만 돌려준다")
+    void findActiveCouponIdsSkipsInactive() {
+        Coupon inactive = Coupon.builder()
+                .couponId(200L)
+                .name("중지된 쿠폰")
+                .discountType("FIXED")
+                .discountValue(5000)
+                .minPrice(0)
+                .isActive(false)
+                .build();
+        when(couponJpaRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(coupon(100L, "FIXED", 5000, 0, null), inactive));
+
+        assertThat(couponPricingService.findActiveCouponIds(List.of(100L, 200L, 300L))).containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("무효화는 전 노드에 발행되고, 수신한 무효화로 캐시된 정의를 다시 읽는다")
+    @SuppressWarnings("unchecked")
+    void invalidateBroadcastsAndEvicts() {
+        couponPricingService.registerEviction();
+        ArgumentCaptor<Consumer<String>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(evictionBroadcaster).register(eq(CouponPricingService.CACHE_NAME), handler.capture());
+
+        when(userCouponJpaRepository.findById(1L)).thenReturn(Optional.of(userCoupon(1L, 100L)));
+        when(couponJpaRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(coupon(100L, "FIXED", 5000, 0, null)))
+                .thenReturn(List.of(coupon(100L, "FIXED", 3000, 0, null)));
+        assertThat(couponPricingService.calculateDiscount(userId, 1L, accommodationId, 50000)).isEqualTo(5000);
+
+        couponPricingService.invalidate(100L);
+        verify(evictionBroadcaster).broadcast(CouponPricingService.CACHE_NAME, "100");
+        handler.getValue().accept("100");
+
+        assertThat(couponPricingService.calculateDiscount(userId, 1L, accommodationId, 50000)).isEqualTo(3000);
+        verify(couponJpaRepository, times(2)).findAllById(anyIterable());
+    }
+
+    private Coupon coupon(Long couponId, String discountType, int discountValue, int minPrice, Integer maxDiscount) {
+        return Coupon.builder()
+                .couponId(couponId)
+                .name("쿠폰" + couponId)
+                .discountType(discountType)
+                .discountValue(discountValue)
+                .minPrice(minPrice)
+                .maxDiscount(maxDiscount)
+                .isActive(true)
+                .build();
+    }
+
+    private UserCoupon userCoupon(Long id, Long couponId) {
+        return UserCoupon.builder()
+                .id(id)
+                .userId(userId)
+                .couponId(couponId)
+                .issuedAt(LocalDateTime.now().minusDays(1))
+                .expiredAt(LocalDateTime.now().plusDays(30))
+                .build();
+    }
+}
@@ -0,0 +1,215 @@
+package com.ssg9th2team.geharbang.domain.coupon.service;
+
+import com.ssg9th2team.geharbang.domain.coupon.dto.UserCouponKeyDto;
+import com.ssg9th2team.geharbang.domain.coupon.entity.CouponInventory;
+import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.CouponInventoryRepository;
+import com.ssg9th2team.geharbang.domain.coupon.repository.mybatis.UserCouponMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponReconciliationServiceTest {
+
+    private static final Long COUPON_ID = 1L;
+    private static final String STOCK_KEY = "coupon:stock:1";
+    private static final String ISSUED_KEY = "coupon:issued:1";
+
+    @Mock
+    private CouponInventoryRepository couponInventoryRepository;
+    @Mock
+    private UserCouponMapper userCouponMapper;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private SetOperations<String, String> setOperations;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RLock lock;
+    @Mock
+    private CouponIssueQueueService couponIssueQueueService;
+    @Mock
+    private CouponIssueMetrics couponIssueMetrics;
+
+    private CouponReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        reconciliationService = new CouponReconciliationService(couponInventoryRepository, userCouponMapper,
+                redisTemplate, redissonClient, couponIssueQueueService, couponIssueMetrics);
+        ReflectionTestUtils.setField(reconciliationService, "batchSize", 500);
+        ReflectionTestUtils.setField(reconciliationService, "maxRepairs", 1000);
+    }
+
+    @Test
+    @DisplayName("재고 차이는 두 번 연속 같은 값이 관측될 때만 INCRBY 로 차이만큼 보정한다")
+    void stockDriftIsRepairedOnSecondObservation() {
+        lockAcquired();
+        given(couponInventoryRepository.findAll()).willReturn(List.of(inventory(40)));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(STOCK_KEY)).willReturn("45");
+        noIssuedMembers();
+
+        assertThat(reconciliationService.reconcile().stockRepaired()).isZero();
+        verify(valueOperations, never()).increment(anyString(), anyLong());
+
+        assertThat(reconciliationService.reconcile().stockRepaired()).isEqualTo(1);
+        verify(valueOperations).increment(STOCK_KEY, -5L);
+    }
+
+    @Test
+    @DisplayName("재시도 큐에 발급이 남아 있으면 재고 차이를 보정하지 않고, 큐가 비워진 뒤 같은 차이면 보정한다")
+    void stockDriftIsKeptWhileRetryQueueHasRequests() {
+        lockAcquired();
+        given(couponInventoryRepository.findAll()).willReturn(List.of(inventory(40)));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(STOCK_KEY)).willReturn("45");
+        given(couponIssueQueueService.getRetrySize()).willReturn(2L, 2L, 0L);
+        noIssuedMembers();
+
+        reconciliationService.reconcile();
+        assertThat(reconciliationService.reconcile().stockRepaired()).isZero();
+        verify(valueOperations, never()).increment(anyString(), anyLong());
+
+        assertThat(reconciliationService.reconcile().stockRepaired()).isEqualTo(1);
+        verify(valueOperations).increment(STOCK_KEY, -5L);
+    }
+
+    @Test
+    @DisplayName("재고 키가 없으면 DB 기준값으로 바로 만든다")
+    void missingStockKeyIsCreated() {
+        lockAcquired();
+        given(couponInventoryRepository.findAll()).willReturn(List.of(inventory(40)));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(STOCK_KEY, "40")).willReturn(true);
+        noIssuedMembers();
+
+        assertThat(reconciliationService.reconcile().stockRepaired()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 에 오늘 발급 이력이 있는데 Redis Set 에 없으면 바로 추가한다")
+    void missingIssuedMemberIsAdded() {
+        lockAcquired();
+        given(couponInventoryRepository.findAll()).willReturn(List.of(inventory(40)));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(STOCK_KEY)).willReturn("40");
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(userCouponMapper.selectIssuedKeysByCouponChunk(eq(COUPON_ID), eq(0L), any(), eq(500)))
+                .willReturn(List.of(key(11L, 7L)));
+        given(setOperations.isMember(ISSUED_KEY, new Object[]{"7"})).willReturn(Map.of("7", false));
+        given(setOperations.scan(eq(ISSUED_KEY), any())).willAnswer(invocation -> cursor());
+
+        assertThat(reconciliationService.reconcile().issuedAdded()).isEqualTo(1);
+        verify(setOperations).add(ISSUED_KEY, "7");
+    }
+
+    @Test
+    @DisplayName("DB 이력 없이 Redis Set 에만 있는 멤버는 두 번 연속 관측되고 발급 큐가 비었을 때만 제거한다")
+    void extraIssuedMemberIsRemovedOnSecondObservation() {
+        lockAcquired();
+        given(couponInventoryRepository.findAll()).willReturn(List.of(inventory(40)));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(STOCK_KEY)).willReturn("40");
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.scan(eq(ISSUED_KEY), any())).willAnswer(invocation -> cursor("9"));
+        given(userCouponMapper.selectIssuedUserIds(COUPON_ID, List.of(9L))).willReturn(List.of());
+
+        assertThat(reconciliationService.reconcile().issuedRemoved()).isZero();
+        assertThat(reconciliationService.reconcile().issuedRemoved()).isEqualTo(1);
+        verify(setOperations).remove(ISSUED_KEY, "9");
+    }
+
+    @Test
+    @DisplayName("발급 큐에 대기 중인 요청이 있으면 Redis 에만 있는 멤버를 지우지 않는다")
+    void extraIssuedMemberIsKeptWhileQueueHasRequests() {
+        lockAcquired();
+        given(couponInventoryRepository.findAll()).willReturn(List.of(inventory(40)));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(STOCK_KEY)).willReturn("40");
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.scan(eq(ISSUED_KEY), any())).willAnswer(invocation -> cursor("9"));
+        given(userCouponMapper.selectIssuedUserIds(COUPON_ID, List.of(9L))).willReturn(List.of());
+        given(couponIssueQueueService.getQueueSize()).willReturn(3L);
+
+        reconciliationService.reconcile();
+        assertThat(reconciliationService.reconcile().issuedRemoved()).isZero();
+        verify(setOperations, never()).remove(eq(ISSUED_KEY), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 점검 중이면 아무것도 하지 않는다")
+    void skipsWhenLockIsHeldElsewhere() {
+        given(redissonClient.getLock("LOCK:coupon:reconcile")).willReturn(lock);
+        given(lock.tryLock()).willReturn(false);
+
+        assertThat(reconciliationService.reconcile().skipped()).isTrue();
+        verify(couponInventoryRepository, never()).findAll();
+    }
+
+    private void lockAcquired() {
+        given(redissonClient.getLock("LOCK:coupon:reconcile")).willReturn(lock);
+        given(lock.tryLock()).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+    }
+
+    private void noIssuedMembers() {
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.scan(eq(ISSUED_KEY), any())).willAnswer(invocation -> cursor());
+    }
+
+    private static CouponInventory inventory(int availableToday) {
+        return CouponInventory.builder()
+                .id(1L)
+                .couponId(COUPON_ID)
+                .dailyLimit(100)
+                .availableToday(availableToday)
+                .lastResetDate(LocalDate.now())
+                .build();
+    }
+
+    private static UserCouponKeyDto key(Long id, Long userId) {
+        UserCouponKeyDto dto = new UserCouponKeyDto();
+        dto.setId(id);
+        dto.setUserId(userId);
+        return dto;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursor(String... members) {
+        Iterator<String> iterator = List.of(members).iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        lenient().when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        lenient().when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+}
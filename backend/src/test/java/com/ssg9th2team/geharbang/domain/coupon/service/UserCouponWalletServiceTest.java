@@ -0,0 +1,79 @@
+package com.ssg9th2team.geharbang.domain.coupon.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssg9th2team.geharbang.domain.coupon.dto.UserCouponResponseDto;
+import com.ssg9th2team.geharbang.domain.coupon.repository.mybatis.UserCouponMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserCouponWalletServiceTest {
+
+    private static final Long USER_ID = 7L;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private UserCouponMapper userCouponMapper;
+    @Mock
+    private CouponPricingService couponPricingService;
+
+    private UserCouponWalletService walletService;
+
+    @BeforeEach
+    void setUp() {
+        walletService = new UserCouponWalletService(redisTemplate, userCouponMapper, couponPricingService,
+                new ObjectMapper().findAndRegisterModules());
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("coupon:wallet:" + USER_ID)).willReturn(Map.of());
+        given(userCouponMapper.selectMyCouponsByStatus(USER_ID, "ALL"))
+                .willReturn(List.of(issued(1L, 100L), issued(2L, 200L)));
+    }
+
+    @Test
+    @DisplayName("사용 가능 목록(ISSUED)에서는 비활성 쿠폰을 뺀다")
+    void issuedListSkipsInactiveCoupons() {
+        given(couponPricingService.findActiveCouponIds(Set.of(100L, 200L))).willReturn(Set.of(100L));
+
+        assertThat(walletService.getCoupons(USER_ID, "ISSUED"))
+                .extracting(UserCouponResponseDto::getId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("전체 목록(ALL)은 비활성 쿠폰도 이력으로 보여준다")
+    void allListKeepsInactiveCoupons() {
+        assertThat(walletService.getCoupons(USER_ID, "ALL"))
+                .extracting(UserCouponResponseDto::getId)
+                .containsExactly(1L, 2L);
+        verify(couponPricingService, never()).findActiveCouponIds(any());
+    }
+
+    private static UserCouponResponseDto issued(Long id, Long couponId) {
+        UserCouponResponseDto dto = new UserCouponResponseDto();
+        dto.setId(id);
+        dto.setCouponId(couponId);
+        dto.setStatus("ISSUED");
+        dto.setExpiredAt(LocalDateTime.now().plusDays(7));
+        return dto;
+    }
+}
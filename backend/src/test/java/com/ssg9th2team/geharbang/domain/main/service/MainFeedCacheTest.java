@@ -0,0 +1,108 @@
+package com.ssg9th2team.geharbang.domain.main.service;
+
+import com.ssg9th2team.geharbang.domain.main.dto.ListDto;
+import com.ssg9th2team.geharbang.domain.main.repository.ListDtoProjection;
+import com.ssg9th2team.geharbang.domain.main.repository.MainRepository;
+import com.ssg9th2team.geharbang.global.cache.LocalCacheEvictionBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MainFeedCacheTest {
+
+    @Mock
+    private MainRepository mainRepository;
+    @Mock
+    private LocalCacheEvictionBroadcaster cacheEvictionBroadcaster;
+
+    private MainFeedCache mainFeedCache;
+
+    @BeforeEach
+    void setUp() {
+        mainFeedCache = new MainFeedCache(mainRepository, cacheEvictionBroadcaster, 5, 10, 1000);
+    }
+
+    @Test
+    @DisplayName("피드 ID 목록은 한 번만 조회하고 이후에는 캐시를 사용한다")
+    void cachesFeedIds() {
+        given(mainRepository.findApprovedFeedIds()).willReturn(List.of(2L, 1L));
+        given(mainRepository.findApprovedFeedIdsByTheme(7L)).willReturn(List.of(1L));
+
+        assertThat(mainFeedCache.getFeedIds(null)).containsExactly(2L, 1L);
+        assertThat(mainFeedCache.getFeedIds(null)).containsExactly(2L, 1L);
+        assertThat(mainFeedCache.getFeedIds(7L)).containsExactly(1L);
+
+        verify(mainRepository, times(1)).findApprovedFeedIds();
+        verify(mainRepository, times(1)).findApprovedFeedIdsByTheme(7L);
+    }
+
+    @Test
+    @DisplayName("목록 카드는 요청 순서대로 반환되고, 캐시에 없는 카드만 조회한다")
+    void hydratesMissingItemsOnly() {
+        ListDtoProjection p1 = projection(1L, "바다 앞 게스트하우스");
+        ListDtoProjection p2 = projection(2L, "한옥 스테이");
+        ListDtoProjection p3 = projection(3L, "숲속 오두막");
+        given(mainRepository.findListItems(anyList()))
+                .willReturn(List.of(p1, p2))
+                .willReturn(List.of(p3));
+
+        List<ListDto> first = mainFeedCache.getListItems(List.of(2L, 1L));
+        List<ListDto> second = mainFeedCache.getListItems(List.of(3L, 2L));
+
+        assertThat(first).extracting(ListDto::getAccommodationsName).containsExactly("한옥 스테이", "바다 앞 게스트하우스");
+        assertThat(second).extracting(ListDto::getAccommodationsId).containsExactly(3L, 2L);
+        verify(mainRepository).findListItems(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("조회되지 않은(비노출된) 숙소는 결과에서 빠진다")
+    void skipsHiddenAccommodations() {
+        ListDtoProjection p1 = projection(1L, "바다 앞 게스트하우스");
+        given(mainRepository.findListItems(anyList())).willReturn(List.of(p1));
+
+        assertThat(mainFeedCache.getListItems(List.of(1L, 9L)))
+                .extracting(ListDto::getAccommodationsId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("무효화는 모든 노드에 알리고, 수신한 노드는 피드 캐시를 비워 다시 조회한다")
+    void invalidateAllBroadcastsEviction() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> handler = ArgumentCaptor.forClass(Consumer.class);
+        mainFeedCache.registerEviction();
+        verify(cacheEvictionBroadcaster).register(eq(MainFeedCache.CACHE_NAME), handler.capture());
+        given(mainRepository.findApprovedFeedIds()).willReturn(List.of(1L));
+        mainFeedCache.getFeedIds(null);
+
+        mainFeedCache.invalidateAll();
+        verify(cacheEvictionBroadcaster).broadcast(MainFeedCache.CACHE_NAME, "all");
+        handler.getValue().accept("all");
+        mainFeedCache.getFeedIds(null);
+
+        verify(mainRepository, times(2)).findApprovedFeedIds();
+    }
+
+    private ListDtoProjection projection(Long id, String name) {
+        ListDtoProjection projection = mock(ListDtoProjection.class);
+        given(projection.getAccommodationsId()).willReturn(id);
+        given(projection.getAccommodationsName()).willReturn(name);
+        return projection;
+    }
+}
@@ -1,13 +1,13 @@
 package com.ssg9th2team.geharbang.domain.main.service;
 
 import com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation;
-import com.ssg9th2team.geharbang.domain.accommodation.entity.ApprovalStatus;
 import com.ssg9th2team.geharbang.domain.accommodation_theme.entity.AccommodationTheme;
 import com.ssg9th2team.geharbang.domain.accommodation_theme.repository.AccommodationThemeRepository;
 import com.ssg9th2team.geharbang.domain.auth.entity.User;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.main.dto.ListDto;
 import com.ssg9th2team.geharbang.domain.main.dto.MainAccommodationListResponse;
+import com.ssg9th2team.geharbang.domain.main.dto.PublicListResponse;
 import com.ssg9th2team.geharbang.domain.main.repository.MainRepository;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomJpaRepository;
 import com.ssg9th2team.geharbang.domain.theme.entity.Theme;
@@ -22,11 +22,15 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +47,12 @@ public class MainServiceTest {
     private AccommodationThemeRepository accommodationThemeRepository;
     @Mock
     private RoomJpaRepository roomJpaRepository;
+    @Mock
+    private MainFeedCache mainFeedCache;
+    @Mock
+    private ThemeShelfSnapshotService themeShelfSnapshotService;
+    @Mock
+    private ThemePostingIndex themePostingIndex;
 
     private User userWithThemes;
     private User userWithoutThemes;
@@ -98,13 +108,31 @@ public class MainServiceTest {
         AccommodationTheme at2_3 = new AccommodationTheme(acc2, theme3);
         AccommodationTheme at3_3 = new AccommodationTheme(acc3, theme3);
 
-        lenient().when(mainRepository.findByAccommodationStatusAndApprovalStatus(1, ApprovalStatus.APPROVED)).thenReturn(allAccommodations);
-        lenient().when(mainRepository.findApprovedByKeyword("오션뷰")).thenReturn(List.of(acc1, acc2));
-        lenient().when(mainRepository.findApprovedByKeyword("부산")).thenReturn(List.of(acc1, acc3));
-        lenient().when(mainRepository.findApprovedByKeyword("파티")).thenReturn(List.of(acc1));
+        // 메인 피드 순서(베이지안 평점 내림차순)의 ID 목록과 목록 카드 캐시
+        lenient().when(mainFeedCache.getFeedIds(null)).thenReturn(List.of(3L, 1L, 2L));
+        lenient().when(mainRepository.findApprovedIdsByKeyword("오션뷰")).thenReturn(List.of(1L, 2L));
+        lenient().when(mainRepository.findApprovedIdsByKeyword("부산")).thenReturn(List.of(3L, 1L));
+        lenient().when(mainRepository.findApprovedIdsByKeyword("파티")).thenReturn(List.of(1L));
+        Map<Long, ListDto> cardById = allAccommodations.stream().collect(Collectors.toMap(
+                Accommodation::getAccommodationsId,
+                acc -> ListDto.builder()
+                        .accommodationsId(acc.getAccommodationsId())
+                        .accommodationsName(acc.getAccommodationsName())
+                        .build()));
+        lenient().when(mainFeedCache.getListItems(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0)
+                .stream()
+                .map(cardById::get)
+                .toList());
         lenient().when(userRepository.findById(1L)).thenReturn(Optional.of(userWithThemes));
         lenient().when(userRepository.findById(2L)).thenReturn(Optional.of(userWithoutThemes));
         lenient().when(accommodationThemeRepository.findByAccommodationIds(anyList())).thenReturn(List.of(at1_1, at1_2, at2_1, at2_3, at3_3));
+        lenient().when(themePostingIndex.current()).thenReturn(ThemePostingIndex.Snapshot.build(
+                Stream.of(at1_1, at1_2, at2_1, at2_3, at3_3)
+                        .map(at -> new ThemePostingIndex.Posting(at.getTheme().getId(),
+                                at.getAccommodation().getAccommodationsId(),
+                                at.getAccommodation().getRating(),
+                                at.getAccommodation().getReviewCount()))
+                        .toList()));
         lenient().when(mainRepository.findRepresentativeImages(anyList())).thenReturn(Collections.emptyList());
         lenient().when(roomJpaRepository.findMaxGuestsByAccommodationIds(anyList())).thenReturn(Collections.emptyList());
     }
@@ -120,6 +148,18 @@ public class MainServiceTest {
         assertThat(response.getGeneralAccommodations().get(0).getAccommodationsName()).isEqualTo("숲속의 조용한 집");
     }
 
+    @Test
+    @DisplayName("테마 필터가 없으면 숙소 엔티티를 읽지 않고 피드 ID 목록과 목록 카드 캐시로 응답한다")
+    void testMainListUsesFeedIdsAndCardCache() {
+        MainAccommodationListResponse response = mainService.getMainAccommodationList(1L, null, null);
+
+        assertThat(response.getGeneralAccommodations()).extracting(ListDto::getAccommodationsId).containsExactly(3L);
+        verify(mainFeedCache).getListItems(List.of(1L, 2L));
+        verify(mainFeedCache).getListItems(List.of(3L));
+        verify(mainRepository, never()).findAll();
+        verify(mainRepository, never()).findRepresentativeImages(anyList());
+    }
+
     @Test
     @DisplayName("로그인한 사용자(테마 선택X)에게는 추천 숙소가 없다")
     void testRecommendationForUserWithoutThemes() {
@@ -190,4 +230,55 @@ public class MainServiceTest {
         assertThat(response.getRecommendedAccommodations().get(0).getAccommodationsName()).isEqualTo("오션뷰 파티하우스");
         assertThat(response.getGeneralAccommodations()).isEmpty();
     }
+
+    @Test
+    @DisplayName("메인 피드는 캐시된 ID 목록에서 요청한 페이지만 채워 반환한다")
+    void testMainFeedPage() {
+        List<Long> feedIds = List.of(3L, 1L, 2L, 5L, 4L);
+        when(mainFeedCache.getFeedIds(null)).thenReturn(feedIds);
+        ListDto item5 = ListDto.builder().accommodationsId(5L).build();
+        ListDto item4 = ListDto.builder().accommodationsId(4L).build();
+        when(mainFeedCache.getListItems(List.of(5L, 4L))).thenReturn(List.of(item5, item4));
+
+        PublicListResponse response = mainService.getMainFeed(null, 1, 3);
+
+        assertThat(response.items()).extracting(ListDto::getAccommodationsId).containsExactly(5L, 4L);
+        assertThat(response.page().totalElements()).isEqualTo(5);
+        assertThat(response.page().totalPages()).isEqualTo(2);
+        assertThat(response.page().hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("테마 선반은 스냅샷 순서대로 목록 카드 캐시에서 채운다")
+    void testThemeShelvesFromSnapshot() {
+        when(themeShelfSnapshotService.getShelves(List.of(1L, 3L)))
+                .thenReturn(Map.of(1L, List.of(2L, 1L), 3L, List.of(3L, 2L)));
+        when(mainFeedCache.getListItems(anyList())).thenReturn(List.of(
+                ListDto.builder().accommodationsId(1L).build(),
+                ListDto.builder().accommodationsId(2L).build(),
+                ListDto.builder().accommodationsId(3L).build()));
+
+        Map<Long, MainAccommodationListResponse> result = mainService.getMainAccommodationListBulk(null, List.of(1L, 3L), null);
+
+        assertThat(result.keySet()).containsExactly(1L, 3L);
+        assertThat(result.get(1L).getGeneralAccommodations()).extracting(ListDto::getAccommodationsId).containsExactly(2L, 1L);
+        assertThat(result.get(3L).getGeneralAccommodations()).extracting(ListDto::getAccommodationsId).containsExactly(3L, 2L);
+        verify(mainRepository, never()).findByThemeIds(anyList());
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 직접 그룹핑하고, 같은 회전 주기 안에서는 순서가 같다")
+    void testThemeShelvesFallbackIsDeterministic() {
+        when(themeShelfSnapshotService.currentRotation()).thenReturn(42L);
+        when(mainRepository.findByThemeIds(anyList())).thenReturn(List.of(acc1, acc2, acc3));
+
+        List<Long> first = mainService.getMainAccommodationListBulk(null, List.of(1L, 3L), null)
+                .get(3L).getGeneralAccommodations().stream().map(ListDto::getAccommodationsId).toList();
+        List<Long> second = mainService.getMainAccommodationListBulk(null, List.of(1L, 3L), null)
+                .get(3L).getGeneralAccommodations().stream().map(ListDto::getAccommodationsId).toList();
+
+        assertThat(first).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(second).isEqualTo(first);
+        verify(themeShelfSnapshotService, times(2)).requestRebuild();
+    }
 }
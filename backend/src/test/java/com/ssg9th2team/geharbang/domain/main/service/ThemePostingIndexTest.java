@@ -0,0 +1,117 @@
+package com.ssg9th2team.geharbang.domain.main.service;
+
+import com.ssg9th2team.geharbang.domain.main.service.ThemePostingIndex.Posting;
+import com.ssg9th2team.geharbang.domain.main.service.ThemePostingIndex.Snapshot;
+import com.ssg9th2team.geharbang.domain.main.repository.MainRepository;
+import com.ssg9th2team.geharbang.global.cache.LocalCacheEvictionBroadcaster;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ThemePostingIndexTest {
+
+    @Test
+    @DisplayName("겹치는 테마 수, 평점, 리뷰 수 순으로 상위 K 개를 고른다")
+    void topKOrdering() {
+        Snapshot snapshot = Snapshot.build(List.of(
+                new Posting(1L, 10L, 4.0, 10),
+                new Posting(2L, 10L, 4.0, 10),
+                new Posting(1L, 20L, 4.9, 5),
+                new Posting(1L, 30L, 4.9, 50),
+                new Posting(3L, 40L, 5.0, 100)));
+
+        List<Long> top = snapshot.topK(Set.of(1L, 2L), 3, id -> true);
+
+        // 10: 테마 2개 겹침 / 30, 20: 1개 겹침, 평점 같으면 리뷰 수 / 40: 겹치지 않아 후보 아님
+        assertThat(top).containsExactly(10L, 30L, 20L);
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 숙소(검색어 불일치 등)는 후보에서 제외된다")
+    void respectsAllowedFilter() {
+        Snapshot snapshot = Snapshot.build(List.of(
+                new Posting(1L, 10L, 4.0, 10),
+                new Posting(1L, 20L, 4.9, 5)));
+
+        assertThat(snapshot.topK(Set.of(1L), 5, id -> id != 20L)).containsExactly(10L);
+        assertThat(snapshot.topK(Set.of(9L), 5, id -> true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("힙으로 고른 결과가 전체 정렬 결과와 같다")
+    void matchesFullSort() {
+        Random random = new Random(7);
+        List<Posting> postings = new ArrayList<>();
+        Map<Long, Double> ratings = new HashMap<>();
+        Map<Long, Integer> reviewCounts = new HashMap<>();
+        Map<Long, Set<Long>> themesById = new HashMap<>();
+        for (long id = 1; id <= 500; id++) {
+            double rating = random.nextInt(11) / 2.0;
+            int reviewCount = random.nextInt(20);
+            ratings.put(id, rating);
+            reviewCounts.put(id, reviewCount);
+            for (long themeId = 1; themeId <= 8; themeId++) {
+                if (random.nextInt(4) == 0) {
+                    postings.add(new Posting(themeId, id, rating, reviewCount));
+                    themesById.computeIfAbsent(id, key -> new HashSet<>()).add(themeId);
+                }
+            }
+        }
+        Set<Long> userThemes = Set.of(2L, 5L, 7L);
+
+        List<Long> expected = themesById.keySet().stream()
+                .filter(id -> themesById.get(id).stream().anyMatch(userThemes::contains))
+                .sorted(Comparator.<Long>comparingLong(id -> themesById.get(id).stream().filter(userThemes::contains).count())
+                        .reversed()
+                        .thenComparing(ratings::get, Comparator.reverseOrder())
+                        .thenComparing(reviewCounts::get, Comparator.reverseOrder())
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(5)
+                .toList();
+
+        assertThat(Snapshot.build(postings).topK(userThemes, 5, id -> true)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("무효화는 모든 노드로 전파되고, 전파를 받은 노드는 다음 조회 때 색인을 다시 만든다")
+    void invalidationIsBroadcast() {
+        MainRepository mainRepository = mock(MainRepository.class);
+        LocalCacheEvictionBroadcaster broadcaster = mock(LocalCacheEvictionBroadcaster.class);
+        given(mainRepository.findApprovedThemeLinks()).willReturn(List.of());
+        ThemePostingIndex index = new ThemePostingIndex(mainRepository, broadcaster);
+        ReflectionTestUtils.setField(index, "refreshMinutes", 5L);
+        index.registerEviction();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(broadcaster).register(eq(ThemePostingIndex.CACHE_NAME), handler.capture());
+        index.current();
+
+        index.invalidate();
+        verify(broadcaster).broadcast(ThemePostingIndex.CACHE_NAME, "all");
+        index.current();
+        verify(mainRepository, times(1)).findApprovedThemeLinks();
+
+        // 다른 노드(또는 자신)가 발행한 무효화 메시지 수신
+        handler.getValue().accept("all");
+        index.current();
+        verify(mainRepository, times(2)).findApprovedThemeLinks();
+    }
+}
@@ -0,0 +1,143 @@
+package com.ssg9th2team.geharbang.domain.payment.service;
+
+import com.ssg9th2team.geharbang.domain.payment.client.TossPaymentsClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentCancelRetryQueueTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private TossPaymentsClient tossPaymentsClient;
+
+    private PaymentCancelRetryQueue retryQueue;
+
+    @BeforeEach
+    void setUp() {
+        retryQueue = new PaymentCancelRetryQueue(stringRedisTemplate, tossPaymentsClient);
+        ReflectionTestUtils.setField(retryQueue, "retryDelayMs", 60_000L);
+        ReflectionTestUtils.setField(retryQueue, "batchSize", 20);
+        lenient().when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("재시도로 취소가 끝난 건은 대기열에서 지운다")
+    void removesCancelledPayment() {
+        claimReturns("pk_1|시스템 오류로 인한 자동 취소");
+
+        retryQueue.retryDue();
+
+        verify(tossPaymentsClient).cancel("pk_1", "시스템 오류로 인한 자동 취소", null);
+        verify(zSetOperations).remove(PaymentCancelRetryQueue.PENDING_KEY, "pk_1|시스템 오류로 인한 자동 취소");
+    }
+
+    @Test
+    @DisplayName("일시 오류(5xx, 타임아웃)로 실패한 건은 남겨 다음 주기에 다시 보낸다")
+    void keepsPaymentOnTransientFailure() {
+        claimReturns("pk_1|사유");
+        willThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY))
+                .given(tossPaymentsClient).cancel("pk_1", "사유", null);
+
+        retryQueue.retryDue();
+
+        verify(zSetOperations, never()).remove(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("토스가 4xx 로 거절해도 결제 상태가 취소됨으로 확인된 건만 지운다")
+    void removesRejectedPaymentAlreadyCancelled() {
+        claimReturns("pk_1|사유");
+        willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST))
+                .given(tossPaymentsClient).cancel("pk_1", "사유", null);
+        given(tossPaymentsClient.getPaymentStatus("pk_1")).willReturn("CANCELED");
+
+        retryQueue.retryDue();
+
+        verify(zSetOperations).remove(PaymentCancelRetryQueue.PENDING_KEY, "pk_1|사유");
+    }
+
+    @Test
+    @DisplayName("승인된 적 없는 결제(조회 404)는 거절되면 지운다")
+    void removesRejectedPaymentNeverApproved() {
+        claimReturns("pk_1|사유");
+        willThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND))
+                .given(tossPaymentsClient).cancel("pk_1", "사유", null);
+        given(tossPaymentsClient.getPaymentStatus("pk_1")).willThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        retryQueue.retryDue();
+
+        verify(zSetOperations).remove(PaymentCancelRetryQueue.PENDING_KEY, "pk_1|사유");
+    }
+
+    @Test
+    @DisplayName("승인 처리 중이거나 승인된 결제는 거절되어도 남겨 다음 주기에 다시 보낸다")
+    void keepsRejectedPaymentNotYetCancelled() {
+        claimReturns("pk_1|사유", "pk_2|사유");
+        willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST))
+                .given(tossPaymentsClient).cancel(anyString(), eq("사유"), any());
+        given(tossPaymentsClient.getPaymentStatus("pk_1")).willReturn("IN_PROGRESS");
+        given(tossPaymentsClient.getPaymentStatus("pk_2")).willReturn("DONE");
+
+        retryQueue.retryDue();
+
+        verify(zSetOperations, never()).remove(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("토스 cancelReason 길이 제한을 넘는 사유는 잘라서 보낸다")
+    void truncatesLongReason() {
+        String reason = "가".repeat(PaymentCancelRetryQueue.MAX_REASON_LENGTH + 50);
+        String truncated = "가".repeat(PaymentCancelRetryQueue.MAX_REASON_LENGTH);
+        given(tossPaymentsClient.cancelAsync("pk_1", truncated, null)).willReturn(Mono.never());
+
+        retryQueue.cancel("pk_1", reason);
+
+        verify(zSetOperations).add(eq(PaymentCancelRetryQueue.PENDING_KEY), eq("pk_1|" + truncated), anyDouble());
+    }
+
+    @Test
+    @DisplayName("대기열에 남길 수 없으면(Redis 장애) 바로 동기로 취소한다")
+    void cancelsSynchronouslyWhenQueueIsDown() {
+        given(zSetOperations.add(eq(PaymentCancelRetryQueue.PENDING_KEY), anyString(), anyDouble()))
+                .willThrow(new RedisConnectionFailureException("redis down"));
+
+        retryQueue.cancel("pk_1", "사유");
+
+        verify(tossPaymentsClient).cancel("pk_1", "사유", null);
+        verify(tossPaymentsClient, never()).cancelAsync(anyString(), anyString(), any());
+    }
+
+    private void claimReturns(String... members) {
+        given(stringRedisTemplate.execute(eq(PaymentCancelRetryQueue.CLAIM_SCRIPT),
+                eq(List.of(PaymentCancelRetryQueue.PENDING_KEY)), anyString(), anyString(), anyString()))
+                .willReturn(List.of(members));
+    }
+}
@@ -0,0 +1,258 @@
+package com.ssg9th2team.geharbang.domain.payment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssg9th2team.geharbang.domain.admin.service.PlatformStatsCounter;
+import com.ssg9th2team.geharbang.domain.coupon.service.UserCouponService;
+import com.ssg9th2team.geharbang.domain.payment.client.TossPaymentsClient;
+import com.ssg9th2team.geharbang.domain.payment.dto.PaymentConfirmRequestDto;
+import com.ssg9th2team.geharbang.domain.payment.dto.PaymentConfirmResponseDto;
+import com.ssg9th2team.geharbang.domain.payment.entity.Payment;
+import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentJpaRepository;
+import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentRefundJpaRepository;
+import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import com.ssg9th2team.geharbang.domain.reservation.service.WaitlistService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 대역 토스 서버(JDK HttpServer)로 결제 승인 시 DB 트랜잭션(연결) 점유 시간을 잰다.
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentConfirmTransactionTest {
+
+    private static final long PG_DELAY_MS = 300;
+    private static final Long RESERVATION_ID = 42L;
+    private static final String ORDER_ID = "ORDER_42_1760850000000";
+    private static final String PAYMENT_KEY = "tgen_test_key";
+
+    @Mock
+    private PaymentJpaRepository paymentRepository;
+    @Mock
+    private PaymentRefundJpaRepository paymentRefundRepository;
+    @Mock
+    private RefundPolicyService refundPolicyService;
+    @Mock
+    private ReservationJpaRepository reservationRepository;
+    @Mock
+    private UserCouponService userCouponService;
+    @Mock
+    private WaitlistService waitlistService;
+    @Mock
+    private PlatformStatsCounter platformStatsCounter;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private HttpServer tossServer;
+    private ExecutorService serverExecutor;
+    private TossPaymentsClient tossPaymentsClient;
+    private PaymentServiceImpl paymentService;
+
+    private volatile int confirmStatus = 200;
+    private volatile long confirmRespondedAt;
+    private volatile long transactionBeganAt;
+    private volatile long transactionEndedAt;
+    private final CountDownLatch cancelReceived = new CountDownLatch(1);
+    private final CountDownLatch cancelDequeued = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tossServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        tossServer.createContext("/v1/payments/confirm", exchange -> {
+            sleep(PG_DELAY_MS);
+            confirmRespondedAt = System.nanoTime();
+            respond(exchange, confirmStatus, confirmStatus == 200
+                    ? "{\"method\":\"카드\",\"approvedAt\":\"2026-10-19T14:00:00+09:00\"}"
+                    : "{\"code\":\"PROVIDER_ERROR\"}");
+        });
+        tossServer.createContext("/v1/payments/" + PAYMENT_KEY + "/cancel", exchange -> {
+            cancelReceived.countDown();
+            respond(exchange, 200, "{}");
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        tossServer.setExecutor(serverExecutor);
+        tossServer.start();
+
+        tossPaymentsClient = new TossPaymentsClient(new ObjectMapper(), "test_sk",
+                "http://127.0.0.1:" + tossServer.getAddress().getPort(), 5, 1000, 30000, 1000, 5000);
+        lenient().when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        PaymentCancelRetryQueue cancelRetryQueue = new PaymentCancelRetryQueue(stringRedisTemplate, tossPaymentsClient);
+        paymentService = new PaymentServiceImpl(paymentRepository, paymentRefundRepository, refundPolicyService,
+                reservationRepository, userCouponService, waitlistService, platformStatsCounter,
+                tossPaymentsClient, cancelRetryQueue, new TransactionTemplate(transactionManager));
+
+        Reservation reservation = Reservation.builder()
+                .id(RESERVATION_ID)
+                .userId(7L)
+                .finalPaymentAmount(50_000)
+                .reservationStatus(1)
+                .paymentStatus(0)
+                .build();
+        given(reservationRepository.findById(RESERVATION_ID)).willReturn(Optional.of(reservation));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tossPaymentsClient.close();
+        tossServer.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("PG 승인 응답을 받은 뒤에야 트랜잭션을 열고, 연결 점유 시간은 PG 지연보다 짧다")
+    void confirmHoldsConnectionOnlyForCommit() {
+        recordTransactionTimes();
+        given(reservationRepository.markPaymentCompleted(eq(RESERVATION_ID), any())).willReturn(1);
+        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        PaymentConfirmResponseDto response = paymentService.confirmPayment(
+                new PaymentConfirmRequestDto(PAYMENT_KEY, ORDER_ID, 50_000));
+
+        assertThat(response.payment().paymentMethod()).isEqualTo("카드");
+        assertThat(response.payment().paymentStatus()).isEqualTo(1);
+        assertThat(transactionBeganAt).isGreaterThan(confirmRespondedAt);
+        long holdMs = TimeUnit.NANOSECONDS.toMillis(transactionEndedAt - transactionBeganAt);
+        assertThat(holdMs).isLessThan(PG_DELAY_MS);
+    }
+
+    @Test
+    @DisplayName("PG 승인이 실패하면 트랜잭션을 열지 않고 승인 취소를 보낸다")
+    void pgFailureSkipsTransactionAndCancels() throws InterruptedException {
+        confirmStatus = 500;
+
+        assertThatThrownBy(() -> paymentService.confirmPayment(
+                new PaymentConfirmRequestDto(PAYMENT_KEY, ORDER_ID, 50_000)))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(cancelReceived.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("승인 후 DB 반영이 실패하면 롤백하고 승인된 결제를 취소한다")
+    void commitFailureCancelsApprovedPayment() throws InterruptedException {
+        given(reservationRepository.markPaymentCompleted(eq(RESERVATION_ID), any())).willReturn(1);
+        given(paymentRepository.save(any(Payment.class))).willThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> paymentService.confirmPayment(
+                new PaymentConfirmRequestDto(PAYMENT_KEY, ORDER_ID, 50_000)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("db down");
+
+        assertThat(cancelReceived.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 다른 승인이 먼저 반영된 예약이면 결제 행을 만들지 않고 롤백 후 이 승인을 취소한다")
+    void alreadyPaidReservationCancelsApprovedPayment() throws InterruptedException {
+        given(reservationRepository.markPaymentCompleted(eq(RESERVATION_ID), any())).willReturn(0);
+
+        assertThatThrownBy(() -> paymentService.confirmPayment(
+                new PaymentConfirmRequestDto(PAYMENT_KEY, ORDER_ID, 50_000)))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(cancelReceived.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("보상 취소는 보내기 전에 대기열에 남기고, 취소가 끝나면 지운다")
+    void compensatingCancelIsQueuedUntilDone() throws InterruptedException {
+        given(paymentRepository.save(any(Payment.class))).willThrow(new IllegalStateException("db down"));
+        given(reservationRepository.markPaymentCompleted(eq(RESERVATION_ID), any())).willReturn(1);
+        willAnswer(invocation -> {
+            cancelDequeued.countDown();
+            return 1L;
+        }).given(zSetOperations).remove(eq(PaymentCancelRetryQueue.PENDING_KEY), any());
+
+        assertThatThrownBy(() -> paymentService.confirmPayment(
+                new PaymentConfirmRequestDto(PAYMENT_KEY, ORDER_ID, 50_000)))
+                .isInstanceOf(RuntimeException.class);
+
+        verify(zSetOperations).add(eq(PaymentCancelRetryQueue.PENDING_KEY), startsWith(PAYMENT_KEY + "|"), anyDouble());
+        assertThat(cancelDequeued.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("토스가 승인을 4xx 로 거절하면 승인된 결제가 없으므로 취소하지 않는다")
+    void rejectedConfirmIsNotCancelled() throws InterruptedException {
+        confirmStatus = 400;
+
+        assertThatThrownBy(() -> paymentService.confirmPayment(
+                new PaymentConfirmRequestDto(PAYMENT_KEY, ORDER_ID, 50_000)))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(cancelReceived.await(500, TimeUnit.MILLISECONDS)).isFalse();
+        verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+    }
+
+    private void recordTransactionTimes() {
+        given(transactionManager.getTransaction(any())).willAnswer(invocation -> {
+            transactionBeganAt = System.nanoTime();
+            return new SimpleTransactionStatus();
+        });
+        willAnswer(invocation -> {
+            transactionEndedAt = System.nanoTime();
+            return null;
+        }).given(transactionManager).commit(any());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
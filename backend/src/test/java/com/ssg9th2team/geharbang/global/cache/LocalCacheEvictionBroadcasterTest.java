@@ -0,0 +1,83 @@
+package com.ssg9th2team.geharbang.global.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LocalCacheEvictionBroadcasterTest {
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListener;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private LocalCacheEvictionBroadcaster broadcaster;
+    private final List<String> evicted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new LocalCacheEvictionBroadcaster(redisMessageListener, stringRedisTemplate);
+        broadcaster.register("coupon-pricing", evicted::add);
+    }
+
+    @Test
+    @DisplayName("수신한 무효화 메시지를 캐시 이름에 맞는 핸들러로 넘긴다")
+    void dispatchesToRegisteredHandler() {
+        broadcaster.onMessage(message("coupon-pricing|100"), null);
+        broadcaster.onMessage(message("unknown|1"), null);
+        broadcaster.onMessage(message("malformed"), null);
+
+        assertThat(evicted).containsExactly("100");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에 발행한다")
+    void publishesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            broadcaster.broadcast("coupon-pricing", "100");
+            verify(stringRedisTemplate, never()).convertAndSend(LocalCacheEvictionBroadcaster.CHANNEL, "coupon-pricing|100");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(stringRedisTemplate).convertAndSend(LocalCacheEvictionBroadcaster.CHANNEL, "coupon-pricing|100");
+    }
+
+    @Test
+    @DisplayName("Redis 발행이 실패하면 이 노드만이라도 바로 무효화한다")
+    void evictsLocallyWhenPublishFails() {
+        given(stringRedisTemplate.convertAndSend(LocalCacheEvictionBroadcaster.CHANNEL, "coupon-pricing|100"))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        broadcaster.broadcast("coupon-pricing", "100");
+
+        assertThat(evicted).containsExactly("100");
+    }
+
+    private static DefaultMessage message(String payload) {
+        return new DefaultMessage(LocalCacheEvictionBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,102 @@
+package com.ssg9th2team.geharbang.global.common.resolver;
+
+import com.ssg9th2team.geharbang.domain.auth.entity.User;
+import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.security.CustomUserDetails;
+import com.ssg9th2team.geharbang.global.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserIdentityResolverTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private UserIdentityResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new UserIdentityResolver(userRepository, jwtTokenProvider, 30, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("JWT 필터가 담은 principal 의 사용자 ID 는 DB 조회 없이 사용한다")
+    void resolvesFromPrincipal() {
+        User user = User.builder().email("user@example.com").build();
+        ReflectionTestUtils.setField(user, "id", 7L);
+        CustomUserDetails principal = new CustomUserDetails(user);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+
+        assertThat(resolver.resolveUserId(authentication)).isEqualTo(7L);
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("이메일만 있는 인증 정보는 캐시를 거쳐 한 번만 조회한다")
+    void cachesEmailLookup() {
+        User user = User.builder().email("user@example.com").build();
+        ReflectionTestUtils.setField(user, "id", 3L);
+        given(userRepository.findByEmail("user@example.com")).willReturn(Optional.of(user));
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user@example.com", null, List.of());
+
+        assertThat(resolver.resolveUserId(authentication)).isEqualTo(3L);
+        assertThat(resolver.resolveUserId(authentication)).isEqualTo(3L);
+
+        verify(userRepository, times(1)).findByEmail("user@example.com");
+    }
+
+    @Test
+    @DisplayName("공개 API 는 헤더 토큰의 ID 클레임을 요청당 한 번만 읽는다")
+    void resolvesFromTokenClaimOncePerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        given(jwtTokenProvider.getUserIdFromToken("token")).willReturn(5L);
+
+        assertThat(resolver.findUserId(null)).isEqualTo(5L);
+        assertThat(resolver.findUserId(null)).isEqualTo(5L);
+
+        verify(jwtTokenProvider, times(1)).getUserIdFromToken("token");
+    }
+
+    @Test
+    @DisplayName("비로그인 요청은 null 이고, 필수 조회는 예외가 발생한다")
+    void anonymousRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertThat(resolver.findUserId(null)).isNull();
+        assertThatThrownBy(() -> resolver.resolveUserId(null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
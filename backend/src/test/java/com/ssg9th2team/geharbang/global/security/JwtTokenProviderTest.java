@@ -0,0 +1,176 @@
+package com.ssg9th2team.geharbang.global.security;
+
+import com.ssg9th2team.geharbang.domain.auth.entity.User;
+import com.ssg9th2team.geharbang.domain.auth.entity.UserRole;
+import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.cache.LocalCacheEvictionBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("geharbang-jwt-test-secret-key-must-be-at-least-sixty-four-bytes-long!!"
+                    .getBytes(StandardCharsets.UTF_8));
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private LocalCacheEvictionBroadcaster cacheEvictionBroadcaster;
+
+    private UserAccessCache userAccessCache;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        userAccessCache = new UserAccessCache(userRepository, cacheEvictionBroadcaster, 60L, 100L);
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 60_000L, 600_000L, userRepository, userAccessCache);
+    }
+
+    @Test
+    @DisplayName("ID 클레임이 있는 토큰은 이메일 조회 없이 principal 을 만들고, 권한 상태는 캐시해 요청마다 다시 읽지 않는다")
+    void buildsPrincipalFromClaimsWithCachedAccess() {
+        String token = jwtTokenProvider.generateAccessToken(authenticationOf(user(7L, UserRole.HOST)));
+        given(userRepository.findById(7L)).willReturn(Optional.of(user(7L, UserRole.HOST)));
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        jwtTokenProvider.getAuthentication(token);
+
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(authentication.getName()).isEqualTo("user@example.com");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly(UserRole.HOST.getKey());
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(userRepository, times(1)).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("권한은 발급 시점 auth 클레임이 아니라 현재 역할을 쓴다")
+    void usesCurrentRoleInsteadOfClaim() {
+        String token = jwtTokenProvider.generateAccessToken(authenticationOf(user(7L, UserRole.USER)));
+        given(userRepository.findById(7L)).willReturn(Optional.of(user(7L, UserRole.HOST)));
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly(UserRole.HOST.getKey());
+    }
+
+    @Test
+    @DisplayName("정지된 사용자와 탈퇴한 사용자의 토큰은 거부한다")
+    void rejectsSuspendedAndRemovedUsers() {
+        User suspended = user(7L, UserRole.USER);
+        suspended.updateSuspended(true);
+        String suspendedToken = jwtTokenProvider.generateAccessToken(authenticationOf(user(7L, UserRole.USER)));
+        String removedToken = jwtTokenProvider.generateAccessToken(authenticationOf(user(8L, UserRole.USER)));
+        given(userRepository.findById(7L)).willReturn(Optional.of(suspended));
+        given(userRepository.findById(8L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> jwtTokenProvider.getAuthentication(suspendedToken))
+                .isInstanceOf(DisabledException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.getAuthentication(removedToken))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("역할 변경 등으로 캐시를 비우면 모든 노드에 알리고 다음 요청에서 다시 읽는다")
+    void evictionReloadsAccess() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> handler = ArgumentCaptor.forClass(Consumer.class);
+        userAccessCache.registerEviction();
+        verify(cacheEvictionBroadcaster).register(eq(UserAccessCache.CACHE_NAME), handler.capture());
+        String token = jwtTokenProvider.generateAccessToken(authenticationOf(user(7L, UserRole.USER)));
+        given(userRepository.findById(7L))
+                .willReturn(Optional.of(user(7L, UserRole.USER)))
+                .willReturn(Optional.of(user(7L, UserRole.HOST)));
+        jwtTokenProvider.getAuthentication(token);
+
+        userAccessCache.evict(7L);
+        verify(cacheEvictionBroadcaster).broadcast(UserAccessCache.CACHE_NAME, "7");
+        handler.getValue().accept("7");
+
+        assertThat(jwtTokenProvider.getAuthentication(token).getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly(UserRole.HOST.getKey());
+    }
+
+    @Test
+    @DisplayName("User 엔티티는 getUser() 를 처음 호출할 때 한 번만 ID 로 조회한다")
+    void loadsUserLazilyOnce() {
+        User user = user(7L, UserRole.USER);
+        String token = jwtTokenProvider.generateAccessToken(authenticationOf(user));
+        given(userRepository.findById(7L)).willReturn(Optional.of(user));
+
+        CustomUserDetails principal = (CustomUserDetails) jwtTokenProvider.getAuthentication(token).getPrincipal();
+
+        assertThat(principal.getUser()).isSameAs(user);
+        assertThat(principal.getUser()).isSameAs(user);
+        // 권한 상태 캐시 적재 1회 + 엔티티 지연 조회 1회
+        verify(userRepository, times(2)).findById(7L);
+    }
+
+    @Test
+    @DisplayName("ID 클레임이 없는 토큰은 이메일로 사용자를 조회한다")
+    void fallsBackToEmailLookupWithoutIdClaim() {
+        String token = jwtTokenProvider.generateAccessToken(new UsernamePasswordAuthenticationToken(
+                "user@example.com", null, List.of(new SimpleGrantedAuthority(UserRole.USER.getKey()))));
+        given(userRepository.findByEmail("user@example.com")).willReturn(Optional.of(user(7L, UserRole.USER)));
+
+        CustomUserDetails principal = (CustomUserDetails) jwtTokenProvider.getAuthentication(token).getPrincipal();
+
+        assertThat(principal.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("토큰 재발급용 인증 정보는 DB 의 최신 권한을 쓴다")
+    void reissueUsesCurrentRole() {
+        String token = jwtTokenProvider.generateRefreshToken(authenticationOf(user(7L, UserRole.USER)));
+        given(userRepository.findByEmail("user@example.com")).willReturn(Optional.of(user(7L, UserRole.HOST)));
+
+        Authentication authentication = jwtTokenProvider.getAuthenticationWithUser(token);
+
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly(UserRole.HOST.getKey());
+    }
+
+    private static Authentication authenticationOf(User user) {
+        CustomUserDetails principal = new CustomUserDetails(user);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private static User user(Long id, UserRole role) {
+        User user = User.builder().email("user@example.com").role(role).build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -81,6 +81,24 @@ export async function getDownloadableCoupons(accommodationId) {
     return response.data
 }
 
+/**
+ * 결제 페이지 최적 쿠폰 조회 (보유 쿠폰 중 적용 가능한 쿠폰 + 할인액)
+ * @param {number} accommodationId
+ * @param {number} totalAmount - 할인 전 금액
+ * @returns {Promise<Object>}
+ */
+export async function getBestCoupon(accommodationId, totalAmount) {
+    const response = await authenticatedRequest(
+        `/api/coupons/my/best?accommodationId=${accommodationId}&totalAmount=${totalAmount}`
+    )
+
+    if (!response.ok) {
+        throw new Error(`최적 쿠폰 조회 실패: ${response.status}`)
+    }
+
+    return response.data
+}
+
 export async function getMyCouponIds() {
     const response = await authenticatedRequest('/api/coupons/my/ids')
     if (!response.ok) {
@@ -94,5 +112,6 @@ export default {
     issueCoupon,
     useCoupon,
     getDownloadableCoupons,
+    getBestCoupon,
     getMyCouponIds
 }
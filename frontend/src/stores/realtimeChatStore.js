@@ -178,6 +178,10 @@ export const useRealtimeChatStore = defineStore('realtimeChat', {
                             console.log('New message notification:', data);
                             // 채팅방 목록 업데이트를 위한 알림 저장
                             this.roomNotifications.push(data);
+                        } else if (data.type === 'NEW_MESSAGE_BATCH') {
+                            // 서버가 짧은 시간 동안 모은 방별 최신 알림 묶음 (한 번에 반영해 목록 재렌더링 1회)
+                            console.log('New message notification batch:', data.notifications.length);
+                            this.roomNotifications.push(...data.notifications);
                         }
                     }
                 );